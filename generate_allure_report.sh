@@ -0,0 +1,5 @@
+#!/bin/bash
+parent_path=$( cd "$(dirname "${BASH_SOURCE[0]}")" ; pwd -P )
+cd '/root/.m2/repository/allure/allure-2.35.1/bin/'
+bash allure serve $parent_path'/allure-results' -h localhost
+exit
\ No newline at end of file
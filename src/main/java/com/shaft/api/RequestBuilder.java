@@ -12,6 +12,8 @@ import lombok.AccessLevel;
 import lombok.Getter;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 
 import static io.restassured.RestAssured.config;
@@ -359,6 +361,91 @@ public class RequestBuilder {
 
         setupAuthentication(specs);
 
+        session.setLastResponse(execute(request, specs));
+        return session.getDriver();
+    }
+
+    /**
+     * After you finish building your request, use this method to trigger the request without waiting for its response.
+     * The request is sent on its own virtual thread and is reported under the current step. Its response is not stored
+     * in the session, so several requests of the same session can be in flight at the same time; validate it through
+     * the returned future instead, for example {@code future.thenAccept(response -> SHAFT.Validations.assertThat().response(response)...)}.
+     * <p>
+     * Join the returned future before the end of your test, so that the request is reported as part of it.
+     *
+     * @return a future that completes with the response once its status code is validated, or completes exceptionally
+     * if the request fails
+     */
+    public CompletableFuture<Response> performAsync() {
+        return performAsync(null);
+    }
+
+    /**
+     * Sends all the requests without waiting for their responses, while keeping at most
+     * {@code maxConcurrentRequests} requests in flight at the same time. Every request is reported and validated
+     * separately, as if it was sent using {@link #performAsync()}.
+     *
+     * @param maxConcurrentRequests the maximum number of requests that are sent at the same time
+     * @param requests              the requests that you want to send
+     * @return a future that completes with all the responses in the same order as the requests, or completes
+     * exceptionally once all the requests are done if any of them fails
+     */
+    public static CompletableFuture<List<Response>> performAsync(int maxConcurrentRequests, List<RequestBuilder> requests) {
+        var concurrentRequests = new Semaphore(Math.max(1, maxConcurrentRequests), true);
+        List<CompletableFuture<Response>> responses = requests.stream().map(request -> request.performAsync(concurrentRequests)).toList();
+        return CompletableFuture.allOf(responses.toArray(CompletableFuture[]::new))
+                .thenApply(done -> responses.stream().map(CompletableFuture::join).toList());
+    }
+
+    /**
+     * Sends all the requests without waiting for their responses, while keeping at most
+     * {@code maxConcurrentRequests} requests in flight at the same time.
+     *
+     * @param maxConcurrentRequests the maximum number of requests that are sent at the same time
+     * @param requests              the requests that you want to send
+     * @return a future that completes with all the responses in the same order as the requests
+     * @see #performAsync(int, List)
+     */
+    public static CompletableFuture<List<Response>> performAsync(int maxConcurrentRequests, RequestBuilder... requests) {
+        return performAsync(maxConcurrentRequests, Arrays.asList(requests));
+    }
+
+    private CompletableFuture<Response> performAsync(Semaphore concurrentRequests) {
+        // the request is prepared right away, so that later changes to this builder or its session don't affect it
+        String request = prepareRequestURLWithParameters();
+        RequestSpecification specs = prepareRequestSpecifications();
+        setupAuthentication(specs);
+
+        var response = new CompletableFuture<Response>();
+        // virtual threads inherit the current Allure step, so the request is reported under the step that sent it
+        Thread.ofVirtual().name("SHAFT-API-" + requestType + "-" + serviceName).start(() -> {
+            try {
+                if (concurrentRequests != null) {
+                    concurrentRequests.acquire();
+                }
+                try {
+                    response.complete(performRequestInBackground(request, specs));
+                } finally {
+                    if (concurrentRequests != null) {
+                        concurrentRequests.release();
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                response.completeExceptionally(e);
+            } catch (Throwable throwable) {
+                response.completeExceptionally(throwable);
+            }
+        });
+        return response;
+    }
+
+    @Step("Perform {this.requestType} request to {this.serviceURI}{this.serviceName} asynchronously")
+    private Response performRequestInBackground(String request, RequestSpecification specs) {
+        return execute(request, specs);
+    }
+
+    private Response execute(String request, RequestSpecification specs) {
         long startTime = System.currentTimeMillis();
         Response response = null;
         try {
@@ -374,9 +461,7 @@ public class RequestBuilder {
         } catch (Exception e) {
             handleException(request, specs, response, e);
         }
-
-        session.setLastResponse(response);
-        return session.getDriver();
+        return response;
     }
 
     private String normalizeEndpoint(String endpoint) {
@@ -384,8 +469,10 @@ public class RequestBuilder {
         return endpoint.replaceAll("/\\d+", "").replaceAll("/$", "");
     }
 
-    private synchronized void logResponseTime(String endpoint, double responseTime) {
-        performanceData.computeIfAbsent(endpoint, k -> new ArrayList<>()).add(responseTime);
+    private void logResponseTime(String endpoint, double responseTime) {
+        synchronized (performanceData) {
+            performanceData.computeIfAbsent(endpoint, k -> new ArrayList<>()).add(responseTime);
+        }
     }
 
     private String prepareRequestURLWithParameters() {
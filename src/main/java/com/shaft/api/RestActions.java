@@ -1,16 +1,18 @@
 package com.shaft.api;
 
-import com.atlassian.oai.validator.restassured.OpenApiValidationFilter;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.JsonParser;
-import com.jayway.jsonpath.Configuration;
-import com.jayway.jsonpath.JsonPath;
+import com.jayway.jsonpath.InvalidJsonException;
+import com.jayway.jsonpath.InvalidPathException;
 import com.jayway.jsonpath.PathNotFoundException;
-import com.jayway.jsonpath.spi.json.JsonOrgJsonProvider;
+import com.shaft.api.internal.ApiReportingFilter;
+import com.shaft.api.internal.ContractValidators;
+import com.shaft.api.internal.HttpClientPools;
+import com.shaft.api.internal.JsonComparator;
+import com.shaft.api.internal.ResponseJsonDocument;
 import com.shaft.driver.DriverFactory;
 import com.shaft.driver.SHAFT;
 import com.shaft.tools.internal.support.JavaHelper;
@@ -19,7 +21,6 @@ import com.shaft.tools.io.internal.FailureReporter;
 import com.shaft.tools.io.internal.ReportManagerHelper;
 import eu.medsea.mimeutil.MimeUtil;
 import eu.medsea.mimeutil.MimeUtil2;
-import io.qameta.allure.restassured.AllureRestAssured;
 import io.restassured.builder.MultiPartSpecBuilder;
 import io.restassured.builder.RequestSpecBuilder;
 import io.restassured.config.EncoderConfig;
@@ -41,9 +42,6 @@ import org.json.JSONException;
 import org.json.JSONObject;
 import org.json.simple.parser.JSONParser;
 import org.json.simple.parser.ParseException;
-import org.skyscreamer.jsonassert.JSONAssert;
-import org.skyscreamer.jsonassert.JSONCompare;
-import org.skyscreamer.jsonassert.JSONCompareMode;
 
 import javax.xml.XMLConstants;
 import javax.xml.transform.OutputKeys;
@@ -54,6 +52,8 @@ import javax.xml.transform.stream.StreamResult;
 import javax.xml.transform.stream.StreamSource;
 import java.io.*;
 import java.net.URLConnection;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.util.*;
 import java.util.concurrent.TimeUnit;
 
@@ -68,9 +68,8 @@ public class RestActions {
     private static final String ERROR_INCORRECT_XML_PATH = "Incorrect xmlPath ";
     private static final String ERROR_FAILED_TO_PARSE_JSON = "Failed to parse the JSON document";
     private static final String GRAPHQL_END_POINT = "graphql";
-    static AllureRestAssured allureFilter = new AllureRestAssured()
-            .setRequestAttachmentName("Request")
-            .setResponseAttachmentName("Response");
+    private static final Object DISCRETE_LOGGING_LOCK = new Object();
+    static ApiReportingFilter allureFilter = new ApiReportingFilter("Request", "Response");
     private static boolean AUTOMATICALLY_ASSERT_RESPONSE_STATUS_CODE = true;
     private static int HTTP_SOCKET_TIMEOUT;
     private static int HTTP_CONNECTION_TIMEOUT;
@@ -85,8 +84,8 @@ public class RestActions {
         initializeSystemProperties();
         headerAuthorization = "";
         this.serviceURI = serviceURI;
-        sessionCookies = new HashMap<>();
-        sessionHeaders = new HashMap<>();
+        sessionCookies = Collections.synchronizedMap(new HashMap<>());
+        sessionHeaders = Collections.synchronizedMap(new HashMap<>());
         sessionConfig = config();
         this.driver = driver;
     }
@@ -111,8 +110,8 @@ public class RestActions {
         initializeSystemProperties();
         headerAuthorization = "";
         this.serviceURI = serviceURI;
-        sessionCookies = new HashMap<>();
-        sessionHeaders = new HashMap<>();
+        sessionCookies = Collections.synchronizedMap(new HashMap<>());
+        sessionHeaders = Collections.synchronizedMap(new HashMap<>());
         sessionConfig = config();
     }
 
@@ -173,22 +172,13 @@ public class RestActions {
         try {
             return parseJsonBody(body);
         } catch (Exception e) {
-            // response is not parsable to JSON
-            ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
-            ObjectOutputStream oos;
-            try {
-                oos = new ObjectOutputStream(byteArrayOutputStream);
-                oos.writeObject(body);
-                oos.flush();
-                oos.close();
-                return new ByteArrayInputStream(byteArrayOutputStream.toByteArray());
-            } catch (IOException ioe) {
-                if (body.getClass().getName().toLowerCase().contains("restassured")) {
-                    // if it's a string response body
-                    return ((ResponseBody<?>) body).asInputStream();
-                } else {
-                    return new ByteArrayInputStream((body.toString()).getBytes());
-                }
+            // response is not parsable to JSON, so it is attached as is instead of being serialized
+            if (body == null) {
+                return new ByteArrayInputStream(new byte[0]);
+            } else if (body instanceof ResponseBody<?> responseBody) {
+                return responseBody.asInputStream();
+            } else {
+                return new ByteArrayInputStream(body.toString().getBytes(StandardCharsets.UTF_8));
             }
         }
     }
@@ -217,25 +207,23 @@ public class RestActions {
      */
     public static String getResponseJSONValue(Response response, String jsonPath) {
         String searchPool = "";
-        String jsonResponse = response.asPrettyString();
+        var jsonDocument = ResponseJsonDocument.of(response);
         try {
             if (jsonPath.contains("?")) {
-                List<String> jsonValueAsList = JsonPath.read(jsonResponse, jsonPath);
+                List<String> jsonValueAsList = jsonDocument.read(jsonPath);
                 searchPool = String.valueOf(jsonValueAsList.getFirst());
             } else {
-                var jsonValue = JsonPath.read(jsonResponse, jsonPath);
+                var jsonValue = jsonDocument.read(jsonPath);
                 searchPool = String.valueOf(jsonValue);
             }
             // This implementation is to handle the *PathNotFoundException* that happens when we have json object but inside html or xml tags, so it's not represented as json object
         } catch (PathNotFoundException e) {
-            String jsonObject = jsonResponse.substring(jsonResponse.indexOf("{"), jsonResponse.lastIndexOf("}") + 1);
-            Configuration confOrgJsonProvider = Configuration.builder().jsonProvider(new JsonOrgJsonProvider()).build();
             try {
                 if (jsonPath.contains("?")) {
-                    JSONArray jsonValue = JsonPath.compile(jsonPath).read(new JSONObject(jsonObject), confOrgJsonProvider);
+                    JSONArray jsonValue = jsonDocument.readEmbedded(jsonPath);
                     searchPool = String.valueOf(jsonValue.get(0));
                 } else {
-                    Object jsonValue = JsonPath.compile(jsonPath).read(new JSONObject(jsonObject), confOrgJsonProvider);
+                    Object jsonValue = jsonDocument.readEmbedded(jsonPath);
                     searchPool = String.valueOf(jsonValue);
                 }
             } catch (JSONException | PathNotFoundException rootCauseException) {
@@ -264,10 +252,10 @@ public class RestActions {
         try {
             if (response instanceof String responseString) {
                 if (jsonPath.contains("?")) {
-                    List<String> jsonValueAsList = JsonPath.read(responseString, jsonPath);
+                    List<String> jsonValueAsList = ResponseJsonDocument.compile(jsonPath).read(responseString);
                     searchPool = String.valueOf(jsonValueAsList.getFirst());
                 } else {
-                    var jsonValue = JsonPath.read(responseString, jsonPath);
+                    var jsonValue = ResponseJsonDocument.compile(jsonPath).read(responseString);
                     searchPool = String.valueOf(jsonValue);
                 }
             } else if (response instanceof JSONArray jsonArray) {
@@ -296,24 +284,22 @@ public class RestActions {
                 JSONObject obj = new JSONObject(hashMapResponse);
                 searchPool = io.restassured.path.json.JsonPath.from(obj.toString()).getString(jsonPath);
             } else if (response instanceof Response responseObject) {
-                String jsonResponse = responseObject.asPrettyString();
+                var jsonDocument = ResponseJsonDocument.of(responseObject);
                 try {
                     if (jsonPath.contains("?")) {
-                        List<String> jsonValueAsList = JsonPath.read(jsonResponse, jsonPath);
+                        List<String> jsonValueAsList = jsonDocument.read(jsonPath);
                         searchPool = String.valueOf(jsonValueAsList.getFirst());
                     } else {
-                        var jsonValue = JsonPath.read(jsonResponse, jsonPath);
+                        var jsonValue = jsonDocument.read(jsonPath);
                         searchPool = String.valueOf(jsonValue);
                     }
                 } catch (PathNotFoundException e) {
-                    String jsonObject = jsonResponse.substring(jsonResponse.indexOf("{"), jsonResponse.lastIndexOf("}") + 1);
-                    Configuration confOrgJsonProvider = Configuration.builder().jsonProvider(new JsonOrgJsonProvider()).build();
                     try {
                         if (jsonPath.contains("?")) {
-                            JSONArray jsonValue = JsonPath.compile(jsonPath).read(new JSONObject(jsonObject), confOrgJsonProvider);
+                            JSONArray jsonValue = jsonDocument.readEmbedded(jsonPath);
                             searchPool = String.valueOf(jsonValue.get(0));
                         } else {
-                            Object jsonValue = JsonPath.compile(jsonPath).read(new JSONObject(jsonObject), confOrgJsonProvider);
+                            Object jsonValue = jsonDocument.readEmbedded(jsonPath);
                             searchPool = String.valueOf(jsonValue);
                         }
                     } catch (JSONException rootCauseException) {
@@ -341,15 +327,13 @@ public class RestActions {
 
     public static List<Object> getResponseJSONValueAsList(Response response, String jsonPath) {
         List<Object> searchPool = null;
-        String jsonResponse = response.asPrettyString();
+        var jsonDocument = ResponseJsonDocument.of(response);
         try {
-            searchPool = JsonPath.read(jsonResponse, jsonPath);
+            searchPool = jsonDocument.read(jsonPath);
         } catch (PathNotFoundException e) {
-            String jsonObject = jsonResponse.substring(jsonResponse.indexOf("{"), jsonResponse.lastIndexOf("}") + 1);
-            Configuration confOrgJsonProvider = Configuration.builder().jsonProvider(new JsonOrgJsonProvider()).build();
             List<Object> jsonList = null;
             try {
-                JSONArray jsonArray = JsonPath.compile(jsonPath).read(new JSONObject(jsonObject), confOrgJsonProvider);
+                JSONArray jsonArray = jsonDocument.readEmbedded(jsonPath);
                 jsonList = new ObjectMapper().readValue(Objects.requireNonNull(jsonArray).toString(), new TypeReference<>() {
                 });
             } catch (JSONException | JsonProcessingException rootCauseException) {
@@ -509,11 +493,13 @@ public class RestActions {
      * @param referenceJsonFilePath the full absolute path to the test data file
      *                              that will be used as a reference for this
      *                              comparison
-     * @param comparisonType        ComparisonType.EQUALS, CONTAINS; Note that
-     *                              MATCHES ignores the content ordering inside the
-     *                              JSON
+     * @param comparisonType        ComparisonType.EQUALS, CONTAINS,
+     *                              EQUALS_IGNORING_ORDER; Note that
+     *                              EQUALS_IGNORING_ORDER ignores the order of array
+     *                              elements inside the JSON
      * @param jsonPathToTargetArray a jsonpath that will be parsed to point to the
-     *                              target JSON Array
+     *                              target JSON Array, which is compared instead of
+     *                              the full response body; or an empty string
      * @return a boolean value that is TRUE in case the comparison passed, or FALSE
      * in case it failed
      */
@@ -529,58 +515,31 @@ public class RestActions {
                     + "\", jsonPath to target array \"" + jsonPathToTargetArray + "\".");
         }
         boolean comparisonResult;
-        JSONParser parser = new JSONParser();
-        List<Object> expectedJSONAttachment = null;
+        List<Object> differencesAttachment = null;
 
         try {
-            // parse actual JSON into Object or Array
-            org.json.simple.JSONObject actualJsonObject = null;
-            org.json.simple.JSONArray actualJsonArray = null;
-
-            var actualObject = parser.parse(response.asString());
-            if (actualObject instanceof org.json.simple.JSONObject) {
-                actualJsonObject = (org.json.simple.JSONObject) parser.parse(response.asString());
-            } else {
-                // actualObject is an array org.json.simple.JSONArray
-                actualJsonArray = (org.json.simple.JSONArray) parser.parse(response.asString());
+            // each document is read once, and the target array is extracted from the already parsed response body
+            var expectedJson = JsonComparator.parse(Path.of(referenceJsonFilePath));
+            var actualJson = jsonPathToTargetArray.isEmpty() ? JsonComparator.parse(response.asString())
+                    : JsonComparator.of(ResponseJsonDocument.of(response).read(jsonPathToTargetArray));
+            var result = JsonComparator.compare(expectedJson, actualJson, comparisonType);
+            comparisonResult = result.passed();
+            if (!comparisonResult) {
+                ReportManager.logDiscrete("JSON comparison found " + result.totalDifferences() + " difference(s), the first one is \""
+                        + result.differences().getFirst() + "\".");
+                differencesAttachment = Arrays.asList("JSON Comparison", "Differences", result.report());
             }
-
-            // parse expected JSON into Object or Array
-            org.json.simple.JSONObject expectedJsonObject = null;
-            org.json.simple.JSONArray expectedJsonArray = null;
-
-            var expectedObject = parser.parse(new FileReader(referenceJsonFilePath));
-            if (expectedObject instanceof org.json.simple.JSONObject) {
-                expectedJsonObject = (org.json.simple.JSONObject) parser.parse(new FileReader(referenceJsonFilePath));
-                expectedJSONAttachment = Arrays.asList("File Content", "Expected JSON",
-                        new GsonBuilder().setPrettyPrinting().create()
-                                .toJson(JsonParser.parseString(expectedJsonObject.toJSONString())));
-            } else {
-                // expectedObject is an array org.json.simple.JSONArray
-                expectedJsonArray = (org.json.simple.JSONArray) parser.parse(new FileReader(referenceJsonFilePath));
-                expectedJSONAttachment = Arrays.asList("File Content", "Expected JSON", new GsonBuilder()
-                        .setPrettyPrinting().create().toJson(JsonParser.parseString(expectedJsonArray.toJSONString())));
-            }
-
-            // handle different combinations of expected and actual (object vs array)
-            // TODO: handle jsonPathToTargetArray and attempt to parse the actual result
-            comparisonResult = switch (comparisonType) {
-                case EQUALS -> compareJSONEquals(expectedJsonObject, expectedJsonArray, actualJsonObject,
-                        actualJsonArray);
-                case CONTAINS -> compareJSONContains(response, expectedJsonObject, expectedJsonArray,
-                        actualJsonObject, jsonPathToTargetArray);
-                case EQUALS_IGNORING_ORDER ->
-                        compareJSONEqualsIgnoringOrder(expectedJsonObject, expectedJsonArray, actualJsonObject,
-                                actualJsonArray);
-            };
+        } catch (JsonProcessingException rootCauseException) {
+            failAction("Couldn't parse the desired file. \"" + referenceJsonFilePath + "\".", rootCauseException);
+            comparisonResult = false;
         } catch (IOException rootCauseException) {
             failAction("Couldn't find the desired file. \"" + referenceJsonFilePath + "\".", rootCauseException);
             comparisonResult = false;
-        } catch (ParseException | JSONException rootCauseException) {
-            failAction("Couldn't parse the desired file. \"" + referenceJsonFilePath + "\".", rootCauseException);
+        } catch (InvalidPathException | InvalidJsonException rootCauseException) {
+            failAction("Couldn't find the target array \"" + jsonPathToTargetArray + "\" in the response.", rootCauseException);
             comparisonResult = false;
         }
-        passAction(referenceJsonFilePath, expectedJSONAttachment);
+        passAction(referenceJsonFilePath, differencesAttachment);
         return comparisonResult;
     }
 
@@ -612,9 +571,11 @@ public class RestActions {
 
         List<List<Object>> attachments = new ArrayList<>();
         if (testData != null && testData.length() >= 500) {
-            List<Object> actualValueAttachment = Arrays.asList("API Action Test Data - " + actionName, "Actual Value",
-                    testData);
-            attachments.add(actualValueAttachment);
+            if (Boolean.FALSE.equals(passFailStatus) || ApiReportingFilter.level().reportsEveryRequest()) {
+                List<Object> actualValueAttachment = Arrays.asList("API Action Test Data - " + actionName, "Actual Value",
+                        ApiReportingFilter.abbreviate(testData));
+                attachments.add(actualValueAttachment);
+            }
         } else if (testData != null && !testData.isEmpty()) {
             message = message + "; " + testData.trim();
         }
@@ -680,75 +641,6 @@ public class RestActions {
         }
     }
 
-    private static boolean compareJSONEquals(org.json.simple.JSONObject expectedJsonObject,
-                                             org.json.simple.JSONArray expectedJsonArray, org.json.simple.JSONObject actualJsonObject,
-                                             org.json.simple.JSONArray actualJsonArray) {
-        if (expectedJsonObject != null && actualJsonObject != null) {
-            // if expected is an object and actual is also an object
-            return actualJsonObject.toString().equals(expectedJsonObject.toString());
-        } else {
-            // if expected is an array and actual response is also an array
-            return actualJsonArray.toString().equals(expectedJsonArray.toString());
-        }
-    }
-
-    private static boolean compareJSONEqualsIgnoringOrder(org.json.simple.JSONObject expectedJsonObject,
-                                                          org.json.simple.JSONArray expectedJsonArray, org.json.simple.JSONObject actualJsonObject,
-                                                          org.json.simple.JSONArray actualJsonArray) {
-        if (expectedJsonObject != null && actualJsonObject != null) {
-            // if expected is an object and actual is also an object
-            try {
-                JSONAssert.assertEquals(expectedJsonObject.toString(), actualJsonObject.toString(), JSONCompareMode.NON_EXTENSIBLE);
-                return true;
-            } catch (JSONException e) {
-                return false;
-            }
-        } else {
-            // if expected is an array and actual response is also an array
-            try {
-                JSONAssert.assertEquals(expectedJsonArray.toString(), actualJsonArray.toString(), JSONCompareMode.NON_EXTENSIBLE);
-                return true;
-            } catch (JSONException e) {
-                return false;
-            }
-        }
-    }
-
-    @SuppressWarnings("unchecked")
-    private static boolean compareJSONContains(Response response, org.json.simple.JSONObject expectedJsonObject,
-                                               org.json.simple.JSONArray expectedJsonArray, org.json.simple.JSONObject actualJsonObject,
-                                               String jsonPathToTargetArray)
-            throws JSONException, ParseException {
-        JSONParser parser = new JSONParser();
-        if (!jsonPathToTargetArray.isEmpty() && (expectedJsonArray != null)) {
-            // if expected is an array and the user provided the path to extract it from the
-            // response
-            org.json.simple.JSONArray actualJsonArray = (org.json.simple.JSONArray) parser
-                    .parse((new Gson()).toJsonTree(getResponseJSONValueAsList(response, jsonPathToTargetArray))
-                            .getAsJsonArray().toString());
-            return actualJsonArray.containsAll(expectedJsonArray);
-        } else if (jsonPathToTargetArray.isEmpty() && (expectedJsonArray != null)) {
-            // if expected is an array and the user did not provide the path to extract it
-            // from the response
-            String actual = (new Gson()).toJson(actualJsonObject);
-            String expected = (new Gson()).toJson(expectedJsonArray);
-            return actual.contains(expected.substring(1));
-        } else if (expectedJsonObject != null) {
-            // if expected is an object and actual is also an object
-            boolean initialComparison = JSONCompare.compareJSON(expectedJsonObject.toJSONString(),
-                    actualJsonObject.toJSONString(), JSONCompareMode.LENIENT).passed();
-            if (Boolean.FALSE.equals(initialComparison)) {
-                // secondary comparison using java contains
-                // not tested
-                return actualJsonObject.toString().contains(expectedJsonObject.toString());
-            } else {
-                return initialComparison;
-            }
-        } else {
-            return false;
-        }
-    }
-
     private static String prettyFormatXML(String input) {
         Source xmlInput = new StreamSource(new StringReader(input));
         StringWriter stringWriter = new StringWriter();
@@ -923,15 +815,25 @@ public class RestActions {
     private RequestSpecBuilder initializeBuilder(Map<String, Object> sessionCookies, Map<String, String> sessionHeaders, RestAssuredConfig sessionConfig, boolean appendDefaultContentCharsetToContentTypeIfUndefined) {
         RequestSpecBuilder builder = new RequestSpecBuilder();
 
-        builder.addCookies(sessionCookies);
-        builder.addHeaders(sessionHeaders);
+        // asynchronous requests of the same session may update its cookies and headers while they are being copied
+        synchronized (sessionCookies) {
+            builder.addCookies(new HashMap<>(sessionCookies));
+        }
+        synchronized (sessionHeaders) {
+            builder.addHeaders(new HashMap<>(sessionHeaders));
+        }
         //Add configs
+        HttpClientConfig httpClientConfig = HttpClientConfig.httpClientConfig()
+                .setParam("http.connection.timeout", HTTP_CONNECTION_TIMEOUT * 1000)
+                .setParam("http.socket.timeout", HTTP_SOCKET_TIMEOUT * 1000)
+                .setParam("http.connection-manager.timeout", HTTP_CONNECTION_MANAGER_TIMEOUT * 1000);
+        if (SHAFT.Properties.api.connectionPoolEnabled() && serviceURI != null && !serviceURI.isBlank()) {
+            // reuse kept-alive connections to the same base URI instead of opening a new one for every request
+            httpClientConfig = httpClientConfig.httpClientFactory(HttpClientPools.factory(serviceURI, sessionConfig.getSSLConfig()));
+        }
         RestAssuredConfig userConfigs = sessionConfig.and().encoderConfig((new EncoderConfig()).defaultContentCharset("UTF-8")
                         .appendDefaultContentCharsetToContentTypeIfUndefined(appendDefaultContentCharsetToContentTypeIfUndefined)).and()
-                .httpClient(HttpClientConfig.httpClientConfig()
-                        .setParam("http.connection.timeout", HTTP_CONNECTION_TIMEOUT * 1000)
-                        .setParam("http.socket.timeout", HTTP_SOCKET_TIMEOUT * 1000)
-                        .setParam("http.connection-manager.timeout", HTTP_CONNECTION_MANAGER_TIMEOUT * 1000));
+                .httpClient(httpClientConfig);
         builder.setConfig(userConfigs);
         // timeouts documentation
         /*
@@ -1009,8 +911,7 @@ public class RestActions {
             // Ensure URL format is correct (replace Windows-style `\` with `/`)
             swaggerUrl = swaggerUrl.replace("\\", "/");
 
-            OpenApiValidationFilter openApiValidationFilter = new OpenApiValidationFilter(swaggerUrl);
-            builder.addFilter(openApiValidationFilter);
+            builder.addFilter(ContractValidators.filter(swaggerUrl, SHAFT.Properties.api.swaggerValidationSampleRate()));
             ReportManager.log("Swagger Validation enabled using OpenAPI URL: " + swaggerUrl);
         }
 
@@ -1230,30 +1131,34 @@ public class RestActions {
     }
 
     protected boolean evaluateResponseStatusCode(Response response, int targetStatusCode) {
-        try {
+        // discrete logging is a global setting, so concurrent requests switch it one at a time
+        synchronized (DISCRETE_LOGGING_LOCK) {
             boolean discreetLoggingState = ReportManagerHelper.getDiscreteLogging();
-            ReportManagerHelper.setDiscreteLogging(true);
-            var statusCode = response.getStatusCode();
-            ReportManager.logDiscrete("Response status code: \"" + statusCode + "\", status line: \"" + response.getStatusLine() + "\"");
-            if (AUTOMATICALLY_ASSERT_RESPONSE_STATUS_CODE) {
-                if (targetStatusCode != 0) {
-                    if (targetStatusCode == statusCode) {
-                        ReportManager.log("Actual response status code \"" + statusCode + "\" matches the expected one \"" + targetStatusCode + "\".");
-                    } else {
-                        failAction("Actual response status code \"" + statusCode + "\" does not match the expected one \"" + targetStatusCode + "\".");
-                    }
-                } else {
-                    if (statusCode >= 200 && statusCode < 300) {
-                        ReportManager.log("Actual response status code \"" + statusCode + "\" is successful (Between 200 and 299).");
+            try {
+                ReportManagerHelper.setDiscreteLogging(true);
+                var statusCode = response.getStatusCode();
+                ReportManager.logDiscrete("Response status code: \"" + statusCode + "\", status line: \"" + response.getStatusLine() + "\"");
+                if (AUTOMATICALLY_ASSERT_RESPONSE_STATUS_CODE) {
+                    if (targetStatusCode != 0) {
+                        if (targetStatusCode == statusCode) {
+                            ReportManager.log("Actual response status code \"" + statusCode + "\" matches the expected one \"" + targetStatusCode + "\".");
+                        } else {
+                            failAction("Actual response status code \"" + statusCode + "\" does not match the expected one \"" + targetStatusCode + "\".");
+                        }
                     } else {
-                        failAction("Actual response status code \"" + statusCode + "\" is a failure (Not between 200 and 299).");
+                        if (statusCode >= 200 && statusCode < 300) {
+                            ReportManager.log("Actual response status code \"" + statusCode + "\" is successful (Between 200 and 299).");
+                        } else {
+                            failAction("Actual response status code \"" + statusCode + "\" is a failure (Not between 200 and 299).");
+                        }
                     }
                 }
+                return true;
+            } catch (AssertionError rootCauseException) {
+                return false;
+            } finally {
+                ReportManagerHelper.setDiscreteLogging(discreetLoggingState);
             }
-            ReportManagerHelper.setDiscreteLogging(discreetLoggingState);
-            return true;
-        } catch (AssertionError rootCauseException) {
-            return false;
         }
     }
 
@@ -0,0 +1,259 @@
+package com.shaft.api.internal;
+
+import com.shaft.driver.SHAFT;
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+import io.qameta.allure.attachment.AttachmentData;
+import io.qameta.allure.attachment.FreemarkerAttachmentRenderer;
+import io.qameta.allure.attachment.http.HttpRequestAttachment;
+import io.qameta.allure.attachment.http.HttpResponseAttachment;
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.internal.NameAndValue;
+import io.restassured.internal.support.Prettifier;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Attaches the requests and responses of SHAFT.API to the Allure report, with the level of detail configured by
+ * {@code api.reporting.level}:
+ * <ul>
+ *     <li>{@code FULL}: every request and response, with their full bodies.</li>
+ *     <li>{@code HEADERS_ONLY}: every request and response, without their bodies.</li>
+ *     <li>{@code TRUNCATED}: every request and response, with the first {@code api.reporting.maxBodySize} KB of their
+ *     bodies followed by the size and SHA-256 digest of the rest.</li>
+ *     <li>{@code FAILURES_ONLY}: only the requests that could not be sent, or whose response status code is not 2xx.</li>
+ *     <li>{@code SAMPLED}: the failed requests, and one in every {@code api.reporting.sampleRate} of the others.</li>
+ * </ul>
+ * The attachments are added to the current step as soon as the request is sent, but the bodies are prettified and the
+ * attachments are rendered by a background thread, so large payloads don't slow the requests down. Pending attachments
+ * are written before the report is generated, see {@link #awaitPendingAttachments()}.
+ */
+public final class ApiReportingFilter implements OrderedFilter {
+    private static final String HIDDEN_PLACEHOLDER = "[ BLACKLISTED ]";
+    private static final String ATTACHMENT_TYPE = "text/html";
+    private static final String ATTACHMENT_EXTENSION = ".html";
+    private static final ExecutorService renderer = Executors.newSingleThreadExecutor(runnable -> {
+        var thread = new Thread(runnable, "SHAFT-API-Attachment-Renderer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private static final FreemarkerAttachmentRenderer requestRenderer = new FreemarkerAttachmentRenderer("http-request.ftl");
+    private static final FreemarkerAttachmentRenderer responseRenderer = new FreemarkerAttachmentRenderer("http-response.ftl");
+    private static final AtomicLong passedRequests = new AtomicLong();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(ApiReportingFilter::awaitPendingAttachments));
+    }
+
+    private final String requestAttachmentName;
+    private final String responseAttachmentName;
+
+    /**
+     * @param requestAttachmentName  the name of the request attachments
+     * @param responseAttachmentName the name of the response attachments, or null to use the status line of the response
+     */
+    public ApiReportingFilter(String requestAttachmentName, String responseAttachmentName) {
+        this.requestAttachmentName = requestAttachmentName;
+        this.responseAttachmentName = responseAttachmentName;
+    }
+
+    /**
+     * @return the configured reporting level, or {@link Level#FULL} if it is not supported
+     */
+    public static Level level() {
+        try {
+            return Level.valueOf(SHAFT.Properties.api.reportingLevel().trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return Level.FULL;
+        }
+    }
+
+    /**
+     * Abbreviates long report content, such as the test data of API actions, according to the configured reporting
+     * level.
+     *
+     * @param text the content to be reported
+     * @return the content as is when every detail is reported, or its first {@code api.reporting.maxBodySize} KB
+     * followed by the size and SHA-256 digest of the rest otherwise
+     */
+    public static String abbreviate(String text) {
+        return level() == Level.FULL ? text : truncate(text, maxBodySize());
+    }
+
+    /**
+     * @param text      the content to be truncated
+     * @param maxLength the number of characters to keep
+     * @return the first {@code maxLength} characters of the content, followed by the size and SHA-256 digest of the rest
+     */
+    public static String truncate(String text, int maxLength) {
+        if (text == null || text.length() <= maxLength) {
+            return text;
+        }
+        int end = Character.isHighSurrogate(text.charAt(maxLength - 1)) ? maxLength - 1 : maxLength;
+        byte[] rest = text.substring(end).getBytes(StandardCharsets.UTF_8);
+        return text.substring(0, end) + System.lineSeparator() + "... [" + rest.length + " more bytes, SHA-256: " + sha256(rest) + "]";
+    }
+
+    /**
+     * Waits until all the pending attachments are written to the Allure results.
+     */
+    public static void awaitPendingAttachments() {
+        try {
+            // the renderer runs its tasks in order, so once this one is done all the previous ones are done too
+            renderer.submit(() -> {
+            }).get(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            // the pending attachments are incomplete, but the report can still be generated
+        }
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec, FilterableResponseSpecification responseSpec, FilterContext context) {
+        var level = level();
+        var hiddenHeaders = new TreeSet<String>(String.CASE_INSENSITIVE_ORDER);
+        hiddenHeaders.addAll(requestSpec.getConfig().getLogConfig().blacklistedHeaders());
+        boolean requestAttached = false;
+        if (level.reportsEveryRequest()) {
+            attachRequest(requestSpec, hiddenHeaders, level);
+            requestAttached = true;
+        }
+        Response response;
+        try {
+            response = context.next(requestSpec, responseSpec);
+        } catch (RuntimeException | Error e) {
+            if (!requestAttached) {
+                attachRequest(requestSpec, hiddenHeaders, level);
+            }
+            throw e;
+        }
+        if (requestAttached || isReported(response, level)) {
+            if (!requestAttached) {
+                attachRequest(requestSpec, hiddenHeaders, level);
+            }
+            attachResponse(response, hiddenHeaders, level);
+        }
+        return response;
+    }
+
+    @Override
+    public int getOrder() {
+        return Integer.MAX_VALUE;
+    }
+
+    private static boolean isReported(Response response, Level level) {
+        boolean failed = response.getStatusCode() < 200 || response.getStatusCode() >= 300;
+        return failed || (level == Level.SAMPLED
+                && passedRequests.getAndIncrement() % Math.max(1, SHAFT.Properties.api.reportingSampleRate()) == 0);
+    }
+
+    private void attachRequest(FilterableRequestSpecification requestSpec, Set<String> hiddenHeaders, Level level) {
+        var builder = HttpRequestAttachment.Builder.create(requestAttachmentName, requestSpec.getURI())
+                .setMethod(requestSpec.getMethod())
+                .setHeaders(toMap(requestSpec.getHeaders(), hiddenHeaders))
+                .setCookies(toMap(requestSpec.getCookies(), Set.of()));
+        if (requestSpec.getFormParams() != null) {
+            builder.setFormParams(requestSpec.getFormParams());
+        }
+        boolean hasBody = requestSpec.getBody() != null;
+        int maxBodySize = maxBodySize();
+        attach(requestAttachmentName, () -> {
+            if (hasBody) {
+                builder.setBody(reportedBody(() -> new Prettifier().getPrettifiedBodyIfPossible(requestSpec), level, maxBodySize));
+            }
+            return builder.build();
+        }, requestRenderer);
+    }
+
+    private void attachResponse(Response response, Set<String> hiddenHeaders, Level level) {
+        var name = responseAttachmentName != null ? responseAttachmentName : response.getStatusLine();
+        var builder = HttpResponseAttachment.Builder.create(name)
+                .setResponseCode(response.getStatusCode())
+                .setHeaders(toMap(response.getHeaders(), hiddenHeaders));
+        if (level != Level.HEADERS_ONLY) {
+            // the body is read from the connection by the calling thread, only its rendering is done in the background
+            response.asByteArray();
+        }
+        int maxBodySize = maxBodySize();
+        attach(name, () -> builder
+                .setBody(reportedBody(() -> new Prettifier().getPrettifiedBodyIfPossible(response, response.getBody()), level, maxBodySize))
+                .build(), responseRenderer);
+    }
+
+    private static String reportedBody(Supplier<String> body, Level level, int maxBodySize) {
+        return switch (level) {
+            case HEADERS_ONLY -> null;
+            case TRUNCATED -> truncate(body.get(), maxBodySize);
+            default -> body.get();
+        };
+    }
+
+    private static void attach(String name, Supplier<AttachmentData> attachment, FreemarkerAttachmentRenderer attachmentRenderer) {
+        AllureLifecycle lifecycle = Allure.getLifecycle();
+        // the attachment is added to the current step right away, and its content is written once it is rendered
+        var source = lifecycle.prepareAttachment(name, ATTACHMENT_TYPE, ATTACHMENT_EXTENSION);
+        renderer.execute(() -> {
+            String content;
+            try {
+                content = attachmentRenderer.render(attachment.get()).getContent();
+            } catch (RuntimeException e) {
+                content = "Failed to render the attachment: " + e.getMessage();
+            }
+            lifecycle.writeAttachment(source, new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)));
+        });
+    }
+
+    private static Map<String, String> toMap(Iterable<? extends NameAndValue> items, Set<String> hiddenNames) {
+        var map = new HashMap<String, String>();
+        items.forEach(item -> map.put(item.getName(), hiddenNames.contains(item.getName()) ? HIDDEN_PLACEHOLDER : item.getValue()));
+        return map;
+    }
+
+    private static int maxBodySize() {
+        return Math.max(1, SHAFT.Properties.api.reportingMaxBodySize()) * 1024;
+    }
+
+    private static String sha256(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256 is supported by every Java platform
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * The supported values of {@code api.reporting.level}.
+     */
+    public enum Level {
+        FULL, HEADERS_ONLY, TRUNCATED, FAILURES_ONLY, SAMPLED;
+
+        /**
+         * @return true if every request is reported regardless of its response
+         */
+        public boolean reportsEveryRequest() {
+            return this == FULL || this == HEADERS_ONLY || this == TRUNCATED;
+        }
+    }
+}
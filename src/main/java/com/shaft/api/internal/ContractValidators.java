@@ -0,0 +1,182 @@
+package com.shaft.api.internal;
+
+import com.atlassian.oai.validator.OpenApiInteractionValidator;
+import com.atlassian.oai.validator.restassured.OpenApiValidationFilter;
+import com.atlassian.oai.validator.restassured.RestAssuredRequest;
+import com.atlassian.oai.validator.restassured.RestAssuredResponse;
+import com.shaft.driver.SHAFT;
+import com.shaft.tools.io.ReportManager;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Process-wide registry of OpenAPI contract validators, used when {@code swagger.validation.enabled} is true.
+ * <p>
+ * Parsing an OpenAPI specification and building its validator is expensive, so every specification is parsed once and
+ * its validator is shared by all requests and threads. Validators are keyed by the location of the specification and
+ * the SHA-256 hash of its content. Remote specifications are hashed and parsed once per process, while local files
+ * are checked for changes (last modified time and size) on every request and are parsed again if their content
+ * changed.
+ * <p>
+ * To reduce the overhead during load-style runs, only one in every {@code swagger.validation.sampleRate} responses is
+ * validated. The time spent validating responses is available through {@link #metrics()}.
+ */
+public final class ContractValidators {
+    private static final Map<String, LoadedSpecification> specificationsByLocation = new ConcurrentHashMap<>();
+    private static final Map<String, OpenApiInteractionValidator> validators = new ConcurrentHashMap<>();
+    private static final AtomicLong sampledResponses = new AtomicLong();
+    private static final AtomicLong validatedResponses = new AtomicLong();
+    private static final AtomicLong skippedResponses = new AtomicLong();
+    private static final AtomicLong validationNanos = new AtomicLong();
+
+    private ContractValidators() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Parses the configured OpenAPI specification ahead of the first request, if swagger validation is enabled.
+     */
+    public static void warmUp() {
+        var specificationLocation = SHAFT.Properties.api.swaggerValidationUrl();
+        if (SHAFT.Properties.api.swaggerValidationEnabled() && specificationLocation != null && !specificationLocation.isBlank()) {
+            long startTime = System.nanoTime();
+            get(specificationLocation.replace("\\", "/"));
+            ReportManager.logDiscrete("OpenAPI contract validator is ready in " + Duration.ofNanos(System.nanoTime() - startTime).toMillis() + "ms.");
+        }
+    }
+
+    /**
+     * @param specificationLocation the URL or file path of the OpenAPI specification
+     * @return the shared validator of the specification, parsing it first if needed
+     */
+    public static OpenApiInteractionValidator get(String specificationLocation) {
+        var specification = specificationsByLocation.get(specificationLocation);
+        if (specification == null || !specification.isUpToDate()) {
+            specification = specificationsByLocation.compute(specificationLocation, (location, loaded) ->
+                    loaded != null && loaded.isUpToDate() ? loaded : LoadedSpecification.load(location));
+            // drop the validators of older versions of the same specification
+            var currentKey = specificationLocation + "#" + specification.contentHash();
+            validators.keySet().removeIf(key -> key.startsWith(specificationLocation + "#") && !key.equals(currentKey));
+        }
+        var loadedSpecification = specification;
+        return validators.computeIfAbsent(specificationLocation + "#" + specification.contentHash(),
+                key -> loadedSpecification.createValidator(specificationLocation));
+    }
+
+    /**
+     * @param specificationLocation the URL or file path of the OpenAPI specification
+     * @param sampleRate            validate one in every {@code sampleRate} responses, 1 validates all of them
+     * @return a rest-assured filter that validates the request and response against the shared validator
+     */
+    public static Filter filter(String specificationLocation, int sampleRate) {
+        return new ContractValidationFilter(specificationLocation, Math.max(1, sampleRate));
+    }
+
+    /**
+     * @return the number of validated and skipped responses, and the total time spent validating them
+     */
+    public static Metrics metrics() {
+        return new Metrics(validators.size(), validatedResponses.get(), skippedResponses.get(), Duration.ofNanos(validationNanos.get()));
+    }
+
+    /**
+     * Removes all the cached validators, and resets the metrics.
+     */
+    public static void clear() {
+        specificationsByLocation.clear();
+        validators.clear();
+        sampledResponses.set(0);
+        validatedResponses.set(0);
+        skippedResponses.set(0);
+        validationNanos.set(0);
+    }
+
+    public record Metrics(int loadedSpecifications, long validatedResponses, long skippedResponses, Duration validationTime) {
+    }
+
+    private record ContractValidationFilter(String specificationLocation, int sampleRate) implements Filter {
+        @Override
+        public Response filter(FilterableRequestSpecification requestSpec, FilterableResponseSpecification responseSpec, FilterContext ctx) {
+            if (sampledResponses.getAndIncrement() % sampleRate != 0) {
+                skippedResponses.incrementAndGet();
+                return ctx.next(requestSpec, responseSpec);
+            }
+            var validator = get(specificationLocation);
+            var response = ctx.next(requestSpec, responseSpec);
+            long startTime = System.nanoTime();
+            var validationReport = validator.validate(RestAssuredRequest.of(requestSpec), RestAssuredResponse.of(response));
+            validationNanos.addAndGet(System.nanoTime() - startTime);
+            validatedResponses.incrementAndGet();
+            if (validationReport.hasErrors()) {
+                throw new OpenApiValidationFilter.OpenApiValidationException(validationReport);
+            }
+            return response;
+        }
+    }
+
+    /**
+     * The content hash of a specification, along with the state of its file if it is a local file.
+     */
+    private record LoadedSpecification(String contentHash, Path file, FileTime lastModifiedTime, long size) {
+        private static LoadedSpecification load(String location) {
+            try {
+                if (location.startsWith("http://") || location.startsWith("https://")) {
+                    try (InputStream stream = URI.create(location).toURL().openStream()) {
+                        return new LoadedSpecification(hash(stream.readAllBytes()), null, null, 0);
+                    }
+                }
+                var file = location.startsWith("file:") ? Path.of(URI.create(location)) : Path.of(location);
+                var attributes = Files.readAttributes(file, BasicFileAttributes.class);
+                return new LoadedSpecification(hash(Files.readAllBytes(file)), file, attributes.lastModifiedTime(), attributes.size());
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to read the OpenAPI specification \"" + location + "\".", e);
+            }
+        }
+
+        private static String hash(byte[] content) {
+            try {
+                return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        /**
+         * Specifications are parsed from their location, so that their relative references are resolved.
+         */
+        private OpenApiInteractionValidator createValidator(String location) {
+            return OpenApiInteractionValidator.createFor(location).build();
+        }
+
+        private boolean isUpToDate() {
+            if (file == null) {
+                return true;
+            }
+            try {
+                var attributes = Files.readAttributes(file, BasicFileAttributes.class);
+                return attributes.lastModifiedTime().equals(lastModifiedTime) && attributes.size() == size;
+            } catch (IOException e) {
+                return false;
+            }
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package com.shaft.api.internal;
+
+import com.shaft.driver.SHAFT;
+import io.restassured.config.HttpClientConfig;
+import io.restassured.config.SSLConfig;
+import org.apache.http.conn.ClientConnectionManager;
+import org.apache.http.conn.ClientConnectionRequest;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.conn.ManagedClientConnection;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.conn.scheme.SchemeRegistry;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.conn.PoolingClientConnectionManager;
+import org.apache.http.impl.conn.SchemeRegistryFactory;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Process-wide registry of pooled HTTP connections, used by SHAFT.API when {@code api.connectionPool.enabled} is true.
+ * <p>
+ * rest-assured creates a new HTTP client for every request, which opens a new connection and performs a new TLS
+ * handshake every time. Instead, every request gets a lightweight client that borrows its connections from a pool that
+ * is shared by all the requests to the same base URI, so connections are kept alive and reused across requests,
+ * sessions and threads. Requests with different SSL configurations use different pools, so their connections are never
+ * mixed.
+ * <p>
+ * The pool size, idle timeout and default keep-alive duration are read from {@code SHAFT.Properties.api} when the pool
+ * of a base URI is created. Idle and expired connections are evicted by a single background thread.
+ * <p>
+ * A pooled connection only returns to its pool once the body of its response is fully consumed or closed. Responses
+ * whose body is read as a stream and never closed keep their connection leased until the pool is exhausted, which is
+ * why pooling is disabled by default.
+ */
+@SuppressWarnings("deprecation")
+public final class HttpClientPools {
+    private static final Map<String, Pool> pools = new ConcurrentHashMap<>();
+    private static final ScheduledExecutorService evictor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        var thread = new Thread(runnable, "SHAFT-HTTP-Connection-Evictor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    static {
+        evictor.scheduleWithFixedDelay(HttpClientPools::evictIdleConnections, 1, 1, TimeUnit.SECONDS);
+    }
+
+    private HttpClientPools() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * @param serviceURI the base URI of the target service
+     * @param sslConfig  the SSL configuration of the request, or null to use the default one
+     * @return an HTTP client factory whose clients borrow their connections from the shared pool of the base URI
+     */
+    public static HttpClientConfig.HttpClientFactory factory(String serviceURI, SSLConfig sslConfig) {
+        var pool = pools.computeIfAbsent(key(serviceURI, sslConfig), Pool::new);
+        return pool::createHttpClient;
+    }
+
+    /**
+     * @return the connection statistics of every pool
+     */
+    public static List<Metrics> metrics() {
+        var metrics = new ArrayList<Metrics>();
+        pools.forEach((key, pool) -> {
+            var stats = pool.connectionManager.getTotalStats();
+            metrics.add(new Metrics(key, pool.requests.get(), stats.getLeased(), stats.getAvailable(), stats.getPending(), stats.getMax()));
+        });
+        return metrics;
+    }
+
+    /**
+     * Closes all the pooled connections, and removes all the pools.
+     */
+    public static void clear() {
+        pools.values().forEach(pool -> pool.connectionManager.shutdown());
+        pools.clear();
+    }
+
+    private static String key(String serviceURI, SSLConfig sslConfig) {
+        var origin = serviceURI.trim();
+        try {
+            var uri = URI.create(origin);
+            if (uri.getScheme() != null && uri.getAuthority() != null) {
+                origin = uri.getScheme() + "://" + uri.getAuthority();
+            }
+        } catch (IllegalArgumentException e) {
+            // keep the base URI as is, rest-assured reports the invalid URI when the request is sent
+        }
+        if (sslConfig == null || !sslConfig.isUserConfigured()) {
+            return origin;
+        }
+        // socket factories are created for every relaxed configuration, so they are told apart by their type
+        return origin + "#" + Objects.hash(sslConfig.getPathToKeyStore(), sslConfig.getKeyStore(), sslConfig.getKeyStoreType(),
+                sslConfig.getPathToTrustStore(), sslConfig.getTrustStore(), sslConfig.getTrustStoreType(),
+                typeOf(sslConfig.getSSLSocketFactory()), typeOf(sslConfig.getX509HostnameVerifier()));
+    }
+
+    private static String typeOf(Object object) {
+        return object == null ? null : object.getClass().getName();
+    }
+
+    private static void evictIdleConnections() {
+        pools.values().forEach(pool -> {
+            pool.connectionManager.closeExpiredConnections();
+            pool.connectionManager.closeIdleConnections(pool.idleTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        });
+    }
+
+    /**
+     * The connection statistics of a pool.
+     *
+     * @param pool                  the base URI of the pool, followed by the hash of its SSL configuration if any
+     * @param requests              the number of requests that were sent through the pool
+     * @param leasedConnections     the connections that are currently used by requests
+     * @param availableConnections  the idle connections that are kept alive for the next requests
+     * @param pendingRequests       the requests that are waiting for a connection
+     * @param maxConnections        the maximum number of connections of the pool
+     */
+    public record Metrics(String pool, long requests, int leasedConnections, int availableConnections, int pendingRequests,
+                          int maxConnections) {
+    }
+
+    private static final class Pool {
+        private final PoolingClientConnectionManager connectionManager;
+        private final ClientConnectionManager sharedConnectionManager;
+        private final ConnectionKeepAliveStrategy keepAliveStrategy;
+        private final Duration idleTimeout;
+        private final AtomicLong requests = new AtomicLong();
+
+        private Pool(String key) {
+            // the default scheme registry uses the default SSL context, whose TLS sessions are resumed by new connections
+            connectionManager = new PoolingClientConnectionManager(SchemeRegistryFactory.createSystemDefault());
+            connectionManager.setMaxTotal(Math.max(1, SHAFT.Properties.api.connectionPoolMaxConnections()));
+            connectionManager.setDefaultMaxPerRoute(Math.max(1, SHAFT.Properties.api.connectionPoolMaxConnectionsPerRoute()));
+            sharedConnectionManager = new SharedConnectionManager(connectionManager);
+            idleTimeout = Duration.ofSeconds(Math.max(1, SHAFT.Properties.api.connectionPoolIdleTimeout()));
+            var keepAlive = Duration.ofSeconds(Math.max(0, SHAFT.Properties.api.keepAliveDuration()));
+            keepAliveStrategy = (response, context) -> {
+                // servers that don't announce a keep-alive timeout get the configured one
+                long duration = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+                return duration > 0 ? duration : keepAlive.toMillis();
+            };
+        }
+
+        private DefaultHttpClient createHttpClient() {
+            requests.incrementAndGet();
+            var httpClient = new DefaultHttpClient(sharedConnectionManager);
+            httpClient.setKeepAliveStrategy(keepAliveStrategy);
+            return httpClient;
+        }
+    }
+
+    /**
+     * Hands the pooled connections to the short-lived clients that rest-assured creates for every request, while keeping
+     * the pool open when one of them is shut down.
+     */
+    private record SharedConnectionManager(PoolingClientConnectionManager pool) implements ClientConnectionManager {
+        @Override
+        public SchemeRegistry getSchemeRegistry() {
+            return pool.getSchemeRegistry();
+        }
+
+        @Override
+        public ClientConnectionRequest requestConnection(HttpRoute route, Object state) {
+            return pool.requestConnection(route, state);
+        }
+
+        @Override
+        public void releaseConnection(ManagedClientConnection connection, long validDuration, TimeUnit timeUnit) {
+            pool.releaseConnection(connection, validDuration, timeUnit);
+        }
+
+        @Override
+        public void closeIdleConnections(long idleTime, TimeUnit timeUnit) {
+            pool.closeIdleConnections(idleTime, timeUnit);
+        }
+
+        @Override
+        public void closeExpiredConnections() {
+            pool.closeExpiredConnections();
+        }
+
+        @Override
+        public void shutdown() {
+            // the pool is shared, so it is only shut down by HttpClientPools.clear()
+        }
+    }
+}
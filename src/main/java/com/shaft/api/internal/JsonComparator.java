@@ -0,0 +1,504 @@
+package com.shaft.api.internal;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import com.shaft.api.RestActions;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.regex.Pattern;
+
+/**
+ * Structural JSON comparison engine, used by {@link RestActions#compareJSON(io.restassured.response.Response, String, RestActions.ComparisonType, String)}.
+ * <p>
+ * Every document is read token by token in a single pass into a compact tree, and every node is hashed while it is
+ * being read. Object members are always compared regardless of their order, and the hashes are used to reject
+ * mismatching subtrees early and to match the elements of arrays whose order is ignored without comparing every
+ * element against every other element. Numbers are compared by value, so {@code 1} equals {@code 1.0}.
+ * <ul>
+ *     <li>{@code EQUALS}: both documents have the same members and the same array elements in the same order.</li>
+ *     <li>{@code EQUALS_IGNORING_ORDER}: same as {@code EQUALS}, but array elements may be in any order.</li>
+ *     <li>{@code CONTAINS}: every member and array element of the expected document exists in the actual document, or
+ *     in one of its nested objects or arrays. Extra members and array elements are ignored.</li>
+ * </ul>
+ * Only the first {@value #MAX_REPORTED_DIFFERENCES} differences are reported, along with the total number of differences.
+ * <p>
+ * Both documents are fully read into memory before they are compared, so the memory used by a comparison grows with
+ * the size of the expected and the actual documents. Comparing the two token streams directly is not possible here,
+ * because object members may come in any order, and because {@code EQUALS_IGNORING_ORDER} and {@code CONTAINS} need
+ * all the elements of an array before matching any of them. Very large payloads should be narrowed down first, for
+ * example through the {@code jsonPathToTargetArray} argument of
+ * {@link RestActions#compareJSON(io.restassured.response.Response, String, RestActions.ComparisonType, String)}.
+ */
+public final class JsonComparator {
+    public static final int MAX_REPORTED_DIFFERENCES = 50;
+    private static final int MAX_VALUE_LENGTH = 100;
+    private static final Pattern IDENTIFIER = Pattern.compile("[A-Za-z_$][\\w$]*");
+    private static final JsonFactory jsonFactory = new JsonFactory();
+
+    private JsonComparator() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * @param file the target JSON file
+     * @return the parsed document
+     * @throws IOException if the file cannot be read, or if it isn't valid JSON
+     */
+    public static Node parse(Path file) throws IOException {
+        try (var parser = jsonFactory.createParser(file.toFile())) {
+            return parse(parser);
+        }
+    }
+
+    /**
+     * @param json the target JSON text
+     * @return the parsed document
+     * @throws IOException if the text isn't valid JSON
+     */
+    public static Node parse(String json) throws IOException {
+        try (var parser = jsonFactory.createParser(json)) {
+            return parse(parser);
+        }
+    }
+
+    /**
+     * @param value a value that was already parsed, like the result of a JsonPath expression
+     * @return the document of the target value, maps are read as objects and collections are read as arrays
+     */
+    public static Node of(Object value) {
+        if (value == null) {
+            return Node.NULL;
+        } else if (value instanceof Map<?, ?> map) {
+            var members = new LinkedHashMap<String, Node>(map.size() * 2);
+            map.forEach((key, member) -> members.put(String.valueOf(key), of(member)));
+            return Node.object(members);
+        } else if (value instanceof Collection<?> collection) {
+            return Node.array(collection.stream().map(JsonComparator::of).toList());
+        } else if (value instanceof Number number) {
+            return Node.number(new BigDecimal(number.toString()));
+        } else if (value instanceof Boolean bool) {
+            return Node.bool(bool);
+        } else {
+            return Node.string(value.toString());
+        }
+    }
+
+    /**
+     * @param expected       the expected document
+     * @param actual         the actual document
+     * @param comparisonType how both documents are compared
+     * @return the result of the comparison, along with the first differences that were found
+     */
+    public static Result compare(Node expected, Node actual, RestActions.ComparisonType comparisonType) {
+        var differences = new Differences();
+        boolean passed = switch (comparisonType) {
+            case EQUALS -> equals(expected, actual, false, "$", differences);
+            case EQUALS_IGNORING_ORDER -> equals(expected, actual, true, "$", differences);
+            case CONTAINS -> contains(expected, actual, "$", differences) || containsAnywhere(expected, actual);
+        };
+        return passed ? new Result(true, List.of(), 0) : new Result(false, List.copyOf(differences.reported), differences.count);
+    }
+
+    private static Node parse(JsonParser parser) throws IOException {
+        var token = parser.nextToken();
+        if (token == null) {
+            throw new IOException("The JSON document is empty.");
+        }
+        return read(parser, token);
+    }
+
+    private static Node read(JsonParser parser, JsonToken token) throws IOException {
+        return switch (token) {
+            case START_OBJECT -> {
+                var members = new LinkedHashMap<String, Node>();
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    var name = parser.currentName();
+                    members.put(name, read(parser, parser.nextToken()));
+                }
+                yield Node.object(members);
+            }
+            case START_ARRAY -> {
+                var elements = new ArrayList<Node>();
+                JsonToken elementToken;
+                while ((elementToken = parser.nextToken()) != JsonToken.END_ARRAY) {
+                    elements.add(read(parser, elementToken));
+                }
+                elements.trimToSize();
+                yield Node.array(elements);
+            }
+            case VALUE_STRING -> Node.string(parser.getText());
+            case VALUE_NUMBER_INT, VALUE_NUMBER_FLOAT -> Node.number(parser.getDecimalValue());
+            case VALUE_TRUE -> Node.bool(true);
+            case VALUE_FALSE -> Node.bool(false);
+            case VALUE_NULL -> Node.NULL;
+            default -> throw new IOException("Unexpected JSON token " + token + " at " + parser.currentLocation() + ".");
+        };
+    }
+
+    /**
+     * @param differences where the differences are recorded, or null to stop at the first difference
+     */
+    private static boolean equals(Node expected, Node actual, boolean ignoreOrder, String path, Differences differences) {
+        if (expected.hash(ignoreOrder) != actual.hash(ignoreOrder)) {
+            if (differences == null) {
+                return false;
+            }
+        } else if (differences != null && equals(expected, actual, ignoreOrder, path, null)) {
+            // matching subtrees are confirmed without building the paths of their members
+            return true;
+        }
+        if (expected.kind != actual.kind) {
+            return mismatch(expected, actual, path, differences);
+        }
+        return switch (expected.kind) {
+            case OBJECT -> {
+                boolean equal = true;
+                for (var member : expected.members.entrySet()) {
+                    var actualMember = actual.members.get(member.getKey());
+                    if (actualMember == null) {
+                        equal = missing(member.getValue(), childPath(path, member.getKey(), differences), differences);
+                    } else {
+                        equal &= equals(member.getValue(), actualMember, ignoreOrder, childPath(path, member.getKey(), differences), differences);
+                    }
+                    if (!equal && differences == null) {
+                        yield false;
+                    }
+                }
+                for (var member : actual.members.entrySet()) {
+                    if (!expected.members.containsKey(member.getKey())) {
+                        equal = unexpected(member.getValue(), childPath(path, member.getKey(), differences), differences);
+                        if (differences == null) {
+                            yield false;
+                        }
+                    }
+                }
+                yield equal;
+            }
+            case ARRAY -> ignoreOrder
+                    ? equalsIgnoringOrder(expected.elements, actual.elements, path, differences)
+                    : equalsInOrder(expected.elements, actual.elements, path, differences);
+            default -> Objects.equals(expected.value, actual.value) || mismatch(expected, actual, path, differences);
+        };
+    }
+
+    private static boolean equalsInOrder(List<Node> expected, List<Node> actual, String path, Differences differences) {
+        boolean equal = true;
+        for (int i = 0; i < Math.min(expected.size(), actual.size()); i++) {
+            equal &= equals(expected.get(i), actual.get(i), false, path + "[" + i + "]", differences);
+            if (!equal && differences == null) {
+                return false;
+            }
+        }
+        for (int i = actual.size(); i < expected.size(); i++) {
+            equal = missing(expected.get(i), path + "[" + i + "]", differences);
+        }
+        for (int i = expected.size(); i < actual.size(); i++) {
+            equal = unexpected(actual.get(i), path + "[" + i + "]", differences);
+        }
+        return equal;
+    }
+
+    private static boolean equalsIgnoringOrder(List<Node> expected, List<Node> actual, String path, Differences differences) {
+        if (differences == null && expected.size() != actual.size()) {
+            return false;
+        }
+        if (expected.size() == actual.size() && equalsInOrder(expected, actual, true)) {
+            return true;
+        }
+        // bucket the actual elements by hash, so that every expected element is only compared with its likely matches
+        var candidates = new HashMap<Integer, List<Integer>>();
+        for (int i = 0; i < actual.size(); i++) {
+            candidates.computeIfAbsent(actual.get(i).hash(true), hash -> new ArrayList<>(1)).add(i);
+        }
+        boolean equal = true;
+        for (int i = 0; i < expected.size(); i++) {
+            var element = expected.get(i);
+            var bucket = candidates.getOrDefault(element.hash(true), List.of());
+            var match = bucket.stream().filter(index -> equals(element, actual.get(index), true, path, null)).findFirst();
+            if (match.isPresent()) {
+                bucket.remove(match.get());
+            } else {
+                equal = missing(element, path + "[" + i + "]", differences);
+                if (differences == null) {
+                    return false;
+                }
+            }
+        }
+        var unmatched = candidates.values().stream().flatMap(List::stream).sorted().toList();
+        for (int index : unmatched) {
+            equal = unexpected(actual.get(index), path + "[" + index + "]", differences);
+        }
+        return equal;
+    }
+
+    private static boolean equalsInOrder(List<Node> expected, List<Node> actual, boolean ignoreOrder) {
+        for (int i = 0; i < expected.size(); i++) {
+            if (!equals(expected.get(i), actual.get(i), ignoreOrder, "", null)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean contains(Node expected, Node actual, String path, Differences differences) {
+        if (expected.kind != actual.kind) {
+            return mismatch(expected, actual, path, differences);
+        }
+        return switch (expected.kind) {
+            case OBJECT -> {
+                boolean contained = true;
+                for (var member : expected.members.entrySet()) {
+                    var actualMember = actual.members.get(member.getKey());
+                    if (actualMember == null) {
+                        contained = missing(member.getValue(), childPath(path, member.getKey(), differences), differences);
+                    } else {
+                        contained &= contains(member.getValue(), actualMember, childPath(path, member.getKey(), differences), differences);
+                    }
+                    if (!contained && differences == null) {
+                        yield false;
+                    }
+                }
+                yield contained;
+            }
+            case ARRAY -> {
+                // exact matches are found through the hashes first, then the remaining elements are matched one by one
+                var remaining = new ArrayList<Integer>();
+                var unmatchedActual = new HashMap<Integer, List<Node>>();
+                actual.elements.forEach(element -> unmatchedActual.computeIfAbsent(element.hash(true), hash -> new LinkedList<>()).add(element));
+                for (int i = 0; i < expected.elements.size(); i++) {
+                    var element = expected.elements.get(i);
+                    var bucket = unmatchedActual.getOrDefault(element.hash(true), List.of());
+                    var match = bucket.stream().filter(candidate -> equals(element, candidate, true, path, null)).findFirst();
+                    if (match.isPresent()) {
+                        bucket.remove(match.get());
+                    } else {
+                        remaining.add(i);
+                    }
+                }
+                var leftovers = new LinkedList<Node>();
+                unmatchedActual.values().forEach(leftovers::addAll);
+                boolean contained = true;
+                for (int index : remaining) {
+                    var element = expected.elements.get(index);
+                    var match = leftovers.stream().filter(candidate -> contains(element, candidate, path, null)).findFirst();
+                    if (match.isPresent()) {
+                        leftovers.remove(match.get());
+                    } else {
+                        contained = missing(element, path + "[" + index + "]", differences);
+                        if (differences == null) {
+                            yield false;
+                        }
+                    }
+                }
+                yield contained;
+            }
+            default -> Objects.equals(expected.value, actual.value) || mismatch(expected, actual, path, differences);
+        };
+    }
+
+    private static boolean containsAnywhere(Node expected, Node actual) {
+        var children = switch (actual.kind) {
+            case OBJECT -> actual.members.values();
+            case ARRAY -> actual.elements;
+            default -> List.<Node>of();
+        };
+        for (var child : children) {
+            if (contains(expected, child, "$", null) || containsAnywhere(expected, child)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean mismatch(Node expected, Node actual, String path, Differences differences) {
+        if (differences != null) {
+            differences.add(path + ": expected " + expected + " but found " + actual);
+        }
+        return false;
+    }
+
+    private static boolean missing(Node expected, String path, Differences differences) {
+        if (differences != null) {
+            differences.add(path + ": expected " + expected + " but it is missing");
+        }
+        return false;
+    }
+
+    private static boolean unexpected(Node actual, String path, Differences differences) {
+        if (differences != null) {
+            differences.add(path + ": unexpected " + actual);
+        }
+        return false;
+    }
+
+    private static String childPath(String path, String name, Differences differences) {
+        if (differences == null) {
+            return path;
+        }
+        return IDENTIFIER.matcher(name).matches() ? path + "." + name : path + "['" + name.replace("'", "\\'") + "']";
+    }
+
+    private static int mix(int hash) {
+        hash ^= hash >>> 16;
+        hash *= 0x85ebca6b;
+        hash ^= hash >>> 13;
+        hash *= 0xc2b2ae35;
+        return hash ^ (hash >>> 16);
+    }
+
+    private enum Kind {
+        OBJECT, ARRAY, STRING, NUMBER, BOOLEAN, NULL
+    }
+
+    /**
+     * The outcome of a comparison.
+     *
+     * @param passed           true if the documents matched
+     * @param differences      the first {@value #MAX_REPORTED_DIFFERENCES} differences, as JsonPath and description
+     * @param totalDifferences the number of differences that were found
+     */
+    public record Result(boolean passed, List<String> differences, int totalDifferences) {
+        /**
+         * @return a readable list of the reported differences, or an empty string if the documents matched
+         */
+        public String report() {
+            if (passed) {
+                return "";
+            }
+            var report = new StringBuilder(totalDifferences + (totalDifferences == 1 ? " difference" : " differences") + " found:");
+            differences.forEach(difference -> report.append(System.lineSeparator()).append(difference));
+            if (totalDifferences > differences.size()) {
+                report.append(System.lineSeparator()).append("... and ").append(totalDifferences - differences.size()).append(" more.");
+            }
+            return report.toString();
+        }
+    }
+
+    /**
+     * A parsed JSON value, along with its hashes. Objects are hashed regardless of the order of their members, and the
+     * unordered hash also ignores the order of array elements.
+     */
+    public static final class Node {
+        private static final Node NULL = new Node(Kind.NULL, null, null, null, 0x9e3779b9, 0x9e3779b9);
+        private final Kind kind;
+        private final Object value;
+        private final Map<String, Node> members;
+        private final List<Node> elements;
+        private final int orderedHash;
+        private final int unorderedHash;
+
+        private Node(Kind kind, Object value, Map<String, Node> members, List<Node> elements, int orderedHash, int unorderedHash) {
+            this.kind = kind;
+            this.value = value;
+            this.members = members;
+            this.elements = elements;
+            this.orderedHash = orderedHash;
+            this.unorderedHash = unorderedHash;
+        }
+
+        private static Node object(Map<String, Node> members) {
+            int orderedHash = Kind.OBJECT.ordinal();
+            int unorderedHash = Kind.OBJECT.ordinal();
+            for (var member : members.entrySet()) {
+                orderedHash += mix(member.getKey().hashCode() * 31 + member.getValue().orderedHash);
+                unorderedHash += mix(member.getKey().hashCode() * 31 + member.getValue().unorderedHash);
+            }
+            return new Node(Kind.OBJECT, null, members, null, orderedHash, unorderedHash);
+        }
+
+        private static Node array(List<Node> elements) {
+            int orderedHash = Kind.ARRAY.ordinal();
+            int unorderedHash = Kind.ARRAY.ordinal();
+            for (var element : elements) {
+                orderedHash = orderedHash * 31 + element.orderedHash;
+                unorderedHash += mix(element.unorderedHash);
+            }
+            return new Node(Kind.ARRAY, null, null, elements, orderedHash, unorderedHash);
+        }
+
+        private static Node string(String value) {
+            int hash = mix(value.hashCode() * 31 + Kind.STRING.ordinal());
+            return new Node(Kind.STRING, value, null, null, hash, hash);
+        }
+
+        private static Node number(BigDecimal value) {
+            // strip the trailing zeros, so that numbers with the same value are equal and have the same hash
+            var normalizedValue = value.signum() == 0 ? BigDecimal.ZERO : value.stripTrailingZeros();
+            int hash = mix(normalizedValue.hashCode() * 31 + Kind.NUMBER.ordinal());
+            return new Node(Kind.NUMBER, normalizedValue, null, null, hash, hash);
+        }
+
+        private static Node bool(boolean value) {
+            int hash = mix(Boolean.hashCode(value) * 31 + Kind.BOOLEAN.ordinal());
+            return new Node(Kind.BOOLEAN, value, null, null, hash, hash);
+        }
+
+        private int hash(boolean ignoreOrder) {
+            return ignoreOrder ? unorderedHash : orderedHash;
+        }
+
+        /**
+         * @return the compact JSON text of this value, shortened to {@value #MAX_VALUE_LENGTH} characters
+         */
+        @Override
+        public String toString() {
+            var text = new StringBuilder();
+            append(text);
+            return text.length() > MAX_VALUE_LENGTH ? text.substring(0, MAX_VALUE_LENGTH) + "..." : text.toString();
+        }
+
+        private void append(StringBuilder text) {
+            if (text.length() > MAX_VALUE_LENGTH) {
+                return;
+            }
+            switch (kind) {
+                case OBJECT -> {
+                    text.append('{');
+                    var separator = "";
+                    for (var member : members.entrySet()) {
+                        text.append(separator).append('"').append(JsonStringEncoder.getInstance().quoteAsString(member.getKey())).append("\":");
+                        member.getValue().append(text);
+                        separator = ",";
+                        if (text.length() > MAX_VALUE_LENGTH) {
+                            return;
+                        }
+                    }
+                    text.append('}');
+                }
+                case ARRAY -> {
+                    text.append('[');
+                    var separator = "";
+                    for (var element : elements) {
+                        text.append(separator);
+                        element.append(text);
+                        separator = ",";
+                        if (text.length() > MAX_VALUE_LENGTH) {
+                            return;
+                        }
+                    }
+                    text.append(']');
+                }
+                case STRING -> text.append('"').append(JsonStringEncoder.getInstance().quoteAsString((String) value)).append('"');
+                case NUMBER -> text.append(((BigDecimal) value).toPlainString());
+                default -> text.append(value);
+            }
+        }
+    }
+
+    private static final class Differences {
+        private final List<String> reported = new ArrayList<>();
+        private int count;
+
+        private void add(String difference) {
+            if (reported.size() < MAX_REPORTED_DIFFERENCES) {
+                reported.add(difference);
+            }
+            count++;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.shaft.api.internal;
+
+import com.jayway.jsonpath.Configuration;
+import com.jayway.jsonpath.JsonPath;
+import com.jayway.jsonpath.spi.json.JsonOrgJsonProvider;
+import com.shaft.tools.io.internal.TestDataCache;
+import io.restassured.response.Response;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The parsed JSON body of a {@link Response}, shared by all the JSON extraction and validation helpers.
+ * <p>
+ * The body is parsed once per response, the first time a JsonPath is evaluated against it, and the JsonPath expressions
+ * themselves are compiled once per process. Documents are held weakly, so they are discarded along with their response.
+ * When the body isn't valid JSON, the parsing exception is kept and thrown by every read, so callers handle it the same
+ * way they handle an invalid path.
+ * <p>
+ * Sample usage: {@code ResponseJsonDocument.of(response).read("$.data[0].id")}
+ */
+public final class ResponseJsonDocument {
+    private static final int MAX_COMPILED_PATHS = 1_000;
+    private static final Map<String, JsonPath> compiledPaths = new ConcurrentHashMap<>();
+    private static final Map<Response, ResponseJsonDocument> documents = Collections.synchronizedMap(new WeakHashMap<>());
+    private static final Configuration ORG_JSON_CONFIGURATION = Configuration.builder().jsonProvider(new JsonOrgJsonProvider()).build();
+    private final String body;
+    private Object json;
+    private RuntimeException jsonParsingException;
+    private Object embeddedJson;
+    private JSONException embeddedJsonParsingException;
+
+    private ResponseJsonDocument(String body) {
+        this.body = body;
+    }
+
+    /**
+     * @param response the target response
+     * @return the document of the target response, which is created once and reused by later calls
+     */
+    public static ResponseJsonDocument of(Response response) {
+        return documents.computeIfAbsent(response, target -> {
+            // responses that only provide their pretty-printed body are parsed from it
+            var body = target.asString();
+            return new ResponseJsonDocument(body != null ? body : target.asPrettyString());
+        });
+    }
+
+    /**
+     * @param jsonPath the JsonPath expression
+     * @return the compiled expression, which is cached for later calls
+     */
+    public static JsonPath compile(String jsonPath) {
+        var compiledPath = compiledPaths.get(jsonPath);
+        if (compiledPath == null) {
+            if (compiledPaths.size() >= MAX_COMPILED_PATHS) {
+                compiledPaths.clear();
+            }
+            compiledPath = compiledPaths.computeIfAbsent(jsonPath, JsonPath::compile);
+        }
+        return compiledPath;
+    }
+
+    /**
+     * Evaluates the JsonPath against the parsed body. List and map results are copies, so they can be modified safely.
+     *
+     * @param jsonPath the JsonPath expression
+     * @param <T>      the expected type of the result
+     * @return the matching value
+     * @throws com.jayway.jsonpath.PathNotFoundException if the path doesn't exist in the body
+     * @throws com.jayway.jsonpath.InvalidJsonException  if the body isn't valid JSON
+     */
+    public <T> T read(String jsonPath) {
+        return TestDataCache.copyOf(compile(jsonPath).read(getJson()));
+    }
+
+    /**
+     * Evaluates the JsonPath against the JSON object embedded in the body, between its first opening brace and its last
+     * closing brace. This handles JSON objects that are wrapped inside HTML or XML tags.
+     *
+     * @param jsonPath the JsonPath expression
+     * @param <T>      the expected type of the result, org.json types are used for objects and arrays
+     * @return the matching value
+     * @throws org.json.JSONException                    if the embedded JSON object is invalid
+     * @throws com.jayway.jsonpath.PathNotFoundException if the path doesn't exist in the embedded JSON object
+     */
+    public <T> T readEmbedded(String jsonPath) throws JSONException {
+        return compile(jsonPath).read(getEmbeddedJson(), ORG_JSON_CONFIGURATION);
+    }
+
+    private synchronized Object getJson() {
+        if (json == null && jsonParsingException == null) {
+            try {
+                json = Configuration.defaultConfiguration().jsonProvider().parse(body);
+            } catch (RuntimeException exception) {
+                jsonParsingException = exception;
+            }
+        }
+        if (jsonParsingException != null) {
+            throw jsonParsingException;
+        }
+        return json;
+    }
+
+    private synchronized Object getEmbeddedJson() throws JSONException {
+        if (embeddedJson == null && embeddedJsonParsingException == null) {
+            try {
+                embeddedJson = new JSONObject(body.substring(body.indexOf("{"), body.lastIndexOf("}") + 1));
+            } catch (JSONException exception) {
+                embeddedJsonParsingException = exception;
+            }
+        }
+        if (embeddedJsonParsingException != null) {
+            throw embeddedJsonParsingException;
+        }
+        return embeddedJson;
+    }
+}
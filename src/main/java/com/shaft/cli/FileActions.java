@@ -1,6 +1,10 @@
 package com.shaft.cli;
 
-import com.google.common.hash.Hashing;
+import com.jcraft.jsch.JSchException;
+import com.shaft.cli.internal.ArchiveEngine;
+import com.shaft.cli.internal.FileArrivalWatcher;
+import com.shaft.cli.internal.FileStreamingHelper;
+import com.shaft.cli.internal.SftpTransfers;
 import com.shaft.driver.SHAFT;
 import com.shaft.tools.internal.support.JavaHelper;
 import com.shaft.tools.io.PdfFileManager;
@@ -18,15 +22,13 @@ import java.net.JarURLConnection;
 import java.net.URI;
 import java.net.URL;
 import java.nio.file.*;
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
-import java.util.zip.ZipEntry;
-import java.util.zip.ZipFile;
-import java.util.zip.ZipOutputStream;
 
 public class FileActions {
-    private static final String ERROR_CANNOT_CREATE_DIRECTORY = "Could not create directory: ";
     private boolean internalInstance = false;
 
     public static FileActions getInstance() {
@@ -190,12 +192,10 @@ public class FileActions {
                                   String targetFileName, String... pathToTempDirectoryOnRemoteMachine) {
         String targetFilePath = copyFileToLocalMachine(terminalSession, targetFileFolderPath, targetFileName,
                 pathToTempDirectoryOnRemoteMachine);
-        // read file
-        byte[] fileBytes;
+        // hash the file in chunks so that large files are never fully loaded into memory
         String sha256 = "";
         try {
-            fileBytes = Files.readAllBytes(Paths.get(targetFilePath));
-            sha256 = Hashing.sha256().hashBytes(fileBytes).toString();
+            sha256 = FileStreamingHelper.sha256(Paths.get(targetFilePath));
         } catch (IOException rootCauseException) {
             failAction("Failed to read file \"" + targetFilePath + "\"", rootCauseException);
         }
@@ -245,29 +245,21 @@ public class FileActions {
         // fetch file from terminal session to local machine
         if (terminalSession.isRemoteTerminal()) {
             // remote regular
-            String sshParameters = "-i " + FileActions.getInstance(true).getAbsolutePath(terminalSession.getSshKeyFileFolderName(),
-                    terminalSession.getSshKeyFileName()) + " -P " + terminalSession.getSshPortNumber();
-
-            String pathToRemoteFileThatWillBeCopied = targetFilePath;
-            String source = terminalSession.getSshUsername() + "@" + terminalSession.getSshHostName() + ":"
-                    + pathToRemoteFileThatWillBeCopied;
-
             // creating local temp directory
             String pathToLocalParentFolder = FileActions.getInstance(true).getAbsolutePath("target/temp");
             FileActions.getInstance(true).deleteFolder(pathToLocalParentFolder);
             FileActions.getInstance(true).createFolder(pathToLocalParentFolder);
-
             String destination = pathToLocalParentFolder + "/" + targetFileName;
+            try {
+                // the parts of interrupted downloads are kept in their own folder, so that the next download resumes them
+                var result = SftpTransfers.download(terminalSession.sshTarget(), targetFilePath, Paths.get(destination),
+                        Paths.get(FileActions.getInstance(true).getAbsolutePath("target/sftp-parts")), this::logTransferProgress, (int) (SHAFT.Properties.timeouts.shellSessionTimeout() * 1000));
+                logTransferResult(result);
+            } catch (IOException | JSchException rootCauseException) {
+                failAction("Failed to copy \"" + targetFilePath + "\" from \"" + terminalSession.getSshHostName() + "\"",
+                        rootCauseException);
+            }
             targetFilePath = destination;
-
-            String command = "scp -v -o StrictHostKeyChecking=no " + sshParameters + " -r " + source + " "
-                    + destination;
-
-            // restricting file access to bypass jenkins issue
-            (new TerminalActions()).performTerminalCommand("chmod 400 " + FileActions
-                    .getInstance(true).getAbsolutePath(terminalSession.getSshKeyFileFolderName(), terminalSession.getSshKeyFileName()));
-
-            (new TerminalActions()).performTerminalCommand(command);
         }
         // else local regular
         // it's already on the local machine so no need to do anything here
@@ -281,6 +273,40 @@ public class FileActions {
         return targetFilePath;
     }
 
+    /**
+     * This method is used to copy a certain file from the current execution
+     * machine to a remote machine. The file is copied over SFTP in parallel
+     * chunks, and is verified against the checksum of the local file.
+     *
+     * @param terminalSession  provides information about the remote machine; in
+     *                         case of a dockerized terminal the file is copied
+     *                         to the machine that runs the container
+     * @param localFilePath    the full absolute path of the file on the current
+     *                         execution machine
+     * @param remoteFolderPath the full absolute path of the folder on the remote
+     *                         machine, must end with a slash "/"
+     * @return a string that holds the full absolute path of the file that was
+     * copied to the remote machine
+     */
+    public String copyFileToRemoteMachine(TerminalActions terminalSession, String localFilePath, String remoteFolderPath) {
+        String remoteFilePath = remoteFolderPath + Paths.get(localFilePath).getFileName();
+        if (!terminalSession.isRemoteTerminal()) {
+            // the execution machine is the target machine
+            FileActions.getInstance(true).copyFile(localFilePath, remoteFilePath);
+        } else {
+            try {
+                var result = SftpTransfers.upload(terminalSession.sshTarget(), Paths.get(localFilePath), remoteFilePath,
+                        this::logTransferProgress, (int) (SHAFT.Properties.timeouts.shellSessionTimeout() * 1000));
+                logTransferResult(result);
+            } catch (IOException | JSchException rootCauseException) {
+                failAction("Failed to copy \"" + localFilePath + "\" to \"" + terminalSession.getSshHostName() + "\"",
+                        rootCauseException);
+            }
+        }
+        passAction("Target File Path: \"" + remoteFilePath + "\"");
+        return remoteFilePath;
+    }
+
     /**
      * Deletes a file from the local storage
      *
@@ -370,6 +396,84 @@ public class FileActions {
         return text;
     }
 
+    /**
+     * Checks whether the target file contains the desired text. The file is streamed and the search stops at the first
+     * match, so this is safe to use with files that are too large to be read into memory.
+     *
+     * @param pathToTargetFile the path to the target file, relative to the project's root directory
+     * @param text             the text to look for, can span multiple lines
+     * @return true if the file contains the desired text, false if it doesn't
+     */
+    public boolean doesFileContain(String pathToTargetFile, String text) {
+        String absoluteFilePath = getAbsolutePath(pathToTargetFile);
+        boolean doesFileContain = false;
+        try {
+            doesFileContain = FileStreamingHelper.contains(Paths.get(absoluteFilePath), text);
+            passAction("File Path: \"" + absoluteFilePath + "\" | Text: \"" + text + "\"");
+        } catch (IOException rootCauseException) {
+            failAction(rootCauseException);
+        }
+        return doesFileContain;
+    }
+
+    /**
+     * Searches the target file line by line and returns all the lines that contain the desired text, without reading
+     * the whole file into memory.
+     *
+     * @param pathToTargetFile the path to the target file, relative to the project's root directory
+     * @param text             the text to look for
+     * @return a list of the matching lines, in order of appearance
+     */
+    public List<String> findLinesInFile(String pathToTargetFile, String text) {
+        String absoluteFilePath = getAbsolutePath(pathToTargetFile);
+        List<String> matchingLines = new ArrayList<>();
+        try {
+            matchingLines = FileStreamingHelper.findLines(Paths.get(absoluteFilePath), text);
+            passAction("File Path: \"" + absoluteFilePath + "\" | Text: \"" + text + "\"", String.join(System.lineSeparator(), matchingLines));
+        } catch (IOException rootCauseException) {
+            failAction(rootCauseException);
+        }
+        return matchingLines;
+    }
+
+    /**
+     * Reads the first lines of the target file, without reading the rest of it.
+     *
+     * @param pathToTargetFile the path to the target file, relative to the project's root directory
+     * @param numberOfLines    the number of lines to read
+     * @return the first lines of the target file
+     */
+    public String readFileHead(String pathToTargetFile, int numberOfLines) {
+        String absoluteFilePath = getAbsolutePath(pathToTargetFile);
+        String text = "";
+        try {
+            text = FileStreamingHelper.head(Paths.get(absoluteFilePath), numberOfLines);
+            passAction("File Path: \"" + absoluteFilePath + "\" | Number of Lines: \"" + numberOfLines + "\"", text);
+        } catch (IOException rootCauseException) {
+            failAction(rootCauseException);
+        }
+        return text;
+    }
+
+    /**
+     * Reads the last lines of the target file by scanning it backwards from the end, without reading the rest of it.
+     *
+     * @param pathToTargetFile the path to the target file, relative to the project's root directory
+     * @param numberOfLines    the number of lines to read
+     * @return the last lines of the target file
+     */
+    public String readFileTail(String pathToTargetFile, int numberOfLines) {
+        String absoluteFilePath = getAbsolutePath(pathToTargetFile);
+        String text = "";
+        try {
+            text = FileStreamingHelper.tail(Paths.get(absoluteFilePath), numberOfLines);
+            passAction("File Path: \"" + absoluteFilePath + "\" | Number of Lines: \"" + numberOfLines + "\"", text);
+        } catch (IOException rootCauseException) {
+            failAction(rootCauseException);
+        }
+        return text;
+    }
+
     /**
      * Tests whether the file or directory denoted by this abstract pathname exists.
      *
@@ -379,31 +483,88 @@ public class FileActions {
      * @param fileName        The name of the target file (including its extension
      *                        if any)
      * @param numberOfRetries number of times to try to find the file, given that
-     *                        each retry is separated by a 500 millisecond wait time
+     *                        each retry is separated by a 500 millisecond wait time.
+     *                        The wait ends as soon as the file is created.
      * @return true if the file exists, false if it doesn't
      */
     public boolean doesFileExist(String fileFolderName, String fileName, int numberOfRetries) {
         boolean doesFileExit = false;
-        int i = 0;
-        while (i < numberOfRetries) {
-            try {
-                doesFileExit = (new File(fileFolderName + fileName)).getAbsoluteFile().exists();
-            } catch (Exception rootCauseException) {
-                ReportManagerHelper.logDiscrete(rootCauseException);
-            }
-            if (Boolean.FALSE.equals(doesFileExit)) {
-                try {
-                    Thread.sleep(500);
-                } catch (Exception rootCauseException) {
-                    ReportManagerHelper.logDiscrete(rootCauseException);
-                }
-            }
-            i++;
+        var targetFile = new File(fileFolderName + fileName).getAbsoluteFile().toPath();
+        try {
+            doesFileExit = FileArrivalWatcher.waitForFile(targetFile.getParent(), targetFile.getFileName().toString(),
+                    Duration.ofMillis(500L * numberOfRetries));
+        } catch (InterruptedException rootCauseException) {
+            Thread.currentThread().interrupt();
+            ReportManagerHelper.logDiscrete(rootCauseException);
+        } catch (Exception rootCauseException) {
+            ReportManagerHelper.logDiscrete(rootCauseException);
         }
         passAction("File Path: \"" + fileFolderName + fileName + "\"");
         return doesFileExit;
     }
 
+    /**
+     * Waits for a downloaded file to be completely written, using the default
+     * fileDownloadTimeout (in seconds). The wait is event-driven, so it returns as
+     * soon as the download is complete instead of polling at a fixed interval.
+     *
+     * @param fileFolderName The location of the folder that contains the target
+     *                       file, relative to the project's root folder, ending
+     *                       with a /
+     * @param fileName       The name of the target file (including its extension
+     *                       if any)
+     * @return true if the download completed before the timeout, false otherwise
+     */
+    public boolean waitForFileToDownload(String fileFolderName, String fileName) {
+        return waitForFileToDownload(fileFolderName, fileName, Duration.ofSeconds(SHAFT.Properties.timeouts.fileDownloadTimeout()));
+    }
+
+    /**
+     * Waits for a downloaded file to be completely written. A download is
+     * considered complete once the browser's partial download file is gone and the
+     * file size has stopped changing.
+     *
+     * @param fileFolderName The location of the folder that contains the target
+     *                       file, relative to the project's root folder, ending
+     *                       with a /
+     * @param fileName       The name of the target file (including its extension
+     *                       if any)
+     * @param timeout        the maximum time to wait for the download
+     * @return true if the download completed before the timeout, false otherwise
+     */
+    public boolean waitForFileToDownload(String fileFolderName, String fileName, Duration timeout) {
+        boolean isDownloaded = false;
+        var targetFile = new File(fileFolderName + fileName).getAbsoluteFile().toPath();
+        try {
+            isDownloaded = FileArrivalWatcher.waitForDownload(targetFile.getParent(), targetFile.getFileName().toString(), timeout);
+        } catch (InterruptedException rootCauseException) {
+            Thread.currentThread().interrupt();
+            failAction(rootCauseException);
+        } catch (IOException rootCauseException) {
+            failAction(rootCauseException);
+        }
+        passAction("File Path: \"" + fileFolderName + fileName + "\" | Downloaded: \"" + isDownloaded + "\"");
+        return isDownloaded;
+    }
+
+    /**
+     * Waits for a downloaded file to be completely written on a virtual thread,
+     * so that the test can keep going while the download is in progress.
+     *
+     * @param fileFolderName The location of the folder that contains the target
+     *                       file, relative to the project's root folder, ending
+     *                       with a /
+     * @param fileName       The name of the target file (including its extension
+     *                       if any)
+     * @param timeout        the maximum time to wait for the download
+     * @return a future that completes with true if the download completed before
+     * the timeout, or false otherwise
+     */
+    public CompletableFuture<Boolean> waitForFileToDownloadAsync(String fileFolderName, String fileName, Duration timeout) {
+        var targetFile = new File(fileFolderName + fileName).getAbsoluteFile().toPath();
+        return FileArrivalWatcher.waitForDownloadAsync(targetFile.getParent(), targetFile.getFileName().toString(), timeout);
+    }
+
     public boolean doesFileExist(String targetFile) {
         boolean doesFileExit = false;
         try {
@@ -595,7 +756,7 @@ public class FileActions {
                         });
                 ReportManager.log("Archiving the following files:\n" + log);
             }
-            zipFolder(srcFolder, destZipFile);
+            ArchiveEngine.zip(Paths.get(srcFolder), Paths.get(destZipFile));
             result = true;
             passAction("Target Folder: \"" + srcFolder + "\" | Destination Archive: \"" + destZipFile + "\"");
         } catch (Exception rootCauseException) {
@@ -604,27 +765,27 @@ public class FileActions {
         return result;
     }
 
+    /**
+     * Extracts a zip archive directly from the target URL into the destination folder. The archive is streamed and
+     * extracted as it is being read, so it is never written to a temporary file.
+     *
+     * @param url                   the URL of the zip archive, can be a remote URL or a local file URL
+     * @param destinationFolderPath the folder that the archive content will be extracted to
+     * @return the destination folder
+     */
     @SuppressWarnings("UnusedReturnValue")
     public File unpackArchive(URL url, String destinationFolderPath) {
         File targetDir = new File(destinationFolderPath);
         if (!targetDir.exists() && !targetDir.mkdirs()) {
             failAction("file: " + url.toString() + " to directory: " + destinationFolderPath);
         }
-        File unpacked = null;
-        try (InputStream in = new BufferedInputStream(url.openStream(), 1024)) {
-            // make sure we get the actual file
-            File zip = File.createTempFile("archive_", url.toString().substring(url.toString().length() - 4), targetDir);
-            zip.deleteOnExit();
-            OutputStream out = new BufferedOutputStream(new FileOutputStream(zip));
-            copyInputStream(in, out);
-            out.close();
-            unpacked = unpackArchive(zip, targetDir);
+        try {
+            ArchiveEngine.unzip(url.openStream(), targetDir.toPath());
             passAction("Target URL\"" + url + "\" | Destination Folder: \"" + destinationFolderPath + "\"");
         } catch (IOException rootCauseException) {
-
             failAction("file: " + url + " to directory: " + destinationFolderPath, rootCauseException);
         }
-        return unpacked;
+        return targetDir;
     }
 
     public URL downloadFile(String targetFileURL, String destinationFilePath) {
@@ -664,6 +825,17 @@ public class FileActions {
         }
     }
 
+    private void logTransferProgress(SftpTransfers.Progress progress) {
+        ReportManager.logDiscrete("Transferred " + progress.percentage() + "% (" + progress.transferredBytes() + " of "
+                + progress.totalBytes() + " bytes) in " + progress.elapsed().toMillis() + "ms.");
+    }
+
+    private void logTransferResult(SftpTransfers.Result result) {
+        ReportManager.logDiscrete("Transferred \"" + result.path() + "\" (" + result.bytes() + " bytes, " + result.chunks()
+                + " chunks, " + result.resumedBytes() + " bytes resumed) in " + result.duration().toMillis() + "ms at "
+                + result.bytesPerSecond() / 1024 + " KB/s. SHA-256: \"" + result.sha256() + "\"");
+    }
+
     private void passAction(String testData) {
         if (!internalInstance) {
             String actionName = Thread.currentThread().getStackTrace()[2].getMethodName();
@@ -771,138 +943,4 @@ public class FileActions {
             failAction(rootCauseException);
         }
     }
-
-    private void zipFolder(String srcFolder, String destZipFile) {
-        /*
-         * create the output stream to zip file result
-         */
-        try (FileOutputStream fileWriter = new FileOutputStream(destZipFile);
-             ZipOutputStream zip = new ZipOutputStream(fileWriter)) {
-
-            /*
-             * add the folder to the zip
-             */
-            addFolderToZip("", srcFolder, zip);
-            /*
-             * close the zip objects
-             */
-            zip.flush();
-        } catch (IOException rootCauseException) {
-            failAction(rootCauseException);
-        }
-    }
-
-    private void addFileToZip(String path, String srcFile, ZipOutputStream zip, boolean flag)
-            throws IOException {
-        /*
-         * create the file object for inputs
-         */
-        File folder = new File(srcFile);
-
-        /*
-         * if the folder is empty add empty folder to the Zip file
-         */
-        if (flag) {
-            zip.putNextEntry(new ZipEntry(path + FileSystems.getDefault().getSeparator() + folder.getName()
-                    + FileSystems.getDefault().getSeparator()));
-        } else { /*
-         * if the current name is directory, recursively traverse it to get the files
-         */
-            if (folder.isDirectory()) {
-                /*
-                 * if folder is not empty
-                 */
-                addFolderToZip(path, srcFile, zip);
-            } else {
-                /*
-                 * write the file to the output
-                 */
-                try (FileInputStream in = new FileInputStream(srcFile)) {
-                    byte[] buf = new byte[1024];
-                    int len;
-                    zip.putNextEntry(new ZipEntry(path + FileSystems.getDefault().getSeparator() + folder.getName()));
-                    while ((len = in.read(buf)) > 0) {
-                        /*
-                         * Write the Result
-                         */
-                        zip.write(buf, 0, len);
-                    }
-                } catch (Exception rootCauseException) {
-                    failAction(rootCauseException);
-                }
-            }
-        }
-    }
-
-    private void addFolderToZip(String path, String srcFolder, ZipOutputStream zip) throws IOException {
-        File folder = new File(srcFolder);
-
-        /*
-         * check the empty folder
-         */
-        if (Objects.requireNonNull(folder.list()).length == 0) {
-            addFileToZip(path, srcFolder, zip, true);
-        } else {
-            /*
-             * list the files in the folder
-             */
-            for (String fileName : Objects.requireNonNull(folder.list())) {
-                if (path.isEmpty()) {
-                    addFileToZip(folder.getName(), srcFolder + FileSystems.getDefault().getSeparator() + fileName, zip,
-                            false);
-                } else {
-                    addFileToZip(path + FileSystems.getDefault().getSeparator() + folder.getName(),
-                            srcFolder + FileSystems.getDefault().getSeparator() + fileName, zip, false);
-                }
-            }
-        }
-    }
-
-    private File unpackArchive(File theFile, File targetDir) throws IOException {
-        if (!theFile.exists()) {
-            throw new IOException(theFile.getAbsolutePath() + " does not exist");
-        }
-        if (buildDirectory(targetDir)) {
-            throw new IOException(ERROR_CANNOT_CREATE_DIRECTORY + targetDir);
-        }
-
-        try (ZipFile zipFile = new ZipFile(theFile)) {
-            for (Enumeration<? extends ZipEntry> entries = zipFile.entries(); entries.hasMoreElements(); ) {
-                ZipEntry entry = entries.nextElement();
-                File file = new File(targetDir, File.separator + entry.getName());
-                if (!file.toPath().normalize().startsWith(targetDir.toPath()))
-                    throw new IOException("Bad zip entry");
-                if (buildDirectory(file.getParentFile())) {
-                    throw new IOException(ERROR_CANNOT_CREATE_DIRECTORY + file.getParentFile());
-                }
-                if (!entry.isDirectory()) {
-                    copyInputStream(zipFile.getInputStream(entry),
-                            new BufferedOutputStream(new FileOutputStream(file)));
-                } else {
-                    if (buildDirectory(file)) {
-                        throw new IOException(ERROR_CANNOT_CREATE_DIRECTORY + file);
-                    }
-                }
-            }
-        } catch (IOException e) {
-            throw new IOException(e);
-        }
-        passAction("Target File\"" + theFile.getAbsolutePath() + "\" | Destination Folder: \"" + targetDir + "\"");
-        return theFile;
-    }
-
-    private void copyInputStream(InputStream in, OutputStream out) throws IOException {
-        byte[] buffer = new byte[1024];
-        int len = in.read(buffer);
-        while (len >= 0) {
-            out.write(buffer, 0, len);
-            len = in.read(buffer);
-        }
-        in.close();
-        out.close();
-    }
-
-    private boolean buildDirectory(File file) {
-        return !file.exists() && !file.mkdirs();
-    }
 }
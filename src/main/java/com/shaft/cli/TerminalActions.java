@@ -1,9 +1,9 @@
 package com.shaft.cli;
 
 import com.jcraft.jsch.ChannelExec;
-import com.jcraft.jsch.JSch;
 import com.jcraft.jsch.JSchException;
-import com.jcraft.jsch.Session;
+import com.shaft.cli.internal.ContainerShellSessions;
+import com.shaft.cli.internal.SshSessionPool;
 import com.shaft.driver.SHAFT;
 import com.shaft.tools.io.ReportManager;
 import com.shaft.tools.io.internal.FailureReporter;
@@ -15,10 +15,10 @@ import java.io.BufferedReader;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.time.Duration;
 import java.util.*;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 @SuppressWarnings("unused")
 public class TerminalActions {
@@ -211,7 +211,12 @@ public class TerminalActions {
         }
 
         // Perform command
-        List<String> exitLogs = isRemoteTerminal() ? executeRemoteCommand(internalCommands, longCommand) : executeLocalCommand(internalCommands, longCommand);
+        List<String> exitLogs;
+        if (isDockerizedTerminal()) {
+            exitLogs = executeDockerCommand(String.join(" && ", commands), longCommand);
+        } else {
+            exitLogs = isRemoteTerminal() ? executeRemoteCommand(internalCommands, longCommand) : executeLocalCommand(internalCommands, longCommand);
+        }
         String log = exitLogs.get(0);
         String exitStatus = exitLogs.get(1);
 
@@ -243,6 +248,63 @@ public class TerminalActions {
         return performTerminalCommands(Collections.singletonList(command));
     }
 
+    /**
+     * Starts a local terminal command in the background, and returns right away. The command times out after
+     * {@code shellSessionTimeout} minutes.
+     *
+     * @param command the command to execute
+     * @return a handle to the running process, see {@link TerminalProcess}
+     */
+    public TerminalProcess startTerminalCommand(String command) {
+        return startTerminalCommand(command, null);
+    }
+
+    /**
+     * Starts a local terminal command in the background, and returns right away. The command times out after
+     * {@code shellSessionTimeout} minutes.
+     *
+     * @param command      the command to execute
+     * @param lineListener receives every line of the output as soon as it is written, or null
+     * @return a handle to the running process, see {@link TerminalProcess}
+     */
+    public TerminalProcess startTerminalCommand(String command, Consumer<String> lineListener) {
+        return startTerminalCommand(command, lineListener, Duration.ofMinutes(SHAFT.Properties.timeouts.shellSessionTimeout()));
+    }
+
+    /**
+     * Starts a local terminal command in the background, and returns right away.
+     *
+     * @param command      the command to execute
+     * @param lineListener receives every line of the output as soon as it is written, or null
+     * @param timeout      the time after which the process is stopped, or {@link Duration#ZERO} to let it run until it exits
+     * @return a handle to the running process, see {@link TerminalProcess}
+     */
+    public TerminalProcess startTerminalCommand(String command, Consumer<String> lineListener, Duration timeout) {
+        if (isRemoteTerminal()) {
+            failAction(command, new UnsupportedOperationException("Background commands are only supported by local terminals."));
+        }
+        String longCommand = buildLongCommand(Collections.singletonList(command));
+        try {
+            var process = new TerminalProcess(longCommand, getProcessBuilder(longCommand, System.getProperty("user.dir"), SystemUtils.IS_OS_WINDOWS),
+                    lineListener, timeout);
+            ReportManager.logDiscrete("Started: \"" + longCommand + "\" locally, with process ID \"" + process.pid() + "\".");
+            return process;
+        } catch (IOException exception) {
+            failAction(longCommand, exception);
+            return null;
+        }
+    }
+
+    /**
+     * Starts several local terminal commands in the background, so that they run concurrently, and returns right away.
+     *
+     * @param commands the commands to execute
+     * @return the handles to the running processes, in the same order as the commands
+     */
+    public List<TerminalProcess> startTerminalCommands(List<String> commands) {
+        return commands.stream().map(this::startTerminalCommand).toList();
+    }
+
     private void passAction(String actionName, String testData, String log) {
         reportActionResult(actionName, testData, log, true);
     }
@@ -262,27 +324,6 @@ public class TerminalActions {
         failAction(actionName, testData, rootCauseException);
     }
 
-    private Session createSSHsession() {
-        Session session = null;
-        String testData = sshHostName + ", " + sshPortNumber + ", " + sshUsername + ", " + sshKeyFileFolderName + ", "
-                + sshKeyFileName;
-        try {
-            Properties config = new Properties();
-            config.put("StrictHostKeyChecking", "no");
-            JSch jsch = new JSch();
-            if (sshKeyFileName != null && !sshKeyFileName.isEmpty()) {
-                jsch.addIdentity(FileActions.getInstance(true).getAbsolutePath(sshKeyFileFolderName, sshKeyFileName));
-            }
-            session = jsch.getSession(sshUsername, sshHostName, sshPortNumber);
-            session.setConfig(config);
-            session.connect();
-            ReportManager.logDiscrete("Successfully created SSH Session.");
-        } catch (JSchException rootCauseException) {
-            failAction(testData, rootCauseException);
-        }
-        return session;
-    }
-
     private String buildLongCommand(List<String> commands) {
         StringBuilder command = new StringBuilder();
         // build long command
@@ -356,18 +397,8 @@ public class TerminalActions {
                     exitStatuses.append(localProcess.exitValue());
                 } else {
                     exitStatuses.append("asynchronous");
-                    ScheduledExecutorService asynchronousProcessExecution = Executors.newScheduledThreadPool(1);
-                    asynchronousProcessExecution.schedule(() -> {
-                        try {
-                            pb.start();
-                            asynchronousProcessExecution.shutdown();
-                        } catch (Throwable throwable) {
-                            asynchronousProcessExecution.shutdownNow();
-                        }
-                    }, 0, TimeUnit.SECONDS);
-                    if (!asynchronousProcessExecution.awaitTermination(SHAFT.Properties.timeouts.shellSessionTimeout(), TimeUnit.MINUTES)) {
-                        asynchronousProcessExecution.shutdownNow();
-                    }
+                    // the output of the detached process is drained in the background, so that it never blocks on a full pipe
+                    new TerminalProcess(command, pb, null, Duration.ZERO);
                 }
             } catch (IOException | InterruptedException exception) {
                 failAction(longCommand, exception);
@@ -400,30 +431,53 @@ public class TerminalActions {
         // remote execution
         ReportManager.logDiscrete(
                 "Attempting to perform the following command remotely. Command: \"" + longCommand + "\"");
-        Session remoteSession = createSSHsession();
-        if (remoteSession != null) {
-            try {
-                remoteSession.setTimeout(sessionTimeout);
-                ChannelExec remoteChannelExecutor = (ChannelExec) remoteSession.openChannel("exec");
-                remoteChannelExecutor.setCommand(longCommand);
-                remoteChannelExecutor.connect();
-
-                // Capture logs and close readers
-                BufferedReader reader = new BufferedReader(new InputStreamReader(remoteChannelExecutor.getInputStream()));
-                BufferedReader errorReader = new BufferedReader(new InputStreamReader(remoteChannelExecutor.getErrStream()));
-                logs.append(readConsoleLogs(reader));
-                logs.append(readConsoleLogs(errorReader));
-
-                // Retrieve the exit status of the executed command and destroy open sessions
-                exitStatuses.append(remoteChannelExecutor.getExitStatus());
-                remoteSession.disconnect();
-            } catch (JSchException | IOException exception) {
-                failAction(longCommand, exception);
+        // the session is pooled, so only the first command to this target pays for the SSH handshake
+        try (var remoteChannel = SshSessionPool.openExecChannel(sshTarget(), longCommand, sessionTimeout)) {
+            ChannelExec remoteChannelExecutor = remoteChannel.exec();
+
+            // Capture logs and close readers
+            BufferedReader reader = new BufferedReader(new InputStreamReader(remoteChannelExecutor.getInputStream()));
+            BufferedReader errorReader = new BufferedReader(new InputStreamReader(remoteChannelExecutor.getErrStream()));
+            logs.append(readConsoleLogs(reader));
+            logs.append(readConsoleLogs(errorReader));
+
+            // Retrieve the exit status of the executed command, which is received right after the end of its output
+            long exitStatusDeadline = System.currentTimeMillis() + sessionTimeout;
+            while (!remoteChannelExecutor.isClosed() && System.currentTimeMillis() < exitStatusDeadline) {
+                Thread.sleep(10);
             }
+            exitStatuses.append(remoteChannelExecutor.getExitStatus());
+        } catch (JSchException | IOException exception) {
+            failAction(longCommand, exception);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            failAction(longCommand, exception);
         }
         return Arrays.asList(logs.toString(), exitStatuses.toString());
     }
 
+    private List<String> executeDockerCommand(String command, String longCommand) {
+        int sessionTimeout = Integer.parseInt(String.valueOf(SHAFT.Properties.timeouts.shellSessionTimeout() * 1000));
+        ReportManager.logDiscrete("Attempting to perform the following command inside the \"" + dockerName + "\" container. Command: \""
+                + command + "\"");
+        var target = new ContainerShellSessions.Target(isRemoteTerminal() ? sshTarget() : null, dockerName, dockerUsername);
+        // the shell of the container is kept open, so only the first command to this container pays for docker exec
+        // dockerized terminals are always synchronous and not verbose, the asynchronous and verbose flags are only set for local terminals
+        try {
+            var result = ContainerShellSessions.execute(target, command, SHAFT.Properties.timeouts.dockerCommandTimeout(), sessionTimeout);
+            return Arrays.asList(result.output(), String.valueOf(result.exitStatus()));
+        } catch (JSchException | IOException exception) {
+            failAction(longCommand, exception);
+            return Arrays.asList(null, "");
+        }
+    }
+
+    SshSessionPool.Target sshTarget() {
+        String keyFilePath = sshKeyFileName != null && !sshKeyFileName.isEmpty()
+                ? FileActions.getInstance(true).getAbsolutePath(sshKeyFileFolderName, sshKeyFileName) : null;
+        return new SshSessionPool.Target(sshHostName, sshPortNumber, sshUsername, keyFilePath);
+    }
+
     private String readConsoleLogs(BufferedReader reader) throws IOException {
         StringBuilder logBuilder = new StringBuilder();
         if (reader != null) {
@@ -0,0 +1,234 @@
+package com.shaft.cli;
+
+import com.shaft.tools.io.ReportManager;
+import com.shaft.tools.io.internal.ReportManagerHelper;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * A handle to a local terminal command that runs in the background, started by
+ * {@link TerminalActions#startTerminalCommand(String)}.
+ * <p>
+ * The standard output and error of the process are read line by line as soon as they are written, and every line is
+ * passed to the line listener, published to the subscribers of {@link #output()}, and appended to a log file inside
+ * {@link #LOG_FOLDER}. Only the last {@link #TAIL_LINES} lines are kept in memory and reported, so long-running and
+ * chatty commands don't buffer their whole output.
+ * <p>
+ * The process is stopped once its timeout expires: it is asked to terminate first, and is killed forcibly with its
+ * child processes if it is still running after {@link #KILL_GRACE_PERIOD}.
+ */
+public class TerminalProcess {
+    /**
+     * The number of output lines that are kept in memory and attached to the report.
+     */
+    public static final int TAIL_LINES = 100;
+    /**
+     * The time a process is given to terminate gracefully before it is killed forcibly.
+     */
+    public static final Duration KILL_GRACE_PERIOD = Duration.ofSeconds(5);
+    /**
+     * The folder that holds the full logs of the processes, which are referenced by the report.
+     */
+    public static final Path LOG_FOLDER = Path.of("target", "terminalLogs");
+
+    private final String command;
+    private final Process process;
+    private final Consumer<String> lineListener;
+    private final Path logFile;
+    private final BufferedWriter logWriter;
+    private final Deque<String> tail = new ArrayDeque<>(TAIL_LINES);
+    private final SubmissionPublisher<String> output = new SubmissionPublisher<>();
+    private final CompletableFuture<Integer> exitCode;
+    private volatile boolean timedOut = false;
+
+    TerminalProcess(String command, ProcessBuilder processBuilder, Consumer<String> lineListener, Duration timeout) throws IOException {
+        this.command = command;
+        this.lineListener = lineListener;
+        // the log is kept with the other outputs of the run, so that the path in the report stays valid after it
+        logFile = Files.createTempFile(Files.createDirectories(LOG_FOLDER), "shaft-terminal-", ".log");
+        logWriter = Files.newBufferedWriter(logFile, StandardCharsets.UTF_8);
+        try {
+            process = processBuilder.redirectErrorStream(false).start();
+        } catch (IOException exception) {
+            logWriter.close();
+            Files.deleteIfExists(logFile);
+            throw exception;
+        }
+        var standardOutput = read(process.getInputStream());
+        var standardError = read(process.getErrorStream());
+        // the exit code is only available once all the output was read, so that the log and the tail are complete
+        exitCode = CompletableFuture.allOf(standardOutput, standardError)
+                .thenCombine(process.onExit(), (ignored, exitedProcess) -> exitedProcess.exitValue())
+                .whenComplete((ignored, throwable) -> {
+                    closeLog();
+                    output.close();
+                });
+        if (timeout != null && !timeout.isZero() && !timeout.isNegative()) {
+            CompletableFuture.delayedExecutor(timeout.toMillis(), TimeUnit.MILLISECONDS).execute(() -> {
+                if (process.isAlive()) {
+                    timedOut = true;
+                    kill();
+                }
+            });
+        }
+    }
+
+    /**
+     * @return the command that this process executes
+     */
+    public String command() {
+        return command;
+    }
+
+    /**
+     * @return the native process ID
+     */
+    public long pid() {
+        return process.pid();
+    }
+
+    /**
+     * @return true if the process is still running
+     */
+    public boolean isAlive() {
+        return process.isAlive();
+    }
+
+    /**
+     * @return true if the process was stopped because its timeout expired
+     */
+    public boolean isTimedOut() {
+        return timedOut;
+    }
+
+    /**
+     * @return a future that completes with the exit code of the process once it exits and all its output was read
+     */
+    public CompletableFuture<Integer> exitCode() {
+        return exitCode;
+    }
+
+    /**
+     * Publishes the output lines of the process to its subscribers, and completes once the process exits. Subscribers
+     * only receive the lines that are written after they subscribe, and lines are dropped for subscribers that fall too
+     * far behind, so that a slow subscriber never blocks the process.
+     *
+     * @return the publisher of the output lines
+     */
+    public Flow.Publisher<String> output() {
+        return output;
+    }
+
+    /**
+     * @return the last {@link #TAIL_LINES} lines of the output
+     */
+    public String tail() {
+        synchronized (tail) {
+            return String.join(System.lineSeparator(), tail);
+        }
+    }
+
+    /**
+     * @return the file that holds the full output of the process, inside {@link #LOG_FOLDER}
+     */
+    public Path logFile() {
+        return logFile;
+    }
+
+    /**
+     * Asks the process and its child processes to terminate, and kills them forcibly if they are still running after
+     * {@link #KILL_GRACE_PERIOD}.
+     */
+    public void kill() {
+        process.descendants().forEach(ProcessHandle::destroy);
+        process.destroy();
+        process.onExit()
+                .orTimeout(KILL_GRACE_PERIOD.toMillis(), TimeUnit.MILLISECONDS)
+                .exceptionally(throwable -> {
+                    process.descendants().forEach(ProcessHandle::destroyForcibly);
+                    process.destroyForcibly();
+                    return process;
+                });
+    }
+
+    /**
+     * Waits for the process to exit, and reports its exit code along with the tail of its output.
+     *
+     * @return the exit code of the process
+     */
+    public int waitFor() {
+        int exitValue = exitCode.join();
+        String message = "Command \"" + command + "\" exited with status \"" + exitValue + "\""
+                + (timedOut ? " after its timeout expired" : "") + " | Full log: \"" + logFile + "\"";
+        List<Object> tailAttachment = Arrays.asList("Terminal Process", "Output Tail", tail());
+        ReportManagerHelper.log(message, List.of(tailAttachment));
+        return exitValue;
+    }
+
+    private CompletableFuture<Void> read(InputStream stream) {
+        var done = new CompletableFuture<Void>();
+        Thread.ofVirtual().name("SHAFT-Terminal-Output-" + process.pid()).start(() -> {
+            try (var reader = new BufferedReader(new InputStreamReader(stream))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    accept(line);
+                }
+            } catch (IOException exception) {
+                // the stream is closed when the process is killed, so the output ends here
+            } finally {
+                done.complete(null);
+            }
+        });
+        return done;
+    }
+
+    private void accept(String line) {
+        synchronized (tail) {
+            try {
+                logWriter.write(line);
+                logWriter.newLine();
+            } catch (IOException exception) {
+                // the log file is incomplete, but the output is still read so that the process is never blocked
+            }
+            if (tail.size() == TAIL_LINES) {
+                tail.removeFirst();
+            }
+            tail.addLast(line);
+        }
+        output.offer(line, (subscriber, droppedLine) -> false);
+        if (lineListener != null) {
+            try {
+                lineListener.accept(line);
+            } catch (RuntimeException exception) {
+                ReportManager.logDiscrete("Failed to handle the output of \"" + command + "\": " + exception.getMessage());
+            }
+        }
+    }
+
+    private void closeLog() {
+        synchronized (tail) {
+            try {
+                logWriter.close();
+            } catch (IOException exception) {
+                // the log file is incomplete, but the tail is still reported
+            }
+        }
+    }
+}
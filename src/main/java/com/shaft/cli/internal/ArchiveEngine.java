@@ -0,0 +1,198 @@
+package com.shaft.cli.internal;
+
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
+import org.apache.commons.compress.archivers.zip.ZipArchiveInputStream;
+import org.apache.commons.compress.archivers.zip.ZipArchiveOutputStream;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.ZipEntry;
+
+/**
+ * High-throughput zip archiving used by {@link com.shaft.cli.FileActions}.
+ * <p>
+ * Entries are deflated in parallel into memory and then written to the archive in their original (sorted) order as
+ * raw pre-compressed entries, so the archive layout stays deterministic. Media and archives that are already
+ * compressed are stored as-is, and files larger than {@link #MAX_IN_MEMORY_ENTRY_SIZE} are streamed directly by the
+ * assembling thread to keep memory bounded.
+ */
+public final class ArchiveEngine {
+    private static final int BUFFER_SIZE = 256 * 1024;
+    private static final long MAX_IN_MEMORY_ENTRY_SIZE = 32L * 1024 * 1024;
+    private static final Set<String> ALREADY_COMPRESSED_EXTENSIONS = Set.of(
+            "png", "gif", "jpg", "jpeg", "webp", "mp4", "webm", "avi", "mov", "mkv",
+            "zip", "gz", "tgz", "jar", "7z", "rar", "xz", "bz2", "woff", "woff2");
+
+    private ArchiveEngine() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Archives the target folder, including the folder itself as the root entry of the archive.
+     *
+     * @param sourceFolder       the folder that will be archived
+     * @param destinationArchive the path of the zip file that will be created
+     * @throws IOException if the folder cannot be read or the archive cannot be written
+     */
+    public static void zip(Path sourceFolder, Path destinationArchive) throws IOException {
+        var source = sourceFolder.toAbsolutePath().normalize();
+        var rootName = source.getFileName() == null ? "" : source.getFileName().toString() + "/";
+        List<Path> entries;
+        try (var walker = Files.walk(source)) {
+            entries = walker.filter(path -> !path.equals(source)).sorted().toList();
+        }
+        var parent = destinationArchive.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+
+        int parallelism = Math.max(1, Runtime.getRuntime().availableProcessors());
+        try (var executor = Executors.newFixedThreadPool(parallelism);
+             var zip = new ZipArchiveOutputStream(destinationArchive.toFile())) {
+            var pending = new ArrayDeque<PendingEntry>();
+            for (var path : entries) {
+                var entryName = rootName + source.relativize(path).toString().replace(File.separatorChar, '/');
+                if (Files.isDirectory(path)) {
+                    pending.add(new PendingEntry(path, entryName + "/", null));
+                } else if (Files.size(path) > MAX_IN_MEMORY_ENTRY_SIZE) {
+                    pending.add(new PendingEntry(path, entryName, null));
+                } else {
+                    pending.add(new PendingEntry(path, entryName, executor.submit(() -> compress(path))));
+                }
+                // keep a bounded window of compressed entries in memory
+                while (pending.size() > parallelism * 2) {
+                    writeEntry(zip, pending.poll());
+                }
+            }
+            while (!pending.isEmpty()) {
+                writeEntry(zip, pending.poll());
+            }
+            zip.finish();
+        }
+    }
+
+    /**
+     * Extracts a zip archive directly from a stream, without copying it to a temporary file first.
+     *
+     * @param archive           the archive stream, it will be closed once extraction is done
+     * @param destinationFolder the folder that the archive content will be extracted to
+     * @throws IOException if the archive is malformed, or an entry tries to escape the destination folder
+     */
+    public static void unzip(InputStream archive, Path destinationFolder) throws IOException {
+        var destination = destinationFolder.toAbsolutePath().normalize();
+        Files.createDirectories(destination);
+        try (var zip = new ZipArchiveInputStream(new BufferedInputStream(archive, BUFFER_SIZE), "UTF-8", true, true)) {
+            ZipArchiveEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                var target = destination.resolve(entry.getName()).normalize();
+                if (!target.startsWith(destination)) {
+                    throw new IOException("Bad zip entry: " + entry.getName());
+                }
+                if (entry.isDirectory()) {
+                    Files.createDirectories(target);
+                } else {
+                    Files.createDirectories(target.getParent());
+                    try (var out = new BufferedOutputStream(Files.newOutputStream(target), BUFFER_SIZE)) {
+                        zip.transferTo(out);
+                    }
+                }
+            }
+        }
+    }
+
+    static boolean isAlreadyCompressed(String fileName) {
+        int extensionIndex = fileName.lastIndexOf('.');
+        return extensionIndex >= 0 && ALREADY_COMPRESSED_EXTENSIONS.contains(fileName.substring(extensionIndex + 1).toLowerCase(Locale.ROOT));
+    }
+
+    private static CompressedEntry compress(Path file) throws IOException {
+        boolean store = isAlreadyCompressed(file.getFileName().toString());
+        var crc = new CRC32();
+        var compressed = new ByteArrayOutputStream((int) Math.min(Files.size(file), BUFFER_SIZE));
+        long size = 0;
+        var buffer = new byte[BUFFER_SIZE];
+        var deflater = store ? null : new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+        try (var in = Files.newInputStream(file);
+             OutputStream out = store ? compressed : new DeflaterOutputStream(compressed, deflater, BUFFER_SIZE)) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                crc.update(buffer, 0, read);
+                out.write(buffer, 0, read);
+                size += read;
+            }
+        } finally {
+            if (deflater != null) {
+                deflater.end();
+            }
+        }
+        return new CompressedEntry(store ? ZipEntry.STORED : ZipEntry.DEFLATED, crc.getValue(), size, compressed.toByteArray());
+    }
+
+    private static void writeEntry(ZipArchiveOutputStream zip, PendingEntry pending) throws IOException {
+        var entry = new ZipArchiveEntry(pending.name());
+        entry.setTime(Files.getLastModifiedTime(pending.path()).toMillis());
+        if (pending.name().endsWith("/")) {
+            entry.setMethod(ZipEntry.STORED);
+            entry.setSize(0);
+            entry.setCrc(0);
+            zip.putArchiveEntry(entry);
+            zip.closeArchiveEntry();
+        } else if (pending.compressedEntry() == null) {
+            // large file, streamed by the assembling thread
+            entry.setMethod(isAlreadyCompressed(pending.name()) ? ZipEntry.STORED : ZipEntry.DEFLATED);
+            if (entry.getMethod() == ZipEntry.STORED) {
+                entry.setSize(Files.size(pending.path()));
+                entry.setCrc(crc32(pending.path()));
+            }
+            zip.putArchiveEntry(entry);
+            try (var in = Files.newInputStream(pending.path())) {
+                in.transferTo(zip);
+            }
+            zip.closeArchiveEntry();
+        } else {
+            CompressedEntry compressed;
+            try {
+                compressed = pending.compressedEntry().get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while compressing " + pending.path());
+            } catch (ExecutionException e) {
+                throw e.getCause() instanceof IOException ioException ? ioException : new IOException(e.getCause());
+            }
+            entry.setMethod(compressed.method());
+            entry.setCrc(compressed.crc());
+            entry.setSize(compressed.size());
+            entry.setCompressedSize(compressed.data().length);
+            zip.addRawArchiveEntry(entry, new ByteArrayInputStream(compressed.data()));
+        }
+    }
+
+    private static long crc32(Path file) throws IOException {
+        var crc = new CRC32();
+        var buffer = new byte[BUFFER_SIZE];
+        try (var in = Files.newInputStream(file)) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                crc.update(buffer, 0, read);
+            }
+        }
+        return crc.getValue();
+    }
+
+    private record PendingEntry(Path path, String name, Future<CompressedEntry> compressedEntry) {
+    }
+
+    private record CompressedEntry(int method, long crc, long size, byte[] data) {
+    }
+}
@@ -0,0 +1,264 @@
+package com.shaft.cli.internal;
+
+import com.jcraft.jsch.JSchException;
+import com.shaft.driver.SHAFT;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Deque;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Process-wide pool of long-lived shells inside docker containers, used by dockerized TerminalActions.
+ * <p>
+ * Running every command through its own {@code docker exec} forks a local docker client, connects to the daemon and
+ * starts a new shell in the container. Instead, a shell is attached once with {@code docker exec -i <container> sh},
+ * either locally or over a pooled SSH channel (see {@link SshSessionPool}), and the following commands are written to
+ * its standard input. Every command is followed by an {@code echo} of a marker that is unique to the shell and of the
+ * exit status of the command, so that its output and exit status are read back from the standard output without
+ * waiting for the shell to exit.
+ * <p>
+ * Each command still runs in its own {@code sh -c} process with the configured timeout, so commands don't share their
+ * working directory or variables, just like with a dedicated {@code docker exec}. If the marker isn't read within
+ * {@link #READ_GRACE_PERIOD} after that timeout, the shell is closed and the command fails. A shell runs one command at
+ * a time, and parallel tests get additional shells, which are kept for the next commands to the same container. Shells
+ * that are idle for more than {@code sshSessionIdleTimeout} seconds are closed by a background thread, so that remote
+ * shells don't hold their SSH channels for the whole run.
+ */
+public final class ContainerShellSessions {
+    /**
+     * The time given to a command to report its exit status after its timeout expires inside the container.
+     */
+    public static final Duration READ_GRACE_PERIOD = Duration.ofSeconds(5);
+    private static final Map<Target, Deque<Shell>> idleShells = new ConcurrentHashMap<>();
+    private static final AtomicLong attachedShells = new AtomicLong();
+    private static final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        var thread = new Thread(runnable, "SHAFT-Container-Shell-Evictor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    static {
+        scheduler.scheduleWithFixedDelay(() -> evictIdleShells(Math.max(1, SHAFT.Properties.timeouts.sshSessionIdleTimeout()) * 1000L),
+                10, 10, TimeUnit.SECONDS);
+        Runtime.getRuntime().addShutdownHook(new Thread(ContainerShellSessions::clear));
+    }
+
+    private ContainerShellSessions() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Executes a command inside a container through an idle shell, attaching a new shell if there is none. If an idle
+     * shell was closed in the meantime, it is replaced by a new one and the command is sent again once.
+     *
+     * @param target         the container and the machine that runs it
+     * @param command        the command to execute
+     * @param timeoutSeconds the time after which the command is stopped inside the container
+     * @param timeoutMillis  the connection timeout in milliseconds, used when the container runs on a remote machine
+     * @return the combined standard output and error of the command, and its exit status
+     * @throws IOException   if the shell cannot be attached, exits before the command completes, or doesn't report the
+     *                       exit status of the command in time
+     * @throws JSchException if the SSH channel to the remote machine cannot be opened
+     */
+    public static Result execute(Target target, String command, int timeoutSeconds, int timeoutMillis) throws IOException, JSchException {
+        return execute(target, command, timeoutSeconds, timeoutMillis, Shell::attach);
+    }
+
+    static Result execute(Target target, String command, int timeoutSeconds, int timeoutMillis, Attacher attacher) throws IOException, JSchException {
+        var shells = idleShells.computeIfAbsent(target, key -> new ConcurrentLinkedDeque<>());
+        var deadline = Duration.ofSeconds(Math.max(0, timeoutSeconds)).plus(READ_GRACE_PERIOD);
+        for (int attempt = 1; ; attempt++) {
+            var idleShell = shells.pollFirst();
+            var shell = idleShell != null ? idleShell : attacher.attach(target, timeoutMillis);
+            boolean isReusable = false;
+            try {
+                var result = shell.execute(command, timeoutSeconds, deadline);
+                isReusable = true;
+                return result;
+            } catch (IOException exception) {
+                // a command that ran until its deadline is not sent again
+                if (idleShell == null || attempt > 1 || shell.isTimedOut()) {
+                    throw exception;
+                }
+            } finally {
+                // shells are only pooled after a complete command, any other failure leaves them in an unknown state
+                if (isReusable) {
+                    shell.lastUsed = System.currentTimeMillis();
+                    shells.addFirst(shell);
+                } else {
+                    shell.close();
+                }
+            }
+        }
+    }
+
+    /**
+     * @return the number of shells that were attached since the pool was created
+     */
+    public static long attachedShells() {
+        return attachedShells.get();
+    }
+
+    /**
+     * @return the number of idle shells in the pool
+     */
+    public static int idleShells() {
+        return idleShells.values().stream().mapToInt(Deque::size).sum();
+    }
+
+    /**
+     * Closes all the idle shells, and removes them from the pool.
+     */
+    public static void clear() {
+        idleShells.values().forEach(shells -> {
+            Shell shell;
+            while ((shell = shells.pollFirst()) != null) {
+                shell.close();
+            }
+        });
+    }
+
+    static void evictIdleShells(long idleTimeoutMillis) {
+        long now = System.currentTimeMillis();
+        idleShells.values().forEach(shells -> shells.forEach(shell -> {
+            // a shell that was borrowed in the meantime is not removed, so it is never closed while it is used
+            if (now - shell.lastUsed >= idleTimeoutMillis && shells.remove(shell)) {
+                shell.close();
+            }
+        }));
+    }
+
+    /**
+     * The container that a shell is attached to.
+     *
+     * @param remoteMachine the remote machine that runs the container, or null if it runs on the local machine
+     * @param containerName the name of the container
+     * @param username      the user that runs the commands inside the container
+     */
+    public record Target(SshSessionPool.Target remoteMachine, String containerName, String username) {
+    }
+
+    /**
+     * The outcome of a command.
+     *
+     * @param output     the combined standard output and error of the command
+     * @param exitStatus the exit status of the command
+     */
+    public record Result(String output, int exitStatus) {
+    }
+
+    /**
+     * Attaches a new shell to the target container.
+     */
+    @FunctionalInterface
+    interface Attacher {
+        Shell attach(Target target, int timeoutMillis) throws IOException, JSchException;
+    }
+
+    static final class Shell implements Closeable {
+        private final String marker = "__SHAFT_EXIT_STATUS_" + UUID.randomUUID().toString().replace("-", "") + "__";
+        private final BufferedReader reader;
+        private final Writer writer;
+        private final Closeable connection;
+        private volatile boolean timedOut = false;
+        private volatile long lastUsed = System.currentTimeMillis();
+
+        Shell(InputStream output, OutputStream input, Closeable connection) {
+            this.reader = new BufferedReader(new InputStreamReader(output, StandardCharsets.UTF_8));
+            this.writer = new OutputStreamWriter(input, StandardCharsets.UTF_8);
+            this.connection = connection;
+        }
+
+        /**
+         * Starts a shell process, with its standard error redirected to its standard output.
+         */
+        static Shell start(ProcessBuilder processBuilder) throws IOException {
+            var process = processBuilder.redirectErrorStream(true).start();
+            attachedShells.incrementAndGet();
+            return new Shell(process.getInputStream(), process.getOutputStream(), process::destroy);
+        }
+
+        private static Shell attach(Target target, int timeoutMillis) throws IOException, JSchException {
+            if (target.remoteMachine() == null) {
+                return start(new ProcessBuilder("docker", "exec", "-u", target.username(), "-i", target.containerName(), "sh"));
+            }
+            // the errors of the docker client are redirected, so that they are reported if the shell cannot start
+            var channel = SshSessionPool.openExecChannel(target.remoteMachine(),
+                    "docker exec -u " + target.username() + " -i " + target.containerName() + " sh 2>&1", timeoutMillis);
+            attachedShells.incrementAndGet();
+            return new Shell(channel.exec().getInputStream(), channel.exec().getOutputStream(), channel::close);
+        }
+
+        private Result execute(String command, int timeoutSeconds, Duration deadline) throws IOException {
+            // the shell is closed once the deadline passes, which ends the blocked read below
+            var closer = scheduler.schedule(() -> {
+                timedOut = true;
+                close();
+            }, deadline.toMillis(), TimeUnit.MILLISECONDS);
+            var output = new StringBuilder();
+            try {
+                // the command doesn't read the standard input of the shell, which holds the commands that follow it
+                writer.write("timeout " + timeoutSeconds + " sh -c '" + command + "' < /dev/null 2>&1; echo \"" + marker + "$?\"\n");
+                writer.flush();
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    int markerIndex = line.indexOf(marker);
+                    if (markerIndex < 0) {
+                        appendLine(output, line);
+                        continue;
+                    }
+                    // output that doesn't end with a new line is followed by the marker on the same line
+                    if (markerIndex > 0) {
+                        appendLine(output, line.substring(0, markerIndex));
+                    }
+                    return new Result(output.toString(), Integer.parseInt(line.substring(markerIndex + marker.length()).trim()));
+                }
+            } catch (IOException exception) {
+                if (!timedOut) {
+                    throw exception;
+                }
+            } finally {
+                closer.cancel(false);
+            }
+            throw new IOException((timedOut ? "The command didn't complete within " + deadline.toSeconds() + " seconds."
+                    : "The shell of the container exited before the command completed.")
+                    + (output.isEmpty() ? "" : " Output: " + output));
+        }
+
+        private boolean isTimedOut() {
+            return timedOut;
+        }
+
+        private static void appendLine(StringBuilder output, String line) {
+            if (!output.isEmpty()) {
+                output.append(System.lineSeparator());
+            }
+            output.append(line);
+        }
+
+        @Override
+        public void close() {
+            try {
+                connection.close();
+            } catch (IOException exception) {
+                // the shell is discarded anyway
+            }
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.shaft.cli.internal;
+
+import java.io.IOException;
+import java.nio.file.*;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static java.nio.file.StandardWatchEventKinds.*;
+
+/**
+ * Event-driven waits for files to appear and for downloads to finish, built on {@link WatchService}.
+ * <p>
+ * The waiting thread blocks on the watch service until the target folder changes instead of sleeping for a fixed
+ * interval, so a file that lands quickly is detected right away. Blocking on the watch service parks virtual threads
+ * without pinning their carrier, and {@link #waitForDownloadAsync(Path, String, Duration)} runs the wait on a virtual
+ * thread for callers that want to keep going while the download is in progress.
+ * <p>
+ * Some platforms only provide a polling watch service, so the target is also re-checked every
+ * {@link #FALLBACK_CHECK_INTERVAL} even if no event was received.
+ */
+public final class FileArrivalWatcher {
+    private static final List<String> PARTIAL_DOWNLOAD_SUFFIXES = List.of(".crdownload", ".part", ".partial", ".download");
+    private static final Duration STABILITY_PERIOD = Duration.ofMillis(300);
+    private static final Duration FALLBACK_CHECK_INTERVAL = Duration.ofMillis(500);
+
+    private FileArrivalWatcher() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Waits until the target file exists.
+     *
+     * @param folder   the folder that should contain the target file
+     * @param fileName the name of the target file
+     * @param timeout  the maximum time to wait
+     * @return true if the file exists before the timeout, false otherwise
+     * @throws IOException          if the folder cannot be watched
+     * @throws InterruptedException if the waiting thread is interrupted
+     */
+    public static boolean waitForFile(Path folder, String fileName, Duration timeout) throws IOException, InterruptedException {
+        return await(folder, fileName, timeout, false);
+    }
+
+    /**
+     * Waits until the target file exists and has finished downloading. A download is considered complete once there is
+     * no partial download file next to it (for example {@code report.pdf.crdownload} or {@code report.pdf.part}) and
+     * its size has not changed for a short stability period.
+     *
+     * @param folder   the folder that should contain the target file
+     * @param fileName the name of the target file
+     * @param timeout  the maximum time to wait
+     * @return true if the download completed before the timeout, false otherwise
+     * @throws IOException          if the folder cannot be watched
+     * @throws InterruptedException if the waiting thread is interrupted
+     */
+    public static boolean waitForDownload(Path folder, String fileName, Duration timeout) throws IOException, InterruptedException {
+        return await(folder, fileName, timeout, true);
+    }
+
+    /**
+     * Waits on a virtual thread until the target file has finished downloading.
+     *
+     * @param folder   the folder that should contain the target file
+     * @param fileName the name of the target file
+     * @param timeout  the maximum time to wait
+     * @return a future that completes with true if the download completed before the timeout, or false otherwise
+     */
+    public static CompletableFuture<Boolean> waitForDownloadAsync(Path folder, String fileName, Duration timeout) {
+        var future = new CompletableFuture<Boolean>();
+        Thread.ofVirtual().name("shaft-file-watcher-" + fileName).start(() -> {
+            try {
+                future.complete(waitForDownload(folder, fileName, timeout));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                future.completeExceptionally(e);
+            } catch (Throwable throwable) {
+                future.completeExceptionally(throwable);
+            }
+        });
+        return future;
+    }
+
+    private static boolean await(Path folder, String fileName, Duration timeout, boolean waitForCompletion) throws IOException, InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        var target = folder.resolve(fileName);
+        // browsers usually create the downloads folder lazily, so it may not be there yet
+        while (!Files.isDirectory(folder)) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return false;
+            }
+            TimeUnit.NANOSECONDS.sleep(Math.min(remaining, FALLBACK_CHECK_INTERVAL.toNanos()));
+        }
+
+        try (var watchService = folder.getFileSystem().newWatchService()) {
+            folder.register(watchService, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE);
+            long lastSize = -1;
+            long stableSince = 0;
+            while (true) {
+                boolean isCandidate = false;
+                if (Files.exists(target)) {
+                    if (!waitForCompletion) {
+                        return true;
+                    }
+                    if (!hasPartialDownload(folder, fileName)) {
+                        try {
+                            long size = Files.size(target);
+                            long now = System.nanoTime();
+                            long millisSinceLastModified = System.currentTimeMillis() - Files.getLastModifiedTime(target).toMillis();
+                            if (size == lastSize && now - stableSince >= STABILITY_PERIOD.toNanos()
+                                    || millisSinceLastModified >= STABILITY_PERIOD.toMillis()) {
+                                return true;
+                            }
+                            if (size != lastSize) {
+                                lastSize = size;
+                                stableSince = now;
+                            }
+                            isCandidate = true;
+                        } catch (NoSuchFileException e) {
+                            // the file was renamed or removed between the checks, wait for the next event
+                            lastSize = -1;
+                        }
+                    } else {
+                        lastSize = -1;
+                    }
+                }
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    return false;
+                }
+                long waitTime = Math.min(remaining, isCandidate ? STABILITY_PERIOD.toNanos() : FALLBACK_CHECK_INTERVAL.toNanos());
+                var key = watchService.poll(waitTime, TimeUnit.NANOSECONDS);
+                if (key != null) {
+                    key.pollEvents();
+                    key.reset();
+                }
+            }
+        }
+    }
+
+    private static boolean hasPartialDownload(Path folder, String fileName) {
+        return PARTIAL_DOWNLOAD_SUFFIXES.stream().anyMatch(suffix -> Files.exists(folder.resolve(fileName + suffix)));
+    }
+}
@@ -0,0 +1,253 @@
+package com.shaft.cli.internal;
+
+import com.google.common.hash.Hashing;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Bounded-memory readers for large files, used by {@link com.shaft.cli.FileActions} and the file validations.
+ * <p>
+ * None of these methods load the whole file into memory; they read through a fixed size buffer, so their heap usage
+ * does not depend on the size of the target file.
+ */
+public final class FileStreamingHelper {
+    /**
+     * Text files larger than this are validated by streaming instead of being read into a single string.
+     */
+    public static final long LARGE_FILE_THRESHOLD = 16L * 1024 * 1024;
+    private static final int BUFFER_SIZE = 1024 * 1024;
+    private static final int CHAR_BUFFER_SIZE = 64 * 1024;
+    private static final int PREVIEW_LENGTH = 1024;
+
+    private FileStreamingHelper() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    public static boolean isLargeFile(Path file) {
+        try {
+            return Files.isRegularFile(file) && Files.size(file) > LARGE_FILE_THRESHOLD;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Computes the SHA-256 checksum of a file by feeding it to the hasher in chunks through a reused direct buffer.
+     * A direct buffer is used instead of a memory mapping so that the file is not kept locked until the mapping is
+     * garbage collected, which would prevent deleting downloaded files on Windows.
+     *
+     * @param file the target file
+     * @return the lowercase hexadecimal SHA-256 checksum
+     * @throws IOException if the file cannot be read
+     */
+    public static String sha256(Path file) throws IOException {
+        var hasher = Hashing.sha256().newHasher();
+        var buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            while (channel.read(buffer) != -1) {
+                buffer.flip();
+                hasher.putBytes(buffer);
+                buffer.clear();
+            }
+        }
+        return hasher.hash().toString();
+    }
+
+    /**
+     * Checks whether the file contains the target text, including matches that span across line breaks.
+     * The search stops as soon as the first match is found.
+     *
+     * @param file the target file
+     * @param text the text to look for
+     * @return true if the text was found
+     * @throws IOException if the file cannot be read
+     */
+    public static boolean contains(Path file, String text) throws IOException {
+        if (text.isEmpty()) {
+            return true;
+        }
+        int overlap = text.length() - 1;
+        var window = new StringBuilder(CHAR_BUFFER_SIZE + overlap);
+        var buffer = new char[CHAR_BUFFER_SIZE];
+        try (var reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            int read;
+            while ((read = reader.read(buffer)) != -1) {
+                window.append(buffer, 0, read);
+                if (window.indexOf(text) >= 0) {
+                    return true;
+                }
+                // keep just enough of the tail to catch a match that spans two chunks
+                if (window.length() > overlap) {
+                    window.delete(0, window.length() - overlap);
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks whether the file content is exactly equal to the expected text, stopping at the first difference.
+     *
+     * @param file         the target file
+     * @param expectedText the expected file content
+     * @return true if the file content equals the expected text
+     * @throws IOException if the file cannot be read
+     */
+    public static boolean contentEquals(Path file, String expectedText) throws IOException {
+        var buffer = new char[CHAR_BUFFER_SIZE];
+        int offset = 0;
+        try (var reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            int read;
+            while ((read = reader.read(buffer)) != -1) {
+                if (offset + read > expectedText.length()) {
+                    return false;
+                }
+                for (int i = 0; i < read; i++) {
+                    if (buffer[i] != expectedText.charAt(offset + i)) {
+                        return false;
+                    }
+                }
+                offset += read;
+            }
+        }
+        return offset == expectedText.length();
+    }
+
+    /**
+     * Returns all the lines in the file that contain the target text, reading the file one line at a time.
+     *
+     * @param file the target file
+     * @param text the text to look for
+     * @return the matching lines, in order of appearance
+     * @throws IOException if the file cannot be read
+     */
+    public static List<String> findLines(Path file, String text) throws IOException {
+        var matchingLines = new ArrayList<String>();
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.contains(text)) {
+                    matchingLines.add(line);
+                }
+            }
+        }
+        return matchingLines;
+    }
+
+    /**
+     * Reads the first lines of a file.
+     *
+     * @param file          the target file
+     * @param numberOfLines the number of lines to read
+     * @return the first lines of the file, without the final line break
+     * @throws IOException if the file cannot be read
+     */
+    public static String head(Path file, int numberOfLines) throws IOException {
+        if (numberOfLines <= 0) {
+            return "";
+        }
+        var content = new ByteArrayOutputStream();
+        var buffer = ByteBuffer.allocate(CHAR_BUFFER_SIZE);
+        int lineBreaks = 0;
+        try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            while (channel.read(buffer) != -1) {
+                buffer.flip();
+                while (buffer.hasRemaining()) {
+                    byte currentByte = buffer.get();
+                    if (currentByte == '\n' && ++lineBreaks == numberOfLines) {
+                        return decodeLines(content.toByteArray());
+                    }
+                    content.write(currentByte);
+                }
+                buffer.clear();
+            }
+        }
+        return decodeLines(content.toByteArray());
+    }
+
+    /**
+     * Reads the last lines of a file by scanning it backwards from the end, so only the requested lines are read.
+     *
+     * @param file          the target file
+     * @param numberOfLines the number of lines to read
+     * @return the last lines of the file, without the final line break
+     * @throws IOException if the file cannot be read
+     */
+    public static String tail(Path file, int numberOfLines) throws IOException {
+        if (numberOfLines <= 0) {
+            return "";
+        }
+        try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long end = channel.size();
+            var buffer = ByteBuffer.allocate(CHAR_BUFFER_SIZE);
+            // a trailing line break terminates the last line, it doesn't start a new empty one
+            if (end > 0 && readFully(channel, buffer.limit(1), end - 1) && buffer.get(0) == '\n') {
+                end--;
+            }
+            long start = 0;
+            long position = end;
+            int lineBreaks = 0;
+            search:
+            while (position > 0) {
+                int length = (int) Math.min(buffer.capacity(), position);
+                position -= length;
+                buffer.clear().limit(length);
+                readFully(channel, buffer, position);
+                for (int i = length - 1; i >= 0; i--) {
+                    if (buffer.get(i) == '\n' && ++lineBreaks == numberOfLines) {
+                        start = position + i + 1;
+                        break search;
+                    }
+                }
+            }
+            var content = ByteBuffer.allocate((int) (end - start));
+            readFully(channel, content, start);
+            return decodeLines(content.array());
+        }
+    }
+
+    /**
+     * Reads a short prefix of the file to be used as the actual value in reports when the whole content is too
+     * large to be attached.
+     *
+     * @param file the target file
+     * @return the first characters of the file followed by an ellipsis if the file is longer
+     * @throws IOException if the file cannot be read
+     */
+    public static String preview(Path file) throws IOException {
+        var buffer = new char[PREVIEW_LENGTH];
+        try (var reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            int read = reader.read(buffer);
+            if (read <= 0) {
+                return "";
+            }
+            return new String(buffer, 0, read) + (reader.read() != -1 ? "..." : "");
+        }
+    }
+
+    private static boolean readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        buffer.position(0);
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position + buffer.position());
+            if (read == -1) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String decodeLines(byte[] content) {
+        var text = new String(content, StandardCharsets.UTF_8);
+        return text.endsWith("\r") ? text.substring(0, text.length() - 1) : text;
+    }
+}
@@ -0,0 +1,461 @@
+package com.shaft.cli.internal;
+
+import com.google.common.io.ByteStreams;
+import com.jcraft.jsch.ChannelSftp;
+import com.jcraft.jsch.JSchException;
+import com.jcraft.jsch.SftpException;
+import com.shaft.tools.io.ReportManager;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+import java.util.regex.Pattern;
+
+/**
+ * Transfers files between the local machine and a remote machine over SFTP, used by remote FileActions.
+ * <p>
+ * Files are split into chunks of {@link #CHUNK_SIZE} bytes, and up to {@link #PARALLEL_STREAMS} chunks are transferred
+ * at the same time, each over its own SFTP channel of a pooled SSH session (see {@link SshSessionPool}), so that large
+ * files are not limited by the window of a single channel. Every chunk is written to its own part file, which is named
+ * after the source file, its size and its modification time, and the part files are joined once all of them are
+ * complete. A chunk that fails is resumed from the end of its part file, and part files that are left behind by an
+ * interrupted transfer are resumed by the next transfer of the same file. Downloads keep their part files in a
+ * dedicated folder, where the part files that are older than {@link #STALE_PART_AGE} are deleted.
+ * <p>
+ * The progress only counts the bytes that are written to the local part files of a download, and the chunks of an
+ * upload once the remote machine confirmed all their bytes, so retried chunks are never counted twice.
+ * <p>
+ * The joined file is verified against the SHA-256 checksum of the source file, computed with {@code sha256sum} on the
+ * remote machine, so that the file is never read back over the network. The verification is skipped if the remote
+ * machine doesn't provide {@code sha256sum}.
+ */
+public final class SftpTransfers {
+    /**
+     * The size of the chunks that are transferred in parallel.
+     */
+    public static final long CHUNK_SIZE = 32L * 1024 * 1024;
+    /**
+     * The maximum number of chunks that are transferred at the same time.
+     */
+    public static final int PARALLEL_STREAMS = 4;
+    /**
+     * The age after which the part files of an abandoned download are deleted.
+     */
+    public static final Duration STALE_PART_AGE = Duration.ofDays(1);
+    private static final Pattern PART_FILE_NAME = Pattern.compile(".+\\.[0-9a-f]+\\.part\\d{6}");
+    private static final int CHUNK_ATTEMPTS = 3;
+    private static final int PROGRESS_STEPS = 10;
+
+    private SftpTransfers() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Downloads a file from a remote machine, replacing the local file if it exists.
+     *
+     * @param target           the remote machine and the credentials to use
+     * @param remoteFilePath   the absolute path of the file on the remote machine
+     * @param localFile        the path of the downloaded file on the local machine
+     * @param partsFolder      the local folder that keeps the part files until they are joined
+     * @param progressListener [OPTIONAL] notified every tenth of the transfer, or null
+     * @param timeoutMillis    the connection and socket timeout in milliseconds
+     * @return the outcome of the transfer
+     * @throws IOException   if the file cannot be transferred, or doesn't match the checksum of the remote file
+     * @throws JSchException if the SSH session or channel cannot be connected
+     */
+    public static Result download(SshSessionPool.Target target, String remoteFilePath, Path localFile, Path partsFolder,
+                                  Consumer<Progress> progressListener, int timeoutMillis) throws IOException, JSchException {
+        long start = System.nanoTime();
+        long size;
+        int modificationTime;
+        try (var channel = SshSessionPool.openSftpChannel(target, timeoutMillis)) {
+            var attributes = channel.sftp().stat(remoteFilePath);
+            size = attributes.getSize();
+            modificationTime = attributes.getMTime();
+        } catch (SftpException exception) {
+            throw new IOException("Failed to read the attributes of \"" + remoteFilePath + "\": " + exception.getMessage(), exception);
+        }
+        Path absoluteLocalFile = localFile.toAbsolutePath();
+        Files.createDirectories(absoluteLocalFile.getParent());
+        Files.createDirectories(partsFolder);
+        deleteStaleParts(partsFolder, STALE_PART_AGE);
+        // the local file is part of the fingerprint, so that downloads of the same file to different folders never share their parts
+        String partPrefix = partPrefix(partsFolder.resolve(absoluteLocalFile.getFileName()).toAbsolutePath().toString(),
+                remoteFilePath + " > " + absoluteLocalFile, size, modificationTime);
+        int chunks = chunks(size);
+        var parts = new ArrayList<Path>(chunks);
+        long resumedBytes = 0;
+        for (int chunk = 0; chunk < chunks; chunk++) {
+            Path part = Path.of(partName(partPrefix, chunk));
+            parts.add(part);
+            if (Files.exists(part)) {
+                resumedBytes += Math.min(Files.size(part), chunkLength(size, chunk));
+            }
+        }
+        var tracker = new Tracker(size, resumedBytes, start, progressListener);
+        transferInParallel(chunks, chunk -> downloadChunk(target, remoteFilePath, parts.get(chunk),
+                chunk * CHUNK_SIZE, chunkLength(size, chunk), tracker, timeoutMillis));
+        joinParts(parts, absoluteLocalFile);
+        String sha256 = FileStreamingHelper.sha256(absoluteLocalFile);
+        String remoteSha256 = remoteSha256(target, remoteFilePath, timeoutMillis);
+        if (remoteSha256 != null && !remoteSha256.equalsIgnoreCase(sha256)) {
+            Files.deleteIfExists(absoluteLocalFile);
+            throw new IOException("The downloaded file \"" + absoluteLocalFile + "\" doesn't match the SHA-256 checksum of \""
+                    + remoteFilePath + "\". Expected \"" + remoteSha256 + "\" but found \"" + sha256 + "\".");
+        }
+        return new Result(absoluteLocalFile.toString(), size, chunks, resumedBytes, Duration.ofNanos(System.nanoTime() - start), sha256);
+    }
+
+    /**
+     * Uploads a file to a remote machine, replacing the remote file if it exists.
+     *
+     * @param target           the remote machine and the credentials to use
+     * @param localFile        the path of the file on the local machine
+     * @param remoteFilePath   the absolute path of the uploaded file on the remote machine
+     * @param progressListener [OPTIONAL] notified every tenth of the transfer, or null
+     * @param timeoutMillis    the connection and socket timeout in milliseconds
+     * @return the outcome of the transfer
+     * @throws IOException   if the file cannot be transferred, or doesn't match the checksum of the local file
+     * @throws JSchException if the SSH session or channel cannot be connected
+     */
+    public static Result upload(SshSessionPool.Target target, Path localFile, String remoteFilePath,
+                                Consumer<Progress> progressListener, int timeoutMillis) throws IOException, JSchException {
+        long start = System.nanoTime();
+        Path absoluteLocalFile = localFile.toAbsolutePath();
+        long size = Files.size(absoluteLocalFile);
+        String partPrefix = partPrefix(remoteFilePath, absoluteLocalFile.toString(), size,
+                Files.getLastModifiedTime(absoluteLocalFile).toMillis());
+        int chunks = chunks(size);
+        long resumedBytes = 0;
+        try (var channel = SshSessionPool.openSftpChannel(target, timeoutMillis)) {
+            for (int chunk = 0; chunk < chunks; chunk++) {
+                resumedBytes += Math.min(remoteSize(channel.sftp(), partName(partPrefix, chunk)), chunkLength(size, chunk));
+            }
+        }
+        var tracker = new Tracker(size, resumedBytes, start, progressListener);
+        transferInParallel(chunks, chunk -> uploadChunk(target, absoluteLocalFile, partName(partPrefix, chunk),
+                chunk * CHUNK_SIZE, chunkLength(size, chunk), tracker, timeoutMillis));
+        // the part names are zero-padded, so the shell expands them in the order of their chunks
+        String parts = quote(partPrefix) + "*";
+        execute(target, "cat " + parts + " > " + quote(remoteFilePath) + " && rm -f " + parts, timeoutMillis);
+        String sha256 = FileStreamingHelper.sha256(absoluteLocalFile);
+        String remoteSha256 = remoteSha256(target, remoteFilePath, timeoutMillis);
+        if (remoteSha256 != null && !remoteSha256.equalsIgnoreCase(sha256)) {
+            throw new IOException("The uploaded file \"" + remoteFilePath + "\" doesn't match the SHA-256 checksum of \""
+                    + absoluteLocalFile + "\". Expected \"" + sha256 + "\" but found \"" + remoteSha256 + "\".");
+        }
+        return new Result(remoteFilePath, size, chunks, resumedBytes, Duration.ofNanos(System.nanoTime() - start), sha256);
+    }
+
+    private static void downloadChunk(SshSessionPool.Target target, String remoteFilePath, Path part, long offset,
+                                      long length, Tracker tracker, int timeoutMillis) throws IOException {
+        // the bytes of the part that were already counted, as resumed bytes first, then as they are written
+        var counted = new AtomicLong(Math.min(Files.exists(part) ? Files.size(part) : 0, length));
+        for (int attempt = 1; ; attempt++) {
+            long existing = Files.exists(part) ? Files.size(part) : 0;
+            if (existing > length) {
+                // the part doesn't belong to this chunk, so it is downloaded again
+                Files.delete(part);
+                existing = 0;
+            }
+            tracker.count(existing - counted.getAndSet(existing));
+            if (existing == length) {
+                if (!Files.exists(part)) {
+                    Files.createFile(part);
+                }
+                return;
+            }
+            try (var channel = SshSessionPool.openSftpChannel(target, timeoutMillis);
+                 InputStream input = ByteStreams.limit(channel.sftp().get(remoteFilePath, null, offset + existing), length - existing);
+                 OutputStream output = countingOutput(Files.newOutputStream(part, StandardOpenOption.CREATE, StandardOpenOption.APPEND), bytes -> {
+                     counted.addAndGet(bytes);
+                     tracker.count(bytes);
+                 })) {
+                input.transferTo(output);
+            } catch (IOException | JSchException | SftpException exception) {
+                if (attempt >= CHUNK_ATTEMPTS) {
+                    throw new IOException("Failed to download \"" + part.getFileName() + "\" after " + attempt + " attempts: "
+                            + exception.getMessage(), exception);
+                }
+                ReportManager.logDiscrete("Resuming the download of \"" + part.getFileName() + "\" after: " + exception.getMessage());
+            }
+        }
+    }
+
+    private static void uploadChunk(SshSessionPool.Target target, Path localFile, String part, long offset,
+                                    long length, Tracker tracker, int timeoutMillis) throws IOException {
+        // the bytes of the part that were already counted, as resumed bytes first, then once they are confirmed
+        long counted = -1;
+        for (int attempt = 1; ; attempt++) {
+            try (var channel = SshSessionPool.openSftpChannel(target, timeoutMillis);
+                 var file = FileChannel.open(localFile, StandardOpenOption.READ)) {
+                long existing = remoteSize(channel.sftp(), part);
+                if (counted < 0) {
+                    counted = Math.min(existing, length);
+                }
+                if (existing > length) {
+                    // the part doesn't belong to this chunk, so it is uploaded again
+                    channel.sftp().rm(part);
+                    existing = 0;
+                }
+                tracker.count(existing - counted);
+                counted = existing;
+                // resumed uploads skip the bytes that the remote part already holds
+                InputStream input = ByteStreams.limit(Channels.newInputStream(file.position(offset)), length);
+                channel.sftp().put(input, part, ChannelSftp.RESUME);
+                // put returns once the remote machine acknowledged all the written bytes
+                tracker.count(length - counted);
+                return;
+            } catch (IOException | JSchException | SftpException exception) {
+                if (attempt >= CHUNK_ATTEMPTS) {
+                    throw new IOException("Failed to upload \"" + part + "\" after " + attempt + " attempts: "
+                            + exception.getMessage(), exception);
+                }
+                ReportManager.logDiscrete("Resuming the upload of \"" + part + "\" after: " + exception.getMessage());
+            }
+        }
+    }
+
+    private static void transferInParallel(int chunks, ChunkTransfer transfer) throws IOException {
+        var nextChunk = new AtomicInteger();
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<Void>> streams = new ArrayList<>();
+            for (int stream = 0; stream < Math.min(chunks, PARALLEL_STREAMS); stream++) {
+                streams.add(executor.submit(() -> {
+                    int chunk;
+                    while ((chunk = nextChunk.getAndIncrement()) < chunks) {
+                        transfer.accept(chunk);
+                    }
+                    return null;
+                }));
+            }
+            for (var stream : streams) {
+                try {
+                    stream.get();
+                } catch (ExecutionException exception) {
+                    // the other streams stop once the remaining chunks are taken
+                    nextChunk.set(chunks);
+                    switch (exception.getCause()) {
+                        case IOException ioException -> throw ioException;
+                        case RuntimeException runtimeException -> throw runtimeException;
+                        default -> throw new IOException(exception.getCause());
+                    }
+                } catch (InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException("The transfer was interrupted.", exception);
+                }
+            }
+        }
+    }
+
+    private static String remoteSha256(SshSessionPool.Target target, String remoteFilePath, int timeoutMillis) throws JSchException {
+        try {
+            String output = execute(target, "sha256sum " + quote(remoteFilePath), timeoutMillis).trim();
+            return output.isEmpty() ? null : output.split("\\s+")[0];
+        } catch (IOException exception) {
+            ReportManager.logDiscrete("Skipping the checksum verification of \"" + remoteFilePath + "\": " + exception.getMessage());
+            return null;
+        }
+    }
+
+    private static String execute(SshSessionPool.Target target, String command, int timeoutMillis) throws IOException, JSchException {
+        try (var channel = SshSessionPool.openExecChannel(target, command + " 2>&1", timeoutMillis)) {
+            String output = new String(channel.exec().getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+            // the exit status is received right after the end of the output
+            long exitStatusDeadline = System.currentTimeMillis() + timeoutMillis;
+            while (!channel.exec().isClosed() && System.currentTimeMillis() < exitStatusDeadline) {
+                Thread.sleep(10);
+            }
+            if (channel.exec().getExitStatus() != 0) {
+                throw new IOException("Command \"" + command + "\" exited with status \"" + channel.exec().getExitStatus()
+                        + "\". Output: " + output.trim());
+            }
+            return output;
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Command \"" + command + "\" was interrupted.", exception);
+        }
+    }
+
+    private static long remoteSize(ChannelSftp sftp, String remoteFilePath) {
+        try {
+            return sftp.stat(remoteFilePath).getSize();
+        } catch (SftpException exception) {
+            // the part doesn't exist yet
+            return 0;
+        }
+    }
+
+    private static int chunks(long size) {
+        return (int) Math.max(1, (size + CHUNK_SIZE - 1) / CHUNK_SIZE);
+    }
+
+    private static long chunkLength(long size, int chunk) {
+        return Math.min(CHUNK_SIZE, size - chunk * CHUNK_SIZE);
+    }
+
+    /**
+     * @param destination      the path of the transferred file, or of its part files, on its destination machine
+     * @param source           identifies the source of the transfer
+     * @param size             the size of the source file
+     * @param modificationTime the modification time of the source file
+     * @return the common prefix of the part files, which changes whenever the source file changes
+     */
+    static String partPrefix(String destination, String source, long size, long modificationTime) {
+        return destination + "." + Integer.toHexString((source + ":" + size + ":" + modificationTime).hashCode()) + ".part";
+    }
+
+    /**
+     * @return the name of the part file of a chunk, zero-padded so that the part files sort in the order of their chunks
+     */
+    static String partName(String partPrefix, int chunk) {
+        return partPrefix + String.format("%06d", chunk);
+    }
+
+    /**
+     * Joins the part files into the target file in order, then deletes them. The parts are joined by the file system,
+     * without copying them through the heap.
+     */
+    static void joinParts(List<Path> parts, Path file) throws IOException {
+        try (var output = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            for (var part : parts) {
+                try (var input = FileChannel.open(part, StandardOpenOption.READ)) {
+                    long position = 0;
+                    while (position < input.size()) {
+                        position += input.transferTo(position, input.size() - position, output);
+                    }
+                }
+            }
+        }
+        for (var part : parts) {
+            Files.deleteIfExists(part);
+        }
+    }
+
+    /**
+     * Deletes the part files of the folder that were not written to for longer than the maximum age.
+     *
+     * @return the number of deleted part files
+     */
+    static int deleteStaleParts(Path folder, Duration maxAge) throws IOException {
+        long oldestModificationTime = System.currentTimeMillis() - maxAge.toMillis();
+        int deletedParts = 0;
+        try (var files = Files.list(folder)) {
+            for (var file : files.toList()) {
+                if (PART_FILE_NAME.matcher(file.getFileName().toString()).matches() && Files.isRegularFile(file)
+                        && Files.getLastModifiedTime(file).toMillis() < oldestModificationTime && Files.deleteIfExists(file)) {
+                    deletedParts++;
+                }
+            }
+        }
+        return deletedParts;
+    }
+
+    private static OutputStream countingOutput(OutputStream output, LongConsumer counter) {
+        return new FilterOutputStream(output) {
+            @Override
+            public void write(int b) throws IOException {
+                out.write(b);
+                counter.accept(1);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                out.write(b, off, len);
+                counter.accept(len);
+            }
+        };
+    }
+
+    private static String quote(String path) {
+        return "'" + path.replace("'", "'\\''") + "'";
+    }
+
+    /**
+     * The progress of a transfer.
+     *
+     * @param transferredBytes the number of bytes that were transferred so far, including the resumed bytes
+     * @param totalBytes       the size of the file
+     * @param elapsed          the time since the transfer started
+     */
+    public record Progress(long transferredBytes, long totalBytes, Duration elapsed) {
+        /**
+         * @return the transferred percentage of the file
+         */
+        public int percentage() {
+            return totalBytes == 0 ? 100 : (int) (transferredBytes * 100 / totalBytes);
+        }
+    }
+
+    /**
+     * The outcome of a transfer.
+     *
+     * @param path         the path of the transferred file on its destination machine
+     * @param bytes        the size of the file
+     * @param chunks       the number of chunks that the file was transferred in
+     * @param resumedBytes the number of bytes that were left by an interrupted transfer, and were not transferred again
+     * @param duration     the time the transfer took, including the checksum verification
+     * @param sha256       the SHA-256 checksum of the file
+     */
+    public record Result(String path, long bytes, int chunks, long resumedBytes, Duration duration, String sha256) {
+        /**
+         * @return the number of bytes that were transferred per second
+         */
+        public long bytesPerSecond() {
+            return (bytes - resumedBytes) * 1000 / Math.max(1, duration.toMillis());
+        }
+    }
+
+    @FunctionalInterface
+    private interface ChunkTransfer {
+        void accept(int chunk) throws IOException;
+    }
+
+    private static final class Tracker {
+        private final long totalBytes;
+        private final long start;
+        private final Consumer<Progress> listener;
+        private final AtomicLong transferredBytes;
+        private final AtomicInteger reportedStep = new AtomicInteger();
+
+        private Tracker(long totalBytes, long resumedBytes, long start, Consumer<Progress> listener) {
+            this.totalBytes = totalBytes;
+            this.start = start;
+            this.listener = listener;
+            this.transferredBytes = new AtomicLong(resumedBytes);
+        }
+
+        /**
+         * @param count the number of confirmed bytes, which is negative if a part is transferred again
+         */
+        private void count(long count) {
+            long transferred = transferredBytes.addAndGet(count);
+            if (listener != null && totalBytes > 0) {
+                int step = (int) (transferred * PROGRESS_STEPS / totalBytes);
+                int previousStep = reportedStep.get();
+                // only one of the parallel streams reports each step
+                if (step > previousStep && reportedStep.compareAndSet(previousStep, step)) {
+                    listener.accept(new Progress(transferred, totalBytes, Duration.ofNanos(System.nanoTime() - start)));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,269 @@
+package com.shaft.cli.internal;
+
+import com.jcraft.jsch.ChannelExec;
+import com.jcraft.jsch.ChannelSftp;
+import com.jcraft.jsch.JSch;
+import com.jcraft.jsch.JSchException;
+import com.jcraft.jsch.Session;
+import com.shaft.driver.SHAFT;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Process-wide pool of SSH sessions, used by remote TerminalActions and remote FileActions.
+ * <p>
+ * Connecting a new session loads the identity and performs a full SSH handshake, so sessions are kept open and reused
+ * by the following commands to the same host, port, user and key file. Every command and file transfer runs in its own
+ * channel, and up to {@link #MAX_CHANNELS_PER_SESSION} channels are multiplexed over a session, which stays below the
+ * default {@code MaxSessions} limit of OpenSSH. Parallel tests that need more channels get additional sessions.
+ * <p>
+ * Sessions send a keep-alive every {@code sshKeepAliveInterval} seconds, sessions that are idle for more than
+ * {@code sshSessionIdleTimeout} seconds are closed by a background thread, and broken sessions are replaced by new
+ * ones the next time a channel is opened.
+ */
+public final class SshSessionPool {
+    public static final int MAX_CHANNELS_PER_SESSION = 8;
+    private static final int KEEP_ALIVE_COUNT_MAX = 3;
+    private static final Map<Target, List<PooledSession>> sessions = new ConcurrentHashMap<>();
+    private static final AtomicLong connectedSessions = new AtomicLong();
+    private static final ScheduledExecutorService evictor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        var thread = new Thread(runnable, "SHAFT-SSH-Session-Evictor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    static {
+        evictor.scheduleWithFixedDelay(SshSessionPool::evictIdleSessions, 10, 10, TimeUnit.SECONDS);
+        Runtime.getRuntime().addShutdownHook(new Thread(SshSessionPool::clear));
+    }
+
+    private SshSessionPool() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Opens an exec channel over a pooled session, connecting a new session if none of the open ones has a free channel.
+     * If the channel cannot be opened because the session was dropped, the session is replaced and the channel is
+     * opened again once.
+     *
+     * @param target         the remote machine and the credentials to use
+     * @param command        the command to execute
+     * @param timeoutMillis  the connection and socket timeout in milliseconds
+     * @return the connected channel, which must be closed to return its slot to the pool
+     * @throws JSchException if the session or the channel cannot be connected
+     */
+    public static Channel openExecChannel(Target target, String command, int timeoutMillis) throws JSchException {
+        return openChannel(target, "exec", channel -> ((ChannelExec) channel).setCommand(command), timeoutMillis);
+    }
+
+    /**
+     * Opens an SFTP channel over a pooled session, the same way as {@link #openExecChannel(Target, String, int)}.
+     *
+     * @param target         the remote machine and the credentials to use
+     * @param timeoutMillis  the connection and socket timeout in milliseconds
+     * @return the connected channel, which must be closed to return its slot to the pool
+     * @throws JSchException if the session or the channel cannot be connected
+     */
+    public static Channel openSftpChannel(Target target, int timeoutMillis) throws JSchException {
+        return openChannel(target, "sftp", channel -> {
+        }, timeoutMillis);
+    }
+
+    private static Channel openChannel(Target target, String type, Consumer<com.jcraft.jsch.Channel> configurer, int timeoutMillis)
+            throws JSchException {
+        for (int attempt = 1; ; attempt++) {
+            var pooledSession = acquire(target, timeoutMillis);
+            try {
+                var channel = pooledSession.session.openChannel(type);
+                configurer.accept(channel);
+                channel.connect(timeoutMillis);
+                return new Channel(channel, pooledSession);
+            } catch (JSchException exception) {
+                pooledSession.release();
+                if (pooledSession.session.isConnected() || attempt > 1) {
+                    throw exception;
+                }
+                // the session was dropped by the server or the network, so it is replaced by a new one
+                remove(target, pooledSession);
+            }
+        }
+    }
+
+    /**
+     * @return the number of SSH handshakes performed since the pool was created
+     */
+    public static long connectedSessions() {
+        return connectedSessions.get();
+    }
+
+    /**
+     * @return the number of open sessions in the pool
+     */
+    public static int openSessions() {
+        return sessions.values().stream().mapToInt(List::size).sum();
+    }
+
+    /**
+     * Disconnects all the pooled sessions, and removes them from the pool.
+     */
+    public static void clear() {
+        sessions.forEach((target, targetSessions) -> {
+            synchronized (targetSessions) {
+                targetSessions.forEach(pooledSession -> pooledSession.session.disconnect());
+                targetSessions.clear();
+            }
+        });
+        sessions.clear();
+    }
+
+    private static PooledSession acquire(Target target, int timeoutMillis) throws JSchException {
+        var targetSessions = sessions.computeIfAbsent(target, key -> new ArrayList<>());
+        synchronized (targetSessions) {
+            targetSessions.removeIf(pooledSession -> {
+                if (!pooledSession.session.isConnected() && pooledSession.channels == 0) {
+                    pooledSession.session.disconnect();
+                    return true;
+                }
+                return false;
+            });
+            for (var pooledSession : targetSessions) {
+                if (pooledSession.session.isConnected() && pooledSession.channels < MAX_CHANNELS_PER_SESSION) {
+                    pooledSession.channels++;
+                    return pooledSession;
+                }
+            }
+            // sessions are connected while holding the lock, so that parallel tests don't race to open extra sessions
+            var pooledSession = new PooledSession(connect(target, timeoutMillis), targetSessions);
+            pooledSession.channels++;
+            targetSessions.add(pooledSession);
+            return pooledSession;
+        }
+    }
+
+    private static Session connect(Target target, int timeoutMillis) throws JSchException {
+        Session session = newSession(target);
+        session.connect(timeoutMillis);
+        connectedSessions.incrementAndGet();
+        return session;
+    }
+
+    /**
+     * Creates a session that is not connected yet. JSch sends its keep-alive messages when the socket read times out,
+     * so the socket timeout of the session is its keep-alive interval, and it must not be changed after connecting.
+     */
+    static Session newSession(Target target) throws JSchException {
+        Properties config = new Properties();
+        config.put("StrictHostKeyChecking", "no");
+        JSch jsch = new JSch();
+        if (target.keyFilePath() != null && !target.keyFilePath().isEmpty()) {
+            jsch.addIdentity(target.keyFilePath());
+        }
+        Session session = jsch.getSession(target.username(), target.hostName(), target.portNumber());
+        session.setConfig(config);
+        session.setServerAliveInterval(Math.max(1, SHAFT.Properties.timeouts.sshKeepAliveInterval()) * 1000);
+        session.setServerAliveCountMax(KEEP_ALIVE_COUNT_MAX);
+        return session;
+    }
+
+    private static void remove(Target target, PooledSession pooledSession) {
+        var targetSessions = sessions.get(target);
+        if (targetSessions != null) {
+            synchronized (targetSessions) {
+                targetSessions.remove(pooledSession);
+            }
+        }
+        pooledSession.session.disconnect();
+    }
+
+    private static void evictIdleSessions() {
+        long idleTimeoutMillis = Math.max(1, SHAFT.Properties.timeouts.sshSessionIdleTimeout()) * 1000L;
+        long now = System.currentTimeMillis();
+        sessions.values().forEach(targetSessions -> {
+            synchronized (targetSessions) {
+                targetSessions.removeIf(pooledSession -> {
+                    if (pooledSession.channels == 0 && (!pooledSession.session.isConnected()
+                            || now - pooledSession.lastUsed > idleTimeoutMillis)) {
+                        pooledSession.session.disconnect();
+                        return true;
+                    }
+                    return false;
+                });
+            }
+        });
+    }
+
+    /**
+     * The remote machine and the credentials that a pooled session is connected with.
+     *
+     * @param hostName    the IP address or host name of the remote machine
+     * @param portNumber  the port of the SSH service
+     * @param username    the username to log in with
+     * @param keyFilePath the absolute path of the SSH key file, or null to log in without a key
+     */
+    public record Target(String hostName, int portNumber, String username, String keyFilePath) {
+    }
+
+    /**
+     * A channel borrowed from a pooled session.
+     */
+    public static final class Channel implements AutoCloseable {
+        private final com.jcraft.jsch.Channel channel;
+        private final PooledSession owner;
+
+        private Channel(com.jcraft.jsch.Channel channel, PooledSession owner) {
+            this.channel = channel;
+            this.owner = owner;
+        }
+
+        /**
+         * @return the connected exec channel
+         */
+        public ChannelExec exec() {
+            return (ChannelExec) channel;
+        }
+
+        /**
+         * @return the connected SFTP channel
+         */
+        public ChannelSftp sftp() {
+            return (ChannelSftp) channel;
+        }
+
+        /**
+         * Disconnects the channel, and keeps its session open for the next commands.
+         */
+        @Override
+        public void close() {
+            channel.disconnect();
+            owner.release();
+        }
+    }
+
+    private static final class PooledSession {
+        private final Session session;
+        private final Object lock;
+        private int channels;
+        private long lastUsed = System.currentTimeMillis();
+
+        private PooledSession(Session session, Object lock) {
+            this.session = session;
+            this.lock = lock;
+        }
+
+        private void release() {
+            synchronized (lock) {
+                channels--;
+                lastUsed = System.currentTimeMillis();
+            }
+        }
+    }
+}
@@ -331,6 +331,18 @@ public class SHAFT {
                 return new YAMLFileManager(yamlFilePath);
             }
         }
+
+        /**
+         * Creates a new lazy data provider using the target CSV, Excel, or JSON
+         * test data file path. Rows are streamed from the file while the tests
+         * consume them, instead of being loaded into memory up front.
+         *
+         * @param filePath target test data file path
+         * @return a new lazy data provider
+         */
+        public static TestDataProvider provider(String filePath) {
+            return new TestDataProvider(filePath);
+        }
     }
 
     public static class Properties extends com.shaft.properties.internal.Properties {
@@ -0,0 +1,118 @@
+package com.shaft.driver.internal.DriverFactory;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.FluentWait;
+import org.openqa.selenium.support.ui.Sleeper;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+
+/**
+ * A {@link FluentWait} that polls quickly right after the wait starts, then backs off exponentially with jitter, and
+ * never sleeps past its timeout.
+ * <p>
+ * Most conditions are either met immediately or within a few hundred milliseconds, so the initial burst cuts the
+ * latency of a fixed polling delay, while the backoff reduces the number of commands sent to remote grids during long
+ * waits. When the wait targets an element locator, the time it took the element to appear is learned, and the first
+ * poll of the next wait for the same locator is scheduled around that time.
+ */
+public class AdaptiveFluentWait extends FluentWait<WebDriver> {
+    static final Duration BURST_INTERVAL = Duration.ofMillis(20);
+    static final Duration BURST_DURATION = Duration.ofMillis(200);
+    static final Duration INITIAL_BACKOFF = Duration.ofMillis(50);
+    static final Duration MAX_INTERVAL = Duration.ofSeconds(1);
+    private static final double BACKOFF_MULTIPLIER = 1.5;
+    private static final double JITTER = 0.2;
+    private static final int MAX_TRACKED_LOCATORS = 10_000;
+    private static final Map<String, Long> TYPICAL_APPEARANCE_TIMES = new ConcurrentHashMap<>(); // milliseconds
+    private final String locatorKey;
+    private final Schedule schedule;
+
+    /**
+     * @param driver     the driver to be passed to the awaited conditions
+     * @param locatorKey identifies the awaited element to learn its typical appearance time, or null
+     */
+    public AdaptiveFluentWait(WebDriver driver, String locatorKey) {
+        this(driver, locatorKey, new Schedule());
+    }
+
+    private AdaptiveFluentWait(WebDriver driver, String locatorKey, Schedule schedule) {
+        super(driver, Clock.systemDefaultZone(), schedule);
+        this.locatorKey = locatorKey;
+        this.schedule = schedule;
+    }
+
+    /**
+     * @param locatorKey identifies the awaited element
+     * @return the learned time it typically takes the element to appear, if it was awaited before
+     */
+    public static Optional<Duration> getTypicalAppearanceTime(String locatorKey) {
+        return Optional.ofNullable(TYPICAL_APPEARANCE_TIMES.get(locatorKey)).map(Duration::ofMillis);
+    }
+
+    static void recordAppearanceTime(String locatorKey, Duration appearanceTime) {
+        if (TYPICAL_APPEARANCE_TIMES.size() >= MAX_TRACKED_LOCATORS) {
+            TYPICAL_APPEARANCE_TIMES.clear();
+        }
+        // exponentially weighted moving average, so that a single slow run doesn't delay the next waits
+        TYPICAL_APPEARANCE_TIMES.merge(locatorKey, appearanceTime.toMillis(), (previous, latest) -> (previous * 3 + latest) / 4);
+    }
+
+    @Override
+    public <V> V until(Function<? super WebDriver, V> isTrue) {
+        long startTime = System.nanoTime();
+        schedule.start(timeout, locatorKey == null ? null : TYPICAL_APPEARANCE_TIMES.get(locatorKey));
+        V value = super.until(isTrue);
+        if (locatorKey != null) {
+            recordAppearanceTime(locatorKey, Duration.ofNanos(System.nanoTime() - startTime));
+        }
+        return value;
+    }
+
+    /**
+     * Replaces the fixed polling interval of {@link FluentWait}, the interval it passes is ignored.
+     */
+    static final class Schedule implements Sleeper {
+        private long startTime;
+        private long timeout;
+        private long seed;
+        private long backoff;
+        private int polls;
+
+        void start(Duration timeout, Long typicalAppearanceTime) {
+            this.startTime = System.nanoTime();
+            this.timeout = timeout.toMillis();
+            this.seed = typicalAppearanceTime != null && typicalAppearanceTime > BURST_DURATION.toMillis()
+                    ? Math.min(typicalAppearanceTime * 4 / 5, MAX_INTERVAL.toMillis())
+                    : 0;
+            this.backoff = INITIAL_BACKOFF.toMillis();
+            this.polls = 0;
+        }
+
+        long nextDelay() {
+            long elapsed = Duration.ofNanos(System.nanoTime() - startTime).toMillis();
+            long delay;
+            if (polls == 0 && seed > 0) {
+                delay = seed;
+            } else if (elapsed < BURST_DURATION.toMillis()) {
+                delay = BURST_INTERVAL.toMillis();
+            } else {
+                double jitter = 1 + ThreadLocalRandom.current().nextDouble(-JITTER, JITTER);
+                delay = Math.round(backoff * jitter);
+                backoff = Math.min(Math.round(backoff * BACKOFF_MULTIPLIER), MAX_INTERVAL.toMillis());
+            }
+            polls++;
+            return Math.max(1, Math.min(delay, timeout - elapsed));
+        }
+
+        @Override
+        public void sleep(Duration ignoredInterval) throws InterruptedException {
+            Thread.sleep(nextDelay());
+        }
+    }
+}
@@ -4,6 +4,7 @@ import com.epam.healenium.SelfHealingDriver;
 import com.shaft.driver.DriverFactory.DriverType;
 import com.shaft.driver.SHAFT;
 import com.shaft.gui.browser.BrowserActions;
+import com.shaft.gui.browser.internal.JavaScriptWaitManager;
 import com.shaft.gui.internal.video.RecordManager;
 import com.shaft.properties.internal.Properties;
 import com.shaft.properties.internal.PropertiesHelper;
@@ -119,7 +120,7 @@ public class DriverFactoryHelper {
         }
     }
 
-    private static DriverType getDriverTypeFromName(String driverName) {
+    static DriverType getDriverTypeFromName(String driverName) {
         int values = DriverType.values().length;
         for (var i = 0; i < values; i++) {
             var expectedName = driverName.trim().toLowerCase();
@@ -271,6 +272,13 @@ public class DriverFactoryHelper {
 
     public static void initializeSystemProperties() {
         PropertiesHelper.postProcessing();
+        initializeTargetHubUrl();
+    }
+
+    /**
+     * Resolves the grid URL from the already initialized properties, without post-processing them again.
+     */
+    public static void initializeTargetHubUrl() {
         TARGET_HUB_URL = (SHAFT.Properties.platform.executionAddress().trim().toLowerCase().startsWith("http")) ? SHAFT.Properties.platform.executionAddress() : "http://" + SHAFT.Properties.platform.executionAddress() + "/";
     }
 
@@ -284,6 +292,20 @@ public class DriverFactoryHelper {
             if (SHAFT.Properties.visuals.videoParamsScope().equals("DriverSession")) {
                 RecordManager.attachVideoRecording();
             }
+            if (DriverPool.isPooledSession(driver)) {
+                try {
+                    attachWebDriverLogs();
+                    DriverPool.getInstance().release(driver);
+                } finally {
+                    // the session now belongs to the pool, so this thread must not hold on to it
+                    webDriverManager.remove();
+                    if (this.driver == driver) {
+                        setDriver(null);
+                    }
+                }
+                ReportManager.log("Successfully Returned Driver to the pool.");
+                return;
+            }
             try {
                 attachWebDriverLogs();
                 //if dockerized wdm.quit the relevant one
@@ -667,11 +689,16 @@ public class DriverFactoryHelper {
                 createNewRemoteDriverInstance(driverType);
             } else {
                 //desktop execution
-                optionsManager.setDriverOptions(driverType, customDriverOptions);
-                switch (SHAFT.Properties.platform.executionAddress()) {
-                    case "local" -> createNewLocalDriverInstance(driverType, 6);
-                    case "dockerized" -> createNewDockerizedDriverInstance(driverType);
-                    default -> createNewRemoteDriverInstance(driverType);
+                var isPooledExecution = customDriverOptions == null && DriverPool.isEnabledFor(driverType);
+                var pooledDriver = isPooledExecution ? DriverPool.getInstance().acquire(driverType) : null;
+                if (pooledDriver != null) {
+                    setDriver(pooledDriver);
+                    ReportManager.log("Successfully Reused a pooled \"" + JavaHelper.convertToSentenceCase(driverType.getValue()) + "\" session.");
+                } else {
+                    createDesktopDriverInstance(driverType, customDriverOptions);
+                    if (isPooledExecution) {
+                        DriverPool.getInstance().adopt(driverType, driver);
+                    }
                 }
             }
 
@@ -688,6 +715,10 @@ public class DriverFactoryHelper {
                 if (SHAFT.Properties.flags.autoMaximizeBrowserWindow() && (targetBrowserName.contains(Browser.SAFARI.browserName().toLowerCase()) || targetBrowserName.contains(Browser.FIREFOX.browserName().toLowerCase()))) {
                     new BrowserActions(this).maximizeWindow();
                 }
+                if (SHAFT.Properties.timeouts.waitForLazyLoading()
+                        && JavaScriptWaitManager.OBSERVER_STRATEGY.equalsIgnoreCase(SHAFT.Properties.timeouts.lazyLoadingWaitStrategy())) {
+                    JavaScriptWaitManager.installPageObserver(driver);
+                }
             }
             // start session recording
             RecordManager.startVideoRecording(driver);
@@ -702,6 +733,15 @@ public class DriverFactoryHelper {
         }
     }
 
+    void createDesktopDriverInstance(DriverType driverType, MutableCapabilities customDriverOptions) {
+        optionsManager.setDriverOptions(driverType, customDriverOptions);
+        switch (SHAFT.Properties.platform.executionAddress()) {
+            case "local" -> createNewLocalDriverInstance(driverType, 6);
+            case "dockerized" -> createNewDockerizedDriverInstance(driverType);
+            default -> createNewRemoteDriverInstance(driverType);
+        }
+    }
+
     public void initializeDriver(@NonNull WebDriver driver) {
         initializeSystemProperties();
         ReportManager.log("Attaching to existing driver session '" + driver + "'.");
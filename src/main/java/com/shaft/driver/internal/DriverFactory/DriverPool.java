@@ -0,0 +1,385 @@
+package com.shaft.driver.internal.DriverFactory;
+
+import com.shaft.driver.DriverFactory.DriverType;
+import com.shaft.driver.SHAFT;
+import com.shaft.tools.io.ReportManager;
+import com.shaft.tools.io.internal.ReportManagerHelper;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.Platform;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chromium.ChromiumDriver;
+
+import java.util.*;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Opt-in pool of warm desktop browser sessions that are reused across tests.
+ * <p>
+ * Creating a browser session (resolving the driver, building the capabilities, and connecting to the grid) usually
+ * takes longer than a short UI test. When {@code SHAFT.Properties.web.driverPoolSize()} is greater than zero, that many
+ * sessions are created in parallel for every pooled browser type when the engine starts. Test threads borrow a session
+ * instead of creating one, and return it when they close their driver. Returned sessions are reset (extra windows,
+ * cookies, and web storage are cleared) and checked before they are reused, and they are replaced with a new session
+ * once they were used {@code driverPoolMaxSessionUses()} times or when they fail a health check.
+ * <p>
+ * Mobile, dockerized, and self-healing sessions are never pooled.
+ */
+public class DriverPool {
+    private static final Set<DriverType> POOLED_DRIVER_TYPES = EnumSet.of(DriverType.CHROME, DriverType.EDGE, DriverType.FIREFOX, DriverType.SAFARI);
+    private static final long WARM_UP_POLLING_INTERVAL = 250; // milliseconds
+    private static volatile DriverPool sharedPool;
+    private final int sessionsPerBrowser;
+    private final int maxSessionUses;
+    private final Function<DriverType, WebDriver> sessionFactory;
+    private final Map<DriverType, BlockingDeque<PooledSession>> idleSessions = new ConcurrentHashMap<>();
+    private final Map<DriverType, AtomicInteger> liveSessions = new ConcurrentHashMap<>();
+    private final Map<DriverType, AtomicInteger> pendingSessions = new ConcurrentHashMap<>();
+    private final Map<WebDriver, PooledSession> sessionsInUse = Collections.synchronizedMap(new IdentityHashMap<>());
+    private final AtomicLong createdSessions = new AtomicLong();
+    private final AtomicLong reusedSessions = new AtomicLong();
+    private final AtomicLong recycledSessions = new AtomicLong();
+    private final AtomicLong failedHealthChecks = new AtomicLong();
+    private volatile boolean isShutDown;
+
+    /**
+     * Creates a new, empty driver pool.
+     *
+     * @param sessionsPerBrowser the maximum number of sessions to keep per browser type
+     * @param maxSessionUses     the number of tests a session can be used for before it is replaced
+     * @param sessionFactory     creates a new browser session of the target type
+     */
+    public DriverPool(int sessionsPerBrowser, int maxSessionUses, Function<DriverType, WebDriver> sessionFactory) {
+        this.sessionsPerBrowser = sessionsPerBrowser;
+        this.maxSessionUses = Math.max(1, maxSessionUses);
+        this.sessionFactory = sessionFactory;
+    }
+
+    /**
+     * @param driverType the target driver type
+     * @return true if the driver pool is enabled and sessions of this type can be pooled in the current execution
+     */
+    public static boolean isEnabledFor(DriverType driverType) {
+        var targetPlatform = SHAFT.Properties.platform.targetPlatform();
+        return SHAFT.Properties.web.driverPoolSize() > 0
+                && POOLED_DRIVER_TYPES.contains(driverType)
+                && !SHAFT.Properties.platform.executionAddress().equalsIgnoreCase("dockerized")
+                && !Platform.ANDROID.toString().equalsIgnoreCase(targetPlatform)
+                && !Platform.IOS.toString().equalsIgnoreCase(targetPlatform)
+                && !SHAFT.Properties.healenium.healEnabled();
+    }
+
+    /**
+     * @return the driver pool that is shared by all the test threads, configured using the current properties
+     */
+    public static DriverPool getInstance() {
+        if (sharedPool == null) {
+            synchronized (DriverPool.class) {
+                if (sharedPool == null) {
+                    var pool = new DriverPool(SHAFT.Properties.web.driverPoolSize(), SHAFT.Properties.web.driverPoolMaxSessionUses(), driverType -> {
+                        var helper = new DriverFactoryHelper();
+                        helper.createDesktopDriverInstance(driverType, null);
+                        return helper.getDriver();
+                    });
+                    Runtime.getRuntime().addShutdownHook(new Thread(pool::shutdown));
+                    sharedPool = pool;
+                }
+            }
+        }
+        return sharedPool;
+    }
+
+    /**
+     * @param driver the target session
+     * @return true if the session was borrowed from the shared driver pool
+     */
+    public static boolean isPooledSession(WebDriver driver) {
+        return sharedPool != null && sharedPool.isPooled(driver);
+    }
+
+    /**
+     * Starts creating the pooled sessions in parallel for all the browsers listed in
+     * {@code SHAFT.Properties.web.driverPoolBrowsers()}, or for the target browser if none are listed. It returns
+     * immediately, test threads that ask for a session while it is being created wait for it.
+     */
+    public static void warmUp() {
+        warmUp(List.of());
+    }
+
+    /**
+     * Starts creating the pooled sessions in parallel for all the browsers listed in
+     * {@code SHAFT.Properties.web.driverPoolBrowsers()}, or for the target browsers of the tests if none are listed. It
+     * returns immediately, test threads that ask for a session while it is being created wait for it.
+     * <p>
+     * The properties must already be initialized, since warming up runs alongside the tests and must not change them.
+     *
+     * @param targetBrowserNames the browsers that the tests target, such as the {@code targetBrowserName} parameters of
+     *                           a TestNG suite, or an empty list to use {@code SHAFT.Properties.web.targetBrowserName()}
+     */
+    public static void warmUp(Collection<String> targetBrowserNames) {
+        if (SHAFT.Properties.web.driverPoolSize() <= 0) {
+            return;
+        }
+        DriverFactoryHelper.initializeTargetHubUrl();
+        List<String> browsers;
+        if (!SHAFT.Properties.web.driverPoolBrowsers().isBlank()) {
+            browsers = List.of(SHAFT.Properties.web.driverPoolBrowsers().split(","));
+        } else if (!targetBrowserNames.isEmpty()) {
+            browsers = List.copyOf(targetBrowserNames);
+        } else {
+            browsers = List.of(SHAFT.Properties.web.targetBrowserName());
+        }
+        browsers.stream()
+                .filter(browser -> browser != null && !browser.isBlank())
+                .map(String::trim)
+                .map(DriverFactoryHelper::getDriverTypeFromName)
+                .filter(DriverPool::isEnabledFor)
+                .distinct()
+                .forEach(driverType -> getInstance().fill(driverType));
+    }
+
+    /**
+     * Starts creating new sessions of the target type until the pool is full.
+     *
+     * @param driverType the target driver type
+     */
+    public void fill(DriverType driverType) {
+        while (reserveSession(driverType)) {
+            createSessionAsync(driverType);
+        }
+    }
+
+    /**
+     * Borrows an idle session of the target type, waiting for it if it is still being created.
+     *
+     * @param driverType the target driver type
+     * @return a healthy session, or null if there is no idle session and none are being created
+     */
+    public WebDriver acquire(DriverType driverType) {
+        var idle = idleSessionsOf(driverType);
+        while (!isShutDown) {
+            var session = idle.pollFirst();
+            if (session == null) {
+                if (pendingSessionsOf(driverType).get() == 0) {
+                    // a session that was offered right before its pending count was decremented is still idle
+                    session = idle.pollFirst();
+                    if (session == null) {
+                        return null;
+                    }
+                } else {
+                    try {
+                        session = idle.poll(WARM_UP_POLLING_INTERVAL, TimeUnit.MILLISECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return null;
+                    }
+                    if (session == null) {
+                        continue;
+                    }
+                }
+            }
+            if (!isHealthy(session.driver())) {
+                failedHealthChecks.incrementAndGet();
+                replace(session);
+                continue;
+            }
+            // the first borrow of a new session doesn't save creating a session, only the following ones do
+            if (session.uses().getAndIncrement() > 0) {
+                reusedSessions.incrementAndGet();
+            }
+            sessionsInUse.put(session.driver(), session);
+            return session.driver();
+        }
+        return null;
+    }
+
+    /**
+     * Adds a session that was created outside the pool, if the pool has room for it.
+     *
+     * @param driverType the type of the session
+     * @param driver     the session, it is considered to be in use by the current test
+     * @return true if the session was added to the pool
+     */
+    public boolean adopt(DriverType driverType, WebDriver driver) {
+        if (driver == null || isShutDown || !reserveSession(driverType)) {
+            return false;
+        }
+        var session = new PooledSession(driverType, driver, new AtomicInteger(1));
+        sessionsInUse.put(driver, session);
+        return true;
+    }
+
+    /**
+     * @param driver the target session
+     * @return true if the session belongs to the pool and is currently borrowed
+     */
+    public boolean isPooled(WebDriver driver) {
+        return driver != null && sessionsInUse.containsKey(driver);
+    }
+
+    /**
+     * Returns a borrowed session to the pool. The session is reset so that the next test starts with a clean
+     * browser, or replaced with a new session if it was used too many times or is no longer healthy.
+     *
+     * @param driver the borrowed session
+     * @return false if the session doesn't belong to the pool, so it should be closed by the caller
+     */
+    public boolean release(WebDriver driver) {
+        var session = driver == null ? null : sessionsInUse.remove(driver);
+        if (session == null) {
+            return false;
+        }
+        if (isShutDown) {
+            quit(session);
+        } else if (session.uses().get() >= maxSessionUses) {
+            recycledSessions.incrementAndGet();
+            replace(session);
+        } else if (!reset(driver) || !isHealthy(driver)) {
+            failedHealthChecks.incrementAndGet();
+            replace(session);
+        } else {
+            idleSessionsOf(session.driverType()).offerLast(session);
+        }
+        return true;
+    }
+
+    /**
+     * @return a snapshot of the pool usage counters
+     */
+    public Metrics metrics() {
+        int idle = idleSessions.values().stream().mapToInt(BlockingDeque::size).sum();
+        return new Metrics(idle, sessionsInUse.size(), createdSessions.get(), reusedSessions.get(), recycledSessions.get(), failedHealthChecks.get());
+    }
+
+    /**
+     * Quits all the idle sessions, borrowed sessions are quit when they are released.
+     */
+    public void shutdown() {
+        isShutDown = true;
+        idleSessions.values().forEach(idle -> {
+            PooledSession session;
+            while ((session = idle.pollFirst()) != null) {
+                quit(session);
+            }
+        });
+    }
+
+    private boolean reserveSession(DriverType driverType) {
+        var live = liveSessionsOf(driverType);
+        int current;
+        do {
+            current = live.get();
+            if (current >= sessionsPerBrowser) {
+                return false;
+            }
+        } while (!live.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    private void createSessionAsync(DriverType driverType) {
+        pendingSessionsOf(driverType).incrementAndGet();
+        Thread.ofVirtual().start(() -> {
+            try {
+                var driver = sessionFactory.apply(driverType);
+                if (driver == null) {
+                    liveSessionsOf(driverType).decrementAndGet();
+                    return;
+                }
+                createdSessions.incrementAndGet();
+                var session = new PooledSession(driverType, driver, new AtomicInteger(0));
+                if (isShutDown) {
+                    quit(session);
+                } else {
+                    idleSessionsOf(driverType).offerLast(session);
+                }
+            } catch (Throwable throwable) {
+                liveSessionsOf(driverType).decrementAndGet();
+                ReportManager.logDiscrete("Failed to create a pooled \"" + driverType.getValue() + "\" session.");
+                ReportManagerHelper.logDiscrete(throwable);
+            } finally {
+                pendingSessionsOf(driverType).decrementAndGet();
+            }
+        });
+    }
+
+    private void replace(PooledSession session) {
+        quit(session);
+        fill(session.driverType());
+    }
+
+    private void quit(PooledSession session) {
+        liveSessionsOf(session.driverType()).decrementAndGet();
+        try {
+            session.driver().quit();
+        } catch (WebDriverException e) {
+            // the session is already gone
+        }
+    }
+
+    private static boolean isHealthy(WebDriver driver) {
+        try {
+            return !driver.getWindowHandles().isEmpty();
+        } catch (WebDriverException e) {
+            return false;
+        }
+    }
+
+    private static boolean reset(WebDriver driver) {
+        try {
+            var windowHandles = new ArrayList<>(driver.getWindowHandles());
+            for (var windowHandle : windowHandles.subList(1, windowHandles.size())) {
+                driver.switchTo().window(windowHandle).close();
+            }
+            driver.switchTo().window(windowHandles.getFirst());
+            try {
+                // web storage belongs to the current origin, so it must be cleared before leaving the page
+                ((JavascriptExecutor) driver).executeScript("window.localStorage.clear(); window.sessionStorage.clear();");
+            } catch (WebDriverException | ClassCastException e) {
+                // pages without web storage, such as about:blank
+            }
+            driver.manage().deleteAllCookies();
+            if (driver instanceof ChromiumDriver chromiumDriver) {
+                // cookies of the other domains
+                chromiumDriver.executeCdpCommand("Network.clearBrowserCookies", Map.of());
+            }
+            driver.navigate().to("about:blank");
+            return true;
+        } catch (WebDriverException | IndexOutOfBoundsException e) {
+            return false;
+        }
+    }
+
+    private BlockingDeque<PooledSession> idleSessionsOf(DriverType driverType) {
+        return idleSessions.computeIfAbsent(driverType, type -> new LinkedBlockingDeque<>());
+    }
+
+    private AtomicInteger liveSessionsOf(DriverType driverType) {
+        return liveSessions.computeIfAbsent(driverType, type -> new AtomicInteger());
+    }
+
+    private AtomicInteger pendingSessionsOf(DriverType driverType) {
+        return pendingSessions.computeIfAbsent(driverType, type -> new AtomicInteger());
+    }
+
+    /**
+     * Usage counters of the driver pool.
+     *
+     * @param idle               the number of sessions that are waiting to be borrowed
+     * @param inUse              the number of sessions that are currently borrowed
+     * @param created            the number of sessions that were created by the pool
+     * @param reused             the number of times a session was borrowed again after it was returned to the pool
+     * @param recycled           the number of sessions that were replaced after reaching the maximum number of uses
+     * @param failedHealthChecks the number of sessions that were replaced after failing to reset or to respond
+     */
+    public record Metrics(int idle, int inUse, long created, long reused, long recycled, long failedHealthChecks) {
+    }
+
+    private record PooledSession(DriverType driverType, WebDriver driver, AtomicInteger uses) {
+    }
+}
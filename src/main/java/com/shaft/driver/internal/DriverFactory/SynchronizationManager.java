@@ -1,7 +1,7 @@
 package com.shaft.driver.internal.DriverFactory;
 
-import com.shaft.driver.SHAFT;
 import com.shaft.gui.internal.exceptions.MultipleElementsFoundException;
+import com.shaft.properties.internal.PropertySnapshot;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.remote.Browser;
 import org.openqa.selenium.support.ui.FluentWait;
@@ -23,9 +23,30 @@ public class SynchronizationManager {
     }
 
     public FluentWait<WebDriver> fluentWait(boolean isValidToCheckForVisibility) {
-        return new FluentWait<>(driver)
-                .withTimeout(Duration.ofSeconds((long) (SHAFT.Properties.timeouts.defaultElementIdentificationTimeout())))
-                .pollingEvery(Duration.ofMillis(ELEMENT_IDENTIFICATION_POLLING_DELAY))
+        return fluentWait(isValidToCheckForVisibility, WaitType.ELEMENT, null);
+    }
+
+    public FluentWait<WebDriver> fluentWait(WaitType waitType) {
+        return fluentWait(false, waitType, null);
+    }
+
+    /**
+     * Creates a wait that polls according to the polling strategy configured for its wait type.
+     *
+     * @param isValidToCheckForVisibility true to also ignore the exceptions thrown while the element is not yet interactable
+     * @param waitType                    the type of the wait, used to select its polling strategy
+     * @param locatorKey                  identifies the awaited element so that adaptive polling can learn its typical appearance time, or null
+     * @return a new wait that times out after the default element identification timeout
+     */
+    public FluentWait<WebDriver> fluentWait(boolean isValidToCheckForVisibility, WaitType waitType, String locatorKey) {
+        var properties = PropertySnapshot.current();
+        FluentWait<WebDriver> wait;
+        if (PollingStrategy.FIXED.name().equalsIgnoreCase(waitType.getPollingStrategy(properties))) {
+            wait = new FluentWait<>(driver).pollingEvery(Duration.ofMillis(ELEMENT_IDENTIFICATION_POLLING_DELAY));
+        } else {
+            wait = new AdaptiveFluentWait(driver, locatorKey);
+        }
+        return wait.withTimeout(Duration.ofSeconds((long) (properties.defaultElementIdentificationTimeout())))
                 .ignoreAll(getExpectedExceptions(isValidToCheckForVisibility));
     }
 
@@ -44,7 +65,7 @@ public class SynchronizationManager {
             expectedExceptions.add(org.openqa.selenium.interactions.MoveTargetOutOfBoundsException.class);
         }
 
-        if (SHAFT.Properties.web.targetBrowserName().equalsIgnoreCase(Browser.SAFARI.browserName())) {
+        if (PropertySnapshot.current().targetBrowserName().equalsIgnoreCase(Browser.SAFARI.browserName())) {
             // the generic exception is added to handle a case with WebKit whereby the browser doesn't state the cause of the issue
             expectedExceptions.add(org.openqa.selenium.WebDriverException.class);
         }
@@ -56,4 +77,20 @@ public class SynchronizationManager {
 
         return expectedExceptions;
     }
+
+    public enum PollingStrategy {
+        FIXED, ADAPTIVE
+    }
+
+    public enum WaitType {
+        ELEMENT, LAZY_LOADING, WAIT_UNTIL;
+
+        private String getPollingStrategy(PropertySnapshot properties) {
+            return switch (this) {
+                case ELEMENT -> properties.elementPollingStrategy();
+                case LAZY_LOADING -> properties.lazyLoadingPollingStrategy();
+                case WAIT_UNTIL -> properties.waitUntilPollingStrategy();
+            };
+        }
+    }
 }
@@ -1,49 +1,122 @@
 package com.shaft.gui.browser.internal;
 
-import com.shaft.driver.SHAFT;
 import com.shaft.driver.internal.DriverFactory.DriverFactoryHelper;
 import com.shaft.driver.internal.DriverFactory.SynchronizationManager;
+import com.shaft.properties.internal.PropertySnapshot;
 import com.shaft.tools.internal.support.JavaScriptHelper;
+import com.shaft.tools.io.ReportManager;
 import com.shaft.tools.io.internal.ReportManagerHelper;
 import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.ScriptTimeoutException;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chromium.HasCdp;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
 
 public class JavaScriptWaitManager {
+    public static final String OBSERVER_STRATEGY = "observer";
+    private static final Set<WebDriver> driversWithRegisteredObserver = Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+
     private JavaScriptWaitManager() {
         throw new IllegalStateException("Utility class");
     }
 
     /**
      * Waits for jQuery, Angular, and/or Javascript if present on the current page.
+     * <p>
+     * By default, each of these conditions is polled separately. Set {@code lazyLoadingWaitStrategy} to {@code observer}
+     * to install a page observer script once per document instead; it counts the in-flight fetch and XHR requests, and
+     * records the last DOM mutation. On Chromium browsers the observer is registered to run before the scripts of every
+     * new document, so that it sees all the requests of the page; on other browsers it is installed by the first wait,
+     * so requests that were sent before that are not counted. A single asynchronous script call then resolves as soon
+     * as the document is ready, no requests are in flight, jQuery and Angular are idle, and the DOM has been quiet for
+     * {@code lazyLoadingQuietPeriod} milliseconds.
      */
     public static void waitForLazyLoading(WebDriver driver) {
         try {
-        if (SHAFT.Properties.timeouts.waitForLazyLoading()
-                && !DriverFactoryHelper.isMobileNativeExecution()) {
-            ArrayList<Thread> lazyLoadingThreads = new ArrayList<>();
-            lazyLoadingThreads.add(Thread.ofVirtual().start(() -> waitForJQuery(driver)));
-            lazyLoadingThreads.add(Thread.ofVirtual().start(() -> waitForAngular(driver)));
-            lazyLoadingThreads.add(Thread.ofVirtual().start(() -> waitForDocumentReadyState(driver)));
-            lazyLoadingThreads.add(Thread.ofVirtual().start(() -> waitUntilNoActiveNetworkFetchRequests(driver)));
-            lazyLoadingThreads.forEach(thread -> {
-                try {
-                    thread.join();
-                } catch (InterruptedException e) {
-                    //do nothing
+            var properties = PropertySnapshot.current();
+            if (properties.waitForLazyLoading()
+                    && !DriverFactoryHelper.isMobileNativeExecution()) {
+                if (!OBSERVER_STRATEGY.equalsIgnoreCase(properties.lazyLoadingWaitStrategy())
+                        || !waitForIdlePageUsingObserver(driver, properties)) {
+                    waitForLazyLoadingUsingPolling(driver);
                 }
-            });
-        }
+            }
         } catch (Exception e) {
             ReportManagerHelper.logDiscrete(e);
         }
     }
 
+    /**
+     * Registers the page observer to be installed before the scripts of every new document, for browsers that support
+     * the Chrome DevTools Protocol. The registration is done once per driver, and other drivers are ignored.
+     *
+     * @param driver the driver of the new browser session
+     */
+    public static void installPageObserver(WebDriver driver) {
+        if (!(driver instanceof HasCdp cdpDriver) || !driversWithRegisteredObserver.add(driver)) {
+            return;
+        }
+        try {
+            cdpDriver.executeCdpCommand("Page.addScriptToEvaluateOnNewDocument", Map.of("source", JavaScriptHelper.PAGE_OBSERVER_INSTALL.getValue()));
+        } catch (WebDriverException webDriverException) {
+            // the observer is still installed by the first wait on each document
+            ReportManagerHelper.logDiscrete(webDriverException);
+        }
+    }
+
+    /**
+     * Waits for the injected page observer to report that the page is idle.
+     *
+     * @return false if the observer could not be used on the current page, so the caller should fall back to polling
+     */
+    private static boolean waitForIdlePageUsingObserver(WebDriver driver, PropertySnapshot properties) {
+        if (!(driver instanceof JavascriptExecutor javascriptExecutor)) {
+            return true;
+        }
+        installPageObserver(driver);
+        long timeout = (long) (properties.defaultElementIdentificationTimeout() * 1000);
+        try {
+            var isIdle = javascriptExecutor.executeAsyncScript(JavaScriptHelper.PAGE_OBSERVER_INSTALL.getValue()
+                    + JavaScriptHelper.PAGE_OBSERVER_WAIT_FOR_IDLE.getValue(), properties.lazyLoadingQuietPeriod(), timeout);
+            if (!Boolean.TRUE.equals(isIdle)) {
+                ReportManager.logDiscrete("Page did not become idle within " + timeout + "ms, proceeding anyway.");
+            }
+            return true;
+        } catch (ScriptTimeoutException scriptTimeoutException) {
+            // the driver script timeout is shorter than the element identification timeout, polling would only wait again
+            ReportManagerHelper.logDiscrete(scriptTimeoutException);
+            return true;
+        } catch (WebDriverException webDriverException) {
+            // unsupported asynchronous scripts, or the document was replaced while waiting
+            return false;
+        }
+    }
+
+    private static void waitForLazyLoadingUsingPolling(WebDriver driver) {
+        ArrayList<Thread> lazyLoadingThreads = new ArrayList<>();
+        lazyLoadingThreads.add(Thread.ofVirtual().start(() -> waitForJQuery(driver)));
+        lazyLoadingThreads.add(Thread.ofVirtual().start(() -> waitForAngular(driver)));
+        lazyLoadingThreads.add(Thread.ofVirtual().start(() -> waitForDocumentReadyState(driver)));
+        lazyLoadingThreads.add(Thread.ofVirtual().start(() -> waitUntilNoActiveNetworkFetchRequests(driver)));
+        lazyLoadingThreads.forEach(thread -> {
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                //do nothing
+            }
+        });
+    }
+
     private static void waitUntilNoActiveNetworkFetchRequests(WebDriver driver) {
         //Wait for active requests to be zero
-        new SynchronizationManager(driver).fluentWait().until(f -> {
+        new SynchronizationManager(driver).fluentWait(SynchronizationManager.WaitType.LAZY_LOADING).until(f -> {
             if (f instanceof JavascriptExecutor javascriptExecutor) {
                 var returnedValue = javascriptExecutor.executeScript("return window.performance.getEntriesByType('resource').filter(r => r.responseEnd === '0' && (r.initiatorType === 'xmlhttprequest' || r.initiatorType === 'fetch')).length");
                 return (Integer.parseInt(String.valueOf(returnedValue)) == 0);
@@ -53,7 +126,7 @@ public class JavaScriptWaitManager {
     }
 
     private static void waitForDocumentReadyState(WebDriver driver) {
-        new SynchronizationManager(driver).fluentWait().until(f -> {
+        new SynchronizationManager(driver).fluentWait(SynchronizationManager.WaitType.LAZY_LOADING).until(f -> {
             if (f instanceof JavascriptExecutor javascriptExecutor) {
                 try {
                     var ready = Arrays.asList("loaded", "complete");
@@ -68,7 +141,7 @@ public class JavaScriptWaitManager {
     }
 
     private static void waitForJQuery(WebDriver driver) {
-        new SynchronizationManager(driver).fluentWait().until(f -> {
+        new SynchronizationManager(driver).fluentWait(SynchronizationManager.WaitType.LAZY_LOADING).until(f -> {
             if (f instanceof JavascriptExecutor javascriptExecutor) {
                 try {
                     return Long.parseLong(String.valueOf(javascriptExecutor.executeScript(JavaScriptHelper.JQUERY_ACTIVE_STATE.getValue()))) == 0;
@@ -83,7 +156,7 @@ public class JavaScriptWaitManager {
     }
 
     private static void waitForAngular(WebDriver driver) {
-        new SynchronizationManager(driver).fluentWait().until(f -> {
+        new SynchronizationManager(driver).fluentWait(SynchronizationManager.WaitType.LAZY_LOADING).until(f -> {
             if (f instanceof JavascriptExecutor javascriptExecutor) {
                 try {
                     return Long.parseLong(String.valueOf(javascriptExecutor.executeScript(JavaScriptHelper.ANGULAR_READY_STATE.getValue()))) == 0;
@@ -9,6 +9,10 @@ import org.openqa.selenium.By;
 
 import java.util.ArrayList;
 
+/**
+ * Runs every element action on its own virtual thread. The commands are still serialized by the driver session, so to
+ * fill forms or read several values prefer {@link com.shaft.gui.element.internal.Actions#batch()}.
+ */
 @Beta
 public class AsyncElementActions extends FluentWebDriverAction {
     private final ArrayList<Thread> actionThreads = new ArrayList<>();
@@ -48,7 +48,9 @@ import java.text.SimpleDateFormat;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.function.Function;
@@ -189,6 +191,17 @@ public class Actions extends ElementActions {
         return new ClipboardAction(this);
     }
 
+    /**
+     * Queues several element actions to be performed together, for example to fill a form.
+     * All the target elements are located in one script call, the values are applied in order, and the resulting
+     * values are read back in one call and reported in a single step with one screenshot.
+     *
+     * @return a new batch of element actions
+     */
+    public BatchActions batch() {
+        return new BatchActions(this);
+    }
+
     public Actions waitUntil(@NonNull Function<? super WebDriver, ?> isTrue) {
         return waitUntil(isTrue, Duration.ofSeconds((long) (SHAFT.Properties.timeouts.defaultElementIdentificationTimeout()) * 10));
     }
@@ -197,7 +210,7 @@ public class Actions extends ElementActions {
     public Actions waitUntil(@NonNull Function<? super WebDriver, ?> isTrue, @NonNull Duration timeout) {
         String output = "";
         try {
-            output = String.valueOf(new SynchronizationManager(driverFactoryHelper.getDriver()).fluentWait().withTimeout(timeout).until(isTrue));
+            output = String.valueOf(new SynchronizationManager(driverFactoryHelper.getDriver()).fluentWait(SynchronizationManager.WaitType.WAIT_UNTIL).withTimeout(timeout).until(isTrue));
             if (!"true".equalsIgnoreCase(output))
                 throw new TimeoutException("Condition was not met within the timeout period.");
         } catch (WebDriverException exception) {
@@ -844,4 +857,205 @@ public class Actions extends ElementActions {
             return this.actions;
         }
     }
+
+    public class BatchActions {
+        private final Actions actions;
+        private final List<BatchField> fields = new ArrayList<>();
+
+        protected BatchActions(Actions actions) {
+            this.actions = actions;
+        }
+
+        /**
+         * Queues clearing the target field (based on the clearBeforeTypingMode) and typing the text using native key presses.
+         */
+        public BatchActions type(@NonNull By locator, @NonNull String text) {
+            fields.add(new BatchField(locator, text, BatchFieldType.TYPE));
+            return this;
+        }
+
+        /**
+         * Queues typing like {@link #type(By, String)}, while masking the text in the report.
+         */
+        public BatchActions typeSecure(@NonNull By locator, @NonNull String text) {
+            fields.add(new BatchField(locator, text, BatchFieldType.TYPE_SECURELY));
+            return this;
+        }
+
+        /**
+         * Queues setting the value of the target field using JavaScript. Consecutive JavaScript fields are set in one call.
+         */
+        public BatchActions setValueUsingJavaScript(@NonNull By locator, @NonNull String value) {
+            fields.add(new BatchField(locator, value, BatchFieldType.JAVASCRIPT_SET_VALUE));
+            return this;
+        }
+
+        /**
+         * Queues selecting the option with the given visible text from the target drop-down list using JavaScript.
+         */
+        public BatchActions select(@NonNull By locator, @NonNull String text) {
+            fields.add(new BatchField(locator, text, BatchFieldType.SELECT));
+            return this;
+        }
+
+        /**
+         * Performs all the queued actions, then reads back the resulting values of all the target elements.
+         *
+         * @return the element actions, to chain further actions
+         */
+        @Step("Fill form")
+        public Actions perform() {
+            var locators = fields.stream().map(BatchField::locator).toList();
+            AtomicReference<List<WebElement>> targetElements = new AtomicReference<>();
+            List<String> values = List.of();
+            try {
+                // only locating and checking the elements is retried, so that no field is typed into more than once
+                new SynchronizationManager(driverFactoryHelper.getDriver()).fluentWait(true).until(d -> {
+                    targetElements.set(locateAll(locators));
+                    JavaScriptWaitManager.waitForLazyLoading(d);
+                    return isReadyForNativeActions(targetElements.get());
+                });
+                apply(driverFactoryHelper.getDriver(), targetElements.get());
+                values = readAll(targetElements.get());
+            } catch (WebDriverException exception) {
+                reportBroken("fillForm", fields.size() + " fields", takeFailureScreenshot(null), exception);
+            }
+            for (int i = 0; i < fields.size(); i++) {
+                var field = fields.get(i);
+                var value = BatchFieldType.TYPE_SECURELY.equals(field.type()) ? "********" : values.get(i);
+                ReportManager.logDiscrete(JavaHelper.formatLocatorToString(field.locator()) + ": \"" + value + "\"");
+            }
+            reportPass("fillForm", fields.size() + " fields", targetElements.get().isEmpty() ? null : takeActionScreenshot(targetElements.get().getLast()));
+            return this.actions;
+        }
+
+        /**
+         * Reads the selected text of drop-down lists, the checked state of checkboxes and radio buttons, the value of
+         * input fields, or the text of any other element, for all the target elements in one call.
+         *
+         * @param locators the target elements
+         * @return the value of every target element, in the same order as the locators
+         */
+        @Step("Read values")
+        public Map<By, String> read(@NonNull By... locators) {
+            var readValues = new LinkedHashMap<By, String>();
+            try {
+                var targetElements = new SynchronizationManager(driverFactoryHelper.getDriver()).fluentWait(false)
+                        .until(d -> locateAll(List.of(locators)));
+                var values = readAll(targetElements);
+                for (int i = 0; i < locators.length; i++) {
+                    readValues.put(locators[i], values.get(i));
+                }
+            } catch (WebDriverException exception) {
+                reportBroken("readValues", locators.length + " elements", takeFailureScreenshot(null), exception);
+            }
+            reportPass("readValues", locators.length + " elements", null);
+            return readValues;
+        }
+
+        private boolean isScriptable() {
+            return !DriverFactoryHelper.isMobileNativeExecution() && driverFactoryHelper.getDriver() instanceof JavascriptExecutor;
+        }
+
+        private List<WebElement> locateAll(List<By> locators) {
+            var driver = driverFactoryHelper.getDriver();
+            List<?> scriptResults = null;
+            if (isScriptable() && ShadowLocatorBuilder.shadowDomLocator.get() == null) {
+                if (LocatorBuilder.getIFrameLocator().get() != null) {
+                    driver.switchTo().defaultContent();
+                    driver.switchTo().frame(driver.findElement(LocatorBuilder.getIFrameLocator().get()));
+                }
+                var remoteLocators = locators.stream().map(locator -> {
+                    if (locator instanceof By.Remotable remotable && remotable.getRemoteParameters().value() instanceof String value) {
+                        return List.of(remotable.getRemoteParameters().using(), value);
+                    }
+                    return List.of("", "");
+                }).toList();
+                scriptResults = (List<?>) ((JavascriptExecutor) driver).executeScript(JavaScriptHelper.BATCH_LOCATE_ELEMENTS.getValue(), remoteLocators);
+            }
+            List<WebElement> targetElements = new ArrayList<>();
+            for (int i = 0; i < locators.size(); i++) {
+                var locator = locators.get(i);
+                List<?> matches;
+                if (scriptResults != null && scriptResults.get(i) instanceof List<?> scriptMatches) {
+                    matches = scriptMatches;
+                } else if (scriptResults != null) {
+                    // the frame was already switched to, so the remaining locators are located natively in the same context
+                    matches = driver.findElements(locator);
+                } else {
+                    matches = findAllElements(locator);
+                }
+                if (matches.isEmpty())
+                    throw new NoSuchElementException("Cannot locate an element using " + JavaHelper.formatLocatorToString(locator));
+                if (matches.size() > 1 && SHAFT.Properties.flags.forceCheckElementLocatorIsUnique() && !(locator instanceof RelativeLocator.RelativeBy) && !(locator instanceof ByAll))
+                    throw new MultipleElementsFoundException();
+                targetElements.add((WebElement) matches.getFirst());
+            }
+            return targetElements;
+        }
+
+        private boolean isReadyForNativeActions(List<WebElement> targetElements) {
+            for (int i = 0; i < fields.size(); i++) {
+                var type = fields.get(i).type();
+                if ((BatchFieldType.TYPE.equals(type) || BatchFieldType.TYPE_SECURELY.equals(type))
+                        && !(targetElements.get(i).isDisplayed() && targetElements.get(i).isEnabled())) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private void apply(WebDriver driver, List<WebElement> targetElements) {
+            List<WebElement> scriptElements = new ArrayList<>();
+            List<String> scriptValues = new ArrayList<>();
+            List<String> scriptKinds = new ArrayList<>();
+            for (int i = 0; i < fields.size(); i++) {
+                var field = fields.get(i);
+                var element = targetElements.get(i);
+                switch (field.type()) {
+                    case TYPE, TYPE_SECURELY -> {
+                        // keep the order of the actions, in case a field depends on the previous ones
+                        setValuesUsingJavaScript(driver, scriptElements, scriptValues, scriptKinds);
+                        PropertiesHelper.setClearBeforeTypingMode();
+                        executeClearBasedOnClearMode(element, SHAFT.Properties.flags.clearBeforeTypingMode());
+                        element.sendKeys(field.value());
+                    }
+                    case JAVASCRIPT_SET_VALUE, SELECT -> {
+                        if (isScriptable()) {
+                            scriptElements.add(element);
+                            scriptValues.add(field.value());
+                            scriptKinds.add(BatchFieldType.SELECT.equals(field.type()) ? "select" : "value");
+                        } else if (BatchFieldType.SELECT.equals(field.type())) {
+                            new Select(element).selectByVisibleText(field.value());
+                        } else {
+                            ((JavascriptExecutor) driver).executeScript("arguments[0].value = arguments[1];", element, field.value());
+                        }
+                    }
+                }
+            }
+            setValuesUsingJavaScript(driver, scriptElements, scriptValues, scriptKinds);
+        }
+
+        private void setValuesUsingJavaScript(WebDriver driver, List<WebElement> elements, List<String> values, List<String> kinds) {
+            if (!elements.isEmpty()) {
+                ((JavascriptExecutor) driver).executeScript(JavaScriptHelper.BATCH_SET_VALUES.getValue(), elements, values, kinds);
+                elements.clear();
+                values.clear();
+                kinds.clear();
+            }
+        }
+
+        private List<String> readAll(List<WebElement> targetElements) {
+            if (isScriptable()) {
+                var values = (List<?>) ((JavascriptExecutor) driverFactoryHelper.getDriver()).executeScript(JavaScriptHelper.BATCH_READ_VALUES.getValue(), targetElements);
+                return values.stream().map(String::valueOf).toList();
+            }
+            return targetElements.stream().map(Actions.this::parseElementText).toList();
+        }
+    }
+
+    private enum BatchFieldType {TYPE, TYPE_SECURELY, JAVASCRIPT_SET_VALUE, SELECT}
+
+    private record BatchField(By locator, String value, BatchFieldType type) {
+    }
 }
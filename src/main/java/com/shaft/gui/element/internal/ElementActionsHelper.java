@@ -2,7 +2,6 @@ package com.shaft.gui.element.internal;
 
 import com.google.common.base.Throwables;
 import com.shaft.cli.FileActions;
-import com.shaft.driver.SHAFT;
 import com.shaft.driver.internal.DriverFactory.DriverFactoryHelper;
 import com.shaft.driver.internal.DriverFactory.SynchronizationManager;
 import com.shaft.enums.internal.ClipboardAction;
@@ -12,6 +11,7 @@ import com.shaft.gui.internal.image.ImageProcessingActions;
 import com.shaft.gui.internal.image.ScreenshotManager;
 import com.shaft.gui.internal.locator.LocatorBuilder;
 import com.shaft.gui.internal.locator.ShadowLocatorBuilder;
+import com.shaft.properties.internal.PropertySnapshot;
 import com.shaft.tools.internal.support.JavaHelper;
 import com.shaft.tools.io.ReportManager;
 import com.shaft.tools.io.internal.FailureReporter;
@@ -62,7 +62,7 @@ public class ElementActionsHelper {
                     isFound = true;
                 }
                 elapsedTime = System.currentTimeMillis() - startTime;
-            } while (!isFound && elapsedTime < SHAFT.Properties.timeouts.defaultElementIdentificationTimeout() * 1000L);
+            } while (!isFound && elapsedTime < PropertySnapshot.current().defaultElementIdentificationTimeout() * 1000L);
             returnedValue.add(currentScreenImage);
             returnedValue.add(FileActions.getInstance(true).readFileAsByteArray(elementReferenceScreenshot));
             returnedValue.add(coordinates);
@@ -87,7 +87,7 @@ public class ElementActionsHelper {
         boolean isValidToCheckForVisibility = isValidToCheckForVisibility(elementLocator, checkForVisibility);
         var isMobileExecution = DriverFactoryHelper.isMobileNativeExecution() || DriverFactoryHelper.isMobileWebExecution();
         try {
-            return new SynchronizationManager(driver).fluentWait(isValidToCheckForVisibility)
+            return new SynchronizationManager(driver).fluentWait(isValidToCheckForVisibility, SynchronizationManager.WaitType.ELEMENT, elementLocator.toString())
                     .until(f -> {
                         final WebElement[] targetElement = new WebElement[1];
                         ElementInformation elementInformation = new ElementInformation();
@@ -169,8 +169,7 @@ public class ElementActionsHelper {
                                     targetElement[0].getDomProperty("innerHTML"));
                         }
                         // BLOCK #6 :: GETTING ELEMENT NAME
-                        if (SHAFT.Properties.reporting.
-                                captureElementName()) {
+                        if (PropertySnapshot.current().captureElementName()) {
                             var elementName = JavaHelper.
                                     formatLocatorToString(elementLocator);
                             try {
@@ -255,7 +254,7 @@ public class ElementActionsHelper {
 
     //TODO: delete this method after understanding what the heck it's supposed to be doing!
     public boolean waitForElementToBeClickable(WebDriver driver, By elementLocator, String actionToExecute) {
-        SHAFT.Properties.flags.clickUsingJavascriptWhenWebDriverClickFails();
+        PropertySnapshot.current().clickUsingJavascriptWhenWebDriverClickFails();
 
         if (!DriverFactoryHelper.isMobileNativeExecution()) {
             try {
@@ -333,7 +332,7 @@ public class ElementActionsHelper {
     }
 
     public String getElementName(WebDriver driver, By elementLocator) {
-        if (SHAFT.Properties.reporting.captureElementName()) {
+        if (PropertySnapshot.current().captureElementName()) {
             try {
                 var accessibleName = ((WebElement) identifyUniqueElementIgnoringVisibility(driver, elementLocator).get(1)).getAccessibleName();
                 if (accessibleName != null && !accessibleName.isBlank()) {
@@ -356,7 +355,7 @@ public class ElementActionsHelper {
 
     public boolean performClipboardActions(WebDriver driver, ClipboardAction action) {
         try {
-            Keys cmdCtrl = SHAFT.Properties.platform.targetPlatform().equalsIgnoreCase(Platform.MAC.name()) ? Keys.COMMAND : Keys.CONTROL;
+            Keys cmdCtrl = PropertySnapshot.current().targetPlatform().equalsIgnoreCase(Platform.MAC.name()) ? Keys.COMMAND : Keys.CONTROL;
             switch (action) {
                 case COPY -> (new Actions(driver)).keyDown(cmdCtrl).sendKeys("c").keyUp(cmdCtrl).perform();
                 case PASTE -> (new Actions(driver)).keyDown(cmdCtrl).sendKeys("v").keyUp(cmdCtrl).perform();
@@ -409,7 +408,7 @@ public class ElementActionsHelper {
                     return matchingElementsInformation;
                 }
                 default -> {
-                    if (SHAFT.Properties.flags.forceCheckElementLocatorIsUnique() && !(elementLocator instanceof RelativeLocator.RelativeBy)) {
+                    if (PropertySnapshot.current().forceCheckElementLocatorIsUnique() && !(elementLocator instanceof RelativeLocator.RelativeBy)) {
                         reportActionResult(driver, null, null, null, null, null, false);
                         FailureReporter.fail(ElementActionsHelper.class, "Failed to identify unique element", new MultipleElementsFoundException("Multiple elements found matching this locator \"" + JavaHelper.formatLocatorToString(elementLocator) + "\""));
                     }
@@ -593,7 +592,7 @@ public class ElementActionsHelper {
         }
 
         if (driver != null && (Boolean.FALSE.equals(passFailStatus)
-                || SHAFT.Properties.visuals.whenToTakePageSourceSnapshot().equalsIgnoreCase("always"))) {
+                || PropertySnapshot.current().whenToTakePageSourceSnapshot().equalsIgnoreCase("always"))) {
             var logMessage = "";
             var pageSnapshot = new BrowserActionsHelper(false).capturePageSnapshot(driver);
             if (pageSnapshot.startsWith("From: <Saved by Blink>")) {
@@ -1,10 +1,10 @@
 package com.shaft.gui.internal.image;
 
-import com.shaft.driver.SHAFT;
 import com.shaft.driver.internal.DriverFactory.DriverFactoryHelper;
 import com.shaft.enums.internal.Screenshots;
 import com.shaft.properties.internal.Properties;
 import com.shaft.properties.internal.PropertiesHelper;
+import com.shaft.properties.internal.PropertySnapshot;
 import com.shaft.tools.io.internal.FailureReporter;
 import com.shaft.tools.io.internal.ReportManagerHelper;
 import org.apache.commons.io.output.ByteArrayOutputStream;
@@ -53,7 +53,7 @@ public class ScreenshotHelper {
     }
 
     public static BufferedImage overlayShaftEngineLogo(BufferedImage screenshot) {
-        if (Boolean.TRUE.equals(SHAFT.Properties.visuals.screenshotParamsWatermark())) {
+        if (PropertySnapshot.current().screenshotParamsWatermark()) {
             try {
                 // create graphics object
                 Graphics2D screenshotGraphics = screenshot.createGraphics();
@@ -61,7 +61,7 @@ public class ScreenshotHelper {
 
                 screenshotGraphics.drawImage(screenshot, 0, 0, null);
                 screenshotGraphics.setComposite(
-                        AlphaComposite.getInstance(AlphaComposite.SRC_OVER, SHAFT.Properties.visuals.screenshotParamsWatermarkOpacity()));
+                        AlphaComposite.getInstance(AlphaComposite.SRC_OVER, PropertySnapshot.current().screenshotParamsWatermarkOpacity()));
 
                 if (shaftLogo == null) {
                     // read from custom location
@@ -148,8 +148,8 @@ public class ScreenshotHelper {
             Number contentWidth = (Number) contentSize.get("width");
             Number contentHeight = (Number) contentSize.get("height");
             Map<String, Object> clip = new HashMap<>();
-            clip.put("width", (long) contentWidth / SHAFT.Properties.visuals.screenshotParamsScalingFactor());
-            clip.put("height", (long) contentHeight / SHAFT.Properties.visuals.screenshotParamsScalingFactor());
+            clip.put("width", (long) contentWidth / PropertySnapshot.current().screenshotParamsScalingFactor());
+            clip.put("height", (long) contentHeight / PropertySnapshot.current().screenshotParamsScalingFactor());
             clip.put("x", 0);
             clip.put("y", 0);
             clip.put("scale", 1);
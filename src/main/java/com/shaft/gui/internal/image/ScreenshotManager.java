@@ -7,6 +7,7 @@ import com.shaft.enums.internal.Screenshots;
 import com.shaft.gui.browser.internal.JavaScriptWaitManager;
 import com.shaft.gui.element.internal.ElementActionsHelper;
 import com.shaft.gui.element.internal.ElementInformation;
+import com.shaft.properties.internal.PropertySnapshot;
 import com.shaft.tools.io.internal.ReportManagerHelper;
 import lombok.SneakyThrows;
 import org.openqa.selenium.*;
@@ -105,11 +106,12 @@ public class ScreenshotManager {
     }
 
     private boolean shouldTakeScreenshot(String actionName, boolean passFailStatus) {
-        var whenToTakeAScreenshot = SHAFT.Properties.visuals.screenshotParamsWhenToTakeAScreenshot();
+        var properties = PropertySnapshot.current();
+        var whenToTakeAScreenshot = properties.screenshotParamsWhenToTakeAScreenshot();
         return (
                 !passFailStatus
                         || (actionName.toLowerCase().matches(VALIDATION_ACTION_REGEX) && !whenToTakeAScreenshot.equals("Never"))
-                        || (SHAFT.Properties.visuals.createAnimatedGif() && (AnimatedGifManager.DETAILED_GIF || actionName.toLowerCase().matches(AnimatedGifManager.LIGHTWEIGHT_GIF_REGEX)))
+                        || (properties.createAnimatedGif() && (AnimatedGifManager.DETAILED_GIF || actionName.toLowerCase().matches(AnimatedGifManager.LIGHTWEIGHT_GIF_REGEX)))
                         || whenToTakeAScreenshot.equals("Always")
         );
         // if action failed => most common case
@@ -124,12 +126,12 @@ public class ScreenshotManager {
 
     @SneakyThrows
     private byte[] takeFullPageScreenshot(WebDriver driver) {
-        if (!SHAFT.Properties.testNG.parallel().equals("NONE")) {
+        if (!PropertySnapshot.current().parallel().equals("NONE")) {
             //in case of parallel execution, force regular screenshots
             return takeViewportScreenshot(driver);
-        } else if (!SHAFT.Properties.visuals.screenshotParamsSkippedElementsFromScreenshot().isEmpty()) {
+        } else if (!PropertySnapshot.current().screenshotParamsSkippedElementsFromScreenshot().isEmpty()) {
             List<WebElement> skippedElementsList = new ArrayList<>();
-            String[] skippedElementLocators = SHAFT.Properties.visuals.screenshotParamsSkippedElementsFromScreenshot().split(";");
+            String[] skippedElementLocators = PropertySnapshot.current().screenshotParamsSkippedElementsFromScreenshot().split(";");
             for (String locator : skippedElementLocators) {
                 if (elementActionsHelper.getElementsCount(driver, By.xpath(locator)) == 1) {
                     skippedElementsList.add(((WebElement) elementActionsHelper.identifyUniqueElementIgnoringVisibility(driver, By.xpath(locator)).get(1)));
@@ -179,7 +181,7 @@ public class ScreenshotManager {
     }
 
     public byte[] internalCaptureScreenshot(WebDriver driver, By elementLocator, boolean isPass) {
-        if ("JavaScript".equals(SHAFT.Properties.visuals.screenshotParamsHighlightMethod())) {
+        if ("JavaScript".equals(PropertySnapshot.current().screenshotParamsHighlightMethod())) {
             return takeJavaScriptHighlightedScreenshot(driver, elementLocator, isPass);
         } else {
             return takeAIHighlightedScreenshot(driver, elementLocator, isPass);
@@ -189,7 +191,7 @@ public class ScreenshotManager {
     private byte[] takeAIHighlightedScreenshot(WebDriver driver, By elementLocator, boolean isPass) {
         Rectangle elementLocation = null;
         // getElementLocation
-        if (Boolean.TRUE.equals(SHAFT.Properties.visuals.screenshotParamsHighlightElements()) && elementLocator != null) {
+        if (PropertySnapshot.current().screenshotParamsHighlightElements() && elementLocator != null) {
             var elementInformation = ElementInformation.fromList(elementActionsHelper.identifyUniqueElementIgnoringVisibility(driver, elementLocator));
             int elementCount = elementInformation.getNumberOfFoundElements();
             boolean isRelativeLocator = elementLocator instanceof RelativeLocator.RelativeBy;
@@ -226,7 +228,7 @@ public class ScreenshotManager {
         JavascriptExecutor js = null;
         WebElement element = null;
         // get & highlight Element
-        if (Boolean.TRUE.equals(SHAFT.Properties.visuals.screenshotParamsHighlightElements()) && elementLocator != null) {
+        if (PropertySnapshot.current().screenshotParamsHighlightElements() && elementLocator != null) {
             var elementInformation = ElementInformation.fromList(elementActionsHelper.identifyUniqueElementIgnoringVisibility(driver, elementLocator));
             int elementCount = elementInformation.getNumberOfFoundElements();
             boolean isRelativeLocator = elementLocator instanceof RelativeLocator.RelativeBy;
@@ -244,7 +246,7 @@ public class ScreenshotManager {
             //append highlighted element to GIF
             AnimatedGifManager.startOrAppendToAnimatedGif(src);
             //resetElementStyle
-            if (SHAFT.Properties.visuals.screenshotParamsHighlightMethod().equals("JavaScript") && js != null) {
+            if (PropertySnapshot.current().screenshotParamsHighlightMethod().equals("JavaScript") && js != null) {
                 js.executeScript("arguments[0].setAttribute('style', arguments[1]);", element, regularElementStyle);
             }
             return src;
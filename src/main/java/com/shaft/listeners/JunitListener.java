@@ -1,6 +1,7 @@
 package com.shaft.listeners;
 
 import com.shaft.api.RequestBuilder;
+import com.shaft.api.internal.ApiReportingFilter;
 import com.shaft.driver.SHAFT;
 import com.shaft.gui.internal.image.AnimatedGifManager;
 import com.shaft.gui.internal.video.RecordManager;
@@ -75,6 +76,7 @@ public class JunitListener implements LauncherSessionListener {
         ReportManagerHelper.setDiscreteLogging(true);
         JiraHelper.reportExecutionStatusToJira();
         GoogleTink.encrypt();
+        ApiReportingFilter.awaitPendingAttachments();
         AllureManager.generateAllureReportArchive();
         AllureManager.openAllureReportAfterExecution();
         long executionEndTime = System.currentTimeMillis();
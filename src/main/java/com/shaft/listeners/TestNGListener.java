@@ -6,7 +6,10 @@ import com.epam.reportportal.testng.ITestNGService;
 import com.epam.reportportal.testng.TestNGService;
 import com.epam.reportportal.utils.MemoizingSupplier;
 import com.shaft.api.RequestBuilder;
+import com.shaft.api.internal.ApiReportingFilter;
+import com.shaft.api.internal.ContractValidators;
 import com.shaft.driver.SHAFT;
+import com.shaft.driver.internal.DriverFactory.DriverPool;
 import com.shaft.gui.internal.image.ImageProcessingActions;
 import com.shaft.listeners.internal.*;
 import com.shaft.properties.internal.PropertiesHelper;
@@ -25,13 +28,13 @@ import org.testng.xml.XmlTest;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
+import java.time.Duration;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
-import java.util.stream.Stream;
+import java.util.stream.Collectors;
 
 public class TestNGListener implements IAlterSuiteListener, IAnnotationTransformer,
         IExecutionListener, ISuiteListener, IInvokedMethodListener, ITestListener, IResultListener2 {
@@ -49,13 +52,16 @@ public class TestNGListener implements IAlterSuiteListener, IAnnotationTransform
     private static XmlTest xmlTest;
     @Getter
     private static boolean isReportPortalEnabled;
+    @Getter
+    private static Map<String, Duration> engineSetupTimings = Map.of();
     private ITestNGService reportPortalTestNGService;
 
     public static ProjectStructureManager.RunType identifyRunType() {
-        Supplier<Stream<?>> stacktraceSupplier = () -> Arrays.stream((new Throwable()).getStackTrace()).map(StackTraceElement::getClassName);
-        var isUsingJunitDiscovery = stacktraceSupplier.get().anyMatch(org.junit.platform.launcher.core.EngineDiscoveryOrchestrator.class.getCanonicalName()::equals);
-        var isUsingTestNG = stacktraceSupplier.get().anyMatch(TestNG.class.getCanonicalName()::equals);
-        var isUsingCucumber = stacktraceSupplier.get().anyMatch(io.cucumber.core.runner.Runner.class.getCanonicalName()::equals);
+        // walk the stack once instead of once per framework
+        var callers = StackWalker.getInstance().walk(frames -> frames.map(StackWalker.StackFrame::getClassName).collect(Collectors.toSet()));
+        var isUsingJunitDiscovery = callers.contains(org.junit.platform.launcher.core.EngineDiscoveryOrchestrator.class.getCanonicalName());
+        var isUsingTestNG = callers.contains(TestNG.class.getCanonicalName());
+        var isUsingCucumber = callers.contains(io.cucumber.core.runner.Runner.class.getCanonicalName());
         if (isUsingJunitDiscovery || isUsingTestNG) {
             System.out.println("TestNG run detected...");
             return ProjectStructureManager.RunType.TESTNG;
@@ -69,38 +75,50 @@ public class TestNGListener implements IAlterSuiteListener, IAnnotationTransform
     }
 
     public static void engineSetup(ProjectStructureManager.RunType runType) {
-        PropertiesHelper.setKeySystemProperties();
-        Allure.getLifecycle();
-        Reporter.setEscapeHtml(false);
-        ReportManagerHelper.setDiscreteLogging(true);
-        if (runType == ProjectStructureManager.RunType.AI_AGENT) {
-            PropertiesHelper.initializeAiAgent();
+        var isAiAgentRun = runType == ProjectStructureManager.RunType.AI_AGENT;
+        var engineStartup = new EngineStartup()
+                .step("system properties", PropertiesHelper::setKeySystemProperties)
+                .step("allure lifecycle", () -> {
+                    Allure.getLifecycle();
+                    Reporter.setEscapeHtml(false);
+                }, "system properties")
+                .step("properties", () -> {
+                    ReportManagerHelper.setDiscreteLogging(true);
+                    if (isAiAgentRun) {
+                        PropertiesHelper.initializeAiAgent();
+                    } else {
+                        PropertiesHelper.initialize();
+                    }
+                    ReportManager.logDiscrete("Initializing Engine Setup...");
+                    SHAFT.Properties.reporting.set().disableLogging(true);
+                }, "system properties");
+        if (isAiAgentRun) {
+            engineStartup.step("project structure", () -> ProjectStructureManager.initialize(runType), "properties");
         } else {
-            PropertiesHelper.initialize();
-        }
-        ReportManager.logDiscrete("Initializing Engine Setup...");
-        SHAFT.Properties.reporting.set().disableLogging(true);
-        switch (runType) {
-            case TESTNG ->
-                    Thread.ofVirtual().start(() -> ProjectStructureManager.initialize(ProjectStructureManager.RunType.TESTNG));
-            case CUCUMBER ->
-                    Thread.ofVirtual().start(() -> ProjectStructureManager.initialize(ProjectStructureManager.RunType.CUCUMBER));
-            case JUNIT ->
-                    Thread.ofVirtual().start(() -> ProjectStructureManager.initialize(ProjectStructureManager.RunType.JUNIT));
-            case AI_AGENT ->
-                    ProjectStructureManager.initialize(ProjectStructureManager.RunType.AI_AGENT);
+            engineStartup.backgroundStep("project structure", () -> ProjectStructureManager.initialize(runType), "properties");
         }
-        TestNGListenerHelper.configureJVMProxy();
-        Thread.ofVirtual().start(() -> {
-            GoogleTink.initialize();
-            GoogleTink.decrypt();
-        });
-        SHAFT.Properties.reporting.set().disableLogging(false);
-        ReportManagerHelper.logEngineVersion();
-        Thread.ofVirtual().start(UpdateChecker::check);
-        Thread.ofVirtual().start(ImageProcessingActions::loadOpenCV);
-        AllureManager.initializeAllureReportingEnvironment();
-        Thread.ofVirtual().start(ReportManagerHelper::cleanExecutionSummaryReportDirectory);
+        engineStartup
+                .step("jvm proxy", TestNGListenerHelper::configureJVMProxy, "properties")
+                .step("engine version", () -> {
+                    SHAFT.Properties.reporting.set().disableLogging(false);
+                    ReportManagerHelper.logEngineVersion();
+                }, isAiAgentRun ? new String[]{"jvm proxy", "project structure"} : new String[]{"jvm proxy"})
+                .step("allure environment", AllureManager::initializeAllureReportingEnvironment, "allure lifecycle", "engine version")
+                .backgroundStep("encryption", () -> {
+                    GoogleTink.initialize();
+                    GoogleTink.decrypt();
+                }, "jvm proxy")
+                .backgroundStep("update check", UpdateChecker::check, "engine version")
+                .backgroundStep("opencv", ImageProcessingActions::loadOpenCV, "engine version")
+                // TestNG runs warm the driver pool up once their suites are known, see alter()
+                .backgroundStep("driver pool warm up", () -> {
+                    if (runType != ProjectStructureManager.RunType.TESTNG) {
+                        DriverPool.warmUp();
+                    }
+                }, "engine version")
+                .backgroundStep("contract validator warm up", ContractValidators::warmUp, "engine version")
+                .backgroundStep("execution summary cleanup", ReportManagerHelper::cleanExecutionSummaryReportDirectory, "allure environment");
+        engineSetupTimings = engineStartup.run();
         ReportManagerHelper.setDiscreteLogging(SHAFT.Properties.reporting.alwaysLogDiscreetly());
         ReportManagerHelper.setDebugMode(SHAFT.Properties.reporting.debugMode());
     }
@@ -141,6 +159,8 @@ public class TestNGListener implements IAlterSuiteListener, IAnnotationTransform
         //All alterations should be finalized before duplicating the
         //test suites for cross browser execution
         TestNGListenerHelper.configureCrossBrowserExecution(suites);
+        // the suites are final, so the pool is warmed up for the browsers that their tests target
+        DriverPool.warmUp(TestNGListenerHelper.getTargetBrowserNames(suites));
     }
 
     /**
@@ -289,6 +309,7 @@ public class TestNGListener implements IAlterSuiteListener, IAnnotationTransform
             // Generate the performance report using the fetched data
             ApiPerformanceExecutionReport.generatePerformanceReport(performanceData, executionStartTime, System.currentTimeMillis());
         });
+        ApiReportingFilter.awaitPendingAttachments();
         AllureManager.openAllureReportAfterExecution();
         AllureManager.generateAllureReportArchive();
         if (isReportPortalEnabled) this.reportPortalTestNGService.finishLaunch();
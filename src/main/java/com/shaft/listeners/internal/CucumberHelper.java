@@ -1,5 +1,6 @@
 package com.shaft.listeners.internal;
 
+import com.shaft.api.internal.ApiReportingFilter;
 import com.shaft.driver.SHAFT;
 import com.shaft.listeners.TestNGListener;
 import com.shaft.tools.internal.FirestoreRestClient;
@@ -62,6 +63,7 @@ public class CucumberHelper {
             ReportManagerHelper.setDiscreteLogging(true);
             JiraHelper.reportExecutionStatusToJira();
             GoogleTink.encrypt();
+            ApiReportingFilter.awaitPendingAttachments();
             AllureManager.generateAllureReportArchive();
             AllureManager.openAllureReportAfterExecution();
             Thread.ofVirtual().start(() -> FirestoreRestClient.sendTelemetry(executionStartTime, executionEndTime));
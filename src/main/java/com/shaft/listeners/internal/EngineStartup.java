@@ -0,0 +1,137 @@
+package com.shaft.listeners.internal;
+
+import com.shaft.tools.io.ReportManager;
+import com.shaft.tools.io.internal.ReportManagerHelper;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+/**
+ * Runs the engine setup steps as a dependency graph.
+ * <p>
+ * Every step starts on its own virtual thread as soon as all the steps it depends on have finished, so independent
+ * steps run concurrently. {@link #run()} waits for all the foreground steps and logs how long each of them took,
+ * while background steps keep running after it returns (for example checking for updates).
+ * <p>
+ * Sample usage:
+ * <pre>{@code
+ * new EngineStartup()
+ *         .step("properties", PropertiesHelper::initialize)
+ *         .step("proxy", TestNGListenerHelper::configureJVMProxy, "properties")
+ *         .backgroundStep("update check", UpdateChecker::check, "properties")
+ *         .run();
+ * }</pre>
+ */
+public class EngineStartup {
+    private static final Executor VIRTUAL_THREAD_EXECUTOR = task -> Thread.ofVirtual().name("shaft-engine-setup").start(task);
+    private final Map<String, Step> steps = new LinkedHashMap<>();
+    private final Map<String, Duration> timings = new ConcurrentHashMap<>();
+
+    /**
+     * Adds a step that must finish before {@link #run()} returns.
+     *
+     * @param name         the unique name of the step, used in the timing breakdown
+     * @param action       the step action
+     * @param dependencies the names of the steps that must finish before this step starts
+     * @return a self-reference to be used to chain actions
+     */
+    public EngineStartup step(String name, Runnable action, String... dependencies) {
+        return addStep(new Step(name, action, List.of(dependencies), false));
+    }
+
+    /**
+     * Adds a step that {@link #run()} doesn't wait for. Failures of background steps are logged, and don't fail the
+     * engine setup.
+     *
+     * @param name         the unique name of the step, used in the timing breakdown
+     * @param action       the step action
+     * @param dependencies the names of the steps that must finish before this step starts
+     * @return a self-reference to be used to chain actions
+     */
+    public EngineStartup backgroundStep(String name, Runnable action, String... dependencies) {
+        return addStep(new Step(name, action, List.of(dependencies), true));
+    }
+
+    /**
+     * Starts all the steps, waits for the foreground steps to finish, and logs the timing breakdown.
+     *
+     * @return the duration of every step that has finished so far, in the order they were added
+     */
+    public Map<String, Duration> run() {
+        long startTime = System.nanoTime();
+        var futures = new HashMap<String, CompletableFuture<Void>>();
+        steps.values().forEach(step -> start(step, futures));
+        var foregroundFutures = steps.values().stream()
+                .filter(step -> !step.isBackground())
+                .map(step -> futures.get(step.name()))
+                .toArray(CompletableFuture[]::new);
+        try {
+            CompletableFuture.allOf(foregroundFutures).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            } else if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+        var breakdown = timings();
+        var report = new StringJoiner(", ", "[", "]");
+        breakdown.forEach((name, duration) -> report.add(name + ": " + duration.toMillis() + "ms"));
+        ReportManager.logDiscrete("Engine setup completed in " + Duration.ofNanos(System.nanoTime() - startTime).toMillis() + "ms. " + report);
+        return breakdown;
+    }
+
+    /**
+     * @return the duration of every step that has finished so far, in the order they were added
+     */
+    public Map<String, Duration> timings() {
+        var orderedTimings = new LinkedHashMap<String, Duration>();
+        steps.keySet().stream().filter(timings::containsKey).forEach(name -> orderedTimings.put(name, timings.get(name)));
+        return orderedTimings;
+    }
+
+    private EngineStartup addStep(Step step) {
+        if (steps.containsKey(step.name())) {
+            throw new IllegalArgumentException("Duplicate engine setup step [" + step.name() + "].");
+        }
+        for (var dependency : step.dependencies()) {
+            // dependencies must be added first, which also rules out cycles
+            var dependencyStep = steps.get(dependency);
+            if (dependencyStep == null) {
+                throw new IllegalArgumentException("Engine setup step [" + step.name() + "] depends on unknown step [" + dependency + "].");
+            }
+            if (dependencyStep.isBackground() && !step.isBackground()) {
+                throw new IllegalArgumentException("Engine setup step [" + step.name() + "] cannot depend on background step [" + dependency + "].");
+            }
+        }
+        steps.put(step.name(), step);
+        return this;
+    }
+
+    private void start(Step step, Map<String, CompletableFuture<Void>> futures) {
+        var dependencies = step.dependencies().stream().map(futures::get).toArray(CompletableFuture[]::new);
+        var future = CompletableFuture.allOf(dependencies).thenRunAsync(() -> {
+            long stepStartTime = System.nanoTime();
+            try {
+                step.action().run();
+            } finally {
+                timings.put(step.name(), Duration.ofNanos(System.nanoTime() - stepStartTime));
+            }
+        }, VIRTUAL_THREAD_EXECUTOR);
+        if (step.isBackground()) {
+            future = future.exceptionally(throwable -> {
+                ReportManagerHelper.logDiscrete(throwable);
+                return null;
+            });
+        }
+        futures.put(step.name(), future);
+    }
+
+    private record Step(String name, Runnable action, List<String> dependencies, boolean isBackground) {
+    }
+}
@@ -20,8 +20,10 @@ import org.testng.xml.XmlTest;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 public class TestNGListenerHelper {
 
@@ -124,6 +126,21 @@ public class TestNGListenerHelper {
         }
     }
 
+    /**
+     * @param suites the suites of the current execution
+     * @return the browsers that the tests of the suites target, using their {@code targetBrowserName} parameters and
+     * falling back to {@code SHAFT.Properties.web.targetBrowserName()}
+     */
+    public static Set<String> getTargetBrowserNames(List<XmlSuite> suites) {
+        var targetBrowserNames = new LinkedHashSet<String>();
+        suites.forEach(suite -> suite.getTests().forEach(xmlTest -> {
+            var targetBrowserName = xmlTest.getAllParameters().get("targetBrowserName");
+            targetBrowserNames.add(targetBrowserName == null || targetBrowserName.isBlank()
+                    ? SHAFT.Properties.web.targetBrowserName() : targetBrowserName);
+        }));
+        return targetBrowserNames;
+    }
+
     private static void createTestSuite(XmlTest xmlTest, Browser browser) {
         xmlTest.setParameters(Map.of(
                 "executionAddress", "dockerized",
@@ -1,8 +1,14 @@
 package com.shaft.properties.internal;
 
-import static java.lang.System.setProperty;
+import org.aeonbits.owner.ConfigFactory;
 
 public interface API extends EngineProperties<API> {
+    private static void setProperty(String key, String value) {
+        System.setProperty(key, value);
+        // reload the properties, so that the new value is used by the next requests
+        Properties.api = ConfigFactory.create(API.class, System.getProperties());
+    }
+
     @Key("swagger.validation.enabled")
     @DefaultValue("false")
     boolean swaggerValidationEnabled();
@@ -11,6 +17,42 @@ public interface API extends EngineProperties<API> {
     @DefaultValue("")
     String swaggerValidationUrl();
 
+    @Key("swagger.validation.sampleRate")
+    @DefaultValue("1")
+    int swaggerValidationSampleRate();
+
+    @Key("api.connectionPool.enabled")
+    @DefaultValue("false")
+    boolean connectionPoolEnabled();
+
+    @Key("api.connectionPool.maxConnections")
+    @DefaultValue("200")
+    int connectionPoolMaxConnections();
+
+    @Key("api.connectionPool.maxConnectionsPerRoute")
+    @DefaultValue("20")
+    int connectionPoolMaxConnectionsPerRoute();
+
+    @Key("api.connectionPool.idleTimeout")
+    @DefaultValue("30")
+    int connectionPoolIdleTimeout();
+
+    @Key("api.keepAliveDuration")
+    @DefaultValue("30")
+    int keepAliveDuration();
+
+    @Key("api.reporting.level")
+    @DefaultValue("FULL")
+    String reportingLevel();
+
+    @Key("api.reporting.maxBodySize")
+    @DefaultValue("16")
+    int reportingMaxBodySize();
+
+    @Key("api.reporting.sampleRate")
+    @DefaultValue("10")
+    int reportingSampleRate();
+
     default SetProperty set() {
         return new SetProperty();
     }
@@ -25,6 +67,51 @@ public interface API extends EngineProperties<API> {
             setProperty("swagger.validation.url", value);
             return this;
         }
+
+        public SetProperty swaggerValidationSampleRate(int value) {
+            setProperty("swagger.validation.sampleRate", String.valueOf(value));
+            return this;
+        }
+
+        public SetProperty connectionPoolEnabled(boolean value) {
+            setProperty("api.connectionPool.enabled", String.valueOf(value));
+            return this;
+        }
+
+        public SetProperty connectionPoolMaxConnections(int value) {
+            setProperty("api.connectionPool.maxConnections", String.valueOf(value));
+            return this;
+        }
+
+        public SetProperty connectionPoolMaxConnectionsPerRoute(int value) {
+            setProperty("api.connectionPool.maxConnectionsPerRoute", String.valueOf(value));
+            return this;
+        }
+
+        public SetProperty connectionPoolIdleTimeout(int value) {
+            setProperty("api.connectionPool.idleTimeout", String.valueOf(value));
+            return this;
+        }
+
+        public SetProperty keepAliveDuration(int value) {
+            setProperty("api.keepAliveDuration", String.valueOf(value));
+            return this;
+        }
+
+        public SetProperty reportingLevel(String value) {
+            setProperty("api.reporting.level", value);
+            return this;
+        }
+
+        public SetProperty reportingMaxBodySize(int value) {
+            setProperty("api.reporting.maxBodySize", String.valueOf(value));
+            return this;
+        }
+
+        public SetProperty reportingSampleRate(int value) {
+            setProperty("api.reporting.sampleRate", String.valueOf(value));
+            return this;
+        }
     }
 }
 
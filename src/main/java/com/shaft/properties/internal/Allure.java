@@ -37,6 +37,10 @@ public interface Allure extends EngineProperties<Allure> {
     @DefaultValue("false")
     boolean generateArchive(); //generateArchive (used to be: generateAllureReportArchive)
 
+    @Key("allure.incrementalReport")
+    @DefaultValue("false")
+    boolean incrementalReport(); //reuses the last generated report when the results did not change, generates the history and single-file reports concurrently, and copies the report folders in parallel; results are not pre-aggregated per test since the Allure CLI always rebuilds from the whole results directory
+
     @Key("allure.customLogo")
     @DefaultValue("https://github.com/ShaftHQ/SHAFT_ENGINE/blob/main/src/main/resources/images/shaft_white.png?raw=true")
     String customLogo();
@@ -76,6 +80,11 @@ public interface Allure extends EngineProperties<Allure> {
             return this;
         }
 
+        public SetProperty incrementalReport(boolean value) {
+            setProperty("allure.incrementalReport", String.valueOf(value));
+            return this;
+        }
+
         public SetProperty customLogo(String value) {
             setProperty("allure.customLogo", value);
             return this;
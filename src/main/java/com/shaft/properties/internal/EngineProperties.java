@@ -4,11 +4,12 @@ import org.aeonbits.owner.Config;
 import org.aeonbits.owner.Config.HotReload;
 import org.aeonbits.owner.Config.HotReloadType;
 import org.aeonbits.owner.Config.LoadPolicy;
+import org.aeonbits.owner.Reloadable;
 
 // https://matteobaccan.github.io/owner/
 @HotReload(type = HotReloadType.ASYNC)
 @LoadPolicy(Config.LoadType.MERGE)
-public interface EngineProperties<T> extends Config {
+public interface EngineProperties<T> extends Config, Reloadable {
     SetProperty set();
 
     interface SetProperty {
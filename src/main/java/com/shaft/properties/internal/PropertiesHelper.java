@@ -15,6 +15,9 @@ import java.io.File;
 import java.io.IOException;
 import java.net.URL;
 import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
 
 public class PropertiesHelper {
     private static final String DEFAULT_PROPERTIES_FOLDER_PATH = "src/main/resources/properties/default";
@@ -41,29 +44,33 @@ public class PropertiesHelper {
     private static void loadProperties() {
         //read custom property files (if any) into system properties
         PropertyFileManager.readCustomPropertyFiles();
-        //load property objects
+        //load property objects, they are independent of each other so they are created concurrently
         Properties.paths = ConfigFactory.create(Paths.class); //reload paths in case the user changed something
-        Properties.platform = ConfigFactory.create(Platform.class);
-        Properties.web = ConfigFactory.create(Web.class);
-        Properties.mobile = ConfigFactory.create(Mobile.class);
-        Properties.browserStack = ConfigFactory.create(BrowserStack.class);
-        Properties.internal = ConfigFactory.create(Internal.class);
-        Properties.flags = ConfigFactory.create(Flags.class);
-        Properties.cucumber = ConfigFactory.create(Cucumber.class);
-        Properties.healenium = ConfigFactory.create(Healenium.class);
-        Properties.jira = ConfigFactory.create(Jira.class);
-        Properties.pattern = ConfigFactory.create(Pattern.class);
-        Properties.reporting = ConfigFactory.create(Reporting.class);
-        Properties.allure = ConfigFactory.create(Allure.class);
-        Properties.tinkey = ConfigFactory.create(Tinkey.class);
-        Properties.testNG = ConfigFactory.create(TestNG.class);
-        Properties.log4j = ConfigFactory.create(Log4j.class);
-        Properties.visuals = ConfigFactory.create(Visuals.class);
-        Properties.timeouts = ConfigFactory.create(Timeouts.class);
-        Properties.performance = ConfigFactory.create(Performance.class);
-        Properties.lambdaTest = ConfigFactory.create(LambdaTest.class);
-        Properties.api = ConfigFactory.create(API.class, System.getProperties());
-
+        var propertyObjects = Stream.<Runnable>of(
+                () -> Properties.platform = ConfigFactory.create(Platform.class),
+                () -> Properties.web = ConfigFactory.create(Web.class),
+                () -> Properties.mobile = ConfigFactory.create(Mobile.class),
+                () -> Properties.browserStack = ConfigFactory.create(BrowserStack.class),
+                () -> Properties.internal = ConfigFactory.create(Internal.class),
+                () -> Properties.flags = ConfigFactory.create(Flags.class),
+                () -> Properties.cucumber = ConfigFactory.create(Cucumber.class),
+                () -> Properties.healenium = ConfigFactory.create(Healenium.class),
+                () -> Properties.jira = ConfigFactory.create(Jira.class),
+                () -> Properties.pattern = ConfigFactory.create(Pattern.class),
+                () -> Properties.reporting = ConfigFactory.create(Reporting.class),
+                () -> Properties.allure = ConfigFactory.create(Allure.class),
+                () -> Properties.tinkey = ConfigFactory.create(Tinkey.class),
+                () -> Properties.testNG = ConfigFactory.create(TestNG.class),
+                () -> Properties.log4j = ConfigFactory.create(Log4j.class),
+                () -> Properties.visuals = ConfigFactory.create(Visuals.class),
+                () -> Properties.timeouts = ConfigFactory.create(Timeouts.class),
+                () -> Properties.performance = ConfigFactory.create(Performance.class),
+                () -> Properties.lambdaTest = ConfigFactory.create(LambdaTest.class),
+                () -> Properties.api = ConfigFactory.create(API.class, System.getProperties()));
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            CompletableFuture.allOf(propertyObjects.map(propertyObject -> CompletableFuture.runAsync(propertyObject, executor))
+                    .toArray(CompletableFuture[]::new)).join();
+        }
     }
 
     public static void setKeySystemProperties() {
@@ -212,11 +219,12 @@ public class PropertiesHelper {
 
             var fileActions = FileActions.getInstance(true);
 
-            // always override default properties
-            if (isExternalRun) {
+            // override default properties once per engine version
+            if (isExternalRun && !PropertyFileManager.isUnpackedForCurrentEngineVersion(propertiesFolderPath, DEFAULT_PROPERTIES_FOLDER_PATH)) {
                 try {
                     if (propertiesFolderPath.contains("file:")) {
                         fileActions.copyFolderFromJar(propertiesFolderPath, DEFAULT_PROPERTIES_FOLDER_PATH);
+                        PropertyFileManager.markAsUnpacked(propertiesFolderPath, DEFAULT_PROPERTIES_FOLDER_PATH);
                     } else {
                         throw new IOException("Properties folder path does not contain 'file:' protocol, indicating it is not running from a jar file.");
                     }
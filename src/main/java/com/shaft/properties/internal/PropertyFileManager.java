@@ -4,23 +4,34 @@ import com.shaft.cli.FileActions;
 import com.shaft.tools.io.ReportManager;
 import com.shaft.tools.io.internal.ReportManagerHelper;
 import lombok.Getter;
+import org.aeonbits.owner.ConfigFactory;
 import org.apache.commons.io.FileUtils;
 import org.openqa.selenium.MutableCapabilities;
 
 import java.io.File;
 import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.URI;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.zip.CRC32;
 
 public final class PropertyFileManager {
 
     @Getter
     private static final String CUSTOM_PROPERTIES_FOLDER_PATH = "src/main/resources/properties";
+    private static final String DEFAULT_UNPACKED_PROPERTIES_CACHE_PATH = "target/temp/unpackedDefaultProperties.cache";
+    // the file that records which default properties were unpacked, changed by the tests to keep them out of the target folder
+    static String unpackedPropertiesCachePath = DEFAULT_UNPACKED_PROPERTIES_CACHE_PATH;
+    private static final String DIGEST_KEY_SUFFIX = ".digest";
 
     private PropertyFileManager() {
         throw new IllegalStateException("Utility class");
@@ -60,10 +71,14 @@ public final class PropertyFileManager {
             try {
                 java.util.Properties properties = new java.util.Properties();
                 if (propertiesFolderPath.contains(".jar")) {
-                    // unpacks default properties to target folder
-                    URL url = URI.create(propertiesFolderPath.substring(0, propertiesFolderPath.indexOf("!"))).toURL();
-                    FileActions.getInstance(true).unpackArchive(url, "target/");
-                    propertiesFolderPath = "target/resources/properties/default/";
+                    // unpacks default properties to target folder, once per engine version
+                    var unpackedPropertiesFolderPath = "target/resources/properties/default/";
+                    if (!isUnpackedForCurrentEngineVersion(propertiesFolderPath, unpackedPropertiesFolderPath)) {
+                        URL url = URI.create(propertiesFolderPath.substring(0, propertiesFolderPath.indexOf("!"))).toURL();
+                        FileActions.getInstance(true).unpackArchive(url, "target/");
+                        markAsUnpacked(propertiesFolderPath, unpackedPropertiesFolderPath);
+                    }
+                    propertiesFolderPath = unpackedPropertiesFolderPath;
                 }
                 // reading regular files
                 Collection<File> propertiesFilesList;
@@ -100,6 +115,74 @@ public final class PropertyFileManager {
         }
     }
 
+    /**
+     * Checks whether the default properties were already unpacked from the target source by the current engine
+     * version, so that they don't have to be unpacked again on every run. The unpacked files are also compared with a
+     * digest of their content when they were unpacked, so that default properties that were edited since are still
+     * overridden, just like they were when the defaults were unpacked on every run.
+     *
+     * @param source                the path of the default properties inside the engine jar
+     * @param destinationFolderPath the folder that the default properties are unpacked to
+     * @return true if the destination folder exists, was unpacked from the same source by the same engine version,
+     * and was not modified since
+     */
+    static boolean isUnpackedForCurrentEngineVersion(String source, String destinationFolderPath) {
+        if (!new File(destinationFolderPath).isDirectory() || !new File(unpackedPropertiesCachePath).isFile()) {
+            return false;
+        }
+        var unpackedProperties = new java.util.Properties();
+        try (var cache = new FileInputStream(unpackedPropertiesCachePath)) {
+            unpackedProperties.load(cache);
+        } catch (IOException e) {
+            return false;
+        }
+        return getUnpackedPropertiesVersion(source).equals(unpackedProperties.getProperty(destinationFolderPath))
+                && getFolderDigest(destinationFolderPath).equals(unpackedProperties.getProperty(destinationFolderPath + DIGEST_KEY_SUFFIX));
+    }
+
+    static synchronized void markAsUnpacked(String source, String destinationFolderPath) {
+        var cacheFile = new File(unpackedPropertiesCachePath);
+        var unpackedProperties = new java.util.Properties();
+        try {
+            if (cacheFile.isFile()) {
+                try (var cache = new FileInputStream(cacheFile)) {
+                    unpackedProperties.load(cache);
+                }
+            }
+            unpackedProperties.setProperty(destinationFolderPath, getUnpackedPropertiesVersion(source));
+            unpackedProperties.setProperty(destinationFolderPath + DIGEST_KEY_SUFFIX, getFolderDigest(destinationFolderPath));
+            FileUtils.createParentDirectories(cacheFile);
+            try (var cache = new FileOutputStream(cacheFile)) {
+                unpackedProperties.store(cache, "Default properties unpacked by SHAFT, delete this file to unpack them again");
+            }
+        } catch (IOException e) {
+            ReportManagerHelper.logDiscrete(e);
+        }
+    }
+
+    /**
+     * @return a CRC32 digest of the names and content of the files in the target folder, or an empty string if they
+     * cannot be read
+     */
+    private static String getFolderDigest(String folderPath) {
+        var folder = Path.of(folderPath);
+        var digest = new CRC32();
+        try (var files = Files.walk(folder)) {
+            for (var file : (Iterable<Path>) files.filter(Files::isRegularFile).sorted()::iterator) {
+                digest.update(folder.relativize(file).toString().getBytes(StandardCharsets.UTF_8));
+                digest.update(Files.readAllBytes(file));
+            }
+        } catch (IOException | UncheckedIOException e) {
+            return "";
+        }
+        return Long.toHexString(digest.getValue());
+    }
+
+    private static String getUnpackedPropertiesVersion(String source) {
+        var internal = Objects.requireNonNullElseGet(Properties.internal, () -> ConfigFactory.create(Internal.class));
+        return internal.shaftEngineVersion() + "@" + source;
+    }
+
     public static void readCustomPropertyFiles() {
         readPropertyFiles(Objects.requireNonNullElse(Properties.paths.properties(), CUSTOM_PROPERTIES_FOLDER_PATH));
     }
@@ -0,0 +1,136 @@
+package com.shaft.properties.internal;
+
+import com.shaft.driver.DriverFactory;
+import org.aeonbits.owner.event.ReloadListener;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Immutable, typed copy of the properties that the engine reads on every element action, wait, and screenshot.
+ * <p>
+ * Reading a property through its OWNER proxy goes through reflection, key resolution, and type conversion on every
+ * call, which adds up inside polling loops. Every {@code set()} call replaces the proxy of its property group (see
+ * {@link Properties}), so the snapshot compares the proxies it was built from with the current ones to know whether it
+ * is still valid. Hot reloads update a proxy in place instead, so the snapshot also listens to the reloads of the
+ * proxies it was built from. When a proxy was replaced or reloaded the snapshot is rebuilt, and its {@link #version()}
+ * is incremented only if one of the captured values actually changed.
+ * <p>
+ * Sample usage: {@code PropertySnapshot.current().defaultElementIdentificationTimeout()}
+ */
+public record PropertySnapshot(
+        double defaultElementIdentificationTimeout,
+        boolean waitForLazyLoading,
+        String lazyLoadingWaitStrategy,
+        int lazyLoadingQuietPeriod,
+        String elementPollingStrategy,
+        String lazyLoadingPollingStrategy,
+        String waitUntilPollingStrategy,
+        String targetBrowserName,
+        String targetPlatform,
+        String parallel,
+        boolean captureElementName,
+        boolean clickUsingJavascriptWhenWebDriverClickFails,
+        boolean forceCheckElementLocatorIsUnique,
+        String screenshotParamsWhenToTakeAScreenshot,
+        boolean createAnimatedGif,
+        String screenshotParamsSkippedElementsFromScreenshot,
+        boolean screenshotParamsHighlightElements,
+        String screenshotParamsHighlightMethod,
+        boolean screenshotParamsWatermark,
+        float screenshotParamsWatermarkOpacity,
+        double screenshotParamsScalingFactor,
+        String whenToTakePageSourceSnapshot) {
+
+    private static final AtomicLong reloads = new AtomicLong();
+    private static final ReloadListener reloadListener = event -> reloads.incrementAndGet();
+    private static volatile State state;
+
+    /**
+     * Returns the snapshot of the current property values, rebuilding it first if any of the property groups it was
+     * built from has been set or reloaded since.
+     *
+     * @return the current property snapshot
+     */
+    public static PropertySnapshot current() {
+        var currentState = state;
+        if (currentState == null || !currentState.isBuiltFromCurrentProperties()) {
+            currentState = rebuild();
+        }
+        return currentState.snapshot();
+    }
+
+    /**
+     * @return a number that is incremented every time the value of a captured property changes
+     */
+    public static long version() {
+        current();
+        return state.version();
+    }
+
+    private static synchronized State rebuild() {
+        if (state != null && state.isBuiltFromCurrentProperties()) {
+            return state;
+        }
+        if (Properties.platform == null) {
+            DriverFactory.reloadProperties();
+        }
+        // the reloads are counted before reading the values, so that a reload that happens while reading them
+        // invalidates the new snapshot
+        long reloadsBeforeRebuild = reloads.get();
+        var previousState = state;
+        List<EngineProperties<?>> proxies = List.of(Properties.timeouts, Properties.web, Properties.platform,
+                Properties.testNG, Properties.reporting, Properties.flags, Properties.visuals);
+        for (var proxy : proxies) {
+            if (previousState == null || previousState.proxies().stream().noneMatch(previousProxy -> previousProxy == proxy)) {
+                proxy.addReloadListener(reloadListener);
+            }
+        }
+        var snapshot = new PropertySnapshot(
+                Properties.timeouts.defaultElementIdentificationTimeout(),
+                Properties.timeouts.waitForLazyLoading(),
+                Properties.timeouts.lazyLoadingWaitStrategy(),
+                Properties.timeouts.lazyLoadingQuietPeriod(),
+                Properties.timeouts.elementPollingStrategy(),
+                Properties.timeouts.lazyLoadingPollingStrategy(),
+                Properties.timeouts.waitUntilPollingStrategy(),
+                Properties.web.targetBrowserName(),
+                Properties.platform.targetPlatform(),
+                Properties.testNG.parallel(),
+                Properties.reporting.captureElementName(),
+                Properties.flags.clickUsingJavascriptWhenWebDriverClickFails(),
+                Properties.flags.forceCheckElementLocatorIsUnique(),
+                Properties.visuals.screenshotParamsWhenToTakeAScreenshot(),
+                Properties.visuals.createAnimatedGif(),
+                Properties.visuals.screenshotParamsSkippedElementsFromScreenshot(),
+                Properties.visuals.screenshotParamsHighlightElements(),
+                Properties.visuals.screenshotParamsHighlightMethod(),
+                Properties.visuals.screenshotParamsWatermark(),
+                Properties.visuals.screenshotParamsWatermarkOpacity(),
+                Properties.visuals.screenshotParamsScalingFactor(),
+                Properties.visuals.whenToTakePageSourceSnapshot());
+        long version = state == null ? 1 : state.version();
+        if (state != null && !state.snapshot().equals(snapshot)) {
+            version++;
+        }
+        state = new State(state == null || version != state.version() ? snapshot : state.snapshot(), version,
+                reloadsBeforeRebuild, proxies);
+        return state;
+    }
+
+    /**
+     * The current snapshot along with the property proxies it was built from, and the number of reloads it has seen.
+     */
+    private record State(PropertySnapshot snapshot, long version, long reloads, List<EngineProperties<?>> proxies) {
+        private boolean isBuiltFromCurrentProperties() {
+            return reloads == PropertySnapshot.reloads.get()
+                    && proxies.get(0) == Properties.timeouts
+                    && proxies.get(1) == Properties.web
+                    && proxies.get(2) == Properties.platform
+                    && proxies.get(3) == Properties.testNG
+                    && proxies.get(4) == Properties.reporting
+                    && proxies.get(5) == Properties.flags
+                    && proxies.get(6) == Properties.visuals;
+        }
+    }
+}
@@ -20,6 +20,26 @@ public interface Timeouts extends EngineProperties<Timeouts> {
     @DefaultValue("true")
     Boolean waitForLazyLoading();
 
+    @Key("lazyLoadingWaitStrategy")
+    @DefaultValue("polling")
+    String lazyLoadingWaitStrategy();
+
+    @Key("lazyLoadingQuietPeriod")
+    @DefaultValue("0")
+    int lazyLoadingQuietPeriod();
+
+    @Key("elementPollingStrategy")
+    @DefaultValue("adaptive")
+    String elementPollingStrategy();
+
+    @Key("lazyLoadingPollingStrategy")
+    @DefaultValue("adaptive")
+    String lazyLoadingPollingStrategy();
+
+    @Key("waitUntilPollingStrategy")
+    @DefaultValue("adaptive")
+    String waitUntilPollingStrategy();
+
     @Key("browserNavigationTimeout")
     @DefaultValue("30")
     int browserNavigationTimeout();
@@ -56,6 +76,14 @@ public interface Timeouts extends EngineProperties<Timeouts> {
     @DefaultValue("30")
     int dockerCommandTimeout();
 
+    @Key("sshKeepAliveInterval")
+    @DefaultValue("15")
+    int sshKeepAliveInterval();
+
+    @Key("sshSessionIdleTimeout")
+    @DefaultValue("300")
+    int sshSessionIdleTimeout();
+
     @Key("databaseLoginTimeout")
     @DefaultValue("30")
     int databaseLoginTimeout();
@@ -84,6 +112,10 @@ public interface Timeouts extends EngineProperties<Timeouts> {
     @DefaultValue("60")
     int waitUntilTimeout();
 
+    @Key("fileDownloadTimeout")
+    @DefaultValue("30")
+    int fileDownloadTimeout();
+
     default SetProperty set() {
         return new SetProperty();
     }
@@ -94,6 +126,31 @@ public interface Timeouts extends EngineProperties<Timeouts> {
             return this;
         }
 
+        public SetProperty lazyLoadingWaitStrategy(String value) {
+            setProperty("lazyLoadingWaitStrategy", value);
+            return this;
+        }
+
+        public SetProperty lazyLoadingQuietPeriod(int value) {
+            setProperty("lazyLoadingQuietPeriod", String.valueOf(value));
+            return this;
+        }
+
+        public SetProperty elementPollingStrategy(String value) {
+            setProperty("elementPollingStrategy", value);
+            return this;
+        }
+
+        public SetProperty lazyLoadingPollingStrategy(String value) {
+            setProperty("lazyLoadingPollingStrategy", value);
+            return this;
+        }
+
+        public SetProperty waitUntilPollingStrategy(String value) {
+            setProperty("waitUntilPollingStrategy", value);
+            return this;
+        }
+
         public SetProperty lazyLoadingTimeout(int value) {
             setProperty("lazyLoadingTimeout", String.valueOf(value));
             return this;
@@ -144,6 +201,16 @@ public interface Timeouts extends EngineProperties<Timeouts> {
             return this;
         }
 
+        public SetProperty sshKeepAliveInterval(int value) {
+            setProperty("sshKeepAliveInterval", String.valueOf(value));
+            return this;
+        }
+
+        public SetProperty sshSessionIdleTimeout(int value) {
+            setProperty("sshSessionIdleTimeout", String.valueOf(value));
+            return this;
+        }
+
         public SetProperty databaseLoginTimeout(int value) {
             setProperty("databaseLoginTimeout", String.valueOf(value));
             return this;
@@ -179,6 +246,11 @@ public interface Timeouts extends EngineProperties<Timeouts> {
             return this;
         }
 
+        public SetProperty fileDownloadTimeout(int value) {
+            setProperty("fileDownloadTimeout", String.valueOf(value));
+            return this;
+        }
+
     }
 
 }
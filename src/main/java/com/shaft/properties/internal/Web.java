@@ -82,6 +82,21 @@ public interface Web extends EngineProperties<Web> {
     @DefaultValue("none")
     String readinessState();
 
+    // number of browser sessions to pre-warm per browser type, 0 disables the driver pool
+    @Key("driverPoolSize")
+    @DefaultValue("0")
+    int driverPoolSize();
+
+    // comma separated browser names to pre-warm, defaults to the targetBrowserName
+    @Key("driverPoolBrowsers")
+    @DefaultValue("")
+    String driverPoolBrowsers();
+
+    // number of times a pooled browser session is reused before it is closed and replaced
+    @Key("driverPoolMaxSessionUses")
+    @DefaultValue("20")
+    int driverPoolMaxSessionUses();
+
     default SetProperty set() {
         return new SetProperty();
     }
@@ -169,6 +184,21 @@ public interface Web extends EngineProperties<Web> {
             setProperty("readinessState", value);
             return this;
         }
+
+        public SetProperty driverPoolSize(int value) {
+            setProperty("driverPoolSize", String.valueOf(value));
+            return this;
+        }
+
+        public SetProperty driverPoolBrowsers(String value) {
+            setProperty("driverPoolBrowsers", value);
+            return this;
+        }
+
+        public SetProperty driverPoolMaxSessionUses(int value) {
+            setProperty("driverPoolMaxSessionUses", String.valueOf(value));
+            return this;
+        }
     }
 
 }
@@ -293,6 +293,106 @@ public enum JavaScriptHelper {
     DOCUMENT_READY_STATE("return document.readyState;"),
     JQUERY_ACTIVE_STATE("return jQuery.active;"),
     ANGULAR_READY_STATE("return angular.element(document).injector().get('$http').pendingRequests.length;"),
+    BATCH_LOCATE_ELEMENTS("""
+            /** returns the elements matching every [strategy, value] pair, or null for the strategies that must be located natively */
+            return arguments[0].map(function (locator) {
+                var using = locator[0], value = locator[1];
+                if (using === 'css selector') return Array.prototype.slice.call(document.querySelectorAll(value));
+                if (using === 'tag name') return Array.prototype.slice.call(document.getElementsByTagName(value));
+                if (using === 'xpath') {
+                    var result = document.evaluate(value, document, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null), elements = [];
+                    for (var i = 0; i < result.snapshotLength; i++) elements.push(result.snapshotItem(i));
+                    return elements;
+                }
+                return null;
+            });"""),
+    BATCH_SET_VALUES("""
+            /** sets the value of every element, selects options by their visible text, and fires the events that frameworks listen to */
+            var elements = arguments[0], values = arguments[1], kinds = arguments[2];
+            for (var i = 0; i < elements.length; i++) {
+                var element = elements[i], value = values[i];
+                if (kinds[i] === 'select') {
+                    var option = Array.prototype.find.call(element.options, function (o) { return o.text.trim() === value.trim(); });
+                    if (!option) throw new Error('Cannot locate option with visible text "' + value + '"');
+                    option.selected = true;
+                } else {
+                    var descriptor = Object.getOwnPropertyDescriptor(Object.getPrototypeOf(element), 'value');
+                    if (descriptor && descriptor.set) descriptor.set.call(element, value); else element.value = value;
+                }
+                element.dispatchEvent(new Event('input', {bubbles: true}));
+                element.dispatchEvent(new Event('change', {bubbles: true}));
+            }"""),
+    BATCH_READ_VALUES("""
+            /** returns the selected text of drop-down lists, the checked state of checkboxes and radio buttons, the value of fields, or the text of any other element */
+            return arguments[0].map(function (element) {
+                if (element instanceof HTMLSelectElement) return Array.prototype.filter.call(element.options, function (o) { return o.selected; }).map(function (o) { return o.text; }).join('');
+                if (element.type === 'checkbox' || element.type === 'radio') return String(element.checked);
+                if (element instanceof HTMLInputElement || element instanceof HTMLTextAreaElement) return element.value;
+                return (element.innerText || element.textContent || '').trim();
+            });"""),
+    PAGE_OBSERVER_INSTALL("""
+            /** installs the page observer once per document, it is also registered to run before the scripts of every new document when the browser supports it */
+            (function () {
+                if (window.__shaftPageObserver) return;
+                var observer = window.__shaftPageObserver = {pendingRequests: 0, lastActivity: Date.now()};
+                var touch = function () { observer.lastActivity = Date.now(); };
+                var requestStarted = function () { observer.pendingRequests++; touch(); };
+                var requestEnded = function () { observer.pendingRequests = Math.max(0, observer.pendingRequests - 1); touch(); };
+                if (window.fetch) {
+                    var originalFetch = window.fetch;
+                    window.fetch = function () {
+                        requestStarted();
+                        try {
+                            var promise = originalFetch.apply(this, arguments);
+                            promise.then(requestEnded, requestEnded);
+                            return promise;
+                        } catch (e) {
+                            requestEnded();
+                            throw e;
+                        }
+                    };
+                }
+                if (window.XMLHttpRequest) {
+                    var originalSend = XMLHttpRequest.prototype.send;
+                    XMLHttpRequest.prototype.send = function () {
+                        requestStarted();
+                        this.addEventListener('loadend', requestEnded);
+                        try {
+                            return originalSend.apply(this, arguments);
+                        } catch (e) {
+                            this.removeEventListener('loadend', requestEnded);
+                            requestEnded();
+                            throw e;
+                        }
+                    };
+                }
+                if (window.MutationObserver) {
+                    // the document itself is observed, because the document element doesn't exist yet before the first script runs
+                    new MutationObserver(touch).observe(document, {childList: true, subtree: true, attributes: true, characterData: true});
+                }
+            })();
+            """),
+    PAGE_OBSERVER_WAIT_FOR_IDLE("""
+            /** resolves once the page is idle or the timeout is reached, requires the page observer to be installed */
+            var quietPeriod = arguments[0], timeout = arguments[1], callback = arguments[arguments.length - 1];
+            var observer = window.__shaftPageObserver;
+            var isIdle = function () {
+                if (document.readyState !== 'complete' && document.readyState !== 'loaded') return false;
+                if (observer.pendingRequests > 0) return false;
+                try { if (window.jQuery && window.jQuery.active > 0) return false; } catch (e) {}
+                try { if (window.angular && window.angular.element(document).injector().get('$http').pendingRequests.length > 0) return false; } catch (e) {}
+                return Date.now() - observer.lastActivity >= quietPeriod;
+            };
+            var deadline = Date.now() + timeout;
+            (function check() {
+                if (isIdle()) {
+                    callback(true);
+                } else if (Date.now() >= deadline) {
+                    callback(false);
+                } else {
+                    setTimeout(check, 50);
+                }
+            })();"""),
     INJECT_INPUT_TO_UPLOAD_FILE_VIA_DROP_ACTION("""
             for (var b = arguments[0], k = arguments[1], l = arguments[2], c = b.ownerDocument, m = 0;;) {
                 var e = b.getBoundingClientRect(),
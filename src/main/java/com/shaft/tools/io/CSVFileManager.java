@@ -2,30 +2,24 @@ package com.shaft.tools.io;
 
 import com.shaft.driver.DriverFactory;
 import com.shaft.tools.internal.support.JavaHelper;
+import com.shaft.tools.io.internal.CsvTable;
 import com.shaft.tools.io.internal.FailureReporter;
-import org.apache.commons.csv.CSVFormat;
-import org.apache.commons.csv.CSVParser;
-import org.apache.commons.csv.CSVRecord;
+import com.shaft.tools.io.internal.TestDataCache;
 import org.apache.logging.log4j.Level;
 
-import java.io.FileReader;
 import java.io.IOException;
 import java.util.*;
 
 @SuppressWarnings("unused")
 public class CSVFileManager {
-    private FileReader reader;
-    private List<String[]> rows;
-    private Map<String, List<String>> ColumnWithRows;
-    private CSVParser records;
+    private CsvTable table;
     private String csvFilePath;
-    private FileReader RowReader;
-    private Iterable<CSVRecord> RowRecords;
 
 
     /**
      * Creates a new instance of the test data CSV reader using the target CSV
-     * file path
+     * file path. The file is parsed once into a shared columnar table, so all
+     * cell lookups and column aggregates are served from memory.
      *
      * @param csvFilePath target test data CSV file path
      */
@@ -35,10 +29,7 @@ public class CSVFileManager {
         csvFilePath = JavaHelper.appendTestDataToRelativePath(csvFilePath);
         this.csvFilePath = csvFilePath;
         try {
-            reader = new FileReader(csvFilePath);
-            records = CSVFormat.DEFAULT.withFirstRecordAsHeader().parse(reader);
-            RowReader = new FileReader(csvFilePath);
-            RowRecords = CSVFormat.DEFAULT.withFirstRecordAsHeader().parse(RowReader);
+            table = TestDataCache.get(csvFilePath, "csv", CsvTable::parse).tree();
             ReportManager.logDiscrete("Reading test data from the following file. [" + this.csvFilePath + "]", Level.INFO);
         } catch (IOException | OutOfMemoryError e) {
             FailureReporter.fail(this.getClass(), "Couldn't find the desired file. [" + this.csvFilePath + "] ", e);
@@ -54,14 +45,10 @@ public class CSVFileManager {
      * @return a list of string arrays, where each array represents a row in the CSV file.
      */
     public List<String[]> getRows() {
-        rows = new ArrayList<>();
+        List<String[]> rows = new ArrayList<>();
         try {
-            for (CSVRecord record : RowRecords) {
-                String[] row = new String[record.size()];
-                for (int i = 0; i < record.size(); i++) {
-                    row[i] = record.get(i);
-                }
-                rows.add(row);
+            for (int i = 0; i < table.rowCount(); i++) {
+                rows.add(table.row(i));
             }
             ReportManager.logDiscrete("Successfully retrieved all rows from [" + csvFilePath + "].", Level.INFO);
         } catch (Exception e) {
@@ -77,7 +64,7 @@ public class CSVFileManager {
      */
     public List<String> getColumns() {
         try {
-            List<String> columns = new ArrayList<>(records.getHeaderNames());
+            List<String> columns = new ArrayList<>(table.headers());
             ReportManager.logDiscrete("Successfully retrieved column names from [" + csvFilePath + "].", Level.INFO);
             return columns;
         } catch (Exception e) {
@@ -92,24 +79,16 @@ public class CSVFileManager {
      * @return a map where keys are column names and values are lists of column data.
      */
     public Map<String, List<String>> getColumnsWithData() {
-        ColumnWithRows = new HashMap<>();
+        Map<String, List<String>> columnsWithData = new HashMap<>();
         try {
-            List<String[]> rows = getRows();
-            List<String> columns = getColumns();
-
+            List<String> columns = table.headers();
             for (int i = 0; i < columns.size(); i++) {
-                List<String> columnData = new ArrayList<>();
-                for (String[] row : rows) {
-                    if (i < row.length) {
-                        columnData.add(row[i]);
-                    }
-                }
-                ColumnWithRows.put(columns.get(i), columnData);
+                columnsWithData.put(columns.get(i), table.column(i));
             }
         } catch (Exception e) {
             ReportManager.logDiscrete("Error while mapping columns with data: " + e.getMessage(), Level.ERROR);
         }
-        return ColumnWithRows;
+        return columnsWithData;
     }
 
     /**
@@ -150,7 +129,8 @@ public class CSVFileManager {
      */
     public List<String> getSpecificColumnData(String ColumnName) {
         try {
-            return getColumnsWithData().get(ColumnName);
+            int columnIndex = table.columnIndex(ColumnName);
+            return columnIndex < 0 ? null : table.column(columnIndex);
         } catch (Exception e) {
             ReportManager.logDiscrete("Error while retrieving data for column: " + ColumnName + ". " + e.getMessage(), Level.ERROR);
             return Collections.emptyList();
@@ -165,7 +145,8 @@ public class CSVFileManager {
      */
     public List<String> getSpecificColumnData(int ColumnIndex) {
         try {
-            return getColumnsWithData().get(getSpecificColumnName(ColumnIndex - 1));
+            int columnIndex = table.columnIndex(getSpecificColumnName(ColumnIndex - 1));
+            return columnIndex < 0 ? null : table.column(columnIndex);
         } catch (Exception e) {
             ReportManager.logDiscrete("Error while retrieving data for column: " + getSpecificColumnName(ColumnIndex - 1) + ". " + e.getMessage(), Level.ERROR);
             return Collections.emptyList();
@@ -181,9 +162,7 @@ public class CSVFileManager {
      */
     public String getCellData(int RowNum, String ColumnName) {
         try {
-            String[] row = getRows().get(RowNum);
-            List<String> columns = getColumns();
-            return row[columns.indexOf(ColumnName)];
+            return table.cell(RowNum, table.columnIndex(ColumnName));
         } catch (Exception e) {
             ReportManager.logDiscrete("Error while retrieving cell data for Row: " + RowNum + ", Column: " + ColumnName + ". " + e.getMessage(), Level.ERROR);
             return null;
@@ -199,9 +178,7 @@ public class CSVFileManager {
      */
     public String getCellData(int RowNum, int ColumnIndex) {
         try {
-            String[] row = getRows().get(RowNum);
-            List<String> columns = getColumns();
-            return row[columns.indexOf(getSpecificColumnName(ColumnIndex - 1))];
+            return table.cell(RowNum, table.columnIndex(getSpecificColumnName(ColumnIndex - 1)));
         } catch (Exception e) {
             ReportManager.logDiscrete("Error while retrieving cell data for Row: " + RowNum + ", Column: " + getSpecificColumnName(ColumnIndex - 1) + ". " + e.getMessage(), Level.ERROR);
             return null;
@@ -232,14 +209,7 @@ public class CSVFileManager {
      */
     public double getMinCellValue(String columnName) {
         try {
-            List<String> columnData = getColumnsWithData().get(columnName);
-            double min = Double.MAX_VALUE;
-            for (String value : columnData) {
-                double num = Double.parseDouble(value);
-                if (num < min) {
-                    min = num;
-                }
-            }
+            double min = getNumericColumnStatistics(columnName).min();
             ReportManager.logDiscrete("Successfully retrieved Min cell value= " + min + " of column : " + columnName + " from [" + csvFilePath + "].", Level.INFO);
             return min;
         } catch (Exception e) {
@@ -255,21 +225,7 @@ public class CSVFileManager {
      * @return the minimum value in the column, or Double.NaN if an error occurs.
      */
     public double getMinCellValue(int columnIndex) {
-        try {
-            List<String> columnData = getColumnsWithData().get(getColumns().get(columnIndex));
-            double min = Double.MAX_VALUE;
-            for (String value : columnData) {
-                double num = Double.parseDouble(value);
-                if (num < min) {
-                    min = num;
-                }
-            }
-            ReportManager.logDiscrete("Successfully retrieved Min cell value= " + min + " of column : " + getColumns().get(columnIndex) + " from [" + csvFilePath + "].", Level.INFO);
-            return min;
-        } catch (Exception e) {
-            ReportManager.logDiscrete("Error calculating min value for column: " + getColumns().get(columnIndex) + ". " + e.getMessage(), Level.ERROR);
-            return Double.NaN;
-        }
+        return getMinCellValue(table.headers().get(columnIndex));
     }
 
     /**
@@ -280,18 +236,11 @@ public class CSVFileManager {
      */
     public double getMaxCellValue(String columnName) {
         try {
-            List<String> columnData = getColumnsWithData().get(columnName);
-            double max = Double.MIN_VALUE;
-            for (String value : columnData) {
-                double num = Double.parseDouble(value);
-                if (num > max) {
-                    max = num;
-                }
-            }
+            double max = getNumericColumnStatistics(columnName).max();
             ReportManager.logDiscrete("Successfully retrieved Max cell value= " + max + " of column : " + columnName + " from [" + csvFilePath + "].", Level.INFO);
             return max;
         } catch (Exception e) {
-            ReportManager.logDiscrete("Error calculating min value for column: " + columnName + ". " + e.getMessage(), Level.ERROR);
+            ReportManager.logDiscrete("Error calculating max value for column: " + columnName + ". " + e.getMessage(), Level.ERROR);
             return Double.NaN;
         }
     }
@@ -303,23 +252,43 @@ public class CSVFileManager {
      * @return the maximum value in the column, or Double.NaN if an error occurs.
      */
     public double getMaxCellValue(int columnIndex) {
+        return getMaxCellValue(table.headers().get(columnIndex));
+    }
+
+    /**
+     * Retrieves the sum of all values in a specific column.
+     *
+     * @param columnName the name of the column.
+     * @return the sum of the values in the column, or Double.NaN if an error occurs.
+     */
+    public double getSumOfCellValues(String columnName) {
         try {
-            List<String> columnData = getColumnsWithData().get(getColumns().get(columnIndex));
-            double max = Double.MIN_VALUE;
-            for (String value : columnData) {
-                double num = Double.parseDouble(value);
-                if (num > max) {
-                    max = num;
-                }
-            }
-            ReportManager.logDiscrete("Successfully retrieved Max cell value = " + max + " of column : " + getColumns().get(columnIndex) + " from [" + csvFilePath + "].", Level.INFO);
-            return max;
+            double sum = getNumericColumnStatistics(columnName).sum();
+            ReportManager.logDiscrete("Successfully retrieved sum of cell values = " + sum + " of column : " + columnName + " from [" + csvFilePath + "].", Level.INFO);
+            return sum;
         } catch (Exception e) {
-            ReportManager.logDiscrete("Error calculating min value for column: " + getColumns().get(columnIndex) + ". " + e.getMessage(), Level.ERROR);
+            ReportManager.logDiscrete("Error calculating sum for column: " + columnName + ". " + e.getMessage(), Level.ERROR);
             return Double.NaN;
         }
     }
 
+    /**
+     * Retrieves the number of distinct values in a specific column.
+     *
+     * @param columnName the name of the column.
+     * @return the number of distinct values in the column, or 0 if an error occurs.
+     */
+    public int getDistinctCellCount(String columnName) {
+        try {
+            int distinctCount = getColumnStatistics(columnName).distinctCount();
+            ReportManager.logDiscrete("Successfully retrieved distinct cell count of column : " + columnName + " from [" + csvFilePath + "].", Level.INFO);
+            return distinctCount;
+        } catch (Exception e) {
+            ReportManager.logDiscrete("Error calculating distinct count for column: " + columnName + ". " + e.getMessage(), Level.ERROR);
+            return 0;
+        }
+    }
+
     /**
      * Retrieves the total count of cells in a specific column.
      *
@@ -328,8 +297,9 @@ public class CSVFileManager {
      */
     public int getCellCount(String columnName) {
         try {
+            int count = getColumnStatistics(columnName).count();
             ReportManager.logDiscrete("Successfully retrieved cell count of column : " + columnName + " from [" + csvFilePath + "].", Level.INFO);
-            return getColumnsWithData().get(columnName).size();
+            return count;
         } catch (Exception e) {
             ReportManager.logDiscrete("Error calculating count for column: " + columnName + ". " + e.getMessage(), Level.ERROR);
             return 0;
@@ -343,22 +313,27 @@ public class CSVFileManager {
      * @return the number of cells in the column, or 0 if an error occurs.
      */
     public int getCellCount(int columnIndex) {
-        try {
-            ReportManager.logDiscrete("Successfully retrieved cell count of column : " + getColumns().get(columnIndex) + " from [" + csvFilePath + "].", Level.INFO);
-            return getColumnsWithData().get(getColumns().get(columnIndex)).size();
-        } catch (Exception e) {
-            ReportManager.logDiscrete("Error calculating count for column: " + getColumns().get(columnIndex) + ". " + e.getMessage(), Level.ERROR);
-            return 0;
+        return getCellCount(table.headers().get(columnIndex));
+    }
+
+    private CsvTable.ColumnStatistics getColumnStatistics(String columnName) {
+        int columnIndex = table.columnIndex(columnName);
+        if (columnIndex < 0) {
+            throw new IllegalArgumentException("Column [" + columnName + "] doesn't exist.");
+        }
+        return table.statistics(columnIndex);
+    }
+
+    private CsvTable.ColumnStatistics getNumericColumnStatistics(String columnName) {
+        var statistics = getColumnStatistics(columnName);
+        if (!statistics.isNumeric()) {
+            throw new NumberFormatException("Column [" + columnName + "] contains non-numeric values.");
         }
+        return statistics;
     }
 
     private void initializeVariables() {
-        reader = null;
-        RowReader = null;
-        records = null;
-        RowRecords = null;
-        rows = null;
-        ColumnWithRows = null;
+        table = null;
         csvFilePath = "";
     }
 }
@@ -3,39 +3,29 @@ package com.shaft.tools.io;
 import com.shaft.driver.DriverFactory;
 import com.shaft.driver.SHAFT;
 import com.shaft.tools.internal.support.JavaHelper;
+import com.shaft.tools.io.internal.ExcelWorkbookIndex;
 import com.shaft.tools.io.internal.FailureReporter;
 import com.shaft.tools.io.internal.ReportManagerHelper;
-import org.apache.poi.EmptyFileException;
-import org.apache.poi.ss.usermodel.CellType;
-import org.apache.poi.ss.usermodel.DateUtil;
-import org.apache.poi.xssf.usermodel.XSSFCell;
-import org.apache.poi.xssf.usermodel.XSSFRow;
-import org.apache.poi.xssf.usermodel.XSSFSheet;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import com.shaft.tools.io.internal.TestDataCache;
 
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
-import java.text.DateFormat;
-import java.text.SimpleDateFormat;
+import java.nio.file.NoSuchFileException;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Date;
 import java.util.List;
 
 @SuppressWarnings("unused")
 public class ExcelFileManager {
-    private FileInputStream fis;
-    private XSSFWorkbook workbook;
-    private XSSFSheet sheet;
-    private XSSFRow row;
-    private XSSFCell cell;
+    private ExcelWorkbookIndex workbook;
     private String excelFilePath;
     private String testDataColumnNamePrefix;
 
     /**
      * Creates a new instance of the test data Excel reader using the target Excel
-     * file path
+     * file path. The workbook is streamed once into a shared read-only index of
+     * its cells, so all cell lookups are served from memory.
      *
      * @param excelFilePath target test data Excel file path
      */
@@ -45,13 +35,11 @@ public class ExcelFileManager {
         initializeVariables();
         this.excelFilePath = excelFilePath;
         try {
-            fis = new FileInputStream(excelFilePath);
-            workbook = new XSSFWorkbook(fis);
-            fis.close();
+            workbook = TestDataCache.get(excelFilePath, "excel", ExcelWorkbookIndex::parse).tree();
             ReportManager.logDiscrete("Reading test data from the following file [" + excelFilePath + "].");
-        } catch (IOException | OutOfMemoryError e) {
+        } catch (NoSuchFileException | OutOfMemoryError e) {
             FailureReporter.fail(this.getClass(), "Couldn't find the desired file. [" + excelFilePath + "].", e);
-        } catch (EmptyFileException e) {
+        } catch (IOException e) {
             FailureReporter.fail(this.getClass(), "Please check the target file, as it may be corrupted. [" + excelFilePath + "].", e);
         }
 
@@ -108,13 +96,8 @@ public class ExcelFileManager {
             int rowNum = getRowNumberFromRowName(sheetName, rowName);
             int colNum = getColumnNumberFromColumnName(sheetName, columnName);
 
-            // get the desired row
-            row = sheet.getRow(rowNum); // why use -1 here?
-            // get the desired cell
-            cell = row.getCell(colNum);
-
             // return cell value given the different cell types
-            return getCellData();
+            return getSheet(sheetName).cellData(rowNum, colNum);
 
         } catch (Exception e) {
             FailureReporter.fail(this.getClass(), "Failed to read data from row [" + rowName + "] and column [" + columnName
@@ -145,21 +128,7 @@ public class ExcelFileManager {
      * sheet
      */
     public int getLastColumnNumber(String sheetName) {
-        sheet = workbook.getSheet(sheetName);
-        row = sheet.getRow(0);
-        int lastColumnNumber = 0;
-        while (true) {
-            try {
-                cell = row.getCell(lastColumnNumber);
-                if (cell.getCellType() == CellType.STRING) {
-                    lastColumnNumber++;
-                } else {
-                    return lastColumnNumber - 1;
-                }
-            } catch (java.lang.NullPointerException e) {
-                return lastColumnNumber - 1;
-            }
-        }
+        return getSheet(sheetName).lastColumnNumber();
     }
 
     /**
@@ -197,33 +166,26 @@ public class ExcelFileManager {
     }
 
     private void initializeVariables() {
-        fis = null;
         workbook = null;
-        sheet = null;
-        row = null;
-        cell = null;
         excelFilePath = "";
         testDataColumnNamePrefix = SHAFT.Properties.pattern.testDataColumnNamePrefix();
     }
 
+    private ExcelWorkbookIndex.SheetIndex getSheet(String sheetName) {
+        var sheet = workbook.sheet(sheetName);
+        if (sheet == null) {
+            throw new IllegalArgumentException("Sheet [" + sheetName + "] doesn't exist.");
+        }
+        return sheet;
+    }
+
     private int getRowNumberFromRowName(String sheetName, String rowName) {
         try {
             // get the row number that corresponds to the desired rowName within the first
-            // column [0]
-            sheet = workbook.getSheet(sheetName);
-
-            for (int i = 0; i <= sheet.getLastRowNum(); i++) {
-                row = sheet.getRow(i);
-                // get the first cell of each row, and compare it to rowName
-                // if they match then that's the row we want
-
-                if (row != null && row.getCell(0).getStringCellValue().equals(rowName)) {
-                    return i;
-                }
-                // in certain cases if the row is empty, its value is set to null, and hence a
-                // null pointer exception is thrown when
-                // you try to get the cell from it.
-                // we can skip this exception by checking if row != null.
+            // column [0] from the row names index
+            int rowNumber = getSheet(sheetName).rowNumber(rowName);
+            if (rowNumber >= 0) {
+                return rowNumber;
             }
 
             // in case you provided valid data type, no exceptions were thrown, and yet the
@@ -231,7 +193,7 @@ public class ExcelFileManager {
             FailureReporter.fail("Failed to get the row number that corresponds to rowName [" + rowName + "] in the Test Data Sheet ["
                     + sheetName + "], under the following path [" + excelFilePath + "].");
             return -1; // in case of failure this line is unreachable
-        } catch (Exception e) {
+        } catch (IllegalArgumentException e) {
             FailureReporter.fail(this.getClass(), "Failed to get the row number that corresponds to rowName [" + rowName + "] in the Test Data Sheet ["
                     + sheetName + "], under the following path [" + excelFilePath + "].", e);
             return -1; // in case of failure this line is unreachable
@@ -241,21 +203,16 @@ public class ExcelFileManager {
     private int getColumnNumberFromColumnName(String sheetName, String columnName) {
         try {
             // get the column number that corresponds to the desired columnName within the
-            // target row [row_Num]
+            // first row from the column names index
             // if no column name is provided, retrieves data from the 2nd
             // column (1st Value in the test data file)
-            if (!columnName.isEmpty()) {
-                row = sheet.getRow(0);
-                for (int i = 0; i < row.getLastCellNum(); i++) {
-                    // get the first cell of each column, and compare it to columnName
-                    // if they match then that's the column we want
-                    if (row.getCell(i).getStringCellValue().equals(columnName)) {
-                        return i;
-                    }
-                }
-            } else {
+            if (columnName.isEmpty()) {
                 return 1;
             }
+            int columnNumber = getSheet(sheetName).columnNumber(columnName);
+            if (columnNumber >= 0) {
+                return columnNumber;
+            }
 
             // in case you provided valid data type, no exceptions were thrown, and yet the
             // columnName you mentioned was not present in this sheet
@@ -263,7 +220,7 @@ public class ExcelFileManager {
                     + "] in the Test Data Sheet [" + sheetName + "], under the following path [" + excelFilePath
                     + "].");
             return -1; // in case of failure this line is unreachable
-        } catch (Exception e) {
+        } catch (IllegalArgumentException e) {
             FailureReporter.fail(this.getClass(), "Failed to get the column number that corresponds to columnName [" + columnName
                     + "] in the Test Data Sheet [" + sheetName + "], under the following path [" + excelFilePath
                     + "].", e);
@@ -271,38 +228,13 @@ public class ExcelFileManager {
         }
     }
 
-    private String getCellData() {
-        try {
-            if (cell.getCellType() == CellType.STRING) {
-                return cell.getStringCellValue();
-            } else if (cell.getCellType() == CellType.NUMERIC || cell.getCellType() == CellType.FORMULA) {
-                String cellValue = String.valueOf(cell.getNumericCellValue());
-                if (cellValue.contains(".0")) {
-                    cellValue = cellValue.split("\\.")[0];
-                }
-                if (DateUtil.isCellDateFormatted(cell)) {
-                    DateFormat df = new SimpleDateFormat("dd/MM/yy");
-                    Date date = cell.getDateCellValue();
-                    cellValue = df.format(date);
-                }
-                return cellValue;
-            } else if (cell.getCellType() == CellType.BOOLEAN) {
-                return String.valueOf(cell.getBooleanCellValue());
-            } else {
-                return "";
-            }
-        } catch (Exception e) {
-            return "";
-        }
-    }
-
     /**
      * Extracts the first sheet name from the desired workbook.
      *
      * @return the first sheet name for the current test data file
      */
     private String getDefaultSheetName() {
-        return workbook.getSheetName(0);
+        return workbook.defaultSheetName();
     }
 
 }
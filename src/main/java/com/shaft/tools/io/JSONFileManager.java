@@ -5,14 +5,16 @@ import com.shaft.driver.DriverFactory;
 import com.shaft.tools.internal.support.JavaHelper;
 import com.shaft.tools.io.internal.FailureReporter;
 import com.shaft.tools.io.internal.ReportManagerHelper;
+import com.shaft.tools.io.internal.TestDataCache;
 import io.restassured.path.json.JsonPath;
 import io.restassured.path.json.exception.JsonPathException;
 
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
-import java.io.FileReader;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -20,7 +22,6 @@ import java.util.Map;
 
 @SuppressWarnings("unused")
 public class JSONFileManager {
-    private static final ThreadLocal<FileReader> reader = new ThreadLocal<>();
     private final String jsonFilePath;
 
     /**
@@ -33,7 +34,7 @@ public class JSONFileManager {
         DriverFactory.reloadProperties();
         jsonFilePath = JavaHelper.appendTestDataToRelativePath(jsonFilePath);
         this.jsonFilePath = jsonFilePath;
-        initializeReader();
+        getParsedFile();
         List<List<Object>> attachments = new ArrayList<>();
         List<Object> testDataFileAttachment = null;
         try {
@@ -136,14 +137,18 @@ public class JSONFileManager {
      */
     private Object getTestData(String jsonPath, DataType dataType) {
         Object testData = null;
-        initializeReader();
+        var parsedFile = getParsedFile();
+        if (parsedFile == null) {
+            return null;
+        }
         try {
-            switch (dataType) {
-                case STRING -> testData = JsonPath.from(reader.get()).getString(jsonPath);
-                case LIST -> testData = JsonPath.from(reader.get()).getList(jsonPath);
-                case MAP -> testData = JsonPath.from(reader.get()).getMap(jsonPath);
-                case JSON -> testData = JsonPath.from(reader.get()).getJsonObject(jsonPath);
-            }
+            // the evaluated jsonPath is cached along with the parsed file, so it is only evaluated once per file version
+            testData = TestDataCache.copyOf(parsedFile.lookup(dataType + ":" + jsonPath, parsedJson -> switch (dataType) {
+                case STRING -> parsedJson.getString(jsonPath);
+                case LIST -> parsedJson.getList(jsonPath);
+                case MAP -> parsedJson.getMap(jsonPath);
+                case JSON -> parsedJson.getJsonObject(jsonPath);
+            }));
         } catch (ClassCastException rootCauseException) {
             FailureReporter.fail(this.getClass(), "Incorrect jsonPath. [" + jsonPath + "].", rootCauseException);
         } catch (JsonPathException | IllegalArgumentException rootCauseException) {
@@ -153,16 +158,24 @@ public class JSONFileManager {
     }
 
     /**
-     * initializes the json reader using the target json file path
+     * Gets the parsed json file from the shared test data cache, the file is only parsed again if it was changed
+     *
+     * @return the parsed json file
      */
-    private void initializeReader() {
+    private TestDataCache.ParsedFile<JsonPath> getParsedFile() {
         try {
-            reader.set(new FileReader(FileActions.getInstance(true).getAbsolutePath(jsonFilePath), StandardCharsets.UTF_8));
-        } catch (FileNotFoundException rootCauseException) {
+            return TestDataCache.get(FileActions.getInstance(true).getAbsolutePath(jsonFilePath), "json", file -> {
+                var parsedJson = JsonPath.from(Files.readString(file, StandardCharsets.UTF_8));
+                // parse the document eagerly so that it is shared as an already parsed tree
+                parsedJson.get();
+                return parsedJson;
+            });
+        } catch (NoSuchFileException rootCauseException) {
             FailureReporter.fail(this.getClass(), "Couldn't read the desired file. [" + this.jsonFilePath + "].", rootCauseException);
-        } catch (IOException formatException) {
+        } catch (IOException | JsonPathException formatException) {
             FailureReporter.fail(this.getClass(), "file didn't match the specified format. [" + this.jsonFilePath + "].", formatException);
         }
+        return null;
     }
 
     public enum DataType {
@@ -3,28 +3,23 @@ package com.shaft.tools.io;
 import com.shaft.cli.FileActions;
 import com.shaft.tools.internal.support.JavaHelper;
 import com.shaft.tools.io.internal.FailureReporter;
+import com.shaft.tools.io.internal.PdfTextExtractor;
 import org.apache.commons.io.FileUtils;
-import org.apache.pdfbox.cos.COSDocument;
-import org.apache.pdfbox.io.RandomAccessReadBufferedFile;
-import org.apache.pdfbox.pdfparser.PDFParser;
-import org.apache.pdfbox.pdmodel.PDDocument;
-import org.apache.pdfbox.text.PDFTextStripper;
 
 import java.io.File;
 import java.io.IOException;
+import java.time.Duration;
+import java.util.function.BiPredicate;
 
 @SuppressWarnings("unused")
 public class PdfFileManager {
 
     private final File file;
-    private RandomAccessReadBufferedFile stream = null;
-    private PDFParser parser = null;
-    private COSDocument cosDoc = null;
-    private PDFTextStripper strip = null;
 
     public PdfFileManager(String folderName, String fileName, int numberOfRetries) {
 
-        boolean doesFileExist = FileActions.getInstance(true).doesFileExist(folderName, fileName, numberOfRetries);
+        // wait for the download to be completely written, not just for the file to be created
+        boolean doesFileExist = FileActions.getInstance(true).waitForFileToDownload(folderName, fileName, Duration.ofMillis(500L * numberOfRetries));
 
         file = new File(FileActions.getInstance(true).getAbsolutePath(folderName, fileName));
 
@@ -53,10 +48,8 @@ public class PdfFileManager {
      */
     public static String readFileContent(String relativeFilePath, boolean... deleteFileAfterReading) {
         if (FileActions.getInstance(true).doesFileExist(relativeFilePath)) {
-            try (var pdfParser = new PDFParser(new RandomAccessReadBufferedFile(new File(FileActions.getInstance(true).getAbsolutePath(relativeFilePath)))).parse()) {
-                var pdfTextStripper = new PDFTextStripper();
-                pdfTextStripper.setSortByPosition(true);
-                var fileContent = pdfTextStripper.getText(new PDDocument(pdfParser.getDocument()));
+            try {
+                var fileContent = PdfTextExtractor.extractText(new File(FileActions.getInstance(true).getAbsolutePath(relativeFilePath)), 1, Integer.MAX_VALUE);
                 if (deleteFileAfterReading != null
                         && deleteFileAfterReading.length > 0
                         && deleteFileAfterReading[0]) {
@@ -73,10 +66,45 @@ public class PdfFileManager {
         return "";
     }
 
+    /**
+     * Checks whether a PDF file contains the target text. Pages are searched concurrently and the search stops as
+     * soon as the text is found, so the rest of the document is not extracted.
+     *
+     * @param relativeFilePath relative path to the PDF file
+     * @param text             the text to look for
+     * @return true if the text was found in the pdf file
+     */
+    public static boolean doesFileContain(String relativeFilePath, String text) {
+        try {
+            return PdfTextExtractor.containsText(new File(FileActions.getInstance(true).getAbsolutePath(relativeFilePath)), text);
+        } catch (IOException rootCauseException) {
+            FailureReporter.fail(PdfFileManager.class, "Failed to read this PDF file [" + relativeFilePath + "].", rootCauseException);
+        }
+        return false;
+    }
+
     public String readFileContent() {
         return PdfFileManager.readFileContent(file.getPath());
     }
 
+    public boolean doesFileContain(String text) {
+        return PdfFileManager.doesFileContain(file.getPath(), text);
+    }
+
+    /**
+     * Reads the document one page at a time, so that only a single page of text is kept in memory.
+     *
+     * @param pageVisitor called with the page number (starting from 1) and the page text, return false to stop
+     *                    reading the remaining pages
+     */
+    public void readPages(BiPredicate<Integer, String> pageVisitor) {
+        try {
+            PdfTextExtractor.visitPages(file, pageVisitor);
+        } catch (IOException rootCauseException) {
+            FailureReporter.fail(PdfFileManager.class, "Couldn't get document text. Document state is invalid or it is encrypted.", rootCauseException);
+        }
+    }
+
     /**
      * @param startPageNumber                 the starting page for the document to
      *                                        be validated
@@ -88,101 +116,34 @@ public class PdfFileManager {
      */
     public String readPDFContentFromDownloadedPDF(int startPageNumber, int endPageNumber,
                                                   DeleteFileAfterValidationStatus deleteFileAfterValidationStatus) {
-
-        stream = readFileInputStream(file);
-        parser = parseStreamDocument(stream);
-        cosDoc = getParsedDocument(parser);
-        String content = getPdfText(cosDoc, startPageNumber, endPageNumber);
-        closeStreamAndDeleteFile(file, stream, deleteFileAfterValidationStatus);
-
+        String content = getPdfText(startPageNumber, endPageNumber);
+        deleteFile(file, deleteFileAfterValidationStatus);
         return content;
     }
 
     public String readPDFContentFromDownloadedPDF(DeleteFileAfterValidationStatus deleteFileAfterValidationStatus) {
-        stream = readFileInputStream(file);
-        parser = parseStreamDocument(stream);
-        cosDoc = getParsedDocument(parser);
-        String content = getPdfText(cosDoc);
-        closeStreamAndDeleteFile(file, stream, deleteFileAfterValidationStatus);
+        String content = getPdfText(1, Integer.MAX_VALUE);
+        deleteFile(file, deleteFileAfterValidationStatus);
         return content;
     }
 
-    private RandomAccessReadBufferedFile readFileInputStream(File file) {
-        try {
-            stream = new RandomAccessReadBufferedFile(file);
-        } catch (IOException rootCauseException) {
-            FailureReporter.fail(PdfFileManager.class, "Couldn't read the data from the provided file [" + file + "].", rootCauseException);
-        }
-        return stream;
-    }
-
-    private PDFParser parseStreamDocument(RandomAccessReadBufferedFile stream) {
-        try {
-            parser = new PDFParser(stream);
-            parser.parse();
-        } catch (IOException rootCauseException) {
-            FailureReporter.fail(PdfFileManager.class, "Couldn't parse the stream that opened the document to be prepared to populate the COSDocument object.", rootCauseException);
-        }
-        return parser;
-    }
-
-    private COSDocument getParsedDocument(PDFParser parser) {
-        try (var parsedDocument = parser.parse()) {
-            cosDoc = parsedDocument.getDocument();
-        } catch (IOException rootCauseException) {
-            FailureReporter.fail(PdfFileManager.class, "Couldn't get the document that was parsed. Check that the document parsed before get the document.", rootCauseException);
-        }
-        return cosDoc;
-    }
-
-    private String getPdfText(COSDocument cosDoc, int startPageNumber, int endPageNumber) {
-        strip = new PDFTextStripper();
+    private String getPdfText(int startPageNumber, int endPageNumber) {
         // By default, text extraction is done in the same sequence as the text in the
         // PDF page content stream. PDF is a graphic format, not a text format, and
         // unlike HTML, it has no requirements that text one on page be rendered in a
         // certain order. The order is the one that was determined by the software that
-        // created the PDF
-        // To get text sorted from left to right and top to bottom
-        strip.setSortByPosition(true);
-
-        strip.setStartPage(startPageNumber);
-        strip.setEndPage(endPageNumber);
-        PDDocument pdDoc = new PDDocument(cosDoc);
-
+        // created the PDF, so the text is sorted from left to right and top to bottom
         String content = null;
         try {
-            content = strip.getText(pdDoc);
+            content = PdfTextExtractor.extractText(file, startPageNumber, endPageNumber);
         } catch (IOException rootCauseException) {
             FailureReporter.fail(PdfFileManager.class, "Couldn't get document text. Document state is invalid or it is encrypted.", rootCauseException);
         }
         return content;
     }
 
-    private String getPdfText(COSDocument cosDoc) {
-        strip = new PDFTextStripper();
-        strip.setSortByPosition(true);
-
-        PDDocument pdDoc = new PDDocument(cosDoc);
-
-        String content = null;
-        try {
-            content = strip.getText(pdDoc);
-        } catch (IOException rootCauseException) {
-            FailureReporter.fail(PdfFileManager.class, "Couldn't get document text. Document state is invalid or it is encrypted.", rootCauseException);
-        }
-        return content;
-    }
-
-    private void closeStreamAndDeleteFile(File file, RandomAccessReadBufferedFile stream,
-                                          DeleteFileAfterValidationStatus deleteFileAfterValidation) {
-        try {
-            stream.close();
-        } catch (IOException rootCauseException) {
-            FailureReporter.fail(PdfFileManager.class, "Couldn't close the stream, check if it already opened.", rootCauseException);
-        }
-
+    private void deleteFile(File file, DeleteFileAfterValidationStatus deleteFileAfterValidation) {
         // Delete the file from target folder for next run
-
         if (deleteFileAfterValidation == DeleteFileAfterValidationStatus.TRUE) {
             try {
                 FileUtils.forceDelete(file);
@@ -190,7 +151,6 @@ public class PdfFileManager {
                 FailureReporter.fail(PdfFileManager.class, "Couldn't find the file, File directory may be null or file is not found.", rootCauseException);
             }
         }
-
     }
 
     @SuppressWarnings("unused")
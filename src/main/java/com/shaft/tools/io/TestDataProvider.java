@@ -0,0 +1,239 @@
+package com.shaft.tools.io;
+
+import com.shaft.driver.DriverFactory;
+import com.shaft.tools.internal.support.JavaHelper;
+import com.shaft.tools.io.internal.FailureReporter;
+import com.shaft.tools.io.internal.TestDataStreams;
+import org.apache.logging.log4j.Level;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * Lazy data provider backed by a CSV, Excel (.xlsx) or JSON test data file.
+ * <p>
+ * Rows are read from the file one by one while the test method consumes them, instead of being loaded into an
+ * {@code Object[][]} before the first test starts, so memory usage stays bounded no matter how large the file is.
+ * The returned iterator is thread-safe, so it can be used by data providers that run in parallel using
+ * {@code SHAFT.Properties.testNG.dataProviderThreadCount()}.
+ * <p>
+ * Sample usage:
+ * <pre>{@code
+ * @DataProvider(name = "users", parallel = true)
+ * public Iterator<Object[]> users() {
+ *     return SHAFT.TestData.provider("users.csv")
+ *             .shard(ciNodeIndex, ciNodeCount)
+ *             .filter(row -> "active".equals(row.get("status")))
+ *             .iterator();
+ * }
+ * }</pre>
+ */
+@SuppressWarnings("unused")
+public class TestDataProvider {
+    private final String filePath;
+    private String sheetName;
+    private String jsonArrayPath = "";
+    private int fromRow = 0;
+    private int toRow = Integer.MAX_VALUE;
+    private int shardIndex = 0;
+    private int shardCount = 1;
+    private String shardKey;
+    private Predicate<Map<String, Object>> filter = row -> true;
+    private boolean isPassingRowAsMap = false;
+
+    /**
+     * Creates a new lazy data provider using the target test data file path. The file type is detected from its
+     * extension, which must be one of .csv, .xlsx, or .json.
+     *
+     * @param filePath target test data file path
+     */
+    public TestDataProvider(String filePath) {
+        DriverFactory.reloadProperties();
+        this.filePath = JavaHelper.appendTestDataToRelativePath(filePath);
+    }
+
+    /**
+     * Limits the provided rows to a range of data rows, the header row is not counted.
+     *
+     * @param fromRow the zero based index of the first data row (inclusive)
+     * @param toRow   the zero based index of the last data row (exclusive)
+     * @return a self-reference to be used to chain actions
+     */
+    public TestDataProvider rows(int fromRow, int toRow) {
+        if (fromRow < 0 || toRow < fromRow) {
+            throw new IllegalArgumentException("Invalid row range [" + fromRow + ", " + toRow + ").");
+        }
+        this.fromRow = fromRow;
+        this.toRow = toRow;
+        return this;
+    }
+
+    /**
+     * Provides only the rows that belong to one shard of the data, so that multiple CI nodes can split the same file.
+     * Rows are assigned to shards in a round-robin fashion using their index in the file.
+     *
+     * @param shardIndex the zero based index of the current shard
+     * @param shardCount the total number of shards
+     * @return a self-reference to be used to chain actions
+     */
+    public TestDataProvider shard(int shardIndex, int shardCount) {
+        return shard(null, shardIndex, shardCount);
+    }
+
+    /**
+     * Provides only the rows that belong to one shard of the data, so that multiple CI nodes can split the same file.
+     * Rows are assigned to shards using the hash of the target column value, so a row stays in the same shard even if
+     * other rows are added to or removed from the file.
+     *
+     * @param keyColumn  the name of the column whose value identifies the row
+     * @param shardIndex the zero based index of the current shard
+     * @param shardCount the total number of shards
+     * @return a self-reference to be used to chain actions
+     */
+    public TestDataProvider shardByHash(String keyColumn, int shardIndex, int shardCount) {
+        return shard(Objects.requireNonNull(keyColumn, "keyColumn"), shardIndex, shardCount);
+    }
+
+    /**
+     * Provides only the rows that match the target condition.
+     *
+     * @param filter the condition, it is evaluated against a map from the column names to the cell values
+     * @return a self-reference to be used to chain actions
+     */
+    public TestDataProvider filter(Predicate<Map<String, Object>> filter) {
+        this.filter = this.filter.and(filter);
+        return this;
+    }
+
+    /**
+     * Reads the target sheet of an Excel file, instead of the first sheet.
+     *
+     * @param sheetName the name of the target sheet
+     * @return a self-reference to be used to chain actions
+     */
+    public TestDataProvider sheet(String sheetName) {
+        this.sheetName = sheetName;
+        return this;
+    }
+
+    /**
+     * Reads the elements of the target array of a JSON file, instead of the root array.
+     *
+     * @param jsonArrayPath the dot separated key path of the target array, for example "data.users"
+     * @return a self-reference to be used to chain actions
+     */
+    public TestDataProvider jsonArray(String jsonArrayPath) {
+        this.jsonArrayPath = jsonArrayPath == null ? "" : jsonArrayPath;
+        return this;
+    }
+
+    /**
+     * Passes every row to the test method as a single {@code Map<String, Object>} parameter, instead of passing every
+     * cell as a separate parameter.
+     *
+     * @return a self-reference to be used to chain actions
+     */
+    public TestDataProvider asMaps() {
+        this.isPassingRowAsMap = true;
+        return this;
+    }
+
+    /**
+     * Opens the test data file and returns an iterator that reads its rows on demand. The file is closed once the
+     * last row has been provided.
+     *
+     * @return a thread-safe iterator of test method parameters, to be returned from a TestNG data provider
+     */
+    public Iterator<Object[]> iterator() {
+        TestDataStreams.RowStream rows = null;
+        try {
+            var file = Path.of(filePath);
+            var fileName = file.getFileName().toString().toLowerCase(Locale.ROOT);
+            if (fileName.endsWith(".csv")) {
+                rows = TestDataStreams.csv(file);
+            } else if (fileName.endsWith(".xlsx")) {
+                rows = TestDataStreams.excel(file, sheetName);
+            } else if (fileName.endsWith(".json")) {
+                rows = TestDataStreams.json(file, jsonArrayPath);
+            } else {
+                FailureReporter.fail("Unsupported test data file type. [" + filePath + "] Please use a .csv, .xlsx, or .json file.");
+            }
+            ReportManager.logDiscrete("Streaming test data from the following file. [" + filePath + "]", Level.INFO);
+        } catch (IOException e) {
+            FailureReporter.fail(this.getClass(), "Couldn't read the desired file. [" + filePath + "] ", e);
+        }
+        return new RowIterator(rows);
+    }
+
+    private TestDataProvider shard(String keyColumn, int shardIndex, int shardCount) {
+        if (shardCount < 1 || shardIndex < 0 || shardIndex >= shardCount) {
+            throw new IllegalArgumentException("Invalid shard [" + shardIndex + "] of [" + shardCount + "].");
+        }
+        this.shardKey = keyColumn;
+        this.shardIndex = shardIndex;
+        this.shardCount = shardCount;
+        return this;
+    }
+
+    private boolean isInShard(int rowIndex, Map<String, Object> row) {
+        if (shardCount == 1) {
+            return true;
+        }
+        // String.hashCode is specified by the JLS, so all nodes agree on the shard of every row
+        int hash = shardKey == null ? rowIndex : String.valueOf(row.get(shardKey)).hashCode();
+        return Math.floorMod(hash, shardCount) == shardIndex;
+    }
+
+    /**
+     * Applies the row range, shard, and filter while reading ahead by at most one row. Both methods are synchronized
+     * because parallel data providers may call them from multiple threads.
+     */
+    private final class RowIterator implements Iterator<Object[]> {
+        private final TestDataStreams.RowStream rows;
+        private int rowIndex = -1;
+        private Object[] nextParameters;
+
+        private RowIterator(TestDataStreams.RowStream rows) {
+            this.rows = rows;
+        }
+
+        @Override
+        public synchronized boolean hasNext() {
+            try {
+                while (nextParameters == null && rowIndex + 1 < toRow && rows.hasNext()) {
+                    var row = rows.next();
+                    rowIndex++;
+                    if (rowIndex >= fromRow && isInShard(rowIndex, row) && filter.test(row)) {
+                        nextParameters = isPassingRowAsMap ? new Object[]{row} : row.values().toArray();
+                    }
+                }
+                if (nextParameters == null) {
+                    // stop reading as soon as the range ends, without scanning the rest of the file
+                    rows.close();
+                }
+            } catch (UncheckedIOException e) {
+                FailureReporter.fail(TestDataProvider.class, "Couldn't read the desired file. [" + filePath + "] ", e.getCause());
+            } catch (IOException e) {
+                FailureReporter.fail(TestDataProvider.class, "Couldn't close the desired file. [" + filePath + "] ", e);
+            }
+            return nextParameters != null;
+        }
+
+        @Override
+        public synchronized Object[] next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            var parameters = nextParameters;
+            nextParameters = null;
+            return parameters;
+        }
+    }
+}
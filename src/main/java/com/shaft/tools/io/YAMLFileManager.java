@@ -4,11 +4,13 @@ import com.shaft.driver.DriverFactory;
 import com.shaft.tools.internal.support.JavaHelper;
 import com.shaft.tools.io.internal.FailureReporter;
 import com.shaft.tools.io.internal.ReportManagerHelper;
+import com.shaft.tools.io.internal.TestDataCache;
 import org.yaml.snakeyaml.Yaml;
 
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.nio.file.Files;
 import java.util.*;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -21,7 +23,6 @@ public class YAMLFileManager {
     public final static String SQUARE_BRACKETS_REGEX = "[\\[\\]]";
     public final static String KEY_SEPARATOR_REGEX = "\\.";
 
-    private final Map<String, Object> data;
     private final String filePath;
 
     // Splitting the key to a list of keys using the dot as the splitter.
@@ -39,7 +40,7 @@ public class YAMLFileManager {
     public YAMLFileManager(String filePath) {
         DriverFactory.reloadProperties();
         this.filePath = JavaHelper.appendTestDataToRelativePath(filePath);
-        this.data = getData();
+        getParsedFile();
 
         List<Object> testDataFileAttachment = new ArrayList<>();
         try {
@@ -64,7 +65,7 @@ public class YAMLFileManager {
      * @return all date existed in the YAML file as {@link Map}
      */
     public Map<String, Object> get() {
-        return data;
+        return TestDataCache.copyOf(getParsedFile().tree());
     }
 
     /**
@@ -81,6 +82,18 @@ public class YAMLFileManager {
             FailureReporter.fail("Key can't be null or empty");
         }
 
+        // the resolved key path is cached along with the parsed file, so it is only resolved once per file version
+        return TestDataCache.copyOf(getParsedFile().lookup(key, data -> getValue(data, key)));
+    }
+
+    /**
+     * Used internally to resolve a single key or a series of keys against the parsed YAML file
+     *
+     * @param data the parsed YAML file
+     * @param key  the path to the wanted data can be a single key or a series of keys
+     * @return the wanted value as {@link Object}
+     */
+    private Object getValue(Map<String, Object> data, String key) {
         Object value;
         var keys = splitKey.apply(key);
 
@@ -307,49 +320,24 @@ public class YAMLFileManager {
     }
 
     /**
-     * Used internally to fetch all data existed in the YAML file
-     *
-     * @return all data in the YAML file as {@link Map} of {@link String} and {@link Object}
-     */
-    private Map<String, Object> getData() {
-        var file = this.getFile();
-        Map<String, Object> loadedData = new Yaml().load(file);
-
-        this.closeFile(file);
-
-        return loadedData;
-    }
-
-    /**
-     * Used internally to load the wanted YAML file
+     * Used internally to fetch all data existed in the YAML file from the shared test data cache, the file is only
+     * parsed again if it was changed
      *
-     * @return {@link FileInputStream} instance of the desired file
+     * @return the parsed YAML file, its data must not be modified
      */
-    private FileInputStream getFile() {
-        FileInputStream in;
-
+    private TestDataCache.ParsedFile<Map<String, Object>> getParsedFile() {
         try {
-            in = new FileInputStream(filePath);
-        } catch (FileNotFoundException rootCauseException) {
+            return TestDataCache.get(filePath, "yaml", file -> {
+                try (var in = Files.newInputStream(file)) {
+                    Map<String, Object> loadedData = new Yaml().load(in);
+                    return loadedData;
+                }
+            });
+        } catch (IOException rootCauseException) {
             FailureReporter.fail(this.getClass(), "Couldn't find the desired file. [" + filePath + "].", rootCauseException);
             // unreachable because previous method throws AssertionError
             throw new RuntimeException();
         }
-        return in;
-    }
-
-    /**
-     * Used internally to close the opened file
-     *
-     * @param file the file wanted to be closed
-     */
-    private void closeFile(FileInputStream file) {
-        try {
-            file.close();
-        } catch (IOException rootCauseException) {
-            FailureReporter.fail(this.getClass(), "Couldn't close the following file. [" + filePath + "]",
-                    rootCauseException);
-        }
     }
 
     /**
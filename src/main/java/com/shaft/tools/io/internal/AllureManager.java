@@ -9,11 +9,19 @@ import lombok.SneakyThrows;
 import org.apache.commons.lang3.SystemUtils;
 
 import java.io.File;
+import java.io.IOException;
 import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 public class AllureManager {
     private static final String allureExtractionLocation = System.getProperty("user.home") + File.separator + ".m2"
@@ -24,6 +32,7 @@ public class AllureManager {
     private static String allureResultsFolderPath = "";
     private static String allureBinaryPath = "";
     private static String allureOutPutDirectory = "";
+    private static String lastGeneratedReportFingerprint = "";
 
     public static void initializeAllureReportingEnvironment() {
         ReportManager.logDiscrete("Initializing Allure Reporting Environment...");
@@ -46,7 +55,7 @@ public class AllureManager {
     }
 
     private static void copyAndOpenAllure() {
-        internalFileSession.copyFolder(allureOutPutDirectory, allureReportPath);
+        copyReportFolder(allureOutPutDirectory, allureReportPath);
         internalFileSession.deleteFile(allureOutPutDirectory);
         internalFileSession.deleteFile(System.getProperty("user.dir") + File.separator + "target" + File.separator + "allure-report-history");
         String newFileName = renameAllureReport();
@@ -182,30 +191,142 @@ public class AllureManager {
         internalFileSession.writeToFile(styleCssFilePath, desiredStyle);
     }
 
+    /**
+     * Generates the Allure report from the allure-results directory.
+     * <p>
+     * In incremental mode, the report is reused when the results did not change since it was generated, the history and
+     * single-file reports are generated concurrently, and the report folders are copied in parallel. The Allure CLI
+     * always rebuilds the report from the whole results directory and inlines the attachments itself, so results are
+     * not pre-aggregated per test during the run: the CLI offers no way to merge a partial report, and any aggregate
+     * written next to the results would be read again by the CLI instead of replacing its work.
+     */
     private static void writeAllureReport() {
         allureBinaryPath = allureExtractionLocation + "allure-" + SHAFT.Properties.internal.allureVersion()
                 + "/bin/allure";
         allureOutPutDirectory = System.getProperty("user.dir") + File.separator + "target" + File.separator + allureReportPath;
         var customReportName = SHAFT.Properties.allure.customTitle();
+        boolean incrementalReport = SHAFT.Properties.allure.incrementalReport();
+        String resultsFingerprint = incrementalReport ? getAllureResultsFingerprint() : "";
+        if (incrementalReport && !resultsFingerprint.isEmpty() && resultsFingerprint.equals(lastGeneratedReportFingerprint)
+                && (internalFileSession.doesFileExist(allureOutPutDirectory) || internalFileSession.doesFileExist(allureReportPath))) {
+            ReportManager.logDiscrete("Allure results did not change since the last generated report, reusing it...");
+            return;
+        }
         internalFileSession.createFolder(allureOutPutDirectory);
 
         String pathToLastHistoryDirectory = System.getProperty("user.dir") + File.separator + "target" + File.separator + "last-history";
         if (SHAFT.Properties.allure.accumulateHistory()) {
             // move existing history to the correct folder
             if (internalFileSession.doesFileExist(pathToLastHistoryDirectory)) {//if not the first test run and history already exists
-                internalFileSession.copyFolder(pathToLastHistoryDirectory, allureResultsFolderPath + File.separator + "history");
+                copyReportFolder(pathToLastHistoryDirectory, allureResultsFolderPath + File.separator + "history");
             } else {
                 internalFileSession.createFolder(pathToLastHistoryDirectory);
             }
 
-            internalTerminalSession.performTerminalCommand(getCommandToCreateAllureReport(customReportName, true));
-            internalTerminalSession.performTerminalCommand(getCommandToCreateAllureReport(customReportName, false));
-            internalFileSession.copyFolder(System.getProperty("user.dir") + File.separator + "target" + File.separator + "allure-report-history" + File.separator + "history"
+            if (incrementalReport) {
+                generateHistoryAndSingleFileReportsConcurrently(customReportName);
+            } else {
+                internalTerminalSession.performTerminalCommand(getCommandToCreateAllureReport(customReportName, true));
+                internalTerminalSession.performTerminalCommand(getCommandToCreateAllureReport(customReportName, false));
+            }
+            copyReportFolder(System.getProperty("user.dir") + File.separator + "target" + File.separator + "allure-report-history" + File.separator + "history"
                     , pathToLastHistoryDirectory);
         } else {
             internalFileSession.deleteFolder(pathToLastHistoryDirectory);
             internalTerminalSession.performTerminalCommand(getCommandToCreateAllureReport(customReportName, false));
         }
+        lastGeneratedReportFingerprint = resultsFingerprint;
+    }
+
+    /**
+     * Both reports only read the allure-results directory and write to separate output directories,
+     * so the two Allure CLI processes can safely run side by side instead of one after the other.
+     */
+    private static void generateHistoryAndSingleFileReportsConcurrently(String customReportName) {
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<String> historyReport = executor.submit(() -> internalTerminalSession.performTerminalCommand(getCommandToCreateAllureReport(customReportName, true)));
+            Future<String> singleFileReport = executor.submit(() -> internalTerminalSession.performTerminalCommand(getCommandToCreateAllureReport(customReportName, false)));
+            historyReport.get();
+            singleFileReport.get();
+        } catch (ExecutionException e) {
+            ReportManagerHelper.logDiscrete(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            ReportManagerHelper.logDiscrete(e);
+        }
+    }
+
+    /**
+     * Copies a report folder, copying its files in parallel in incremental mode. The history and the multi-file report
+     * hold one file per test result and attachment, so copying them one by one dominates the post-run time of large
+     * runs.
+     */
+    private static void copyReportFolder(String sourceFolderPath, String destinationFolderPath) {
+        if (!SHAFT.Properties.allure.incrementalReport()) {
+            internalFileSession.copyFolder(sourceFolderPath, destinationFolderPath);
+            return;
+        }
+        var source = Path.of(sourceFolderPath).toAbsolutePath().normalize();
+        var destination = Path.of(destinationFolderPath).toAbsolutePath().normalize();
+        if (!Files.isDirectory(source)) {
+            // let the regular copy report the missing folder
+            internalFileSession.copyFolder(sourceFolderPath, destinationFolderPath);
+            return;
+        }
+        int parallelism = Math.max(1, Runtime.getRuntime().availableProcessors());
+        try (var files = Files.walk(source);
+             var executor = Executors.newFixedThreadPool(parallelism)) {
+            List<Future<Path>> copies = new ArrayList<>();
+            for (var file : (Iterable<Path>) files::iterator) {
+                var target = destination.resolve(source.relativize(file).toString());
+                if (Files.isDirectory(file)) {
+                    // folders are walked before their files, so they exist before any of their files is copied
+                    Files.createDirectories(target);
+                } else {
+                    copies.add(executor.submit(() -> Files.copy(file, target, StandardCopyOption.REPLACE_EXISTING,
+                            StandardCopyOption.COPY_ATTRIBUTES)));
+                }
+            }
+            for (var copy : copies) {
+                copy.get();
+            }
+        } catch (IOException | ExecutionException e) {
+            ReportManagerHelper.logDiscrete(e);
+            internalFileSession.copyFolder(sourceFolderPath, destinationFolderPath);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            ReportManagerHelper.logDiscrete(e);
+        }
+    }
+
+    /**
+     * Builds a cheap fingerprint of the top level of the allure-results directory (file count, total size, and the
+     * latest modification time). Results and attachments are written flat into this directory, so any new or updated
+     * test result changes the fingerprint without having to read the files themselves.
+     *
+     * @return the fingerprint, or an empty string if the directory could not be listed
+     */
+    private static String getAllureResultsFingerprint() {
+        var resultsDirectory = Path.of(allureResultsFolderPath.isEmpty() ? SHAFT.Properties.paths.allureResults() : allureResultsFolderPath);
+        if (!Files.isDirectory(resultsDirectory)) {
+            return "";
+        }
+        long fileCount = 0;
+        long totalSize = 0;
+        long lastModified = 0;
+        try (var files = Files.list(resultsDirectory)) {
+            for (var file : (Iterable<File>) files.map(Path::toFile)::iterator) {
+                if (file.isFile()) {
+                    fileCount++;
+                    totalSize += file.length();
+                    lastModified = Math.max(lastModified, file.lastModified());
+                }
+            }
+        } catch (IOException e) {
+            ReportManagerHelper.logDiscrete(e);
+            return "";
+        }
+        return fileCount + ":" + totalSize + ":" + lastModified;
     }
 
     private static String getCommandToCreateAllureReport(String customReportName, boolean isHistory) {
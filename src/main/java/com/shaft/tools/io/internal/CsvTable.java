@@ -0,0 +1,252 @@
+package com.shaft.tools.io.internal;
+
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVRecord;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * Immutable, column oriented in-memory table of a CSV file, used by {@link com.shaft.tools.io.CSVFileManager}.
+ * <p>
+ * The file is parsed in a single pass, then every column is stored in the most compact form that can reproduce its
+ * original text: complete numeric columns are stored as a {@code long[]} or a {@code double[]}, and all other columns
+ * are dictionary encoded as an {@code int[]} of codes into their distinct values. The aggregates of every column are
+ * computed while the table is built, so cell lookups and aggregates never parse strings again.
+ */
+public final class CsvTable {
+    private final List<String> headers;
+    private final Map<String, Integer> headerIndexes;
+    private final Column[] columns;
+    private final int[] rowLengths;
+
+    private CsvTable(List<String> headers, Column[] columns, int[] rowLengths) {
+        this.headers = headers;
+        this.columns = columns;
+        this.rowLengths = rowLengths;
+        var indexes = new HashMap<String, Integer>();
+        for (int i = headers.size() - 1; i >= 0; i--) {
+            // the first column wins when a header name is repeated
+            indexes.put(headers.get(i), i);
+        }
+        this.headerIndexes = Map.copyOf(indexes);
+    }
+
+    /**
+     * Parses a CSV file whose first record is the header row.
+     *
+     * @param file the target CSV file
+     * @return the parsed table
+     * @throws IOException if the file cannot be read or parsed
+     */
+    public static CsvTable parse(Path file) throws IOException {
+        var format = CSVFormat.DEFAULT.builder().setHeader().setSkipHeaderRecord(true).get();
+        List<String> headers;
+        var builders = new ArrayList<ColumnBuilder>();
+        var rowLengths = new int[64];
+        int rowCount = 0;
+        try (var reader = new BufferedReader(new InputStreamReader(Files.newInputStream(file))); var parser = format.parse(reader)) {
+            headers = List.copyOf(parser.getHeaderNames());
+            for (CSVRecord record : parser) {
+                while (builders.size() < Math.max(headers.size(), record.size())) {
+                    builders.add(new ColumnBuilder(rowCount));
+                }
+                for (int i = 0; i < builders.size(); i++) {
+                    builders.get(i).add(i < record.size() ? record.get(i) : null);
+                }
+                if (rowCount == rowLengths.length) {
+                    rowLengths = Arrays.copyOf(rowLengths, rowCount * 2);
+                }
+                rowLengths[rowCount++] = record.size();
+            }
+        }
+        while (builders.size() < headers.size()) {
+            builders.add(new ColumnBuilder(rowCount));
+        }
+        var columns = builders.stream().map(ColumnBuilder::build).toArray(Column[]::new);
+        return new CsvTable(headers, columns, Arrays.copyOf(rowLengths, rowCount));
+    }
+
+    public List<String> headers() {
+        return headers;
+    }
+
+    public int rowCount() {
+        return rowLengths.length;
+    }
+
+    /**
+     * @param columnName the name of the target column
+     * @return the 0-based index of the column, or -1 if there is no column with this name
+     */
+    public int columnIndex(String columnName) {
+        return headerIndexes.getOrDefault(columnName, -1);
+    }
+
+    /**
+     * @param rowIndex    the 0-based index of the row, excluding the header row
+     * @param columnIndex the 0-based index of the column
+     * @return the cell text
+     * @throws IndexOutOfBoundsException if the row doesn't have a cell at this index
+     */
+    public String cell(int rowIndex, int columnIndex) {
+        if (columnIndex < 0 || columnIndex >= rowLengths[rowIndex]) {
+            throw new IndexOutOfBoundsException("Index " + columnIndex + " out of bounds for length " + rowLengths[rowIndex]);
+        }
+        return columns[columnIndex].get(rowIndex);
+    }
+
+    /**
+     * @param rowIndex the 0-based index of the row, excluding the header row
+     * @return a new array holding the cells of the target row
+     */
+    public String[] row(int rowIndex) {
+        var row = new String[rowLengths[rowIndex]];
+        for (int i = 0; i < row.length; i++) {
+            row[i] = columns[i].get(rowIndex);
+        }
+        return row;
+    }
+
+    /**
+     * @param columnIndex the 0-based index of the column
+     * @return a new list holding the cells of the target column, skipping rows that are too short to have this column
+     */
+    public List<String> column(int columnIndex) {
+        var values = new ArrayList<String>(rowCount());
+        for (int rowIndex = 0; rowIndex < rowCount(); rowIndex++) {
+            if (columnIndex < rowLengths[rowIndex]) {
+                values.add(columns[columnIndex].get(rowIndex));
+            }
+        }
+        return values;
+    }
+
+    public ColumnStatistics statistics(int columnIndex) {
+        return columns[columnIndex].statistics();
+    }
+
+    /**
+     * Aggregates of a single column, computed once while the table is built.
+     *
+     * @param count         the number of non-missing cells
+     * @param distinctCount the number of distinct non-missing cell values
+     * @param isNumeric     true if all the non-missing cells are numbers, the numeric aggregates are NaN otherwise
+     * @param min           the minimum numeric value
+     * @param max           the maximum numeric value
+     * @param sum           the sum of all numeric values
+     */
+    public record ColumnStatistics(int count, int distinctCount, boolean isNumeric, double min, double max, double sum) {
+    }
+
+    private interface Column {
+        String get(int rowIndex);
+
+        ColumnStatistics statistics();
+    }
+
+    private record LongColumn(long[] values, ColumnStatistics statistics) implements Column {
+        @Override
+        public String get(int rowIndex) {
+            return Long.toString(values[rowIndex]);
+        }
+    }
+
+    private record DoubleColumn(double[] values, ColumnStatistics statistics) implements Column {
+        @Override
+        public String get(int rowIndex) {
+            return Double.toString(values[rowIndex]);
+        }
+    }
+
+    private record DictionaryColumn(int[] codes, String[] dictionary, ColumnStatistics statistics) implements Column {
+        @Override
+        public String get(int rowIndex) {
+            int code = codes[rowIndex];
+            return code < 0 ? null : dictionary[code];
+        }
+    }
+
+    private static final class ColumnBuilder {
+        private final Map<String, Integer> dictionary = new LinkedHashMap<>();
+        private int[] codes = new int[64];
+        private int size;
+
+        private ColumnBuilder(int missingRows) {
+            for (int i = 0; i < missingRows; i++) {
+                add(null);
+            }
+        }
+
+        private void add(String value) {
+            if (size == codes.length) {
+                codes = Arrays.copyOf(codes, size * 2);
+            }
+            codes[size++] = value == null ? -1 : dictionary.computeIfAbsent(value, key -> dictionary.size());
+        }
+
+        private Column build() {
+            var values = dictionary.keySet().toArray(String[]::new);
+            var rowCodes = Arrays.copyOf(codes, size);
+            int count = (int) Arrays.stream(rowCodes).filter(code -> code >= 0).count();
+
+            // numbers are parsed once per distinct value
+            var numericDictionary = new double[values.length];
+            boolean isNumeric = true;
+            boolean isLong = count == size && count > 0;
+            boolean isDouble = isLong;
+            for (int i = 0; i < values.length && isNumeric; i++) {
+                try {
+                    numericDictionary[i] = Double.parseDouble(values[i]);
+                } catch (NumberFormatException e) {
+                    isNumeric = false;
+                }
+                isLong = isLong && isCanonicalLong(values[i]);
+                isDouble = isDouble && isNumeric && Double.toString(numericDictionary[i]).equals(values[i]);
+            }
+            if (!isNumeric) {
+                return new DictionaryColumn(rowCodes, values, new ColumnStatistics(count, values.length, false, Double.NaN, Double.NaN, Double.NaN));
+            }
+
+            double min = Double.NaN;
+            double max = Double.NaN;
+            double sum = 0;
+            for (var value : numericDictionary) {
+                min = Double.isNaN(min) ? value : Math.min(min, value);
+                max = Double.isNaN(max) ? value : Math.max(max, value);
+            }
+            for (int rowIndex = 0; rowIndex < size; rowIndex++) {
+                if (rowCodes[rowIndex] >= 0) {
+                    sum += numericDictionary[rowCodes[rowIndex]];
+                }
+            }
+            var statistics = new ColumnStatistics(count, values.length, true, min, max, sum);
+            if (isLong) {
+                var longValues = new long[size];
+                for (int rowIndex = 0; rowIndex < size; rowIndex++) {
+                    longValues[rowIndex] = Long.parseLong(values[rowCodes[rowIndex]]);
+                }
+                return new LongColumn(longValues, statistics);
+            } else if (isDouble) {
+                var doubleValues = new double[size];
+                for (int rowIndex = 0; rowIndex < size; rowIndex++) {
+                    doubleValues[rowIndex] = numericDictionary[rowCodes[rowIndex]];
+                }
+                return new DoubleColumn(doubleValues, statistics);
+            }
+            return new DictionaryColumn(rowCodes, values, statistics);
+        }
+
+        private static boolean isCanonicalLong(String value) {
+            try {
+                return Long.toString(Long.parseLong(value)).equals(value);
+            } catch (NumberFormatException e) {
+                return false;
+            }
+        }
+    }
+}
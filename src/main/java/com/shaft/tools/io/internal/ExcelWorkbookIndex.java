@@ -0,0 +1,337 @@
+package com.shaft.tools.io.internal;
+
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.model.StylesTable;
+import org.xml.sax.Attributes;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.DefaultHandler;
+
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.text.SimpleDateFormat;
+import java.util.*;
+
+/**
+ * Read-only index of an Excel workbook, used by {@link com.shaft.tools.io.ExcelFileManager}.
+ * <p>
+ * The workbook is read with the XSSF event model: every sheet is streamed through a SAX parser instead of being loaded
+ * into an {@code XSSFWorkbook}, so the heap usage is proportional to the cell values rather than to the size of the
+ * workbook DOM. While a sheet is being streamed, its row names (first column) and column names (first row) are indexed
+ * in hash maps, so every cell lookup is O(1).
+ */
+public final class ExcelWorkbookIndex {
+    private final String defaultSheetName;
+    private final Map<String, SheetIndex> sheets;
+
+    private ExcelWorkbookIndex(String defaultSheetName, Map<String, SheetIndex> sheets) {
+        this.defaultSheetName = defaultSheetName;
+        this.sheets = sheets;
+    }
+
+    /**
+     * Streams all the sheets of an .xlsx workbook and indexes their cells.
+     *
+     * @param file the target workbook
+     * @return the workbook index
+     * @throws IOException if the file cannot be read or is not a valid .xlsx workbook
+     */
+    public static ExcelWorkbookIndex parse(Path file) throws IOException {
+        try (var opcPackage = OPCPackage.open(file.toFile(), PackageAccess.READ)) {
+            var reader = new XSSFReader(opcPackage);
+            var cellDecoder = new CellDecoder(opcPackage, reader);
+            // sheet names are case-insensitive, like XSSFWorkbook.getSheet
+            var sheets = new TreeMap<String, SheetIndex>(String.CASE_INSENSITIVE_ORDER);
+            String defaultSheetName = null;
+            var sheetIterator = (XSSFReader.SheetIterator) reader.getSheetsData();
+            while (sheetIterator.hasNext()) {
+                try (var sheetData = sheetIterator.next()) {
+                    var handler = new SheetHandler(cellDecoder);
+                    newXmlReader(handler).parse(new InputSource(sheetData));
+                    var sheetName = sheetIterator.getSheetName();
+                    sheets.putIfAbsent(sheetName, handler.build());
+                    if (defaultSheetName == null) {
+                        defaultSheetName = sheetName;
+                    }
+                }
+            }
+            return new ExcelWorkbookIndex(defaultSheetName, Collections.unmodifiableMap(sheets));
+        } catch (OpenXML4JException | SAXException | ParserConfigurationException | RuntimeException e) {
+            throw new IOException("Failed to read the workbook [" + file + "].", e);
+        }
+    }
+
+    public String defaultSheetName() {
+        return defaultSheetName;
+    }
+
+    /**
+     * @param sheetName the name of the target sheet, case-insensitive
+     * @return the index of the target sheet, or null if there is no sheet with this name
+     */
+    public SheetIndex sheet(String sheetName) {
+        return sheets.get(sheetName);
+    }
+
+    private static boolean isDate1904(InputStream workbookData) throws IOException, SAXException, ParserConfigurationException {
+        var isDate1904 = new boolean[1];
+        newXmlReader(new DefaultHandler() {
+            @Override
+            public void startElement(String uri, String localName, String qName, Attributes attributes) {
+                if ("workbookPr".equals(localName)) {
+                    var date1904 = attributes.getValue("date1904");
+                    isDate1904[0] = "1".equals(date1904) || "true".equalsIgnoreCase(date1904);
+                }
+            }
+        }).parse(new InputSource(workbookData));
+        return isDate1904[0];
+    }
+
+    static org.xml.sax.XMLReader newXmlReader(DefaultHandler handler) throws SAXException, ParserConfigurationException {
+        var xmlReader = XMLHelper.newXMLReader();
+        xmlReader.setContentHandler(handler);
+        return xmlReader;
+    }
+
+    /**
+     * The typed cells of a single sheet along with its row name and column name indexes.
+     */
+    public static final class SheetIndex {
+        private final Object[][] rows;
+        private final Map<String, Integer> rowNumbers;
+        private final Map<String, Integer> columnNumbers;
+        private final int lastColumnNumber;
+
+        private SheetIndex(Object[][] rows, Map<String, Integer> rowNumbers, Map<String, Integer> columnNumbers, int lastColumnNumber) {
+            this.rows = rows;
+            this.rowNumbers = rowNumbers;
+            this.columnNumbers = columnNumbers;
+            this.lastColumnNumber = lastColumnNumber;
+        }
+
+        /**
+         * @param rowName the value of the first cell of the target row
+         * @return the zero based number of the first row with this name, or -1 if there is no such row
+         */
+        public int rowNumber(String rowName) {
+            return rowNumbers.getOrDefault(rowName, -1);
+        }
+
+        /**
+         * @param columnName the value of the first cell of the target column
+         * @return the zero based number of the first column with this name, or -1 if there is no such column
+         */
+        public int columnNumber(String columnName) {
+            return columnNumbers.getOrDefault(columnName, -1);
+        }
+
+        /**
+         * @return the zero based number of the last column of the consecutive text cells in the first row
+         */
+        public int lastColumnNumber() {
+            return lastColumnNumber;
+        }
+
+        /**
+         * Formats the target cell the same way the workbook DOM based reader did: whole numbers lose their decimal
+         * part, date formatted numbers are formatted as dd/MM/yy, and formulas that don't evaluate to a number,
+         * errors and empty cells are returned as an empty string.
+         *
+         * @param rowNumber    the zero based number of the target row
+         * @param columnNumber the zero based number of the target column
+         * @return the formatted cell value
+         */
+        public String cellData(int rowNumber, int columnNumber) {
+            if (rowNumber < 0 || rowNumber >= rows.length || rows[rowNumber] == null
+                    || columnNumber < 0 || columnNumber >= rows[rowNumber].length) {
+                return "";
+            }
+            return format(rows[rowNumber][columnNumber]);
+        }
+    }
+
+    static String format(Object cell) {
+        return switch (cell) {
+            case String text -> text;
+            case Boolean bool -> String.valueOf(bool);
+            case NumericCell numericCell -> numericCell.format();
+            case null, default -> "";
+        };
+    }
+
+    private record NumericCell(double value, boolean isDateFormatted, boolean isDate1904) {
+        private String format() {
+            String cellValue = String.valueOf(value);
+            if (cellValue.contains(".0")) {
+                cellValue = cellValue.split("\\.")[0];
+            }
+            if (isDateFormatted) {
+                cellValue = new SimpleDateFormat("dd/MM/yy").format(DateUtil.getJavaDate(value, isDate1904));
+            }
+            return cellValue;
+        }
+    }
+
+    /**
+     * The cached text result of a formula, it is not returned as cell data but it can still be used as a row or
+     * column name.
+     */
+    private record FormulaText(String text) {
+    }
+
+    /**
+     * Converts the raw content of a cell element in the sheet XML into a typed cell value.
+     */
+    static final class CellDecoder {
+        private final ReadOnlySharedStringsTable sharedStrings;
+        private final Map<Integer, String> sharedStringValues = new HashMap<>();
+        private final StylesTable styles;
+        private final boolean isDate1904;
+
+        CellDecoder(OPCPackage opcPackage, XSSFReader reader) throws IOException, OpenXML4JException, SAXException, ParserConfigurationException {
+            this.sharedStrings = new ReadOnlySharedStringsTable(opcPackage, false);
+            this.styles = reader.getStylesTable();
+            try (var workbookData = reader.getWorkbookData()) {
+                this.isDate1904 = isDate1904(workbookData);
+            }
+        }
+
+        Object decode(String cellType, String cellStyle, boolean hasFormula, String text) {
+            if (cellType == null || "n".equals(cellType)) {
+                if (text.isEmpty()) {
+                    return null;
+                }
+                double numericValue = Double.parseDouble(text);
+                return new NumericCell(numericValue, isDateFormatted(cellStyle, numericValue), isDate1904);
+            }
+            return switch (cellType) {
+                // repeated shared strings reuse the same String instance
+                case "s" -> sharedStringValues.computeIfAbsent(Integer.parseInt(text), index -> sharedStrings.getItemAt(index).getString());
+                case "inlineStr" -> text;
+                case "str" -> new FormulaText(text);
+                case "b" -> hasFormula ? null : "1".equals(text);
+                default -> null;
+            };
+        }
+
+        private boolean isDateFormatted(String cellStyle, double numericValue) {
+            if (!DateUtil.isValidExcelDate(numericValue)) {
+                return false;
+            }
+            var style = cellStyle == null ? (styles.getNumCellStyles() > 0 ? styles.getStyleAt(0) : null) : styles.getStyleAt(Integer.parseInt(cellStyle));
+            return style != null && DateUtil.isADateFormat(style.getDataFormat(), style.getDataFormatString());
+        }
+    }
+
+    private static final class SheetHandler extends DefaultHandler {
+        private final CellDecoder cellDecoder;
+        private final List<Object[]> rows = new ArrayList<>();
+        private final Map<String, Integer> rowNumbers = new HashMap<>();
+        private final Map<String, Integer> columnNumbers = new HashMap<>();
+        private final List<Object> currentRow = new ArrayList<>();
+        private final StringBuilder value = new StringBuilder();
+        private int rowNumber = -1;
+        private int columnNumber;
+        private String cellType;
+        private String cellStyle;
+        private boolean hasFormula;
+        private boolean isCapturingValue;
+
+        private SheetHandler(CellDecoder cellDecoder) {
+            this.cellDecoder = cellDecoder;
+        }
+
+        @Override
+        public void startElement(String uri, String localName, String qName, Attributes attributes) {
+            switch (localName) {
+                case "row" -> {
+                    var reference = attributes.getValue("r");
+                    rowNumber = reference == null ? rowNumber + 1 : Integer.parseInt(reference) - 1;
+                    currentRow.clear();
+                    columnNumber = -1;
+                }
+                case "c" -> {
+                    var reference = attributes.getValue("r");
+                    columnNumber = reference == null ? columnNumber + 1 : new CellReference(reference).getCol();
+                    cellType = attributes.getValue("t");
+                    cellStyle = attributes.getValue("s");
+                    hasFormula = false;
+                    value.setLength(0);
+                }
+                case "f" -> hasFormula = true;
+                case "v", "t" -> isCapturingValue = true;
+                default -> {
+                }
+            }
+        }
+
+        @Override
+        public void endElement(String uri, String localName, String qName) {
+            switch (localName) {
+                case "v", "t" -> isCapturingValue = false;
+                case "c" -> setCell(columnNumber, cellDecoder.decode(cellType, cellStyle, hasFormula, value.toString()));
+                case "row" -> endRow();
+                default -> {
+                }
+            }
+        }
+
+        @Override
+        public void characters(char[] ch, int start, int length) {
+            if (isCapturingValue) {
+                value.append(ch, start, length);
+            }
+        }
+
+        private void setCell(int column, Object cellValue) {
+            while (currentRow.size() <= column) {
+                currentRow.add(null);
+            }
+            currentRow.set(column, cellValue);
+        }
+
+        private void endRow() {
+            while (rows.size() < rowNumber) {
+                rows.add(null);
+            }
+            var cells = currentRow.toArray();
+            rows.add(cells);
+            if (cells.length > 0 && nameOf(cells[0]) != null) {
+                rowNumbers.putIfAbsent(nameOf(cells[0]), rowNumber);
+            }
+            if (rowNumber == 0) {
+                for (int i = 0; i < cells.length; i++) {
+                    if (nameOf(cells[i]) != null) {
+                        columnNumbers.putIfAbsent(nameOf(cells[i]), i);
+                    }
+                }
+            }
+        }
+
+        private SheetIndex build() {
+            var firstRow = rows.isEmpty() || rows.getFirst() == null ? new Object[0] : rows.getFirst();
+            int lastColumnNumber = 0;
+            while (lastColumnNumber < firstRow.length && firstRow[lastColumnNumber] instanceof String) {
+                lastColumnNumber++;
+            }
+            return new SheetIndex(rows.toArray(Object[][]::new), Map.copyOf(rowNumbers), Map.copyOf(columnNumbers), lastColumnNumber - 1);
+        }
+
+        private static String nameOf(Object cell) {
+            return switch (cell) {
+                case String text -> text;
+                case FormulaText formulaText -> formulaText.text();
+                case null, default -> null;
+            };
+        }
+    }
+}
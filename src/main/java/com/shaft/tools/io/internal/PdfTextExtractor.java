@@ -0,0 +1,190 @@
+package com.shaft.tools.io.internal;
+
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.text.PDFTextStripper;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiPredicate;
+
+/**
+ * Text extraction for large PDF documents, used by {@link com.shaft.tools.io.PdfFileManager}.
+ * <p>
+ * {@link PDDocument} is not thread-safe, so the pages are split into contiguous ranges and every range is stripped
+ * by its own worker on its own document handle. The results are then combined in page order, so the extracted text is
+ * identical to stripping the whole document on a single thread. Short documents are stripped on the calling thread.
+ */
+public final class PdfTextExtractor {
+    private static final int MIN_PAGES_PER_RANGE = 8;
+
+    private PdfTextExtractor() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Extracts the text of a page range, stripping sub-ranges of the document concurrently.
+     *
+     * @param file      the target PDF file
+     * @param startPage the first page to extract, starting from 1
+     * @param endPage   the last page to extract (inclusive), it is capped to the number of pages in the document
+     * @return the text of the requested pages, sorted by position
+     * @throws IOException if the document cannot be read
+     */
+    public static String extractText(File file, int startPage, int endPage) throws IOException {
+        var ranges = splitPages(file, startPage, endPage);
+        if (ranges.size() == 1) {
+            return stripRange(file, ranges.getFirst());
+        }
+        var rangeTasks = new ArrayList<Callable<String>>();
+        ranges.forEach(range -> rangeTasks.add(() -> stripRange(file, range)));
+        var content = new StringBuilder();
+        for (var rangeContent : invokeAll(rangeTasks)) {
+            content.append(rangeContent);
+        }
+        return content.toString();
+    }
+
+    /**
+     * Streams the text of the document one page at a time, so only a single page of text is kept in memory.
+     *
+     * @param file        the target PDF file
+     * @param pageVisitor called with the page number (starting from 1) and the page text, return false to stop reading
+     *                    the remaining pages
+     * @throws IOException if the document cannot be read
+     */
+    public static void visitPages(File file, BiPredicate<Integer, String> pageVisitor) throws IOException {
+        try (var document = Loader.loadPDF(file)) {
+            var stripper = newStripper();
+            for (int page = 1; page <= document.getNumberOfPages(); page++) {
+                stripper.setStartPage(page);
+                stripper.setEndPage(page);
+                if (!pageVisitor.test(page, stripper.getText(document))) {
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks whether the document text contains the target text, including matches that span across pages.
+     * Page ranges are searched concurrently, and all the workers stop as soon as any of them finds a match.
+     *
+     * @param file the target PDF file
+     * @param text the text to look for
+     * @return true if the text was found
+     * @throws IOException if the document cannot be read
+     */
+    public static boolean containsText(File file, String text) throws IOException {
+        if (text.isEmpty()) {
+            return true;
+        }
+        var ranges = splitPages(file, 1, Integer.MAX_VALUE);
+        var isFound = new AtomicBoolean(false);
+        var rangeTasks = new ArrayList<Callable<RangeSearchResult>>();
+        ranges.forEach(range -> rangeTasks.add(() -> searchRange(file, range, text, isFound)));
+        var results = ranges.size() == 1 ? List.of(searchRange(file, ranges.getFirst(), text, isFound)) : invokeAll(rangeTasks);
+        if (isFound.get()) {
+            return true;
+        }
+        // a match may still span the boundary between two ranges that were searched by different workers
+        for (int i = 1; i < results.size(); i++) {
+            if ((results.get(i - 1).tail() + results.get(i).head()).contains(text)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static List<PageRange> splitPages(File file, int startPage, int endPage) throws IOException {
+        int numberOfPages;
+        try (var document = Loader.loadPDF(file)) {
+            numberOfPages = document.getNumberOfPages();
+        }
+        int first = Math.max(1, startPage);
+        int last = Math.min(endPage, numberOfPages);
+        int pageCount = Math.max(0, last - first + 1);
+        int numberOfRanges = Math.max(1, Math.min(Runtime.getRuntime().availableProcessors(), pageCount / MIN_PAGES_PER_RANGE));
+        int pagesPerRange = Math.max(1, (pageCount + numberOfRanges - 1) / numberOfRanges);
+        var ranges = new ArrayList<PageRange>();
+        for (int rangeStart = first; rangeStart <= last; rangeStart += pagesPerRange) {
+            ranges.add(new PageRange(rangeStart, Math.min(last, rangeStart + pagesPerRange - 1)));
+        }
+        if (ranges.isEmpty()) {
+            ranges.add(new PageRange(first, last));
+        }
+        return ranges;
+    }
+
+    private static String stripRange(File file, PageRange range) throws IOException {
+        if (range.end() < range.start()) {
+            return "";
+        }
+        try (var document = Loader.loadPDF(file)) {
+            var stripper = newStripper();
+            stripper.setStartPage(range.start());
+            stripper.setEndPage(range.end());
+            return stripper.getText(document);
+        }
+    }
+
+    private static RangeSearchResult searchRange(File file, PageRange range, String text, AtomicBoolean isFound) throws IOException {
+        int overlap = text.length() - 1;
+        var head = new StringBuilder();
+        var tail = "";
+        try (var document = Loader.loadPDF(file)) {
+            var stripper = newStripper();
+            for (int page = range.start(); page <= range.end() && !isFound.get(); page++) {
+                stripper.setStartPage(page);
+                stripper.setEndPage(page);
+                var pageText = stripper.getText(document);
+                var window = tail + pageText;
+                if (window.contains(text)) {
+                    isFound.set(true);
+                    break;
+                }
+                if (head.length() < overlap) {
+                    head.append(pageText, 0, Math.min(pageText.length(), overlap - head.length()));
+                }
+                tail = window.substring(Math.max(0, window.length() - overlap));
+            }
+        }
+        return new RangeSearchResult(head.toString(), tail);
+    }
+
+    private static PDFTextStripper newStripper() {
+        var stripper = new PDFTextStripper();
+        // To get text sorted from left to right and top to bottom
+        stripper.setSortByPosition(true);
+        return stripper;
+    }
+
+    private static <T> List<T> invokeAll(List<Callable<T>> tasks) throws IOException {
+        var results = new ArrayList<T>();
+        try (var executor = Executors.newFixedThreadPool(Math.min(tasks.size(), Runtime.getRuntime().availableProcessors()))) {
+            for (Future<T> future : executor.invokeAll(tasks)) {
+                results.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while extracting PDF text");
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof IOException ioException ? ioException : new IOException(e.getCause());
+        }
+        return results;
+    }
+
+    private record PageRange(int start, int end) {
+    }
+
+    private record RangeSearchResult(String head, String tail) {
+    }
+}
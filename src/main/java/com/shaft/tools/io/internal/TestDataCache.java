@@ -0,0 +1,142 @@
+package com.shaft.tools.io.internal;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Process-wide cache of parsed test data files, shared by the test data readers in {@link com.shaft.tools.io}.
+ * <p>
+ * Every file is parsed once per format and the parsed tree is shared by all readers and threads. Entries are keyed by
+ * the canonical path of the file and validated against its last modified time and size on every access, so a file
+ * that changes on disk is parsed again on the next lookup. The result of every lookup expression (for example a
+ * JsonPath or a YAML key path) is cached against the parsed tree as well, so repeated lookups skip evaluating the
+ * expression again.
+ * <p>
+ * Cached trees must never be modified, so lookup results that are collections are returned as copies
+ * (see {@link #copyOf(Object)}).
+ */
+public final class TestDataCache {
+    private static final Map<CacheKey, ParsedFile<?>> parsedFiles = new ConcurrentHashMap<>();
+
+    private TestDataCache() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Returns the cached parsed tree of the target file, parsing it first if it was not parsed yet or if it has
+     * changed since it was last parsed.
+     *
+     * @param filePath the path of the target file
+     * @param format   the name of the parser, the same file can be cached once per format
+     * @param parser   parses the file into an immutable tree
+     * @param <T>      the type of the parsed tree
+     * @return the parsed file
+     * @throws IOException if the file cannot be read or parsed
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> ParsedFile<T> get(String filePath, String format, FileParser<T> parser) throws IOException {
+        var canonicalPath = Path.of(filePath).toRealPath();
+        var attributes = Files.readAttributes(canonicalPath, BasicFileAttributes.class);
+        var key = new CacheKey(canonicalPath, format);
+        var cached = (ParsedFile<T>) parsedFiles.get(key);
+        if (cached != null && cached.isUpToDate(attributes.lastModifiedTime(), attributes.size())) {
+            return cached;
+        }
+        try {
+            return (ParsedFile<T>) parsedFiles.compute(key, (cacheKey, existing) -> {
+                if (existing != null && existing.isUpToDate(attributes.lastModifiedTime(), attributes.size())) {
+                    return existing;
+                }
+                try {
+                    return new ParsedFile<>(parser.parse(canonicalPath), attributes.lastModifiedTime(), attributes.size());
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Removes all the cached files.
+     */
+    public static void clear() {
+        parsedFiles.clear();
+    }
+
+    /**
+     * Copies lookup results that are (nested) lists or maps, so that callers can modify them without changing the
+     * cached tree. Other values are returned as is.
+     *
+     * @param value the lookup result
+     * @return a mutable copy of the lookup result
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T copyOf(T value) {
+        if (value instanceof Map<?, ?> map) {
+            var copy = new LinkedHashMap<Object, Object>(map.size());
+            map.forEach((key, item) -> copy.put(key, copyOf(item)));
+            return (T) copy;
+        } else if (value instanceof List<?> list) {
+            var copy = new ArrayList<>(list.size());
+            list.forEach(item -> copy.add(copyOf(item)));
+            return (T) copy;
+        }
+        return value;
+    }
+
+    @FunctionalInterface
+    public interface FileParser<T> {
+        T parse(Path file) throws IOException;
+    }
+
+    /**
+     * A parsed test data file along with the cached results of the lookups that were evaluated against it.
+     *
+     * @param <T> the type of the parsed tree
+     */
+    public static final class ParsedFile<T> {
+        private final T tree;
+        private final FileTime lastModifiedTime;
+        private final long size;
+        private final Map<String, Optional<Object>> lookups = new ConcurrentHashMap<>();
+
+        private ParsedFile(T tree, FileTime lastModifiedTime, long size) {
+            this.tree = tree;
+            this.lastModifiedTime = lastModifiedTime;
+            this.size = size;
+        }
+
+        public T tree() {
+            return tree;
+        }
+
+        /**
+         * Evaluates the lookup expression against the parsed tree once, and then returns the cached result for all
+         * subsequent lookups of the same expression.
+         *
+         * @param expression the lookup expression, including anything else that affects its result such as the
+         *                   expected data type
+         * @param evaluator  evaluates the expression against the parsed tree
+         * @return the (possibly null) lookup result, which must not be modified
+         */
+        public Object lookup(String expression, Function<T, Object> evaluator) {
+            return lookups.computeIfAbsent(expression, key -> Optional.ofNullable(evaluator.apply(tree))).orElse(null);
+        }
+
+        private boolean isUpToDate(FileTime lastModifiedTime, long size) {
+            return this.lastModifiedTime.equals(lastModifiedTime) && this.size == size;
+        }
+    }
+
+    private record CacheKey(Path canonicalPath, String format) {
+    }
+}
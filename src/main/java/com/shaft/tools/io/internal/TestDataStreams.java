@@ -0,0 +1,379 @@
+package com.shaft.tools.io.internal;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVParser;
+import org.apache.commons.csv.CSVRecord;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.xml.sax.SAXException;
+
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * Forward-only row readers for test data files, used by {@link com.shaft.tools.io.TestDataProvider}.
+ * <p>
+ * Unlike the test data file managers, these readers never hold more than the current row in memory: CSV files are read
+ * record by record, Excel sheets are pulled through a StAX parser, and JSON arrays are read one element at a time.
+ * Every reader closes its underlying file as soon as its last row has been read, or when it is closed explicitly.
+ */
+public final class TestDataStreams {
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private TestDataStreams() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Reads a CSV file whose first record is the header row. Every row is mapped from the header names to the cell
+     * text, cells that are missing from short rows are mapped to null.
+     *
+     * @param file the target CSV file
+     * @return a reader that is positioned before the first data row
+     * @throws IOException if the file cannot be opened or its header row cannot be parsed
+     */
+    public static RowStream csv(Path file) throws IOException {
+        var format = CSVFormat.DEFAULT.builder().setHeader().setSkipHeaderRecord(true).get();
+        var parser = format.parse(new BufferedReader(new InputStreamReader(Files.newInputStream(file))));
+        return new CsvRowStream(parser);
+    }
+
+    /**
+     * Reads an Excel sheet whose first row is the header row. Cells are formatted the same way as
+     * {@link com.shaft.tools.io.ExcelFileManager#getCellData(String, String, String)} formats them.
+     *
+     * @param file      the target .xlsx workbook
+     * @param sheetName the name of the target sheet (case-insensitive), or null to read the first sheet
+     * @return a reader that is positioned before the first data row
+     * @throws IOException if the workbook cannot be read or doesn't have the target sheet
+     */
+    public static RowStream excel(Path file, String sheetName) throws IOException {
+        OPCPackage opcPackage = null;
+        InputStream sheetData = null;
+        try {
+            opcPackage = OPCPackage.open(file.toFile(), PackageAccess.READ);
+            var reader = new XSSFReader(opcPackage);
+            var cellDecoder = new ExcelWorkbookIndex.CellDecoder(opcPackage, reader);
+            var sheetIterator = (XSSFReader.SheetIterator) reader.getSheetsData();
+            while (sheetIterator.hasNext() && sheetData == null) {
+                var candidate = sheetIterator.next();
+                if (sheetName == null || sheetName.equalsIgnoreCase(sheetIterator.getSheetName())) {
+                    sheetData = candidate;
+                } else {
+                    candidate.close();
+                }
+            }
+            if (sheetData == null) {
+                throw new IOException("Couldn't find the sheet [" + sheetName + "] in the workbook [" + file + "].");
+            }
+            var xmlReader = XMLHelper.newXMLInputFactory().createXMLStreamReader(sheetData);
+            return new ExcelRowStream(opcPackage, sheetData, xmlReader, cellDecoder);
+        } catch (OpenXML4JException | SAXException | ParserConfigurationException | XMLStreamException | IOException | RuntimeException e) {
+            closeQuietly(sheetData);
+            if (opcPackage != null) {
+                opcPackage.revert();
+            }
+            throw e instanceof IOException ioException ? ioException : new IOException("Failed to read the workbook [" + file + "].", e);
+        }
+    }
+
+    /**
+     * Reads the elements of a JSON array one by one. Object elements are returned as they are, any other element is
+     * wrapped in a single entry map under the key {@code "value"}.
+     *
+     * @param file      the target JSON file
+     * @param arrayPath the dot separated key path of the target array, for example {@code "data.users"}, or an empty
+     *                  string if the root of the document is the array
+     * @return a reader that is positioned before the first element of the array
+     * @throws IOException if the file cannot be parsed or the key path doesn't lead to an array
+     */
+    public static RowStream json(Path file, String arrayPath) throws IOException {
+        var parser = objectMapper.createParser(file.toFile());
+        try {
+            var token = parser.nextToken();
+            for (var key : arrayPath.isEmpty() ? new String[0] : arrayPath.split("\\.")) {
+                token = moveToField(parser, token, key);
+                if (token == null) {
+                    throw new IOException("Couldn't find the key path [" + arrayPath + "] in [" + file + "].");
+                }
+            }
+            if (token != JsonToken.START_ARRAY) {
+                throw new IOException("The key path [" + arrayPath + "] in [" + file + "] is not an array.");
+            }
+            return new JsonRowStream(parser);
+        } catch (IOException | RuntimeException e) {
+            parser.close();
+            throw e;
+        }
+    }
+
+    private static JsonToken moveToField(JsonParser parser, JsonToken token, String key) throws IOException {
+        if (token != JsonToken.START_OBJECT) {
+            return null;
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            var fieldName = parser.currentName();
+            var valueToken = parser.nextToken();
+            if (key.equals(fieldName)) {
+                return valueToken;
+            }
+            parser.skipChildren();
+        }
+        return null;
+    }
+
+    private static void closeQuietly(Closeable closeable) {
+        if (closeable != null) {
+            try {
+                closeable.close();
+            } catch (IOException e) {
+                // nothing left to release
+            }
+        }
+    }
+
+    /**
+     * A forward-only reader of the data rows of a test data file. Every row is an ordered map from the column names
+     * to the cell values.
+     */
+    public interface RowStream extends Iterator<Map<String, Object>>, Closeable {
+    }
+
+    /**
+     * Reads one row ahead, so that {@link #hasNext()} can tell whether there are more rows, and closes the file once
+     * the last row has been read.
+     */
+    private abstract static class LookaheadRowStream implements RowStream {
+        private Map<String, Object> nextRow;
+        private boolean isExhausted;
+
+        /**
+         * @return the next row, or null if there are no more rows
+         */
+        protected abstract Map<String, Object> readRow() throws IOException;
+
+        protected abstract void release() throws IOException;
+
+        @Override
+        public boolean hasNext() {
+            if (nextRow == null && !isExhausted) {
+                try {
+                    nextRow = readRow();
+                } catch (IOException e) {
+                    close();
+                    throw new UncheckedIOException(e);
+                }
+                if (nextRow == null) {
+                    close();
+                }
+            }
+            return nextRow != null;
+        }
+
+        @Override
+        public Map<String, Object> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            var row = nextRow;
+            nextRow = null;
+            return row;
+        }
+
+        @Override
+        public void close() {
+            if (!isExhausted) {
+                isExhausted = true;
+                nextRow = null;
+                try {
+                    release();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        }
+    }
+
+    private static final class CsvRowStream extends LookaheadRowStream {
+        private final CSVParser parser;
+        private final List<String> headers;
+        private final Iterator<CSVRecord> records;
+
+        private CsvRowStream(CSVParser parser) {
+            this.parser = parser;
+            this.headers = List.copyOf(parser.getHeaderNames());
+            this.records = parser.iterator();
+        }
+
+        @Override
+        protected Map<String, Object> readRow() {
+            if (!records.hasNext()) {
+                return null;
+            }
+            var record = records.next();
+            var row = new LinkedHashMap<String, Object>();
+            for (int i = 0; i < headers.size(); i++) {
+                row.put(headers.get(i), i < record.size() ? record.get(i) : null);
+            }
+            return row;
+        }
+
+        @Override
+        protected void release() throws IOException {
+            parser.close();
+        }
+    }
+
+    private static final class ExcelRowStream extends LookaheadRowStream {
+        private final OPCPackage opcPackage;
+        private final InputStream sheetData;
+        private final XMLStreamReader xmlReader;
+        private final ExcelWorkbookIndex.CellDecoder cellDecoder;
+        private final List<Object> cells = new ArrayList<>();
+        private List<String> headers;
+
+        private ExcelRowStream(OPCPackage opcPackage, InputStream sheetData, XMLStreamReader xmlReader, ExcelWorkbookIndex.CellDecoder cellDecoder) {
+            this.opcPackage = opcPackage;
+            this.sheetData = sheetData;
+            this.xmlReader = xmlReader;
+            this.cellDecoder = cellDecoder;
+        }
+
+        @Override
+        protected Map<String, Object> readRow() throws IOException {
+            try {
+                if (headers == null) {
+                    if (!readCells()) {
+                        return null;
+                    }
+                    headers = new ArrayList<>();
+                    for (int i = 0; i < cells.size(); i++) {
+                        var name = ExcelWorkbookIndex.format(cells.get(i));
+                        headers.add(name.isEmpty() ? CellReference.convertNumToColString(i) : name);
+                    }
+                }
+                if (!readCells()) {
+                    return null;
+                }
+                var row = new LinkedHashMap<String, Object>();
+                for (int i = 0; i < headers.size(); i++) {
+                    row.put(headers.get(i), i < cells.size() ? ExcelWorkbookIndex.format(cells.get(i)) : "");
+                }
+                return row;
+            } catch (XMLStreamException | RuntimeException e) {
+                throw new IOException("Failed to read the sheet data.", e);
+            }
+        }
+
+        /**
+         * Pulls the next row element from the sheet XML into {@link #cells}.
+         *
+         * @return false if there are no more rows in the sheet
+         */
+        private boolean readCells() throws XMLStreamException {
+            cells.clear();
+            int columnNumber = -1;
+            String cellType = null;
+            String cellStyle = null;
+            boolean hasFormula = false;
+            var value = new StringBuilder();
+            while (xmlReader.hasNext()) {
+                switch (xmlReader.next()) {
+                    case XMLStreamConstants.START_ELEMENT -> {
+                        switch (xmlReader.getLocalName()) {
+                            case "c" -> {
+                                var reference = xmlReader.getAttributeValue(null, "r");
+                                columnNumber = reference == null ? columnNumber + 1 : new CellReference(reference).getCol();
+                                cellType = xmlReader.getAttributeValue(null, "t");
+                                cellStyle = xmlReader.getAttributeValue(null, "s");
+                                hasFormula = false;
+                                value.setLength(0);
+                            }
+                            case "f" -> {
+                                hasFormula = true;
+                                xmlReader.getElementText();
+                            }
+                            case "v", "t" -> value.append(xmlReader.getElementText());
+                            default -> {
+                            }
+                        }
+                    }
+                    case XMLStreamConstants.END_ELEMENT -> {
+                        switch (xmlReader.getLocalName()) {
+                            case "c" -> {
+                                while (cells.size() <= columnNumber) {
+                                    cells.add(null);
+                                }
+                                cells.set(columnNumber, cellDecoder.decode(cellType, cellStyle, hasFormula, value.toString()));
+                            }
+                            case "row" -> {
+                                return true;
+                            }
+                            case "sheetData" -> {
+                                return false;
+                            }
+                            default -> {
+                            }
+                        }
+                    }
+                    default -> {
+                    }
+                }
+            }
+            return false;
+        }
+
+        @Override
+        protected void release() throws IOException {
+            try {
+                xmlReader.close();
+            } catch (XMLStreamException e) {
+                // the sheet stream is closed below anyway
+            }
+            sheetData.close();
+            opcPackage.revert();
+        }
+    }
+
+    private static final class JsonRowStream extends LookaheadRowStream {
+        private final JsonParser parser;
+
+        private JsonRowStream(JsonParser parser) {
+            this.parser = parser;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        protected Map<String, Object> readRow() throws IOException {
+            var token = parser.nextToken();
+            if (token == null || token == JsonToken.END_ARRAY) {
+                return null;
+            }
+            var element = objectMapper.readValue(parser, Object.class);
+            if (element instanceof Map<?, ?> map) {
+                return (Map<String, Object>) map;
+            }
+            var row = new LinkedHashMap<String, Object>();
+            row.put("value", element);
+            return row;
+        }
+
+        @Override
+        protected void release() throws IOException {
+            parser.close();
+        }
+    }
+}
@@ -9,6 +9,7 @@ public class FileValidationsBuilder {
     protected final StringBuilder reportMessageBuilder;
     protected String validationMethod;
     protected ValidationEnums.ValidationType validationType;
+    protected int numberOfLines;
 
     public FileValidationsBuilder(ValidationEnums.ValidationCategory validationCategory, String folderRelativePath, String fileName, StringBuilder reportMessageBuilder) {
         this.validationCategory = validationCategory;
@@ -46,6 +47,20 @@ public class FileValidationsBuilder {
         return executor;
     }
 
+    /**
+     * Use this to check if a certain file has been completely downloaded, waiting up to the fileDownloadTimeout for the download to finish
+     *
+     * @return a ValidationsExecutor object to set your custom validation message (if needed) and then perform() your validation
+     */
+    public ValidationsExecutor isDownloaded() {
+        this.validationMethod = "fileDownloaded";
+        this.validationType = ValidationEnums.ValidationType.POSITIVE;
+        reportMessageBuilder.append("is downloaded.");
+        var executor = new ValidationsExecutor(this);
+        executor.internalPerform();
+        return executor;
+    }
+
     /**
      * Use this to calculate and check a certain file checksum to confirm if it has the exact same content or not
      *
@@ -59,7 +74,9 @@ public class FileValidationsBuilder {
     }
 
     /**
-     * Use this to attempt to read and validate a certain file content (works for PDF and TEXT files)
+     * Use this to attempt to read and validate a certain file content (works for PDF and TEXT files).
+     * Large text files are streamed instead of being read into memory when checking that they are equal to or contain
+     * the expected value.
      *
      * @return a NativeValidationsBuilder object to continue building your validation
      */
@@ -68,4 +85,30 @@ public class FileValidationsBuilder {
         reportMessageBuilder.append("content ");
         return new NativeValidationsBuilder(this);
     }
+
+    /**
+     * Use this to validate only the first lines of a certain text file, without reading the rest of it
+     *
+     * @param numberOfLines the number of lines that will be read from the start of the file
+     * @return a NativeValidationsBuilder object to continue building your validation
+     */
+    public NativeValidationsBuilder head(int numberOfLines) {
+        this.validationMethod = "fileContentHead";
+        this.numberOfLines = numberOfLines;
+        reportMessageBuilder.append("first ").append(numberOfLines).append(" lines ");
+        return new NativeValidationsBuilder(this);
+    }
+
+    /**
+     * Use this to validate only the last lines of a certain text file, without reading the rest of it
+     *
+     * @param numberOfLines the number of lines that will be read from the end of the file
+     * @return a NativeValidationsBuilder object to continue building your validation
+     */
+    public NativeValidationsBuilder tail(int numberOfLines) {
+        this.validationMethod = "fileContentTail";
+        this.numberOfLines = numberOfLines;
+        reportMessageBuilder.append("last ").append(numberOfLines).append(" lines ");
+        return new NativeValidationsBuilder(this);
+    }
 }
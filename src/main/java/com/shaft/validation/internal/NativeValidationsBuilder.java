@@ -21,6 +21,7 @@ public class NativeValidationsBuilder {
     protected String jsonPath;
     protected String folderRelativePath;
     protected String fileName;
+    protected int numberOfLines;
 
     public NativeValidationsBuilder(WebDriverElementValidationsBuilder webDriverElementValidationsBuilder) {
         this.validationCategory = webDriverElementValidationsBuilder.validationCategory;
@@ -64,6 +65,7 @@ public class NativeValidationsBuilder {
         this.validationMethod = fileValidationsBuilder.validationMethod;
         this.folderRelativePath = fileValidationsBuilder.folderRelativePath;
         this.fileName = fileValidationsBuilder.fileName;
+        this.numberOfLines = fileValidationsBuilder.numberOfLines;
 
         this.reportMessageBuilder = fileValidationsBuilder.reportMessageBuilder;
     }
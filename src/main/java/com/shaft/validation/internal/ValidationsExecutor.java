@@ -3,6 +3,7 @@ package com.shaft.validation.internal;
 import com.shaft.api.RestActions;
 import com.shaft.cli.FileActions;
 import com.shaft.cli.TerminalActions;
+import com.shaft.cli.internal.FileStreamingHelper;
 import com.shaft.gui.browser.internal.JavaScriptWaitManager;
 import com.shaft.tools.io.PdfFileManager;
 import com.shaft.tools.io.ReportManager;
@@ -13,6 +14,8 @@ import io.restassured.response.Response;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 
+import java.nio.file.Path;
+import java.util.List;
 import java.util.Objects;
 
 public class ValidationsExecutor {
@@ -40,6 +43,7 @@ public class ValidationsExecutor {
     private String jsonPath;
     private String folderRelativePath;
     private String fileName;
+    private int numberOfLines;
 
     public ValidationsExecutor(WebDriverElementValidationsBuilder webDriverElementValidationsBuilder) {
         this.validationCategory = webDriverElementValidationsBuilder.validationCategory;
@@ -69,6 +73,7 @@ public class ValidationsExecutor {
 
         this.folderRelativePath = nativeValidationsBuilder.folderRelativePath;
         this.fileName = nativeValidationsBuilder.fileName;
+        this.numberOfLines = nativeValidationsBuilder.numberOfLines;
 
         this.reportMessageBuilder = nativeValidationsBuilder.reportMessageBuilder;
     }
@@ -185,6 +190,8 @@ public class ValidationsExecutor {
                     new ValidationsHelper2(validationCategory).validateNumber((Number) expectedValue, (Number) actualValue, numbersComparativeRelation, validationType);
             case "fileExists" ->
                     new ValidationsHelper().validateFileExists(validationCategory, folderRelativePath, fileName, 5, validationType, customReportMessage);
+            case "fileDownloaded" ->
+                    new ValidationsHelper().validateFileDownloaded(validationCategory, folderRelativePath, fileName, validationType, customReportMessage);
             case "responseEqualsFileContent" ->
                     new ValidationsHelper().validateJSONFileContent(validationCategory, (Response) response.get(), fileAbsolutePath, restComparisonType, "", validationType, customReportMessage);
             case "jsonPathValueEquals" ->
@@ -201,14 +208,26 @@ public class ValidationsExecutor {
             case "checkResponseSchema" ->
                     new ValidationsHelper().validateResponseFileSchema(validationCategory, (Response) response.get(), fileAbsolutePath, restComparisonType, "", validationType, customReportMessage);
             case "fileContent" -> {
-                String fileContent;
-                if (fileName.contains(".pdf")) {
-                    fileContent = PdfFileManager.readFileContent(folderRelativePath + fileName);
+                var absoluteFilePath = FileActions.getInstance(true).getAbsolutePath(folderRelativePath, fileName);
+                if (!fileName.contains(".pdf") && FileStreamingHelper.isLargeFile(Path.of(absoluteFilePath))
+                        && List.of(ValidationEnums.ValidationComparisonType.EQUALS, ValidationEnums.ValidationComparisonType.CONTAINS).contains(validationComparisonType)) {
+                    new ValidationsHelper2(validationCategory).validateLargeFileContent(expectedValue, absoluteFilePath, validationComparisonType, validationType);
+                } else if (fileName.contains(".pdf") && ValidationEnums.ValidationComparisonType.CONTAINS.equals(validationComparisonType)) {
+                    new ValidationsHelper2(validationCategory).validatePdfFileContains(expectedValue, absoluteFilePath, validationType);
                 } else {
-                    fileContent = FileActions.getInstance(true).readFile(folderRelativePath, fileName);
+                    String fileContent;
+                    if (fileName.contains(".pdf")) {
+                        fileContent = PdfFileManager.readFileContent(folderRelativePath + fileName);
+                    } else {
+                        fileContent = FileActions.getInstance(true).readFile(folderRelativePath, fileName);
+                    }
+                    new ValidationsHelper2(validationCategory).validateEquals(expectedValue, fileContent, validationComparisonType, validationType);
                 }
-                new ValidationsHelper2(validationCategory).validateEquals(expectedValue, fileContent, validationComparisonType, validationType);
             }
+            case "fileContentHead" ->
+                    new ValidationsHelper2(validationCategory).validateEquals(expectedValue, FileActions.getInstance(true).readFileHead(folderRelativePath + fileName, numberOfLines), validationComparisonType, validationType);
+            case "fileContentTail" ->
+                    new ValidationsHelper2(validationCategory).validateEquals(expectedValue, FileActions.getInstance(true).readFileTail(folderRelativePath + fileName, numberOfLines), validationComparisonType, validationType);
             case "fileChecksum" -> {
                 var fileChecksum = FileActions.getInstance(true).getFileChecksum(new TerminalActions(), folderRelativePath, fileName);
                 new ValidationsHelper2(validationCategory).validateEquals(expectedValue, fileChecksum, validationComparisonType, validationType);
@@ -16,6 +16,7 @@ import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 
 import java.io.File;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -244,6 +245,22 @@ public class ValidationsHelper {
         }
     }
 
+    protected void validateFileDownloaded(ValidationCategory validationCategory, String fileFolderName, String fileName,
+                                          ValidationType validationType, String customReportMessage) {
+        processCustomLogMessage(customReportMessage);
+        boolean expectedValue = ValidationType.POSITIVE.equals(validationType);
+        int fileDownloadTimeout = SHAFT.Properties.timeouts.fileDownloadTimeout();
+        boolean actualValue = FileActions.getInstance(true).waitForFileToDownload(fileFolderName, fileName, Duration.ofSeconds(fileDownloadTimeout));
+        String reportedExpectedValue = "File '" + fileFolderName + fileName + (expectedValue ? "' should be downloaded" : "' should not be downloaded")
+                + ", after up to '" + fileDownloadTimeout + "' seconds";
+        String reportedActualValue = actualValue ? "File is downloaded" : "File is not downloaded";
+        if (expectedValue == actualValue) {
+            pass(null, validationCategory, reportedExpectedValue, reportedActualValue, null, validationType);
+        } else {
+            fail(null, validationCategory, reportedExpectedValue, reportedActualValue, null, validationType, null);
+        }
+    }
+
     protected void validateJSONFileContent(ValidationCategory validationCategory, Response response, String referenceJsonFilePath,
                                            RestActions.ComparisonType comparisonType, @SuppressWarnings("SameParameterValue") String jsonPathToTargetArray, ValidationType validationType, String customReportMessage) {
         processCustomLogMessage(customReportMessage);
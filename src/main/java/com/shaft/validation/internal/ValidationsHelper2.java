@@ -1,5 +1,6 @@
 package com.shaft.validation.internal;
 
+import com.shaft.cli.internal.FileStreamingHelper;
 import com.shaft.driver.SHAFT;
 import com.shaft.driver.internal.DriverFactory.SynchronizationManager;
 import com.shaft.gui.browser.BrowserActions;
@@ -14,6 +15,7 @@ import com.shaft.tools.io.ReportManager;
 import com.shaft.tools.io.internal.CheckpointStatus;
 import com.shaft.tools.io.internal.ExecutionSummaryReport;
 import com.shaft.tools.io.internal.FailureReporter;
+import com.shaft.tools.io.internal.PdfTextExtractor;
 import com.shaft.tools.io.internal.ReportManagerHelper;
 import com.shaft.validation.ValidationEnums;
 import io.qameta.allure.Allure;
@@ -25,6 +27,9 @@ import org.openqa.selenium.*;
 import org.openqa.selenium.NoSuchElementException;
 import org.openqa.selenium.remote.Browser;
 
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.*;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -53,6 +58,54 @@ public class ValidationsHelper2 {
         reportValidationState(validationState, expected, actual, null, null, null);
     }
 
+    protected void validateLargeFileContent(Object expected, String absoluteFilePath,
+                                            ValidationEnums.ValidationComparisonType comparisonType, ValidationEnums.ValidationType validationType) {
+        // the file is compared while it is being streamed, and only a short preview of it is reported as the actual value
+        var filePath = Path.of(absoluteFilePath);
+        var expectedText = String.valueOf(expected);
+        boolean isMatching = false;
+        String actual = "";
+        try {
+            isMatching = ValidationEnums.ValidationComparisonType.CONTAINS.equals(comparisonType)
+                    ? FileStreamingHelper.contains(filePath, expectedText)
+                    : FileStreamingHelper.contentEquals(filePath, expectedText);
+            actual = FileStreamingHelper.preview(filePath);
+        } catch (IOException rootCauseException) {
+            FailureReporter.fail(ValidationsHelper2.class, "Failed to read file \"" + absoluteFilePath + "\".", rootCauseException);
+        }
+
+        //reporting block
+        String comparisonTypeStr = ValidationEnums.ValidationType.NEGATIVE.name().equals(validationType.name()) ? "not " + comparisonType.name() : comparisonType.name();
+        var parameters = new LinkedHashMap<>(setCommonParameters(expected, actual, comparisonTypeStr));
+        updateAllureParameters(parameters);
+        //end of reporting block
+        boolean validationState = validationType.getValue() == isMatching;
+        reportValidationState(validationState, expected, actual, null, null, null);
+    }
+
+    protected void validatePdfFileContains(Object expected, String absoluteFilePath, ValidationEnums.ValidationType validationType) {
+        // the pages are searched concurrently and extraction stops at the first match
+        // the full text is only extracted as the actual value when the validation fails, otherwise the first page is reported
+        var file = new File(absoluteFilePath);
+        boolean isMatching = false;
+        String actual = "";
+        try {
+            isMatching = PdfTextExtractor.containsText(file, String.valueOf(expected));
+            actual = PdfTextExtractor.extractText(file, 1, validationType.getValue() == isMatching ? 1 : Integer.MAX_VALUE);
+        } catch (IOException rootCauseException) {
+            FailureReporter.fail(ValidationsHelper2.class, "Failed to read PDF file \"" + absoluteFilePath + "\".", rootCauseException);
+        }
+
+        //reporting block
+        var comparisonType = ValidationEnums.ValidationComparisonType.CONTAINS;
+        String comparisonTypeStr = ValidationEnums.ValidationType.NEGATIVE.name().equals(validationType.name()) ? "not " + comparisonType.name() : comparisonType.name();
+        var parameters = new LinkedHashMap<>(setCommonParameters(expected, actual, comparisonTypeStr));
+        updateAllureParameters(parameters);
+        //end of reporting block
+        boolean validationState = validationType.getValue() == isMatching;
+        reportValidationState(validationState, expected, actual, null, null, null);
+    }
+
     protected void validateNumber(Number expected, Number actual,
                                   ValidationEnums.NumbersComparativeRelation comparisonType, ValidationEnums.ValidationType validationType) {
         // read actual value based on desired attribute
@@ -0,0 +1,112 @@
+package com.shaft.cli.internal;
+
+import org.testng.Assert;
+import org.testng.SkipException;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs the container shells against a local {@code sh}, which stands in for {@code docker exec -i <container> sh}.
+ */
+public class ContainerShellStandInTests {
+    private final AtomicInteger attachedShells = new AtomicInteger();
+    private final AtomicBoolean isClosed = new AtomicBoolean();
+    private ContainerShellSessions.Target target;
+
+    @BeforeClass
+    public void beforeClass() {
+        if (System.getProperty("os.name").toLowerCase().contains("win")) {
+            throw new SkipException("The stand-in shell of these tests needs a POSIX shell.");
+        }
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void afterMethod() {
+        ContainerShellSessions.clear();
+        attachedShells.set(0);
+        isClosed.set(false);
+    }
+
+    @Test
+    public void outputAndExitStatusAreReadUntilTheMarker() throws Exception {
+        target = newTarget();
+        var result = ContainerShellSessions.execute(target, "echo first && echo second", 5, 1_000, this::attachShell);
+        Assert.assertEquals(result.output(), "first" + System.lineSeparator() + "second");
+        Assert.assertEquals(result.exitStatus(), 0);
+
+        // the marker follows output that doesn't end with a new line on the same line
+        result = ContainerShellSessions.execute(target, "printf partial; exit 3", 5, 1_000, this::attachShell);
+        Assert.assertEquals(result.output(), "partial");
+        Assert.assertEquals(result.exitStatus(), 3);
+
+        Assert.assertEquals(attachedShells.get(), 1);
+        Assert.assertEquals(ContainerShellSessions.idleShells(), 1);
+        Assert.assertFalse(isClosed.get());
+    }
+
+    @Test
+    public void shellsThatMissTheirDeadlineAreClosed() {
+        target = newTarget();
+        // the stand-in reads the commands but never answers them
+        ContainerShellSessions.Attacher silentShell = (target, timeoutMillis) -> attach(new ProcessBuilder("sh", "-c", "cat > /dev/null"));
+        long startTime = System.currentTimeMillis();
+        var exception = Assert.expectThrows(IOException.class,
+                () -> ContainerShellSessions.execute(target, "echo test", 1, 1_000, silentShell));
+        Assert.assertTrue(exception.getMessage().contains("didn't complete within 6 seconds"), exception.getMessage());
+        Assert.assertTrue(System.currentTimeMillis() - startTime < 15_000);
+        Assert.assertTrue(isClosed.get());
+        Assert.assertEquals(attachedShells.get(), 1);
+        Assert.assertEquals(ContainerShellSessions.idleShells(), 0);
+    }
+
+    @Test
+    public void shellsAreClosedWhenReadingFailsUnexpectedly() {
+        target = newTarget();
+        var brokenOutput = new InputStream() {
+            @Override
+            public int read() {
+                throw new IllegalStateException("broken stream");
+            }
+        };
+        Assert.assertThrows(IllegalStateException.class, () -> ContainerShellSessions.execute(target, "echo test", 5, 1_000,
+                (target, timeoutMillis) -> new ContainerShellSessions.Shell(brokenOutput, OutputStream.nullOutputStream(), () -> isClosed.set(true))));
+        Assert.assertTrue(isClosed.get());
+        Assert.assertEquals(ContainerShellSessions.idleShells(), 0);
+    }
+
+    @Test
+    public void idleShellsAreEvicted() throws Exception {
+        target = newTarget();
+        ContainerShellSessions.execute(target, "echo test", 5, 1_000, this::attachShell);
+        ContainerShellSessions.evictIdleShells(60_000);
+        Assert.assertEquals(ContainerShellSessions.idleShells(), 1);
+        ContainerShellSessions.evictIdleShells(0);
+        Assert.assertEquals(ContainerShellSessions.idleShells(), 0);
+        Assert.assertTrue(isClosed.get());
+    }
+
+    private static ContainerShellSessions.Target newTarget() {
+        return new ContainerShellSessions.Target(null, "stand-in-" + UUID.randomUUID(), "root");
+    }
+
+    private ContainerShellSessions.Shell attachShell(ContainerShellSessions.Target target, int timeoutMillis) throws IOException {
+        return attach(new ProcessBuilder("sh"));
+    }
+
+    private ContainerShellSessions.Shell attach(ProcessBuilder processBuilder) throws IOException {
+        attachedShells.incrementAndGet();
+        var process = processBuilder.redirectErrorStream(true).start();
+        return new ContainerShellSessions.Shell(process.getInputStream(), process.getOutputStream(), () -> {
+            isClosed.set(true);
+            process.destroy();
+        });
+    }
+}
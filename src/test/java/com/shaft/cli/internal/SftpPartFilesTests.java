@@ -0,0 +1,68 @@
+package com.shaft.cli.internal;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.IntStream;
+
+public class SftpPartFilesTests {
+
+    @Test
+    public void partNamesChangeWithTheSourceAndSortInChunkOrder() {
+        var partPrefix = SftpTransfers.partPrefix("/tmp/file.zip", "/remote/file.zip", 100, 1_000);
+        Assert.assertEquals(SftpTransfers.partPrefix("/tmp/file.zip", "/remote/file.zip", 100, 1_000), partPrefix);
+        Assert.assertNotEquals(SftpTransfers.partPrefix("/tmp/file.zip", "/remote/file.zip", 101, 1_000), partPrefix);
+        Assert.assertNotEquals(SftpTransfers.partPrefix("/tmp/file.zip", "/remote/file.zip", 100, 2_000), partPrefix);
+        Assert.assertTrue(partPrefix.startsWith("/tmp/file.zip.") && partPrefix.endsWith(".part"), partPrefix);
+
+        var partNames = IntStream.of(0, 9, 10, 123456).mapToObj(chunk -> SftpTransfers.partName(partPrefix, chunk)).toList();
+        Assert.assertEquals(partNames.getFirst(), partPrefix + "000000");
+        Assert.assertEquals(partNames.stream().sorted().toList(), partNames);
+    }
+
+    @Test
+    public void partsAreJoinedInOrderAndDeleted() throws IOException {
+        Path folder = Files.createTempDirectory("shaft-sftp-parts-");
+        var partPrefix = SftpTransfers.partPrefix(folder.resolve("file.txt").toString(), "/remote/file.txt", 9, 0);
+        var parts = IntStream.range(0, 3).mapToObj(chunk -> Path.of(SftpTransfers.partName(partPrefix, chunk))).toList();
+        Files.writeString(parts.get(0), "abc");
+        Files.writeString(parts.get(1), "def");
+        Files.writeString(parts.get(2), "gh");
+        Path file = folder.resolve("file.txt");
+        Files.writeString(file, "an older and longer version of the file");
+
+        SftpTransfers.joinParts(parts, file);
+
+        Assert.assertEquals(Files.readString(file), "abcdefgh");
+        try (var files = Files.list(folder)) {
+            Assert.assertEquals(files.toList(), List.of(file));
+        }
+    }
+
+    @Test
+    public void onlyStalePartsAreDeleted() throws IOException {
+        Path folder = Files.createTempDirectory("shaft-sftp-parts-");
+        var partPrefix = SftpTransfers.partPrefix(folder.resolve("file.txt").toString(), "/remote/file.txt", 9, 0);
+        Path stalePart = Path.of(SftpTransfers.partName(partPrefix, 0));
+        Path recentPart = Path.of(SftpTransfers.partName(partPrefix, 1));
+        Path staleFile = folder.resolve("file.txt");
+        for (var file : List.of(stalePart, recentPart, staleFile)) {
+            Files.writeString(file, "content");
+        }
+        var twoDaysAgo = FileTime.from(Instant.now().minus(Duration.ofDays(2)));
+        Files.setLastModifiedTime(stalePart, twoDaysAgo);
+        Files.setLastModifiedTime(staleFile, twoDaysAgo);
+
+        Assert.assertEquals(SftpTransfers.deleteStaleParts(folder, SftpTransfers.STALE_PART_AGE), 1);
+        Assert.assertFalse(Files.exists(stalePart));
+        Assert.assertTrue(Files.exists(recentPart));
+        Assert.assertTrue(Files.exists(staleFile));
+    }
+}
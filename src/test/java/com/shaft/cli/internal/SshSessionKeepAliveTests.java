@@ -0,0 +1,32 @@
+package com.shaft.cli.internal;
+
+import com.jcraft.jsch.JSchException;
+import com.shaft.driver.SHAFT;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+public class SshSessionKeepAliveTests {
+    private int sshKeepAliveInterval;
+
+    @BeforeMethod
+    public void beforeMethod() {
+        sshKeepAliveInterval = SHAFT.Properties.timeouts.sshKeepAliveInterval();
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void afterMethod() {
+        SHAFT.Properties.timeouts.set().sshKeepAliveInterval(sshKeepAliveInterval);
+    }
+
+    @Test
+    public void socketTimeoutIsTheKeepAliveInterval() throws JSchException {
+        SHAFT.Properties.timeouts.set().sshKeepAliveInterval(7);
+        var session = SshSessionPool.newSession(new SshSessionPool.Target("localhost", 22, "shaft", null));
+        Assert.assertEquals(session.getServerAliveInterval(), 7_000);
+        // JSch sends the keep-alive messages when a read times out, so this is the effective interval
+        Assert.assertEquals(session.getTimeout(), 7_000);
+        Assert.assertEquals(session.getServerAliveCountMax(), 3);
+    }
+}
@@ -0,0 +1,46 @@
+package com.shaft.properties.internal;
+
+import org.apache.commons.io.FileUtils;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+public class PropertyFileManagerTests {
+    private static final String SOURCE = "file:/shaft.jar!/properties/default/";
+    private String unpackedPropertiesCachePath;
+    private Path folder;
+
+    @BeforeMethod
+    public void beforeMethod() throws IOException {
+        unpackedPropertiesCachePath = PropertyFileManager.unpackedPropertiesCachePath;
+        folder = Files.createTempDirectory("shaft-default-properties-");
+        PropertyFileManager.unpackedPropertiesCachePath = folder.resolve("unpackedDefaultProperties.cache").toString();
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void afterMethod() throws IOException {
+        PropertyFileManager.unpackedPropertiesCachePath = unpackedPropertiesCachePath;
+        FileUtils.deleteDirectory(folder.toFile());
+    }
+
+    @Test
+    public void unpackedDefaultsAreReusedUntilTheyAreEdited() throws IOException {
+        var propertiesFolder = Files.createDirectory(folder.resolve("properties"));
+        var propertiesFile = Files.writeString(propertiesFolder.resolve("Timeouts.properties"), "defaultElementIdentificationTimeout=60");
+        var folderPath = propertiesFolder + "/";
+        Assert.assertFalse(PropertyFileManager.isUnpackedForCurrentEngineVersion(SOURCE, folderPath));
+
+        PropertyFileManager.markAsUnpacked(SOURCE, folderPath);
+        Assert.assertTrue(PropertyFileManager.isUnpackedForCurrentEngineVersion(SOURCE, folderPath));
+        Assert.assertFalse(PropertyFileManager.isUnpackedForCurrentEngineVersion(SOURCE + "other/", folderPath));
+
+        // edited defaults are overridden again, like they were when the defaults were unpacked on every run
+        Files.writeString(propertiesFile, "defaultElementIdentificationTimeout=5");
+        Assert.assertFalse(PropertyFileManager.isUnpackedForCurrentEngineVersion(SOURCE, folderPath));
+    }
+}
@@ -4,6 +4,13 @@ import com.shaft.cli.TerminalActions;
 import com.shaft.driver.SHAFT;
 import org.testng.annotations.Test;
 
+import java.io.File;
+import java.net.MalformedURLException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
 public class FileActionsTests {
     @Test
     public void copyFile(){
@@ -49,12 +56,72 @@ public class FileActionsTests {
         SHAFT.Validations.assertThat().object(fileContent).contains("validEmail@domain.com");
     }
 
+    @Test
+    public void readFileHeadAndTail(){
+        var head = SHAFT.CLI.file().readFileHead("src/test/resources/testDataFiles/credentials.json", 2);
+        SHAFT.Validations.assertThat().object(head).isEqualTo("{\n  \"validEmail\": \"validEmail@domain.com\",");
+        var tail = SHAFT.CLI.file().readFileTail("src/test/resources/testDataFiles/credentials.json", 1);
+        SHAFT.Validations.assertThat().object(tail).isEqualTo("}");
+    }
+
+    @Test
+    public void searchFile(){
+        SHAFT.Validations.assertThat().object(SHAFT.CLI.file().doesFileContain("src/test/resources/testDataFiles/credentials.json", "\"validPassword\"")).isTrue();
+        var matchingLines = SHAFT.CLI.file().findLinesInFile("src/test/resources/testDataFiles/credentials.json", "LambdaTest");
+        SHAFT.Validations.assertThat().number(matchingLines.size()).isEqualTo(2);
+    }
+
+    @Test
+    public void validateLargeFileContent(){
+        var line = "a line of a large generated export file that will not be fully read into memory\n";
+        SHAFT.CLI.file().writeToFile("target/temp/", "largeFile.txt", line.repeat(250_000) + "the last line");
+        SHAFT.Validations.assertThat().file("target/temp/", "largeFile.txt").content().contains("the last line");
+        SHAFT.Validations.assertThat().file("target/temp/", "largeFile.txt").content().doesNotContain("a missing line");
+        SHAFT.Validations.assertThat().file("target/temp/", "largeFile.txt").tail(1).isEqualTo("the last line");
+        SHAFT.Validations.assertThat().file("target/temp/", "largeFile.txt").head(1).isEqualTo(line.trim());
+    }
+
     @Test
     public void zipFiles(){
         boolean zipSuccess = SHAFT.CLI.file().zipFiles("src/test/resources/testDataFiles/yaml","target/temp/testDataFiles_yaml.zip");
         SHAFT.Validations.assertThat().object(zipSuccess).isTrue();
     }
 
+    @Test
+    public void zipFilesAndUnpackArchive() throws MalformedURLException {
+        SHAFT.CLI.file().zipFiles("src/test/resources/testDataFiles/yaml","target/temp/testDataFiles_yaml_roundTrip.zip");
+        SHAFT.CLI.file().unpackArchive(new File("target/temp/testDataFiles_yaml_roundTrip.zip").toURI().toURL(),"target/temp/unpacked/");
+        var originalChecksum = SHAFT.CLI.file().getFileChecksum(new TerminalActions(), "src/test/resources/testDataFiles/yaml/", "yaml_test_data.yaml");
+        var unpackedChecksum = SHAFT.CLI.file().getFileChecksum(new TerminalActions(), "target/temp/unpacked/yaml/", "yaml_test_data.yaml");
+        SHAFT.Validations.assertThat().object(unpackedChecksum).isEqualTo(originalChecksum);
+    }
+
+    @Test
+    public void waitForFileToDownload() throws Exception {
+        SHAFT.CLI.file().deleteFile("target/temp/downloads/report.txt");
+        var download = SHAFT.CLI.file().waitForFileToDownloadAsync("target/temp/downloads/", "report.txt", Duration.ofSeconds(10));
+        Thread.ofVirtual().start(() -> {
+            try {
+                Files.createDirectories(Path.of("target/temp/downloads"));
+                Files.writeString(Path.of("target/temp/downloads/report.txt.crdownload"), "partial");
+                Thread.sleep(300);
+                Files.writeString(Path.of("target/temp/downloads/report.txt"), "complete");
+                Files.delete(Path.of("target/temp/downloads/report.txt.crdownload"));
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        });
+        SHAFT.Validations.assertThat().object(download.get(15, TimeUnit.SECONDS)).isTrue();
+        SHAFT.Validations.assertThat().file("target/temp/downloads/", "report.txt").isDownloaded();
+        SHAFT.Validations.assertThat().file("target/temp/downloads/", "report.txt").content().isEqualTo("complete");
+    }
+
+    @Test
+    public void doesFileExistWithRetries(){
+        SHAFT.Validations.assertThat().object(SHAFT.CLI.file().doesFileExist("target/temp/", "missingFile.txt", 1)).isFalse();
+        SHAFT.Validations.assertThat().object(SHAFT.CLI.file().doesFileExist("src/test/resources/testDataFiles/", "credentials.json", 5)).isTrue();
+    }
+
     @Test
     public void downloadFile(){
         SHAFT.CLI.file().downloadFile("https://raw.githubusercontent.com/ShaftHQ/SHAFT_ENGINE/main/src/main/resources/images/shaft.png","target/temp/shaft.png");
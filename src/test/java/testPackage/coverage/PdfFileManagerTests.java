@@ -0,0 +1,86 @@
+package testPackage.coverage;
+
+import com.shaft.driver.SHAFT;
+import com.shaft.tools.io.PdfFileManager;
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.apache.pdfbox.pdmodel.font.Standard14Fonts;
+import org.apache.pdfbox.text.PDFTextStripper;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+
+public class PdfFileManagerTests {
+    private static final String FOLDER = "target/temp/pdf/";
+    private static final String FILE_NAME = "statement.pdf";
+    private static final int NUMBER_OF_PAGES = 40;
+
+    @BeforeClass
+    public void createMultiPageDocument() throws IOException {
+        new File(FOLDER).mkdirs();
+        try (var document = new PDDocument()) {
+            var font = new PDType1Font(Standard14Fonts.FontName.HELVETICA);
+            for (int pageNumber = 1; pageNumber <= NUMBER_OF_PAGES; pageNumber++) {
+                var page = new PDPage();
+                document.addPage(page);
+                try (var content = new PDPageContentStream(document, page)) {
+                    content.beginText();
+                    content.setFont(font, 12);
+                    content.newLineAtOffset(50, 700);
+                    content.showText("Statement page " + pageNumber);
+                    content.endText();
+                }
+            }
+            document.save(FOLDER + FILE_NAME);
+        }
+    }
+
+    @Test
+    public void readFileContentInParallel() throws IOException {
+        String expectedContent;
+        try (var document = Loader.loadPDF(new File(FOLDER + FILE_NAME))) {
+            var stripper = new PDFTextStripper();
+            stripper.setSortByPosition(true);
+            expectedContent = stripper.getText(document);
+        }
+        SHAFT.Validations.assertThat().object(PdfFileManager.readFileContent(FOLDER + FILE_NAME)).isEqualTo(expectedContent);
+    }
+
+    @Test
+    public void readPageRange() {
+        var content = new PdfFileManager(FOLDER, FILE_NAME, 1)
+                .readPDFContentFromDownloadedPDF(20, 21, PdfFileManager.DeleteFileAfterValidationStatus.FALSE);
+        SHAFT.Validations.assertThat().object(content.trim()).isEqualTo("Statement page 20" + System.lineSeparator() + "Statement page 21");
+    }
+
+    @Test
+    public void readPagesStopsEarly() {
+        var visitedPages = new ArrayList<Integer>();
+        new PdfFileManager(FOLDER, FILE_NAME, 1).readPages((pageNumber, pageText) -> {
+            visitedPages.add(pageNumber);
+            return !pageText.contains("Statement page 3");
+        });
+        SHAFT.Validations.assertThat().number(visitedPages.size()).isEqualTo(3);
+    }
+
+    @Test
+    public void doesFileContain() {
+        SHAFT.Validations.assertThat().object(PdfFileManager.doesFileContain(FOLDER + FILE_NAME, "Statement page 37")).isTrue();
+        SHAFT.Validations.assertThat().object(PdfFileManager.doesFileContain(FOLDER + FILE_NAME, "Statement page 41")).isFalse();
+        SHAFT.Validations.assertThat().file(FOLDER, FILE_NAME).content().contains("Statement page 40");
+    }
+
+    @Test
+    public void failedContentValidationReportsTheFullText() {
+        var failure = Assert.expectThrows(AssertionError.class,
+                () -> SHAFT.Validations.assertThat().file(FOLDER, FILE_NAME).content().contains("Statement page 41"));
+        Assert.assertTrue(failure.getMessage().contains("Statement page 40"), failure.getMessage());
+    }
+}
@@ -107,4 +107,21 @@ public class CSVFileManagerTest {
         System.out.println(cellData);
         Assert.assertNotNull(cellData, "Cell data should not be null.");
     }
+
+    @Test
+    public void testColumnAggregates() {
+        Assert.assertEquals(csvFileManager.getMinCellValue("totalDiscount"), -150.0);
+        Assert.assertEquals(csvFileManager.getMaxCellValue("totalDiscount"), 9999999999.0);
+        Assert.assertEquals(csvFileManager.getSumOfCellValues("discount"), 176517.0);
+        Assert.assertEquals(csvFileManager.getDistinctCellCount("barCode"), 3);
+        Assert.assertTrue(Double.isNaN(csvFileManager.getMinCellValue("amountCalculated")), "Non-numeric columns should not have a min value.");
+    }
+
+    @Test
+    public void testRepeatedCellAccess() {
+        Assert.assertEquals(csvFileManager.getRows().size(), csvFileManager.getRows().size());
+        Assert.assertEquals(csvFileManager.getCellData(2, "barCode"), "barcode-001");
+        Assert.assertEquals(csvFileManager.getCellData(2, "barCode"), "barcode-001");
+        Assert.assertEquals(csvFileManager.getCellData(0, "amountCalculated"), "-100");
+    }
 }
@@ -5,6 +5,12 @@ import com.shaft.tools.io.JSONFileManager;
 import com.shaft.validation.Validations;
 import org.testng.annotations.Test;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+
 public class JSONFileManagerTests {
     JSONFileManager testDataJSON;
 
@@ -13,4 +19,24 @@ public class JSONFileManagerTests {
         testDataJSON = new JSONFileManager(SHAFT.Properties.paths.testData() + "simpleJSON.json");
         Validations.assertThat().object(testDataJSON.getTestData("x.name")).equals("Mohab Mohie");
     }
+
+    @Test
+    public void cachedTestDataIsNotModifiedByCallers() {
+        var firstReader = new JSONFileManager("src/test/resources/testDataFiles/credentials.json");
+        var secondReader = new JSONFileManager("src/test/resources/testDataFiles/credentials.json");
+        firstReader.getTestDataAsMap("$").clear();
+        SHAFT.Validations.assertThat().object(secondReader.getTestData("validEmail")).isEqualTo("validEmail@domain.com");
+    }
+
+    @Test
+    public void changedTestDataFileIsParsedAgain() throws IOException {
+        var file = Path.of("target/temp/changingTestData.json");
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, "{\"status\": \"old\"}");
+        var testData = new JSONFileManager(file.toString());
+        SHAFT.Validations.assertThat().object(testData.getTestData("status")).isEqualTo("old");
+        Files.writeString(file, "{\"status\": \"new\"}");
+        Files.setLastModifiedTime(file, FileTime.from(Instant.now().plusSeconds(5)));
+        SHAFT.Validations.assertThat().object(testData.getTestData("status")).isEqualTo("new");
+    }
 }
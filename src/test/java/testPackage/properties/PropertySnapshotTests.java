@@ -0,0 +1,83 @@
+package testPackage.properties;
+
+import com.shaft.driver.SHAFT;
+import com.shaft.properties.internal.PropertySnapshot;
+import com.shaft.tools.io.ReportManager;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+public class PropertySnapshotTests {
+    private static final int READS = 200_000;
+    double defaultElementIdentificationTimeout;
+
+    @BeforeMethod
+    public void beforeMethod() {
+        defaultElementIdentificationTimeout = SHAFT.Properties.timeouts.defaultElementIdentificationTimeout();
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void afterMethod() {
+        SHAFT.Properties.timeouts.set().defaultElementIdentificationTimeout(defaultElementIdentificationTimeout);
+    }
+
+    @Test
+    public void snapshotIsReusedUntilAPropertyIsSet() {
+        var snapshot = PropertySnapshot.current();
+        Assert.assertSame(PropertySnapshot.current(), snapshot);
+        Assert.assertEquals(snapshot.defaultElementIdentificationTimeout(), defaultElementIdentificationTimeout);
+
+        var version = PropertySnapshot.version();
+        SHAFT.Properties.timeouts.set().defaultElementIdentificationTimeout(defaultElementIdentificationTimeout + 5);
+        Assert.assertEquals(PropertySnapshot.current().defaultElementIdentificationTimeout(), defaultElementIdentificationTimeout + 5);
+        Assert.assertEquals(PropertySnapshot.version(), version + 1);
+    }
+
+    @Test
+    public void versionIsKeptWhenSetDoesNotChangeAnyValue() {
+        var snapshot = PropertySnapshot.current();
+        var version = PropertySnapshot.version();
+        SHAFT.Properties.timeouts.set().defaultElementIdentificationTimeout(defaultElementIdentificationTimeout);
+        Assert.assertSame(PropertySnapshot.current(), snapshot);
+        Assert.assertEquals(PropertySnapshot.version(), version);
+    }
+
+    @Test
+    public void snapshotIsRebuiltWhenAPropertyGroupIsReloaded() {
+        int lazyLoadingQuietPeriod = PropertySnapshot.current().lazyLoadingQuietPeriod();
+        var version = PropertySnapshot.version();
+        try {
+            // hot reloads update the proxy in place, without replacing it like set() does
+            System.setProperty("lazyLoadingQuietPeriod", String.valueOf(lazyLoadingQuietPeriod + 7));
+            SHAFT.Properties.timeouts.reload();
+            Assert.assertEquals(PropertySnapshot.current().lazyLoadingQuietPeriod(), lazyLoadingQuietPeriod + 7);
+            Assert.assertEquals(PropertySnapshot.version(), version + 1);
+        } finally {
+            System.clearProperty("lazyLoadingQuietPeriod");
+            SHAFT.Properties.timeouts.reload();
+        }
+    }
+
+    @Test
+    public void compareProxyAndSnapshotReadCost() {
+        double checksum = 0;
+        // warm up both paths before measuring
+        for (int i = 0; i < READS; i++) {
+            checksum += SHAFT.Properties.timeouts.defaultElementIdentificationTimeout();
+            checksum += PropertySnapshot.current().defaultElementIdentificationTimeout();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < READS; i++) {
+            checksum += SHAFT.Properties.timeouts.defaultElementIdentificationTimeout();
+        }
+        long proxyNanos = System.nanoTime() - start;
+        start = System.nanoTime();
+        for (int i = 0; i < READS; i++) {
+            checksum += PropertySnapshot.current().defaultElementIdentificationTimeout();
+        }
+        long snapshotNanos = System.nanoTime() - start;
+        ReportManager.log("Average read cost: OWNER proxy [" + proxyNanos / READS + "ns], property snapshot [" + snapshotNanos / READS + "ns].");
+        Assert.assertEquals(checksum, defaultElementIdentificationTimeout * READS * 4);
+    }
+}
@@ -6,6 +6,11 @@ import org.testng.annotations.Test;
 
 public class TimeoutsTests {
     Boolean waitForLazyLoading;
+    String lazyLoadingWaitStrategy;
+    int lazyLoadingQuietPeriod;
+    String elementPollingStrategy;
+    String lazyLoadingPollingStrategy;
+    String waitUntilPollingStrategy;
     int browserNavigationTimeout;
     int pageLoadTimeout;
     int scriptExecutionTimeout;
@@ -21,11 +26,17 @@ public class TimeoutsTests {
     Boolean waitForRemoteServerToBeUp;
     int timeoutForRemoteServerToBeUp;
     int remoteServerInstanceCreationTimeout;
+    int fileDownloadTimeout;
 
 
     @BeforeClass
     public void beforeClass() {
         waitForLazyLoading = SHAFT.Properties.timeouts.waitForLazyLoading();
+        lazyLoadingWaitStrategy = SHAFT.Properties.timeouts.lazyLoadingWaitStrategy();
+        lazyLoadingQuietPeriod = SHAFT.Properties.timeouts.lazyLoadingQuietPeriod();
+        elementPollingStrategy = SHAFT.Properties.timeouts.elementPollingStrategy();
+        lazyLoadingPollingStrategy = SHAFT.Properties.timeouts.lazyLoadingPollingStrategy();
+        waitUntilPollingStrategy = SHAFT.Properties.timeouts.waitUntilPollingStrategy();
         browserNavigationTimeout = SHAFT.Properties.timeouts.browserNavigationTimeout();
         pageLoadTimeout = SHAFT.Properties.timeouts.pageLoadTimeout();
         scriptExecutionTimeout = SHAFT.Properties.timeouts.scriptExecutionTimeout();
@@ -41,12 +52,18 @@ public class TimeoutsTests {
         waitForRemoteServerToBeUp = SHAFT.Properties.timeouts.waitForRemoteServerToBeUp();
         timeoutForRemoteServerToBeUp = SHAFT.Properties.timeouts.timeoutForRemoteServerToBeUp();
         remoteServerInstanceCreationTimeout = SHAFT.Properties.timeouts.remoteServerInstanceCreationTimeout();
+        fileDownloadTimeout = SHAFT.Properties.timeouts.fileDownloadTimeout();
 
     }
 
     @Test
     public void test() {
         SHAFT.Properties.timeouts.set().waitForLazyLoading(waitForLazyLoading);
+        SHAFT.Properties.timeouts.set().lazyLoadingWaitStrategy(lazyLoadingWaitStrategy);
+        SHAFT.Properties.timeouts.set().lazyLoadingQuietPeriod(lazyLoadingQuietPeriod);
+        SHAFT.Properties.timeouts.set().elementPollingStrategy(elementPollingStrategy);
+        SHAFT.Properties.timeouts.set().lazyLoadingPollingStrategy(lazyLoadingPollingStrategy);
+        SHAFT.Properties.timeouts.set().waitUntilPollingStrategy(waitUntilPollingStrategy);
         SHAFT.Properties.timeouts.set().browserNavigationTimeout(browserNavigationTimeout);
         SHAFT.Properties.timeouts.set().pageLoadTimeout(pageLoadTimeout);
         SHAFT.Properties.timeouts.set().scriptExecutionTimeout(scriptExecutionTimeout);
@@ -61,6 +78,7 @@ public class TimeoutsTests {
         SHAFT.Properties.timeouts.set().waitForRemoteServerToBeUp(waitForRemoteServerToBeUp);
         SHAFT.Properties.timeouts.set().timeoutForRemoteServerToBeUp(timeoutForRemoteServerToBeUp);
         SHAFT.Properties.timeouts.set().remoteServerInstanceCreationTimeout(remoteServerInstanceCreationTimeout);
+        SHAFT.Properties.timeouts.set().fileDownloadTimeout(fileDownloadTimeout);
 
     }
 
@@ -18,6 +18,9 @@ public class WebTests {
     int browserWindowWidth;
     int browserWindowHeight;
     boolean incognitoMode;
+    int driverPoolSize;
+    String driverPoolBrowsers;
+    int driverPoolMaxSessionUses;
 
     @BeforeClass
     public void beforeClass() {
@@ -34,6 +37,9 @@ public class WebTests {
         browserWindowWidth = 1920;
         browserWindowHeight = 1080;
         incognitoMode = SHAFT.Properties.web.incognitoMode();
+        driverPoolSize = SHAFT.Properties.web.driverPoolSize();
+        driverPoolBrowsers = SHAFT.Properties.web.driverPoolBrowsers();
+        driverPoolMaxSessionUses = SHAFT.Properties.web.driverPoolMaxSessionUses();
     }
 
     @Test
@@ -50,6 +56,9 @@ public class WebTests {
                 .baseURL(baseURL)
                 .browserWindowWidth(browserWindowWidth)
                 .browserWindowHeight(browserWindowHeight)
-                .incognitoMode(incognitoMode);
+                .incognitoMode(incognitoMode)
+                .driverPoolSize(driverPoolSize)
+                .driverPoolBrowsers(driverPoolBrowsers)
+                .driverPoolMaxSessionUses(driverPoolMaxSessionUses);
     }
 }
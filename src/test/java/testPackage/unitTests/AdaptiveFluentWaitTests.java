@@ -0,0 +1,68 @@
+package testPackage.unitTests;
+
+import com.shaft.driver.internal.DriverFactory.AdaptiveFluentWait;
+import com.shaft.tools.io.ReportManager;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.FluentWait;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class AdaptiveFluentWaitTests {
+    private static final Duration TIMEOUT = Duration.ofSeconds(3);
+
+    @Test
+    public void adaptivePollingSendsFewerCommandsThanFixedPolling() {
+        var adaptivePolls = countPollsUntilTimeout(new AdaptiveFluentWait(newDriver(), null));
+        var fixedPolls = countPollsUntilTimeout(new FluentWait<>(newDriver()).pollingEvery(Duration.ofMillis(100)));
+        ReportManager.log("Polls within " + TIMEOUT.toSeconds() + "s: adaptive [" + adaptivePolls + "], fixed [" + fixedPolls + "].");
+        Assert.assertTrue(adaptivePolls < fixedPolls, "adaptive polls: " + adaptivePolls + ", fixed polls: " + fixedPolls);
+    }
+
+    @Test
+    public void conditionsMetShortlyAfterTheWaitStartsAreDetectedInABurst() {
+        var polls = new AtomicInteger();
+        long startTime = System.nanoTime();
+        new AdaptiveFluentWait(newDriver(), null).withTimeout(TIMEOUT)
+                .until(driver -> polls.incrementAndGet() > 0 && System.nanoTime() - startTime > Duration.ofMillis(100).toNanos());
+        Assert.assertTrue(polls.get() > 3, "polls: " + polls.get());
+    }
+
+    @Test
+    public void typicalAppearanceTimeIsLearnedPerLocator() {
+        var locatorKey = "By.id: delayedElement" + System.nanoTime();
+        Assert.assertTrue(AdaptiveFluentWait.getTypicalAppearanceTime(locatorKey).isEmpty());
+        long startTime = System.nanoTime();
+        new AdaptiveFluentWait(newDriver(), locatorKey).withTimeout(TIMEOUT)
+                .until(driver -> System.nanoTime() - startTime > Duration.ofMillis(400).toNanos());
+        var typicalAppearanceTime = AdaptiveFluentWait.getTypicalAppearanceTime(locatorKey).orElseThrow();
+        Assert.assertTrue(typicalAppearanceTime.toMillis() >= 400, "typical appearance time: " + typicalAppearanceTime);
+
+        // the next wait for the same locator skips the burst and polls first around the learned appearance time
+        var polls = new AtomicInteger();
+        long secondStartTime = System.nanoTime();
+        new AdaptiveFluentWait(newDriver(), locatorKey).withTimeout(TIMEOUT)
+                .until(driver -> polls.incrementAndGet() > 0 && System.nanoTime() - secondStartTime > Duration.ofMillis(400).toNanos());
+        Assert.assertTrue(polls.get() < 5, "polls: " + polls.get());
+    }
+
+    private static int countPollsUntilTimeout(FluentWait<WebDriver> wait) {
+        var polls = new AtomicInteger();
+        try {
+            wait.withTimeout(TIMEOUT).until(driver -> polls.incrementAndGet() < 0);
+            Assert.fail("the condition is never met");
+        } catch (TimeoutException timeoutException) {
+            // expected
+        }
+        return polls.get();
+    }
+
+    private static WebDriver newDriver() {
+        return (WebDriver) Proxy.newProxyInstance(AdaptiveFluentWaitTests.class.getClassLoader(), new Class<?>[]{WebDriver.class},
+                (proxy, method, args) -> "toString".equals(method.getName()) ? "FakeDriver" : null);
+    }
+}
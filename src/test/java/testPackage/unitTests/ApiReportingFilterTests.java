@@ -0,0 +1,138 @@
+package testPackage.unitTests;
+
+import com.shaft.api.internal.ApiReportingFilter;
+import com.shaft.driver.SHAFT;
+import com.shaft.tools.io.ReportManager;
+import com.sun.net.httpserver.HttpServer;
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+import io.qameta.allure.AllureResultsWriter;
+import io.qameta.allure.model.TestResult;
+import io.qameta.allure.model.TestResultContainer;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+public class ApiReportingFilterTests {
+    private static final String LARGE_BODY = "{\"data\": \"" + "x".repeat(256 * 1024) + "\"}";
+    private final List<String> attachments = new CopyOnWriteArrayList<>();
+    private HttpServer server;
+    private String baseUrl;
+    private AllureLifecycle lifecycle;
+    private String reportingLevel;
+    private int maxBodySize;
+    private int sampleRate;
+
+    @BeforeClass
+    public void beforeClass() throws IOException {
+        reportingLevel = SHAFT.Properties.api.reportingLevel();
+        maxBodySize = SHAFT.Properties.api.reportingMaxBodySize();
+        sampleRate = SHAFT.Properties.api.reportingSampleRate();
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/users", exchange -> {
+            var body = LARGE_BODY.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(exchange.getRequestURI().getPath().endsWith("/0") ? 500 : 200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        server.start();
+        baseUrl = "http://localhost:" + server.getAddress().getPort() + "/";
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void afterClass() {
+        SHAFT.Properties.api.set().reportingLevel(reportingLevel).reportingMaxBodySize(maxBodySize).reportingSampleRate(sampleRate);
+        server.stop(0);
+    }
+
+    @BeforeMethod
+    public void beforeMethod() {
+        attachments.clear();
+        lifecycle = Allure.getLifecycle();
+        Allure.setLifecycle(new AllureLifecycle(new AttachmentsWriter()));
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void afterMethod() {
+        Allure.setLifecycle(lifecycle);
+    }
+
+    @Test
+    public void truncatedContentEndsWithTheDigestOfTheRest() {
+        Assert.assertEquals(ApiReportingFilter.truncate("short", 10), "short");
+        Assert.assertEquals(ApiReportingFilter.truncate("0123456789abc", 10), "0123456789" + System.lineSeparator()
+                + "... [3 more bytes, SHA-256: ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad]");
+    }
+
+    @Test
+    public void everyLevelBoundsTheReportedBodies() {
+        SHAFT.Properties.api.set().reportingMaxBodySize(1).reportingSampleRate(2);
+
+        Assert.assertEquals(responseAttachments("FULL", 2).stream().filter(attachment -> attachment.contains("x".repeat(100_000))).count(), 2);
+        Assert.assertTrue(responseAttachments("HEADERS_ONLY", 2).stream().noneMatch(attachment -> attachment.contains("xxxxxxxxxx")));
+        Assert.assertTrue(responseAttachments("TRUNCATED", 2).stream().allMatch(attachment -> attachment.contains("more bytes, SHA-256: ")
+                && !attachment.contains("x".repeat(2_000))));
+        Assert.assertEquals(responseAttachments("FAILURES_ONLY", 4).size(), 1);
+        Assert.assertEquals(responseAttachments("SAMPLED", 5).size(), 3);
+    }
+
+    @Test
+    public void compareFullAndTruncatedReportingCost() {
+        SHAFT.Properties.api.set().reportingMaxBodySize(16);
+        // warm up the request pipeline, so that both levels are measured the same way
+        responseAttachments("FULL", 2);
+        long start = System.nanoTime();
+        responseAttachments("FULL", 21);
+        long fullMillis = (System.nanoTime() - start) / 1_000_000;
+        start = System.nanoTime();
+        responseAttachments("TRUNCATED", 21);
+        long truncatedMillis = (System.nanoTime() - start) / 1_000_000;
+        ReportManager.log("Reporting 20 requests with " + LARGE_BODY.length() / 1024 + " KB responses: full [" + fullMillis
+                + "ms], truncated [" + truncatedMillis + "ms].");
+    }
+
+    /**
+     * Sends the requests to users 1 to {@code requests - 1}, and to user 0 whose response status code is 500.
+     */
+    private List<String> responseAttachments(String level, int requests) {
+        SHAFT.Properties.api.set().reportingLevel(level);
+        attachments.clear();
+        var api = new SHAFT.API(baseUrl);
+        for (int i = 0; i < requests; i++) {
+            api.get("users/" + i).setTargetStatusCode(i == 0 ? 500 : 200).perform();
+        }
+        ApiReportingFilter.awaitPendingAttachments();
+        return attachments.stream().filter(attachment -> attachment.contains("Status code")).toList();
+    }
+
+    private class AttachmentsWriter implements AllureResultsWriter {
+        @Override
+        public void write(TestResult testResult) {
+        }
+
+        @Override
+        public void write(TestResultContainer testResultContainer) {
+        }
+
+        @Override
+        public void write(String source, InputStream attachment) {
+            try (attachment) {
+                attachments.add(new String(attachment.readAllBytes(), StandardCharsets.UTF_8));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package testPackage.unitTests;
+
+import com.shaft.api.RequestBuilder;
+import com.shaft.driver.SHAFT;
+import com.shaft.tools.io.ReportManager;
+import com.sun.net.httpserver.HttpServer;
+import io.restassured.response.Response;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+public class AsyncRequestsTests {
+    private static final int REQUESTS = 10;
+    private static final int RESPONSE_DELAY_MILLIS = 300;
+    private final AtomicInteger requestsInFlight = new AtomicInteger();
+    private final AtomicInteger maxRequestsInFlight = new AtomicInteger();
+    private HttpServer server;
+    private String baseUrl;
+
+    @BeforeClass
+    public void beforeClass() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext("/users/", exchange -> {
+            maxRequestsInFlight.accumulateAndGet(requestsInFlight.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(RESPONSE_DELAY_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            var id = exchange.getRequestURI().getPath().substring("/users/".length());
+            var body = ("{\"id\": " + id + "}").getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(id.equals("0") ? 500 : 200, body.length);
+            exchange.getResponseBody().write(body);
+            requestsInFlight.decrementAndGet();
+            exchange.close();
+        });
+        server.start();
+        baseUrl = "http://localhost:" + server.getAddress().getPort() + "/";
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void afterClass() {
+        server.stop(0);
+    }
+
+    @BeforeMethod
+    public void beforeMethod() {
+        maxRequestsInFlight.set(0);
+    }
+
+    @Test
+    public void responsesAreReturnedInOrderWithinTheConcurrencyLimit() {
+        var api = new SHAFT.API(baseUrl);
+        var requests = IntStream.rangeClosed(1, REQUESTS).mapToObj(id -> api.get("users/" + id)).toList();
+
+        long start = System.nanoTime();
+        var responses = RequestBuilder.performAsync(5, requests).join();
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        Assert.assertEquals(responses.stream().map(response -> response.jsonPath().getInt("id")).toList(),
+                IntStream.rangeClosed(1, REQUESTS).boxed().toList());
+        Assert.assertEquals(maxRequestsInFlight.get(), 5);
+        Assert.assertNull(api.getResponse());
+        ReportManager.log("Sending " + REQUESTS + " requests that take " + RESPONSE_DELAY_MILLIS + "ms each, 5 at a time, took ["
+                + elapsedMillis + "ms].");
+    }
+
+    @Test
+    public void failedRequestsCompleteTheirFutureExceptionally() {
+        var api = new SHAFT.API(baseUrl);
+        var failedRequest = api.get("users/0").performAsync();
+        Response response = api.get("users/1").performAsync().join();
+
+        Assert.assertEquals(response.getStatusCode(), 200);
+        Assert.assertThrows(CompletionException.class, failedRequest::join);
+        Assert.assertTrue(failedRequest.isCompletedExceptionally());
+    }
+}
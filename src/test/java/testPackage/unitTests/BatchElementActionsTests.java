@@ -0,0 +1,130 @@
+package testPackage.unitTests;
+
+import com.shaft.driver.SHAFT;
+import com.shaft.gui.element.internal.Actions;
+import com.shaft.tools.internal.support.JavaScriptHelper;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+public class BatchElementActionsTests {
+    boolean waitForLazyLoading;
+
+    @BeforeMethod
+    public void beforeMethod() {
+        waitForLazyLoading = SHAFT.Properties.timeouts.waitForLazyLoading();
+        SHAFT.Properties.timeouts.set().waitForLazyLoading(false);
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void afterMethod() {
+        SHAFT.Properties.timeouts.set().waitForLazyLoading(waitForLazyLoading);
+    }
+
+    @Test
+    public void javaScriptFieldsAreLocatedSetAndReadInThreeScriptCalls() {
+        var page = new FakePage();
+        new Actions(page.driver).batch()
+                .setValueUsingJavaScript(By.id("firstName"), "John")
+                .setValueUsingJavaScript(By.id("lastName"), "Doe")
+                .select(By.id("country"), "Egypt")
+                .perform();
+        Assert.assertEquals(page.scripts, List.of(
+                JavaScriptHelper.BATCH_LOCATE_ELEMENTS.getValue(),
+                JavaScriptHelper.BATCH_SET_VALUES.getValue(),
+                JavaScriptHelper.BATCH_READ_VALUES.getValue()));
+        Assert.assertEquals(page.elementCalls, List.of());
+    }
+
+    @Test
+    public void nativeFieldsKeepTheirOrderBetweenJavaScriptFields() {
+        var page = new FakePage();
+        new Actions(page.driver).batch()
+                .setValueUsingJavaScript(By.id("firstName"), "John")
+                .type(By.id("password"), "secret")
+                .select(By.id("country"), "Egypt")
+                .perform();
+        Assert.assertEquals(page.scripts, List.of(
+                JavaScriptHelper.BATCH_LOCATE_ELEMENTS.getValue(),
+                JavaScriptHelper.BATCH_SET_VALUES.getValue(),
+                JavaScriptHelper.BATCH_SET_VALUES.getValue(),
+                JavaScriptHelper.BATCH_READ_VALUES.getValue()));
+        Assert.assertEquals(page.elementCalls, List.of("click", "clear", "sendKeys"));
+    }
+
+    @Test
+    public void fieldsAreTypedOnceWhenLocatingIsRetried() {
+        var page = new FakePage();
+        page.hiddenChecks.set(1);
+        new Actions(page.driver).batch()
+                .type(By.id("userName"), "John")
+                .type(By.id("password"), "secret")
+                .perform();
+        Assert.assertEquals(page.scripts.stream().filter(JavaScriptHelper.BATCH_LOCATE_ELEMENTS.getValue()::equals).count(), 2);
+        Assert.assertEquals(page.elementCalls, List.of("click", "clear", "sendKeys", "click", "clear", "sendKeys"));
+    }
+
+    @Test
+    public void readReturnsTheValueOfEveryElementInOrder() {
+        var page = new FakePage();
+        var values = new Actions(page.driver).batch().read(By.id("firstName"), By.xpath("//select"));
+        Assert.assertEquals(values, Map.of(By.id("firstName"), "value 0", By.xpath("//select"), "value 1"));
+        Assert.assertEquals(page.scripts.size(), 2);
+    }
+
+    /**
+     * A page where every locator matches exactly one element, which is hidden for the first {@code hiddenChecks}
+     * visibility checks, that records the scripts and element commands it receives.
+     */
+    private static class FakePage {
+        private final List<String> scripts = new CopyOnWriteArrayList<>();
+        private final List<String> elementCalls = new CopyOnWriteArrayList<>();
+        private final AtomicInteger hiddenChecks = new AtomicInteger();
+        private final WebDriver driver = (WebDriver) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{WebDriver.class, JavascriptExecutor.class}, (proxy, method, args) -> switch (method.getName()) {
+                    case "executeScript" -> {
+                        var script = (String) args[0];
+                        scripts.add(script);
+                        var arguments = (Object[]) args[1];
+                        if (script.equals(JavaScriptHelper.BATCH_LOCATE_ELEMENTS.getValue())) {
+                            yield ((List<?>) arguments[0]).stream().map(locator -> List.of(newElement())).toList();
+                        } else if (script.equals(JavaScriptHelper.BATCH_READ_VALUES.getValue())) {
+                            var elements = (List<?>) arguments[0];
+                            yield IntStream.range(0, elements.size()).mapToObj(i -> "value " + i).toList();
+                        }
+                        yield null;
+                    }
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> "FakeDriver";
+                    default -> null;
+                });
+
+        private WebElement newElement() {
+            return (WebElement) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{WebElement.class}, (proxy, method, args) -> switch (method.getName()) {
+                case "hashCode" -> System.identityHashCode(proxy);
+                case "equals" -> proxy == args[0];
+                case "toString" -> "FakeElement";
+                case "getText", "getDomProperty" -> "";
+                case "isDisplayed" -> hiddenChecks.getAndDecrement() <= 0;
+                case "isEnabled" -> true;
+                default -> {
+                    elementCalls.add(method.getName());
+                    yield null;
+                }
+            });
+        }
+    }
+}
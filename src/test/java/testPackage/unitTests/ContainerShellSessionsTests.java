@@ -0,0 +1,30 @@
+package testPackage.unitTests;
+
+import com.shaft.cli.TerminalActions;
+import com.shaft.cli.internal.ContainerShellSessions;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import java.util.List;
+
+public class ContainerShellSessionsTests {
+
+    @AfterMethod(alwaysRun = true)
+    public void afterMethod() {
+        ContainerShellSessions.clear();
+    }
+
+    @Test
+    public void missingContainersFailTheAction() {
+        long attachedShells = ContainerShellSessions.attachedShells();
+        Assert.assertThrows(RuntimeException.class, () -> new TerminalActions("shaft-missing-container", "root")
+                .performTerminalCommand("echo test"));
+        // a shell that exits right away is never returned to the pool, so the next command attaches a new one
+        Assert.assertThrows(RuntimeException.class, () -> new TerminalActions("shaft-missing-container", "root")
+                .performTerminalCommand("echo test"));
+        Assert.assertEquals(ContainerShellSessions.idleShells(), 0);
+        // without docker nothing is attached, otherwise every command attaches its own shell
+        Assert.assertTrue(List.of(0L, 2L).contains(ContainerShellSessions.attachedShells() - attachedShells));
+    }
+}
@@ -0,0 +1,157 @@
+package testPackage.unitTests;
+
+import com.atlassian.oai.validator.restassured.OpenApiValidationFilter;
+import com.shaft.api.internal.ContractValidators;
+import com.sun.net.httpserver.HttpServer;
+import io.restassured.RestAssured;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ContractValidatorsTests {
+    private static final String SPECIFICATION = """
+            openapi: 3.0.1
+            info:
+              title: Pets
+              version: "%s"
+            paths:
+              /pets:
+                get:
+                  responses:
+                    "200":
+                      description: pets
+                      content:
+                        application/json:
+                          schema:
+                            type: array
+                            items:
+                              type: object
+                              properties:
+                                id:
+                                  type: integer
+            """;
+    private static final String REMOTE_SPECIFICATION = """
+            openapi: 3.0.1
+            info:
+              title: Pets
+              version: "1"
+            paths:
+              /pets:
+                get:
+                  responses:
+                    "200":
+                      description: pets
+                      content:
+                        application/json:
+                          schema:
+                            $ref: "schemas.yaml#/Pets"
+            """;
+    private static final String REMOTE_SCHEMAS = """
+            Pets:
+              type: array
+              items:
+                type: object
+                properties:
+                  id:
+                    type: integer
+            """;
+    private final AtomicInteger specificationRequests = new AtomicInteger();
+    private HttpServer server;
+    private volatile String responseBody = "[{\"id\": 1}]";
+    private Path specification;
+    private String baseUrl;
+
+    @BeforeClass
+    public void beforeClass() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/pets", exchange -> {
+            var body = responseBody.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        server.createContext("/openapi.yaml", exchange -> {
+            specificationRequests.incrementAndGet();
+            var body = REMOTE_SPECIFICATION.getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        server.createContext("/schemas.yaml", exchange -> {
+            var body = REMOTE_SCHEMAS.getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        server.start();
+        baseUrl = "http://localhost:" + server.getAddress().getPort();
+        specification = Files.createTempFile("pets", ".yaml");
+        Files.writeString(specification, SPECIFICATION.formatted("1"));
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void afterClass() throws IOException {
+        server.stop(0);
+        Files.deleteIfExists(specification);
+        ContractValidators.clear();
+    }
+
+    @BeforeMethod
+    public void beforeMethod() {
+        ContractValidators.clear();
+        responseBody = "[{\"id\": 1}]";
+    }
+
+    @Test
+    public void specificationIsParsedOnceUntilItChanges() throws IOException {
+        var validator = ContractValidators.get(specification.toString());
+        Assert.assertSame(ContractValidators.get(specification.toString()), validator);
+
+        Files.writeString(specification, SPECIFICATION.formatted("2.0.0"));
+        Assert.assertNotSame(ContractValidators.get(specification.toString()), validator);
+        Assert.assertEquals(ContractValidators.metrics().loadedSpecifications(), 1);
+    }
+
+    @Test
+    public void remoteSpecificationIsParsedOnceWithItsRelativeReferences() {
+        specificationRequests.set(0);
+        var validator = ContractValidators.get(baseUrl + "/openapi.yaml");
+        Assert.assertSame(ContractValidators.get(baseUrl + "/openapi.yaml"), validator);
+        // fetched once to hash it, and once more by the parser to resolve it from its location
+        Assert.assertEquals(specificationRequests.get(), 2);
+        RestAssured.given().filter(ContractValidators.filter(baseUrl + "/openapi.yaml", 1)).get(baseUrl + "/pets").then().statusCode(200);
+
+        responseBody = "[{\"id\": \"not a number\"}]";
+        Assert.assertThrows(OpenApiValidationFilter.OpenApiValidationException.class,
+                () -> RestAssured.given().filter(ContractValidators.filter(baseUrl + "/openapi.yaml", 1)).get(baseUrl + "/pets"));
+        Assert.assertEquals(specificationRequests.get(), 2);
+    }
+
+    @Test
+    public void onlySampledResponsesAreValidated() {
+        var filter = ContractValidators.filter(specification.toString(), 2);
+        for (int i = 0; i < 4; i++) {
+            RestAssured.given().filter(filter).get(baseUrl + "/pets").then().statusCode(200);
+        }
+        var metrics = ContractValidators.metrics();
+        Assert.assertEquals(metrics.validatedResponses(), 2);
+        Assert.assertEquals(metrics.skippedResponses(), 2);
+        Assert.assertTrue(metrics.validationTime().toNanos() > 0);
+    }
+
+    @Test(expectedExceptions = OpenApiValidationFilter.OpenApiValidationException.class)
+    public void responsesThatBreakTheContractFail() {
+        responseBody = "[{\"id\": \"not a number\"}]";
+        RestAssured.given().filter(ContractValidators.filter(specification.toString(), 1)).get(baseUrl + "/pets");
+    }
+}
@@ -0,0 +1,133 @@
+package testPackage.unitTests;
+
+import com.shaft.driver.DriverFactory.DriverType;
+import com.shaft.driver.SHAFT;
+import com.shaft.driver.internal.DriverFactory.DriverPool;
+import com.shaft.listeners.internal.TestNGListenerHelper;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchSessionException;
+import org.openqa.selenium.WebDriver;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+public class DriverPoolTests {
+
+    @Test
+    public void sessionsAreReusedAndResetBetweenTests() {
+        var sessions = new CopyOnWriteArrayList<FakeSession>();
+        var pool = new DriverPool(2, 10, driverType -> newSession(sessions));
+        pool.fill(DriverType.CHROME);
+
+        var first = pool.acquire(DriverType.CHROME);
+        var second = pool.acquire(DriverType.CHROME);
+        Assert.assertNotNull(first);
+        Assert.assertNotNull(second);
+        Assert.assertNotSame(first, second);
+        Assert.assertTrue(pool.isPooled(first));
+        Assert.assertTrue(pool.release(first));
+        Assert.assertSame(pool.acquire(DriverType.CHROME), first);
+
+        var firstSession = sessions.stream().filter(session -> session.driver == first).findFirst().orElseThrow();
+        Assert.assertTrue(firstSession.calls.contains("deleteAllCookies"));
+        Assert.assertTrue(firstSession.calls.contains("executeScript"));
+        Assert.assertTrue(firstSession.calls.contains("to"));
+        Assert.assertEquals(sessions.size(), 2);
+        Assert.assertEquals(pool.metrics(), new DriverPool.Metrics(0, 2, 2, 1, 0, 0));
+    }
+
+    @Test
+    public void acquireReturnsNullWhenThePoolIsExhausted() {
+        var pool = new DriverPool(1, 10, driverType -> newSession(new ArrayList<>()));
+        pool.fill(DriverType.FIREFOX);
+        Assert.assertNotNull(pool.acquire(DriverType.FIREFOX));
+        Assert.assertNull(pool.acquire(DriverType.FIREFOX));
+        Assert.assertFalse(pool.adopt(DriverType.FIREFOX, newSession(new ArrayList<>())));
+        Assert.assertFalse(pool.release(newSession(new ArrayList<>())));
+    }
+
+    @Test
+    public void sessionsAreRecycledAfterTheMaximumNumberOfUses() {
+        var sessions = new CopyOnWriteArrayList<FakeSession>();
+        var pool = new DriverPool(1, 2, driverType -> newSession(sessions));
+        pool.fill(DriverType.EDGE);
+        var driver = pool.acquire(DriverType.EDGE);
+        pool.release(driver);
+        Assert.assertSame(pool.acquire(DriverType.EDGE), driver);
+        pool.release(driver);
+
+        var replacement = pool.acquire(DriverType.EDGE);
+        Assert.assertNotSame(replacement, driver);
+        Assert.assertTrue(sessions.getFirst().calls.contains("quit"));
+        Assert.assertEquals(pool.metrics().recycled(), 1);
+    }
+
+    @Test
+    public void unhealthySessionsAreReplaced() {
+        var sessions = new CopyOnWriteArrayList<FakeSession>();
+        var pool = new DriverPool(1, 10, driverType -> newSession(sessions));
+        pool.fill(DriverType.CHROME);
+        var driver = pool.acquire(DriverType.CHROME);
+        sessions.getFirst().isAlive = false;
+        pool.release(driver);
+
+        Assert.assertNotSame(pool.acquire(DriverType.CHROME), driver);
+        Assert.assertEquals(pool.metrics().failedHealthChecks(), 1);
+        pool.shutdown();
+        Assert.assertNull(pool.acquire(DriverType.CHROME));
+    }
+
+    @Test
+    public void warmUpTargetsTheBrowsersOfTheTestNGParameters() {
+        var suite = new XmlSuite();
+        var chromeTest = new XmlTest(suite);
+        chromeTest.setParameters(Map.of("targetBrowserName", "chrome"));
+        var firefoxTest = new XmlTest(suite);
+        firefoxTest.setParameters(Map.of("targetBrowserName", "firefox"));
+        new XmlTest(suite);
+        var expectedBrowserNames = new LinkedHashSet<>(List.of("chrome", "firefox", SHAFT.Properties.web.targetBrowserName()));
+        Assert.assertEquals(TestNGListenerHelper.getTargetBrowserNames(List.of(suite)), expectedBrowserNames);
+    }
+
+    private static WebDriver newSession(List<FakeSession> sessions) {
+        var session = new FakeSession();
+        session.driver = (WebDriver) session.proxy(WebDriver.class, JavascriptExecutor.class);
+        sessions.add(session);
+        return session.driver;
+    }
+
+    /**
+     * A browser session that records the commands it receives, navigation and option objects are recorded on it too.
+     */
+    private static class FakeSession {
+        private final List<String> calls = new CopyOnWriteArrayList<>();
+        private volatile boolean isAlive = true;
+        private WebDriver driver;
+
+        private Object proxy(Class<?>... interfaces) {
+            return Proxy.newProxyInstance(getClass().getClassLoader(), interfaces, (proxy, method, args) -> {
+                calls.add(method.getName());
+                if (!isAlive) {
+                    throw new NoSuchSessionException("session is gone");
+                }
+                return switch (method.getName()) {
+                    case "getWindowHandles" -> Set.of("main");
+                    case "manage", "navigate", "switchTo", "window" -> proxy(method.getReturnType());
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> "FakeSession";
+                    default -> null;
+                };
+            });
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package testPackage.unitTests;
+
+import com.shaft.listeners.TestNGListener;
+import com.shaft.listeners.internal.EngineStartup;
+import com.shaft.tools.io.ReportManager;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+public class EngineStartupTests {
+    private static final long STEP_DURATION = 300;
+
+    @Test
+    public void independentStepsRunConcurrently() {
+        long startTime = System.currentTimeMillis();
+        var timings = new EngineStartup()
+                .step("first", EngineStartupTests::sleep)
+                .step("second", EngineStartupTests::sleep)
+                .step("third", EngineStartupTests::sleep)
+                .run();
+        Assert.assertEquals(List.copyOf(timings.keySet()), List.of("first", "second", "third"));
+        Assert.assertTrue(System.currentTimeMillis() - startTime < STEP_DURATION * 3);
+    }
+
+    @Test
+    public void stepsStartAfterTheirDependencies() {
+        var order = new CopyOnWriteArrayList<String>();
+        new EngineStartup()
+                .step("properties", () -> {
+                    sleep();
+                    order.add("properties");
+                })
+                .step("reporting", () -> order.add("reporting"), "properties")
+                .step("proxy", () -> order.add("proxy"), "properties", "reporting")
+                .run();
+        Assert.assertEquals(order, List.of("properties", "reporting", "proxy"));
+    }
+
+    @Test
+    public void runDoesNotWaitForBackgroundSteps() {
+        long startTime = System.currentTimeMillis();
+        var timings = new EngineStartup()
+                .step("properties", () -> {
+                })
+                .backgroundStep("update check", EngineStartupTests::sleep, "properties")
+                .run();
+        Assert.assertFalse(timings.containsKey("update check"));
+        Assert.assertTrue(System.currentTimeMillis() - startTime < STEP_DURATION);
+    }
+
+    @Test(expectedExceptions = IllegalStateException.class)
+    public void foregroundStepFailuresFailTheSetup() {
+        new EngineStartup()
+                .step("properties", () -> {
+                    throw new IllegalStateException("broken properties");
+                })
+                .run();
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void dependenciesMustBeAddedFirst() {
+        new EngineStartup().step("proxy", () -> {
+        }, "properties");
+    }
+
+    @Test
+    public void engineSetupTimingBreakdown() {
+        var timings = TestNGListener.getEngineSetupTimings();
+        Assert.assertTrue(timings.containsKey("properties"));
+        Assert.assertTrue(timings.containsKey("allure environment"));
+        long totalTime = timings.values().stream().mapToLong(java.time.Duration::toMillis).sum();
+        ReportManager.log("Engine setup steps " + timings + " took " + totalTime + "ms in total.");
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(STEP_DURATION);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package testPackage.unitTests;
+
+import com.shaft.api.internal.HttpClientPools;
+import com.shaft.driver.SHAFT;
+import com.shaft.tools.io.ReportManager;
+import com.sun.net.httpserver.HttpServer;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class HttpClientPoolsTests {
+    private static final int REQUESTS = 20;
+    private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+    private HttpServer server;
+    private String baseUrl;
+    private boolean connectionPoolEnabled;
+
+    @BeforeClass
+    public void beforeClass() throws IOException {
+        connectionPoolEnabled = SHAFT.Properties.api.connectionPoolEnabled();
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/users", exchange -> {
+            clientPorts.add(exchange.getRemoteAddress().getPort());
+            var body = "[{\"id\": 1}]".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        server.start();
+        baseUrl = "http://localhost:" + server.getAddress().getPort() + "/";
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void afterClass() {
+        SHAFT.Properties.api.set().connectionPoolEnabled(connectionPoolEnabled);
+        server.stop(0);
+        HttpClientPools.clear();
+    }
+
+    @BeforeMethod
+    public void beforeMethod() {
+        HttpClientPools.clear();
+        clientPorts.clear();
+    }
+
+    @Test
+    public void connectionsAreReusedAcrossSessions() {
+        SHAFT.Properties.api.set().connectionPoolEnabled(true);
+        for (int i = 0; i < REQUESTS; i++) {
+            new SHAFT.API(baseUrl).get("users").perform();
+        }
+        Assert.assertEquals(clientPorts.size(), 1);
+        var metrics = HttpClientPools.metrics();
+        Assert.assertEquals(metrics.size(), 1);
+        Assert.assertEquals(metrics.getFirst().requests(), REQUESTS);
+        Assert.assertEquals(metrics.getFirst().leasedConnections(), 0);
+        Assert.assertEquals(metrics.getFirst().availableConnections(), 1);
+    }
+
+    @Test
+    public void compareNewAndPooledConnectionsCost() {
+        SHAFT.Properties.api.set().connectionPoolEnabled(false);
+        // warm up the request pipeline, so that both loops are measured the same way
+        new SHAFT.API(baseUrl).get("users").perform();
+        clientPorts.clear();
+        long start = System.nanoTime();
+        for (int i = 0; i < REQUESTS; i++) {
+            new SHAFT.API(baseUrl).get("users").perform();
+        }
+        long newConnectionsMillis = (System.nanoTime() - start) / 1_000_000;
+        int newConnections = clientPorts.size();
+        clientPorts.clear();
+
+        SHAFT.Properties.api.set().connectionPoolEnabled(true);
+        start = System.nanoTime();
+        for (int i = 0; i < REQUESTS; i++) {
+            new SHAFT.API(baseUrl).get("users").perform();
+        }
+        long pooledConnectionsMillis = (System.nanoTime() - start) / 1_000_000;
+        Assert.assertTrue(clientPorts.size() < newConnections);
+        ReportManager.log("Sending " + REQUESTS + " requests: new connections [" + newConnections + " connections, "
+                + newConnectionsMillis + "ms], pooled connections [" + clientPorts.size() + " connections, " + pooledConnectionsMillis + "ms].");
+    }
+}
@@ -3,12 +3,21 @@ package testPackage.unitTests;
 import com.shaft.driver.SHAFT;
 import com.shaft.tools.io.ExcelFileManager;
 import com.shaft.tools.io.ReportManager;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.testng.Assert;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+
 public class IoExcelFileManagerTests {
 
     ExcelFileManager testDataReader;
+    ExcelFileManager typedTestDataReader;
     // WebDriver driver;
 
     @Test
@@ -16,9 +25,68 @@ public class IoExcelFileManagerTests {
         ReportManager.log(testDataReader.getCellData("testRowValue"));
     }
 
+    @Test
+    public void getCellData_typedCells_formattedLikeTheWorkbookModel() {
+        Assert.assertEquals(typedTestDataReader.getCellData("text"), "hello");
+        Assert.assertEquals(typedTestDataReader.getCellData("integer"), "42");
+        Assert.assertEquals(typedTestDataReader.getCellData("decimal"), "3.75");
+        Assert.assertEquals(typedTestDataReader.getCellData("date"), "15/03/24");
+        Assert.assertEquals(typedTestDataReader.getCellData("boolean"), "true");
+        Assert.assertEquals(typedTestDataReader.getCellData("formula"), "42");
+        Assert.assertEquals(typedTestDataReader.getCellData("blank"), "");
+        Assert.assertEquals(typedTestDataReader.getCellData("text", "Value2"), "world");
+        Assert.assertEquals(typedTestDataReader.getCellData("secondSheet", "text", "Value1"), "second");
+        Assert.assertEquals(typedTestDataReader.getLastColumnNumber(), 2);
+    }
+
     @BeforeClass // Set-up method, to be run once before the first test
-    public void beforeClass() {
+    public void beforeClass() throws IOException {
         testDataReader = new ExcelFileManager(SHAFT.Properties.paths.testData() + "testSuite01/TestData.xlsx");
         // driver = BrowserFactory.getBrowser(testDataReader);
+        typedTestDataReader = new ExcelFileManager(createTypedWorkbook());
+    }
+
+    private String createTypedWorkbook() throws IOException {
+        var file = Path.of("target/temp/typedTestData.xlsx");
+        Files.createDirectories(file.getParent());
+        try (var workbook = new XSSFWorkbook(); var out = new FileOutputStream(file.toFile())) {
+            var sheet = workbook.createSheet("TestData");
+            var header = sheet.createRow(0);
+            header.createCell(0).setCellValue("Data");
+            header.createCell(1).setCellValue("Value1");
+            header.createCell(2).setCellValue("Value2");
+            var text = sheet.createRow(1);
+            text.createCell(0).setCellValue("text");
+            text.createCell(1).setCellValue("hello");
+            text.createCell(2).setCellValue("world");
+            var integer = sheet.createRow(2);
+            integer.createCell(0).setCellValue("integer");
+            integer.createCell(1).setCellValue(42);
+            var decimal = sheet.createRow(3);
+            decimal.createCell(0).setCellValue("decimal");
+            decimal.createCell(1).setCellValue(3.75);
+            var date = sheet.createRow(4);
+            date.createCell(0).setCellValue("date");
+            var dateStyle = workbook.createCellStyle();
+            dateStyle.setDataFormat(workbook.getCreationHelper().createDataFormat().getFormat("dd/mm/yyyy"));
+            var dateCell = date.createCell(1);
+            dateCell.setCellValue(LocalDate.of(2024, 3, 15));
+            dateCell.setCellStyle(dateStyle);
+            var bool = sheet.createRow(5);
+            bool.createCell(0).setCellValue("boolean");
+            bool.createCell(1).setCellValue(true);
+            var formula = sheet.createRow(6);
+            formula.createCell(0).setCellValue("formula");
+            formula.createCell(1).setCellFormula("2*21");
+            sheet.createRow(8).createCell(0).setCellValue("blank");
+            var secondSheet = workbook.createSheet("SecondSheet");
+            secondSheet.createRow(0).createCell(1).setCellValue("Value1");
+            var secondSheetRow = secondSheet.createRow(1);
+            secondSheetRow.createCell(0).setCellValue("text");
+            secondSheetRow.createCell(1).setCellValue("second");
+            workbook.getCreationHelper().createFormulaEvaluator().evaluateAll();
+            workbook.write(out);
+        }
+        return file.toString();
     }
 }
@@ -0,0 +1,154 @@
+package testPackage.unitTests;
+
+import com.shaft.driver.SHAFT;
+import com.shaft.gui.browser.internal.JavaScriptWaitManager;
+import com.shaft.tools.internal.support.JavaScriptHelper;
+import org.openqa.selenium.JavascriptException;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chromium.HasCdp;
+import org.testng.Assert;
+import org.testng.SkipException;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+public class JavaScriptWaitManagerTests {
+    boolean waitForLazyLoading;
+    String lazyLoadingWaitStrategy;
+
+    @BeforeMethod
+    public void beforeMethod() {
+        waitForLazyLoading = SHAFT.Properties.timeouts.waitForLazyLoading();
+        lazyLoadingWaitStrategy = SHAFT.Properties.timeouts.lazyLoadingWaitStrategy();
+        SHAFT.Properties.timeouts.set().waitForLazyLoading(true);
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void afterMethod() {
+        SHAFT.Properties.timeouts.set().waitForLazyLoading(waitForLazyLoading);
+        SHAFT.Properties.timeouts.set().lazyLoadingWaitStrategy(lazyLoadingWaitStrategy);
+    }
+
+    @Test
+    public void observerWaitsUsingASingleScriptCall() {
+        SHAFT.Properties.timeouts.set().lazyLoadingWaitStrategy("observer");
+        var calls = new CopyOnWriteArrayList<String>();
+        JavaScriptWaitManager.waitForLazyLoading(newDriver(calls, false));
+        Assert.assertEquals(calls, List.of("executeAsyncScript"));
+    }
+
+    @Test
+    public void observerFallsBackToPollingWhenAsyncScriptsFail() {
+        SHAFT.Properties.timeouts.set().lazyLoadingWaitStrategy("observer");
+        var calls = new CopyOnWriteArrayList<String>();
+        JavaScriptWaitManager.waitForLazyLoading(newDriver(calls, true));
+        Assert.assertEquals(calls.getFirst(), "executeAsyncScript");
+        Assert.assertEquals(calls.stream().filter("executeScript"::equals).count(), 4);
+    }
+
+    @Test
+    public void pollingStrategyChecksEachConditionSeparately() {
+        SHAFT.Properties.timeouts.set().lazyLoadingWaitStrategy("polling");
+        var calls = new CopyOnWriteArrayList<String>();
+        JavaScriptWaitManager.waitForLazyLoading(newDriver(calls, false));
+        Assert.assertFalse(calls.contains("executeAsyncScript"));
+        Assert.assertEquals(calls.size(), 4);
+    }
+
+    @Test
+    public void observerIsRegisteredForNewDocumentsOncePerCdpDriver() {
+        SHAFT.Properties.timeouts.set().lazyLoadingWaitStrategy("observer");
+        var calls = new CopyOnWriteArrayList<String>();
+        var driver = newDriver(calls, false, HasCdp.class);
+        JavaScriptWaitManager.installPageObserver(driver);
+        JavaScriptWaitManager.waitForLazyLoading(driver);
+        JavaScriptWaitManager.waitForLazyLoading(driver);
+        Assert.assertEquals(calls, List.of("executeCdpCommand", "executeAsyncScript", "executeAsyncScript"));
+    }
+
+    @Test
+    public void observerRegisteredForNewDocumentsWaitsForRequestsSentBeforeTheFirstWait() throws Exception {
+        var output = runObserverInNode("fetch(500);", 5_000);
+        Assert.assertTrue(output.startsWith("true "), output);
+        Assert.assertTrue(Long.parseLong(output.substring("true ".length())) >= 500, output);
+    }
+
+    @Test
+    public void observerTimesOutWhileARequestIsStillInFlight() throws Exception {
+        var output = runObserverInNode("fetch(-1);", 300);
+        Assert.assertTrue(output.startsWith("false "), output);
+    }
+
+    /**
+     * Runs the page observer scripts against a minimal stand-in for a loaded page. The observer is installed before the
+     * page script, like it is when it is registered for new documents, then the wait runs the same way as on a driver.
+     * The stand-in fetch takes the delay after which its request completes, or a negative delay for a request that
+     * never completes.
+     *
+     * @return whether the page became idle, and the elapsed milliseconds
+     */
+    private static String runObserverInNode(String page, long timeout) throws IOException, InterruptedException {
+        var script = """
+                var window = globalThis;
+                var document = {readyState: 'complete'};
+                window.fetch = function (delay) {
+                    return new Promise(function (resolve) { if (delay >= 0) setTimeout(resolve, delay); });
+                };
+                %1$s
+                %3$s
+                var start = Date.now();
+                (function () {
+                %1$s
+                %2$s
+                })(0, %4$d, function (isIdle) { console.log(isIdle + ' ' + (Date.now() - start)); });
+                """.formatted(JavaScriptHelper.PAGE_OBSERVER_INSTALL.getValue(), JavaScriptHelper.PAGE_OBSERVER_WAIT_FOR_IDLE.getValue(), page, timeout);
+        Process node;
+        try {
+            node = new ProcessBuilder("node", "-e", script).redirectErrorStream(true).start();
+        } catch (IOException exception) {
+            throw new SkipException("Running the page observer scripts needs node.");
+        }
+        var output = new String(node.getInputStream().readAllBytes(), StandardCharsets.UTF_8).trim();
+        Assert.assertTrue(node.waitFor(10, TimeUnit.SECONDS), output);
+        Assert.assertEquals(node.exitValue(), 0, output);
+        return output;
+    }
+
+    /**
+     * A driver on an idle page, that records the scripts it executes.
+     */
+    private static WebDriver newDriver(List<String> calls, boolean isAsyncScriptUnsupported, Class<?>... interfaces) {
+        var driverInterfaces = new ArrayList<Class<?>>(List.of(WebDriver.class, JavascriptExecutor.class));
+        driverInterfaces.addAll(List.of(interfaces));
+        return (WebDriver) Proxy.newProxyInstance(JavaScriptWaitManagerTests.class.getClassLoader(),
+                driverInterfaces.toArray(Class<?>[]::new), (proxy, method, args) -> {
+                    if (method.getDeclaringClass() != Object.class) {
+                        calls.add(method.getName());
+                    }
+                    return switch (method.getName()) {
+                        case "executeAsyncScript" -> {
+                            if (isAsyncScriptUnsupported) {
+                                throw new JavascriptException("asynchronous scripts are not supported");
+                            }
+                            yield true;
+                        }
+                        case "executeScript" -> String.valueOf(args[0]).contains("readyState") ? "complete" : 0L;
+                        case "executeCdpCommand" -> Map.of();
+                        case "hashCode" -> System.identityHashCode(proxy);
+                        case "equals" -> proxy == args[0];
+                        case "toString" -> "FakeDriver";
+                        default -> null;
+                    };
+                });
+    }
+}
@@ -0,0 +1,91 @@
+package testPackage.unitTests;
+
+import com.shaft.api.RestActions;
+import com.shaft.api.RestActions.ComparisonType;
+import com.shaft.api.internal.JsonComparator;
+import com.shaft.tools.io.ReportManager;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.response.Response;
+import org.json.JSONException;
+import org.skyscreamer.jsonassert.JSONAssert;
+import org.skyscreamer.jsonassert.JSONCompareMode;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+public class JsonComparatorTests {
+
+    @Test
+    public void equalsComparesMembersInAnyOrderAndArraysInOrder() throws IOException {
+        var expected = JsonComparator.parse("{\"name\": \"John\", \"age\": 30, \"tags\": [\"a\", \"b\"]}");
+        Assert.assertTrue(JsonComparator.compare(expected, JsonComparator.parse("{\"tags\": [\"a\", \"b\"], \"age\": 30.0, \"name\": \"John\"}"), ComparisonType.EQUALS).passed());
+        Assert.assertFalse(JsonComparator.compare(expected, JsonComparator.parse("{\"name\": \"John\", \"age\": 30, \"tags\": [\"b\", \"a\"]}"), ComparisonType.EQUALS).passed());
+        Assert.assertTrue(JsonComparator.compare(expected, JsonComparator.parse("{\"name\": \"John\", \"age\": 30, \"tags\": [\"b\", \"a\"]}"), ComparisonType.EQUALS_IGNORING_ORDER).passed());
+        Assert.assertFalse(JsonComparator.compare(expected, JsonComparator.parse("{\"name\": \"John\", \"age\": 30, \"tags\": [\"b\", \"a\", \"a\"]}"), ComparisonType.EQUALS_IGNORING_ORDER).passed());
+    }
+
+    @Test
+    public void containsIgnoresExtraMembersAndElements() throws IOException {
+        var actual = JsonComparator.parse("{\"data\": {\"users\": [{\"id\": 1, \"name\": \"John\"}, {\"id\": 2, \"name\": \"Jane\"}], \"total\": 2}}");
+        Assert.assertTrue(JsonComparator.compare(JsonComparator.parse("{\"data\": {\"total\": 2}}"), actual, ComparisonType.CONTAINS).passed());
+        Assert.assertTrue(JsonComparator.compare(JsonComparator.parse("[{\"name\": \"Jane\"}]"), actual, ComparisonType.CONTAINS).passed());
+        Assert.assertTrue(JsonComparator.compare(JsonComparator.parse("{\"id\": 2}"), actual, ComparisonType.CONTAINS).passed());
+        Assert.assertFalse(JsonComparator.compare(JsonComparator.parse("[{\"name\": \"Jane\"}, {\"name\": \"Jane\"}]"), actual, ComparisonType.CONTAINS).passed());
+    }
+
+    @Test
+    public void differencesAreReportedByPathAndBounded() throws IOException {
+        var result = JsonComparator.compare(JsonComparator.parse("{\"user\": {\"name\": \"John\", \"roles\": [\"admin\"]}, \"id\": 1}"),
+                JsonComparator.parse("{\"user\": {\"name\": \"Jane\", \"roles\": []}, \"id\": 1, \"extra\": null}"), ComparisonType.EQUALS);
+        Assert.assertEquals(result.differences(), List.of(
+                "$.user.name: expected \"John\" but found \"Jane\"",
+                "$.user.roles[0]: expected \"admin\" but it is missing",
+                "$.extra: unexpected null"));
+
+        var manyDifferences = JsonComparator.compare(JsonComparator.of(IntStream.range(0, 200).boxed().toList()),
+                JsonComparator.of(IntStream.range(1, 201).boxed().toList()), ComparisonType.EQUALS);
+        Assert.assertEquals(manyDifferences.differences().size(), JsonComparator.MAX_REPORTED_DIFFERENCES);
+        Assert.assertEquals(manyDifferences.totalDifferences(), 200);
+        Assert.assertTrue(manyDifferences.report().endsWith("... and 150 more."));
+    }
+
+    @Test
+    public void compareJSONUsesTheTargetArray() throws IOException {
+        var reference = Files.createTempFile("users", ".json");
+        try {
+            Files.writeString(reference, "[{\"age\": 25, \"name\": \"Jane\"}, {\"age\": 30, \"name\": \"John\"}]");
+            var response = jsonResponse("{\"users\": [{\"name\": \"John\", \"age\": 30}, {\"name\": \"Jane\", \"age\": 25}]}");
+            Assert.assertFalse(RestActions.compareJSON(response, reference.toString(), ComparisonType.EQUALS, "$.users"));
+            Assert.assertTrue(RestActions.compareJSON(response, reference.toString(), ComparisonType.EQUALS_IGNORING_ORDER, "$.users"));
+            Assert.assertTrue(RestActions.compareJSON(response, reference.toString(), ComparisonType.CONTAINS));
+        } finally {
+            Files.deleteIfExists(reference);
+        }
+    }
+
+    @Test
+    public void compareRecursiveAndHashedComparisonCost() throws IOException, JSONException {
+        var users = IntStream.range(0, 5_000)
+                .mapToObj(i -> "{\"id\": " + i + ", \"name\": \"user " + i + "\", \"roles\": [\"reader\", \"writer\"]}")
+                .toList();
+        var expected = "[" + String.join(",", users) + "]";
+        var actual = IntStream.range(0, users.size()).mapToObj(i -> users.get(users.size() - 1 - i)).collect(Collectors.joining(",", "[", "]"));
+        long start = System.nanoTime();
+        JSONAssert.assertEquals(expected, actual, JSONCompareMode.NON_EXTENSIBLE);
+        long recursiveMillis = (System.nanoTime() - start) / 1_000_000;
+        start = System.nanoTime();
+        Assert.assertTrue(JsonComparator.compare(JsonComparator.parse(expected), JsonComparator.parse(actual), ComparisonType.EQUALS_IGNORING_ORDER).passed());
+        long hashedMillis = (System.nanoTime() - start) / 1_000_000;
+        ReportManager.log("Comparing " + users.size() + " reversed array elements ignoring their order: recursive ["
+                + recursiveMillis + "ms], hashed [" + hashedMillis + "ms].");
+    }
+
+    private static Response jsonResponse(String body) {
+        return new ResponseBuilder().setStatusCode(200).setContentType("application/json").setBody(body).build();
+    }
+}
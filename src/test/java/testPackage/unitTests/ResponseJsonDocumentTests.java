@@ -0,0 +1,69 @@
+package testPackage.unitTests;
+
+import com.jayway.jsonpath.JsonPath;
+import com.shaft.api.RestActions;
+import com.shaft.api.internal.ResponseJsonDocument;
+import com.shaft.tools.io.ReportManager;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.response.Response;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+public class ResponseJsonDocumentTests {
+    private static final int FIELDS = 20;
+
+    @Test
+    public void documentIsParsedOncePerResponse() {
+        var response = jsonResponse("{\"id\": 5, \"users\": [{\"name\": \"Leanne\"}, {\"name\": \"Chelsey\"}]}");
+        Assert.assertSame(ResponseJsonDocument.of(response), ResponseJsonDocument.of(response));
+        Assert.assertNotSame(ResponseJsonDocument.of(jsonResponse("{}")), ResponseJsonDocument.of(response));
+        Assert.assertSame(ResponseJsonDocument.compile("$.users[*].name"), ResponseJsonDocument.compile("$.users[*].name"));
+
+        Assert.assertEquals(RestActions.getResponseJSONValue(response, "id"), "5");
+        Assert.assertEquals(RestActions.getResponseJSONValue(response, "$.users[?(@.name == 'Chelsey')].name"), "Chelsey");
+        Assert.assertEquals(RestActions.getResponseJSONValue((Object) response, "users[0].name"), "Leanne");
+        Assert.assertEquals(RestActions.getResponseJSONValueAsList(response, "$.users[*].name"), List.of("Leanne", "Chelsey"));
+    }
+
+    @Test
+    public void listResultsCanBeModifiedWithoutChangingTheDocument() {
+        var response = jsonResponse("{\"names\": [\"Leanne\", \"Chelsey\"]}");
+        RestActions.getResponseJSONValueAsList(response, "$.names").clear();
+        Assert.assertEquals(RestActions.getResponseJSONValueAsList(response, "$.names"), List.of("Leanne", "Chelsey"));
+    }
+
+    @Test
+    public void jsonEmbeddedInsideTagsIsParsedFromTheBody() {
+        var response = new ResponseBuilder().setStatusCode(200).setContentType("text/html")
+                .setBody("<html><body>{\"token\": \"abc\"}</body></html>").build();
+        Assert.assertEquals(RestActions.getResponseJSONValue(response, "token"), "abc");
+    }
+
+    @Test
+    public void compareReparsingAndParseOnceExtractionCost() {
+        var body = IntStream.range(0, 5_000)
+                .mapToObj(i -> "{\"id\": " + i + ", \"name\": \"user " + i + "\", \"email\": \"user" + i + "@example.com\"}")
+                .collect(Collectors.joining(",", "{\"users\": [", "]}"));
+        long start = System.nanoTime();
+        for (int i = 0; i < FIELDS; i++) {
+            Assert.assertEquals(String.valueOf((Object) JsonPath.read(jsonResponse(body).asPrettyString(), "$.users[" + i + "].id")), String.valueOf(i));
+        }
+        long reparsingMillis = (System.nanoTime() - start) / 1_000_000;
+        var response = jsonResponse(body);
+        start = System.nanoTime();
+        for (int i = 0; i < FIELDS; i++) {
+            Assert.assertEquals(ResponseJsonDocument.of(response).<Object>read("$.users[" + i + "].id").toString(), String.valueOf(i));
+        }
+        long parseOnceMillis = (System.nanoTime() - start) / 1_000_000;
+        ReportManager.log("Extracting " + FIELDS + " fields from a " + body.length() / 1024 + "KB body: reparsing ["
+                + reparsingMillis + "ms], parse once [" + parseOnceMillis + "ms].");
+    }
+
+    private static Response jsonResponse(String body) {
+        return new ResponseBuilder().setStatusCode(200).setContentType("application/json").setBody(body).build();
+    }
+}
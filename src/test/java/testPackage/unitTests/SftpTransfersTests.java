@@ -0,0 +1,69 @@
+package testPackage.unitTests;
+
+import com.jcraft.jsch.JSchException;
+import com.shaft.cli.FileActions;
+import com.shaft.cli.TerminalActions;
+import com.shaft.cli.internal.SftpTransfers;
+import com.shaft.cli.internal.SshSessionPool;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+public class SftpTransfersTests {
+
+    @AfterMethod(alwaysRun = true)
+    public void afterMethod() {
+        SshSessionPool.clear();
+    }
+
+    @Test
+    public void unreachableRemoteMachinesFailTheTransfer() throws IOException {
+        int port;
+        try (var serverSocket = new ServerSocket(0)) {
+            // the port is closed once the socket is, so the connection is refused
+            port = serverSocket.getLocalPort();
+        }
+        var target = new SshSessionPool.Target("localhost", port, "shaft", null);
+        Path folder = Files.createTempDirectory("shaft-sftp-");
+        Path localFile = folder.resolve("remote.txt");
+        Assert.assertThrows(JSchException.class, () -> SftpTransfers.download(target, "/tmp/remote.txt", localFile, folder, null, 2_000));
+        Files.writeString(localFile, "local");
+        Assert.assertThrows(JSchException.class, () -> SftpTransfers.upload(target, localFile, "/tmp/remote.txt", null, 2_000));
+        try (var files = Files.list(folder)) {
+            Assert.assertEquals(files.toList(), List.of(localFile));
+        }
+        Assert.assertEquals(SshSessionPool.openSessions(), 0);
+    }
+
+    @Test
+    public void unreachableRemoteTerminalsFailTheFileAction() {
+        var terminal = new TerminalActions("localhost", 1, "shaft", "", "");
+        Assert.assertThrows(RuntimeException.class, () -> FileActions.getInstance(true)
+                .copyFileToLocalMachine(terminal, "/tmp/", "remote.txt"));
+        Assert.assertThrows(RuntimeException.class, () -> FileActions.getInstance(true)
+                .copyFileToRemoteMachine(terminal, "pom.xml", "/tmp/"));
+    }
+
+    @Test
+    public void localTerminalsCopyTheFileLocally() throws IOException {
+        Path folder = Files.createTempDirectory("shaft-sftp-");
+        String copiedFilePath = FileActions.getInstance(true)
+                .copyFileToRemoteMachine(new TerminalActions(), "pom.xml", folder + "/");
+        Assert.assertEquals(Files.mismatch(Path.of(copiedFilePath), Path.of("pom.xml")), -1L);
+    }
+
+    @Test
+    public void progressAndThroughputAreComputedForTheWholeFile() {
+        Assert.assertEquals(new SftpTransfers.Progress(25, 100, Duration.ofSeconds(1)).percentage(), 25);
+        Assert.assertEquals(new SftpTransfers.Progress(0, 0, Duration.ZERO).percentage(), 100);
+        var result = new SftpTransfers.Result("/tmp/file", 3 * 1024, 1, 1024, Duration.ofSeconds(2), "");
+        Assert.assertEquals(result.bytesPerSecond(), 1024);
+    }
+}
@@ -0,0 +1,49 @@
+package testPackage.unitTests;
+
+import com.jcraft.jsch.JSchException;
+import com.shaft.cli.TerminalActions;
+import com.shaft.cli.internal.SshSessionPool;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+
+public class SshSessionPoolTests {
+
+    @AfterMethod(alwaysRun = true)
+    public void afterMethod() {
+        SshSessionPool.clear();
+    }
+
+    @Test
+    public void failedHandshakesAreNotPooled() throws IOException {
+        int port;
+        try (var serverSocket = new ServerSocket(0)) {
+            // the port is closed once the socket is, so the connection is refused
+            port = serverSocket.getLocalPort();
+        }
+        var target = new SshSessionPool.Target("localhost", port, "shaft", null);
+        long connectedSessions = SshSessionPool.connectedSessions();
+        Assert.assertThrows(JSchException.class, () -> SshSessionPool.openExecChannel(target, "echo test", 2_000));
+        Assert.assertThrows(JSchException.class, () -> SshSessionPool.openExecChannel(target, "echo test", 2_000));
+        Assert.assertEquals(SshSessionPool.openSessions(), 0);
+        Assert.assertEquals(SshSessionPool.connectedSessions(), connectedSessions);
+    }
+
+    @Test
+    public void targetsWithTheSameCredentialsShareTheirSessions() {
+        Assert.assertEquals(new SshSessionPool.Target("host", 22, "user", "/keys/id_rsa"),
+                new SshSessionPool.Target("host", 22, "user", "/keys/id_rsa"));
+        Assert.assertNotEquals(new SshSessionPool.Target("host", 22, "user", "/keys/id_rsa"),
+                new SshSessionPool.Target("host", 22, "admin", "/keys/id_rsa"));
+    }
+
+    @Test
+    public void unreachableRemoteTerminalsFailTheAction() {
+        Assert.assertThrows(RuntimeException.class, () -> new TerminalActions("localhost", 1, "shaft", "", "")
+                .performTerminalCommand("echo test"));
+        Assert.assertEquals(SshSessionPool.openSessions(), 0);
+    }
+}
@@ -0,0 +1,104 @@
+package testPackage.unitTests;
+
+import com.shaft.cli.TerminalActions;
+import com.shaft.cli.TerminalProcess;
+import com.shaft.tools.io.ReportManager;
+import org.testng.Assert;
+import org.testng.SkipException;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Flow;
+
+public class TerminalProcessTests {
+    private final TerminalActions terminal = new TerminalActions();
+
+    @BeforeClass
+    public void beforeClass() {
+        if (System.getProperty("os.name").toLowerCase().contains("win")) {
+            throw new SkipException("The commands of these tests need a POSIX shell.");
+        }
+    }
+
+    @Test
+    public void outputIsStreamedAndExitCodeIsReported() {
+        var lines = new CopyOnWriteArrayList<String>();
+        var process = terminal.startTerminalCommand("echo first; echo error >&2; echo last; exit 3", lines::add);
+        Assert.assertEquals(process.waitFor(), 3);
+        Assert.assertEquals(lines.size(), 3);
+        Assert.assertTrue(lines.containsAll(List.of("first", "error", "last")));
+        Assert.assertFalse(process.isTimedOut());
+    }
+
+    @Test
+    public void onlyTheTailIsKeptInMemory() throws IOException {
+        var process = terminal.startTerminalCommand("seq 1 1000");
+        Assert.assertEquals((int) process.exitCode().join(), 0);
+        var tail = process.tail().lines().toList();
+        Assert.assertEquals(tail.size(), TerminalProcess.TAIL_LINES);
+        Assert.assertEquals(tail.getFirst(), "901");
+        Assert.assertEquals(tail.getLast(), "1000");
+        Assert.assertEquals(Files.readAllLines(process.logFile()).size(), 1000);
+        Assert.assertEquals(process.logFile().getParent().toAbsolutePath(), TerminalProcess.LOG_FOLDER.toAbsolutePath());
+    }
+
+    @Test
+    public void subscribersReceiveTheOutputLines() {
+        var process = terminal.startTerminalCommand("sleep 1; echo published");
+        var lines = new CompletableFuture<List<String>>();
+        process.output().subscribe(new Flow.Subscriber<>() {
+            private final List<String> received = new CopyOnWriteArrayList<>();
+
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(String line) {
+                received.add(line);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                lines.completeExceptionally(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+                lines.complete(received);
+            }
+        });
+        Assert.assertEquals(lines.join(), List.of("published"));
+    }
+
+    @Test
+    public void processesAreKilledWhenTheirTimeoutExpires() {
+        long start = System.nanoTime();
+        var process = terminal.startTerminalCommand("sleep 30", null, Duration.ofMillis(500));
+        process.exitCode().join();
+        Assert.assertTrue(process.isTimedOut());
+        Assert.assertFalse(process.isAlive());
+        Assert.assertTrue(Duration.ofNanos(System.nanoTime() - start).compareTo(Duration.ofSeconds(10)) < 0);
+    }
+
+    @Test
+    public void compareSequentialAndConcurrentCommandsDuration() {
+        var commands = List.of("sleep 1", "sleep 1", "sleep 1");
+        long start = System.nanoTime();
+        commands.forEach(terminal::performTerminalCommand);
+        long sequentialMillis = (System.nanoTime() - start) / 1_000_000;
+        start = System.nanoTime();
+        terminal.startTerminalCommands(commands).forEach(process -> Assert.assertEquals(process.waitFor(), 0));
+        long concurrentMillis = (System.nanoTime() - start) / 1_000_000;
+        Assert.assertTrue(concurrentMillis < sequentialMillis);
+        ReportManager.log("Running " + commands.size() + " one-second commands: sequential [" + sequentialMillis
+                + "ms], concurrent [" + concurrentMillis + "ms].");
+    }
+}
@@ -0,0 +1,120 @@
+package testPackage.unitTests;
+
+import com.shaft.driver.SHAFT;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+public class TestDataProviderTests {
+    private static final Path FOLDER = Path.of("target/temp/dataProvider");
+    private static final int NUMBER_OF_ROWS = 1000;
+    private String csvFile;
+    private String jsonFile;
+    private String excelFile;
+
+    @BeforeClass
+    public void createTestDataFiles() throws IOException {
+        Files.createDirectories(FOLDER);
+        var csv = new StringBuilder("id,name,status\n");
+        var json = new StringBuilder("{\"meta\": {\"count\": " + NUMBER_OF_ROWS + "}, \"data\": {\"users\": [");
+        for (int i = 0; i < NUMBER_OF_ROWS; i++) {
+            var status = i % 2 == 0 ? "active" : "inactive";
+            csv.append(i).append(",user").append(i).append(',').append(status).append('\n');
+            json.append(i == 0 ? "" : ",").append("{\"id\": ").append(i).append(", \"name\": \"user").append(i).append("\"}");
+        }
+        json.append("]}}");
+        csvFile = Files.writeString(FOLDER.resolve("users.csv"), csv).toString();
+        jsonFile = Files.writeString(FOLDER.resolve("users.json"), json).toString();
+
+        var excel = FOLDER.resolve("users.xlsx");
+        try (var workbook = new XSSFWorkbook(); var out = new FileOutputStream(excel.toFile())) {
+            workbook.createSheet("Ignored").createRow(0).createCell(0).setCellValue("ignored");
+            var sheet = workbook.createSheet("Users");
+            var header = sheet.createRow(0);
+            header.createCell(0).setCellValue("id");
+            header.createCell(1).setCellValue("name");
+            for (int i = 1; i <= 3; i++) {
+                var row = sheet.createRow(i);
+                row.createCell(0).setCellValue(i);
+                row.createCell(1).setCellValue("user" + i);
+            }
+            workbook.write(out);
+        }
+        excelFile = excel.toString();
+    }
+
+    @DataProvider(name = "activeUsers", parallel = true)
+    public Iterator<Object[]> activeUsers() {
+        return SHAFT.TestData.provider(csvFile)
+                .rows(0, 10)
+                .filter(row -> "active".equals(row.get("status")))
+                .iterator();
+    }
+
+    @Test(dataProvider = "activeUsers")
+    public void csvRowsArePassedAsParameters(String id, String name, String status) {
+        Assert.assertEquals(name, "user" + id);
+        Assert.assertEquals(status, "active");
+        Assert.assertEquals(Integer.parseInt(id) % 2, 0);
+    }
+
+    @Test
+    public void shardsSplitTheRowsWithoutOverlap() {
+        var ids = new HashSet<Object>();
+        int providedRows = 0;
+        for (int shard = 0; shard < 3; shard++) {
+            var iterator = SHAFT.TestData.provider(csvFile).shard(shard, 3).iterator();
+            while (iterator.hasNext()) {
+                var row = iterator.next();
+                Assert.assertEquals(Integer.parseInt((String) row[0]) % 3, shard);
+                ids.add(row[0]);
+                providedRows++;
+            }
+        }
+        Assert.assertEquals(providedRows, NUMBER_OF_ROWS);
+        Assert.assertEquals(ids.size(), NUMBER_OF_ROWS);
+    }
+
+    @Test
+    public void hashShardsSplitTheRowsWithoutOverlap() {
+        var names = new HashSet<Object>();
+        int providedRows = 0;
+        for (int shard = 0; shard < 4; shard++) {
+            var iterator = SHAFT.TestData.provider(csvFile).asMaps().shardByHash("name", shard, 4).iterator();
+            while (iterator.hasNext()) {
+                @SuppressWarnings("unchecked")
+                var row = (Map<String, Object>) iterator.next()[0];
+                Assert.assertEquals(Math.floorMod(row.get("name").hashCode(), 4), shard);
+                names.add(row.get("name"));
+                providedRows++;
+            }
+        }
+        Assert.assertEquals(providedRows, NUMBER_OF_ROWS);
+        Assert.assertEquals(names.size(), NUMBER_OF_ROWS);
+    }
+
+    @Test
+    public void jsonArrayElementsAreStreamed() {
+        var iterator = SHAFT.TestData.provider(jsonFile).jsonArray("data.users").rows(998, 2000).iterator();
+        Assert.assertEquals(iterator.next(), new Object[]{998, "user998"});
+        Assert.assertEquals(iterator.next(), new Object[]{999, "user999"});
+        Assert.assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    public void excelSheetRowsAreStreamed() {
+        var rows = new ArrayList<Object[]>();
+        SHAFT.TestData.provider(excelFile).sheet("users").iterator().forEachRemaining(rows::add);
+        Assert.assertEquals(rows.size(), 3);
+        Assert.assertEquals(rows.get(0), new Object[]{"1", "user1"});
+        Assert.assertEquals(rows.get(2), new Object[]{"3", "user3"});
+    }
+}